@@ -1,6 +1,7 @@
 package nurseybook;
 
 import javafx.application.Application;
+import nurseybook.ui.LoadingPreloader;
 
 /**
  * The main entry point to the application.
@@ -20,6 +21,8 @@ import javafx.application.Application;
  */
 public class Main {
     public static void main(String[] args) {
+        // shows the progress of loading large data files
+        System.setProperty("javafx.preloader", LoadingPreloader.class.getName());
         Application.launch(MainApp.class, args);
     }
 }
@@ -2,13 +2,18 @@ package nurseybook;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.DoubleConsumer;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Preloader.ProgressNotification;
 import javafx.stage.Stage;
 import nurseybook.commons.core.Config;
+import nurseybook.commons.core.DataCompression;
 import nurseybook.commons.core.LogsCenter;
+import nurseybook.commons.core.StorageMode;
 import nurseybook.commons.core.Version;
 import nurseybook.commons.exceptions.DataConversionException;
 import nurseybook.commons.util.ConfigUtil;
@@ -21,10 +26,16 @@ import nurseybook.model.NurseyBook;
 import nurseybook.model.ReadOnlyNurseyBook;
 import nurseybook.model.ReadOnlyUserPrefs;
 import nurseybook.model.UserPrefs;
+import nurseybook.model.task.Task;
 import nurseybook.model.util.SampleDataUtil;
+import nurseybook.storage.BinaryNurseyBookStorage;
+import nurseybook.storage.JournalNurseyBookStorage;
 import nurseybook.storage.JsonNurseyBookStorage;
 import nurseybook.storage.JsonUserPrefsStorage;
+import nurseybook.storage.NurseyBookFileConverter;
 import nurseybook.storage.NurseyBookStorage;
+import nurseybook.storage.ShardedNurseyBookStorage;
+import nurseybook.storage.SqlNurseyBookStorage;
 import nurseybook.storage.Storage;
 import nurseybook.storage.StorageManager;
 import nurseybook.storage.UserPrefsStorage;
@@ -56,7 +67,30 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        NurseyBookStorage nurseyBookStorage = new JsonNurseyBookStorage(userPrefs.getNurseyBookFilePath());
+        DoubleConsumer readProgressListener = progress -> notifyPreloader(new ProgressNotification(progress));
+        Path nurseyBookFilePath = userPrefs.getNurseyBookFilePath();
+        DataCompression dataCompression = userPrefs.getDataCompression();
+        StorageMode storageMode = userPrefs.getStorageMode();
+        moveDataToStorageMode(nurseyBookFilePath, storageMode, dataCompression);
+        NurseyBookStorage nurseyBookStorage;
+        switch (storageMode) {
+        case JOURNAL:
+            nurseyBookStorage = new JournalNurseyBookStorage(nurseyBookFilePath,
+                    JournalNurseyBookStorage.DEFAULT_COMPACTION_THRESHOLD, readProgressListener, dataCompression);
+            break;
+        case SQL:
+            nurseyBookStorage = new SqlNurseyBookStorage(nurseyBookFilePath);
+            break;
+        case SHARDED:
+            nurseyBookStorage = new ShardedNurseyBookStorage(nurseyBookFilePath, readProgressListener,
+                    dataCompression);
+            break;
+        case BINARY:
+            nurseyBookStorage = new BinaryNurseyBookStorage(nurseyBookFilePath, readProgressListener, dataCompression);
+            break;
+        default:
+            nurseyBookStorage = new JsonNurseyBookStorage(nurseyBookFilePath, readProgressListener, dataCompression);
+        }
         storage = new StorageManager(nurseyBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -68,6 +102,23 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Moves the data at {@code nurseyBookFilePath} into the files read in {@code storageMode}, if it was saved in
+     * another storage mode, so that the data is not left behind when the storage mode is changed.
+     * If the data cannot be moved, it is left where it is, to be read in its own storage mode again.
+     */
+    private void moveDataToStorageMode(Path nurseyBookFilePath, StorageMode storageMode,
+                                       DataCompression dataCompression) {
+        try {
+            if (NurseyBookFileConverter.moveToStorageMode(nurseyBookFilePath, storageMode, dataCompression)) {
+                logger.info("Moved the data at " + nurseyBookFilePath + " into " + storageMode + " storage");
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not move the data at " + nurseyBookFilePath + " into " + storageMode
+                    + " storage: " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s nursey book and {@code userPrefs}. <br>
      * The data from the sample nursey book will be used instead if {@code storage}'s nursey book is not found,
@@ -90,7 +141,31 @@ public class MainApp extends Application {
             initialData = new NurseyBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model modelManager = new ModelManager(initialData, userPrefs);
+        modelManager.setPastTaskLoader(storage::readPastTasks);
+        modelManager.setTaskArchive(storage);
+        archiveTasks(storage, modelManager);
+        return modelManager;
+    }
+
+    /**
+     * Moves the tasks that are old enough to be archived out of the nursey book in {@code model}, so that the
+     * nursey book only grows with the tasks that are still active.
+     * The ids of tasks archived earlier are reserved first, even if nothing is archived now, so that new tasks are
+     * never given them.
+     */
+    private void archiveTasks(Storage storage, Model model) {
+        try {
+            storage.reserveArchivedTaskIds();
+            List<Task> archivedTasks = model.archiveTasks();
+            if (!archivedTasks.isEmpty()) {
+                logger.info("Archived " + archivedTasks.size() + " tasks to " + storage.getTaskArchiveFilePath());
+                storage.saveNurseyBookInBackground(model.getVersionedNurseyBook());
+            }
+        } catch (IOException e) {
+            logger.warning("Problem while archiving tasks. They are kept in the NurseyBook "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -174,6 +249,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Nursey Book ] =============================");
+        try {
+            storage.flushNurseyBook();
+            storage.compactNurseyBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,54 @@
+package nurseybook.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Provides the current date and time to the app.
+ * The underlying {@code Clock} can be replaced, e.g. with a fixed clock in tests, and the current time can be frozen
+ * for the duration of a command so that every task in that command is compared against the same moment.
+ */
+public class AppClock {
+
+    private static Clock clock = Clock.systemDefaultZone();
+    private static LocalDateTime frozenNow = null;
+
+    /**
+     * Returns the current date and time, or the frozen date and time if it has been frozen.
+     */
+    public static LocalDateTime now() {
+        return frozenNow != null ? frozenNow : LocalDateTime.now(clock);
+    }
+
+    /**
+     * Returns the current date, or the frozen date if the current time has been frozen.
+     */
+    public static LocalDate today() {
+        return now().toLocalDate();
+    }
+
+    /**
+     * Replaces the clock used to tell the current date and time.
+     */
+    public static void setClock(Clock newClock) {
+        requireNonNull(newClock);
+        clock = newClock;
+    }
+
+    /**
+     * Freezes the current date and time until {@link #unfreeze()} is called.
+     */
+    public static void freeze() {
+        frozenNow = LocalDateTime.now(clock);
+    }
+
+    /**
+     * Lets the current date and time follow the clock again.
+     */
+    public static void unfreeze() {
+        frozenNow = null;
+    }
+}
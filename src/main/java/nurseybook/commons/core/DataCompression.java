@@ -0,0 +1,172 @@
+package nurseybook.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A Serializable class that contains the settings for compressing data files.
+ * Compressed files are recognised by their first bytes when read, so files written with any settings can be read.
+ * Guarantees: immutable.
+ */
+public class DataCompression implements Serializable {
+
+    /**
+     * Formats that data files can be compressed in.
+     */
+    public enum Format {
+        NONE, GZIP, DEFLATE
+    }
+
+    public static final int DEFAULT_LEVEL = 6;
+
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+    private static final int DEFLATE_METHOD = 8;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Format format;
+    private final int level;
+
+    /**
+     * Constructs a {@code DataCompression} that does not compress.
+     */
+    public DataCompression() {
+        format = Format.NONE;
+        level = DEFAULT_LEVEL;
+    }
+
+    /**
+     * Constructs a {@code DataCompression} that compresses in {@code format} at {@code level}, which is from 0 for
+     * the fastest to 9 for the smallest.
+     */
+    public DataCompression(Format format, int level) {
+        requireNonNull(format);
+        this.format = format;
+        this.level = level;
+    }
+
+    public Format getFormat() {
+        return format != null ? format : Format.NONE;
+    }
+
+    /**
+     * Returns the compression level, or {@link #DEFAULT_LEVEL} if the level set is not from 0 to 9.
+     */
+    public int getLevel() {
+        return level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION ? level : DEFAULT_LEVEL;
+    }
+
+    /**
+     * Returns a stream that compresses what is written to it into {@code out}.
+     * {@link #finish(OutputStream)} must be called on the stream once everything has been written.
+     */
+    public OutputStream compress(OutputStream out) throws IOException {
+        requireNonNull(out);
+        switch (getFormat()) {
+        case GZIP:
+            return new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    def.setLevel(getLevel());
+                }
+            };
+        case DEFLATE:
+            return new DeflaterOutputStream(out, new Deflater(getLevel()), BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        def.end();
+                    }
+                }
+            };
+        default:
+            return out;
+        }
+    }
+
+    /**
+     * Writes out everything written to {@code out}, a stream returned by {@link #compress(OutputStream)}, without
+     * closing the stream it compresses into.
+     */
+    public static void finish(OutputStream out) throws IOException {
+        if (out instanceof DeflaterOutputStream) {
+            ((DeflaterOutputStream) out).finish();
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns the format that {@code in} is compressed in, from the header it starts with.
+     * Nothing is consumed from {@code in}, which must support {@link InputStream#mark(int)}.
+     */
+    public static Format detectFormat(InputStream in) throws IOException {
+        assert in.markSupported();
+        in.mark(2);
+        int firstByte = in.read();
+        int secondByte = in.read();
+        in.reset();
+
+        if (firstByte == GZIP_MAGIC_FIRST_BYTE && secondByte == GZIP_MAGIC_SECOND_BYTE) {
+            return Format.GZIP;
+        }
+        // a zlib header names the deflate method, and is a multiple of 31 when read as a 16-bit number
+        if (secondByte != -1 && (firstByte & 0x0f) == DEFLATE_METHOD && ((firstByte << 8) | secondByte) % 31 == 0) {
+            return Format.DEFLATE;
+        }
+        return Format.NONE;
+    }
+
+    /**
+     * Returns a stream that reads {@code in}, decompressing it if it starts with the header of a compressed format.
+     * If {@code in} supports {@link InputStream#mark(int)} and is not compressed, {@code in} itself is returned.
+     */
+    public static InputStream decompress(InputStream in) throws IOException {
+        requireNonNull(in);
+        InputStream bufferedIn = in.markSupported() ? in : new BufferedInputStream(in);
+        switch (detectFormat(bufferedIn)) {
+        case GZIP:
+            return new GZIPInputStream(bufferedIn, BUFFER_SIZE);
+        case DEFLATE:
+            return new InflaterInputStream(bufferedIn);
+        default:
+            return bufferedIn;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof DataCompression)) { //this handles null as well.
+            return false;
+        }
+
+        DataCompression o = (DataCompression) other;
+
+        return getFormat() == o.getFormat()
+                && level == o.level;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getFormat(), level);
+    }
+
+    @Override
+    public String toString() {
+        return getFormat() + " (level " + level + ")";
+    }
+}
@@ -0,0 +1,17 @@
+package nurseybook.commons.core;
+
+/**
+ * The ways of storing the nursey book on the hard disk, one of which is chosen in the user prefs.
+ */
+public enum StorageMode {
+    /** A single json file, which every save rewrites. */
+    JSON,
+    /** A single file in a compact binary format, which every save rewrites. */
+    BINARY,
+    /** A json snapshot, with a journal that every save appends its changes to. */
+    JOURNAL,
+    /** An embedded SQL database, in which every save writes the changed rows. */
+    SQL,
+    /** An elderly file and a task file per month, of which every save writes the changed files. */
+    SHARDED
+}
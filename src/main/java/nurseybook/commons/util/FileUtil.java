@@ -1,10 +1,20 @@
 package nurseybook.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import nurseybook.commons.core.DataCompression;
 
 /**
  * Writes and reads files
@@ -13,6 +23,14 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    /**
+     * Writes the content of a file into a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -80,4 +98,76 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Creates an empty temporary file in the directory of {@code file}, along with the directory if it is missing.
+     * The temporary file can later replace {@code file} with {@link #moveAtomically(Path, Path)}.
+     */
+    public static Path createTempFileNextTo(Path file) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        return Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), ".tmp");
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists.
+     * The move is atomic if the file system supports it, so that {@code target} is never left partly written.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Streams what {@code contentWriter} writes, compressed with {@code compression}, into a temporary file which
+     * then replaces {@code file}. The content is never held in memory as a whole, and a write that fails part way
+     * through leaves {@code file} as it was.
+     */
+    public static void writeAtomically(Path file, DataCompression compression, ContentWriter contentWriter)
+            throws IOException {
+        Path tempFile = createTempFileNextTo(file);
+        try {
+            try (FileOutputStream fileOut = new FileOutputStream(tempFile.toFile());
+                    OutputStream compressedOut = compression.compress(new BufferedOutputStream(fileOut));
+                    // compressing small writes one at a time is slow, so they are buffered before compression too
+                    OutputStream out = new BufferedOutputStream(compressedOut)) {
+                contentWriter.writeTo(out);
+                out.flush();
+                DataCompression.finish(compressedOut);
+                // the data must be on disk before the rename, or a crash could leave an empty file
+                fileOut.getFD().sync();
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes {@code content} to {@code file}, starting at {@code position} and cutting off everything after it, and
+     * waits for the content to reach the disk. The file is created if it is missing.
+     */
+    public static void writeAt(Path file, long position, ByteBuffer content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(position);
+            long writePosition = position;
+            while (content.hasRemaining()) {
+                writePosition += channel.write(content, writePosition);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Maps the first {@code size} bytes of {@code file} into memory for reading, in as many windows as a file of that
+     * size needs. Only the pages that are read are loaded from the disk.
+     *
+     * @throws IOException if the file is shorter than {@code size}.
+     */
+    public static MappedFile mapReadOnly(Path file, long size) throws IOException {
+        return new MappedFile(file, size, MappedFile.DEFAULT_WINDOW_BYTES);
+    }
+
 }
@@ -3,6 +3,7 @@ package nurseybook.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,15 +12,19 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
+import nurseybook.commons.core.DataCompression;
 import nurseybook.commons.core.LogsCenter;
 import nurseybook.commons.exceptions.DataConversionException;
 
@@ -39,8 +44,20 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static ObjectWriter fileWriter = objectMapper.writerWithDefaultPrettyPrinter()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, new DataCompression());
+    }
+
+    /**
+     * Streams the json representation of {@code objectToSerialize}, compressed with {@code compression}, into
+     * {@code jsonFile} with {@link FileUtil#writeAtomically(Path, DataCompression, FileUtil.ContentWriter)}.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, DataCompression compression)
+            throws IOException {
+        FileUtil.writeAtomically(jsonFile, compression, out -> fileWriter.writeValue(out, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -84,10 +101,18 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, new DataCompression());
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but compresses the file with {@code compression}.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, DataCompression compression) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
+        requireNonNull(compression);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, compression);
     }
 
 
@@ -100,6 +125,15 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a parser that reads JSON data from {@code in} one token at a time.
+     * Values read through {@link JsonParser#readValueAs(Class)} are converted in the same way as in
+     * {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -110,6 +144,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
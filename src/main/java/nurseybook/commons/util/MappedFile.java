@@ -0,0 +1,130 @@
+package nurseybook.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static nurseybook.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The first bytes of a file mapped into memory for reading.
+ * A single mapping holds at most 2 GB, so the file is mapped in windows of {@value #DEFAULT_WINDOW_BYTES} bytes,
+ * each mapped the first time it is read from. Only the pages that are read are loaded from the disk, and a value
+ * that spans two windows is put together from both.
+ */
+public class MappedFile {
+
+    static final int DEFAULT_WINDOW_BYTES = 1 << 30;
+
+    private final Path file;
+    private final long size;
+    private final int windowBytes;
+    private final MappedByteBuffer[] windows;
+
+    /**
+     * Maps the first {@code size} bytes of {@code file} in windows of {@code windowBytes} bytes.
+     *
+     * @throws IOException if the file is shorter than {@code size}.
+     */
+    MappedFile(Path file, long size, int windowBytes) throws IOException {
+        requireNonNull(file);
+        checkArgument(size >= 0 && windowBytes > 0);
+        long windowCount = (size + windowBytes - 1) / windowBytes;
+        if (windowCount > Integer.MAX_VALUE) {
+            throw new IOException("File " + file + " is too large to be mapped into memory");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < size) {
+                throw new IOException("File " + file + " is shorter than " + size + " bytes");
+            }
+        }
+        this.file = file;
+        this.size = size;
+        this.windowBytes = windowBytes;
+        windows = new MappedByteBuffer[(int) windowCount];
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the {@code int} at {@code position}.
+     */
+    public int getInt(long position) throws IOException {
+        checkRange(position, Integer.BYTES);
+        int offset = (int) (position % windowBytes);
+        if (offset + Integer.BYTES <= windowBytes) {
+            return getWindow(position).getInt(offset);
+        }
+        return get(position, Integer.BYTES).getInt();
+    }
+
+    /**
+     * Returns the {@code long} at {@code position}.
+     */
+    public long getLong(long position) throws IOException {
+        checkRange(position, Long.BYTES);
+        int offset = (int) (position % windowBytes);
+        if (offset + Long.BYTES <= windowBytes) {
+            return getWindow(position).getLong(offset);
+        }
+        return get(position, Long.BYTES).getLong();
+    }
+
+    /**
+     * Returns a read-only buffer of the {@code length} bytes at {@code position}.
+     * The buffer is a view of the mapped file unless the bytes span two or more windows, in which case they are
+     * copied into a buffer of their own.
+     */
+    public ByteBuffer get(long position, int length) throws IOException {
+        checkRange(position, length);
+        if (length == 0) {
+            return ByteBuffer.allocate(0).asReadOnlyBuffer();
+        }
+        int offset = (int) (position % windowBytes);
+        if (offset + length <= windowBytes) {
+            ByteBuffer view = getWindow(position).duplicate();
+            view.position(offset).limit(offset + length);
+            return view.slice().asReadOnlyBuffer();
+        }
+
+        ByteBuffer copy = ByteBuffer.allocate(length);
+        long copyPosition = position;
+        while (copy.hasRemaining()) {
+            ByteBuffer window = getWindow(copyPosition).duplicate();
+            window.position((int) (copyPosition % windowBytes));
+            window.limit(Math.min(window.capacity(), window.position() + copy.remaining()));
+            copyPosition += window.remaining();
+            copy.put(window);
+        }
+        copy.flip();
+        return copy.asReadOnlyBuffer();
+    }
+
+    private void checkRange(long position, int length) {
+        if (position < 0 || length < 0 || position > size - length) {
+            throw new IndexOutOfBoundsException(length + " bytes at " + position + " are not in the first " + size
+                    + " bytes of " + file);
+        }
+    }
+
+    /**
+     * Returns the window that holds {@code position}, mapping it if it has not been mapped yet.
+     */
+    private MappedByteBuffer getWindow(long position) throws IOException {
+        int windowNumber = (int) (position / windowBytes);
+        if (windows[windowNumber] == null) {
+            long windowStart = (long) windowNumber * windowBytes;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                windows[windowNumber] = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                        Math.min(windowBytes, size - windowStart));
+            }
+        }
+        return windows[windowNumber];
+    }
+}
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import nurseybook.commons.core.AppClock;
 import nurseybook.commons.core.GuiSettings;
 import nurseybook.commons.core.LogsCenter;
 import nurseybook.logic.commands.Command;
@@ -28,6 +29,8 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final NurseyBookParser nurseyBookParser;
+    // -1 is never a valid modification count, so the first command always saves
+    private long savedModificationCount = -1;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -42,6 +45,16 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        // every part of the command sees the same current date and time
+        AppClock.freeze();
+        try {
+            return executeCommand(commandText);
+        } finally {
+            AppClock.unfreeze();
+        }
+    }
+
+    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         //deletes all previous ghost tasks from the model as they are no longer relevant
         model.deleteGhostTasks();
 
@@ -49,9 +62,18 @@ public class LogicManager implements Logic {
         Command command = nurseyBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        // commands that did not change the nursey book, e.g. list and find commands, need not be saved
+        long modificationCount = model.getNurseyBookModificationCount();
         try {
-            storage.saveNurseyBook(model.getVersionedNurseyBook());
+            if (modificationCount != savedModificationCount) {
+                savedModificationCount = modificationCount;
+                storage.saveNurseyBookInBackground(model.getVersionedNurseyBook());
+            } else {
+                storage.reportBackgroundSaveFailure();
+            }
         } catch (IOException ioe) {
+            // an earlier save failed, so the next command saves the nursey book again regardless of changes
+            savedModificationCount = -1;
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
@@ -63,7 +63,7 @@ public class AddTagCommand extends Command {
         Set<Tag> currentTags = elderlyToAddTag.getTags();
 
         Elderly addedElderly = new Elderly(
-                elderlyToAddTag.getName(), elderlyToAddTag.getAge(),
+                elderlyToAddTag.getId(), elderlyToAddTag.getName(), elderlyToAddTag.getAge(),
                 elderlyToAddTag.getGender(), elderlyToAddTag.getRoomNumber(),
                 elderlyToAddTag.getNok(), elderlyToAddTag.getRemark(),
                 addTagsToSet(currentTags));
@@ -0,0 +1,46 @@
+package nurseybook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static nurseybook.model.Model.PREDICATE_SHOW_ALL_TASKS;
+
+import java.io.IOException;
+import java.util.List;
+
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.logic.commands.exceptions.CommandException;
+import nurseybook.model.Model;
+import nurseybook.model.task.Task;
+
+/**
+ * Moves the done, non-recurring tasks that are older than the task archive age out of the nursey book into the
+ * task archive, where they can still be found with {@code findArchived}.
+ * Past tasks that were left in storage are loaded first, so that they are archived as well.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_SUCCESS = "Archived %1$d done tasks that are older than %2$d days.";
+    public static final String MESSAGE_ARCHIVE_FAILED = "Could not archive tasks to file: ";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        try {
+            model.loadPastTasks();
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(FindTaskCommand.MESSAGE_PAST_TASKS_NOT_LOADED + e, e);
+        }
+        model.updateTasksAccordingToTime();
+
+        List<Task> archivedTasks;
+        try {
+            archivedTasks = model.archiveTasks();
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_ARCHIVE_FAILED + e, e);
+        }
+        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, archivedTasks.size(),
+                model.getUserPrefs().getTaskArchiveAgeDays()), CommandResult.ListDisplayChange.TASK);
+    }
+}
@@ -2,6 +2,10 @@ package nurseybook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.logic.commands.exceptions.CommandException;
 import nurseybook.model.Model;
 import nurseybook.model.NurseyBook;
 
@@ -15,8 +19,14 @@ public class ClearCommand extends Command {
 
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        // past tasks left in storage are loaded first, so that they are cleared too and come back on undo
+        try {
+            model.loadPastTasks();
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(FindTaskCommand.MESSAGE_PAST_TASKS_NOT_LOADED + e, e);
+        }
         model.setVersionedNurseyBook(new NurseyBook());
         CommandResult result = new CommandResult(MESSAGE_SUCCESS);
         model.commitNurseyBook(result);
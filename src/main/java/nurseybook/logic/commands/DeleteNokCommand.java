@@ -45,7 +45,7 @@ public class DeleteNokCommand extends Command {
 
         Elderly elderlyToDeleteNokFrom = lastShownList.get(targetIndex.getZeroBased());
         Elderly updatedElderly = new Elderly(
-                elderlyToDeleteNokFrom.getName(), elderlyToDeleteNokFrom.getAge(),
+                elderlyToDeleteNokFrom.getId(), elderlyToDeleteNokFrom.getName(), elderlyToDeleteNokFrom.getAge(),
                 elderlyToDeleteNokFrom.getGender(), elderlyToDeleteNokFrom.getRoomNumber(), Nok.createDefaultNok(),
                 elderlyToDeleteNokFrom.getRemark(), elderlyToDeleteNokFrom.getTags());
 
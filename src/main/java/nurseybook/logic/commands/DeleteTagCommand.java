@@ -61,7 +61,7 @@ public class DeleteTagCommand extends Command {
         Elderly elderlyToDeleteTag = lastShownList.get(index.getZeroBased());
         Set<Tag> updatedTags = removeTagsFromSet(elderlyToDeleteTag.getTags());
         Elderly updatedElderly = new Elderly(
-                elderlyToDeleteTag.getName(), elderlyToDeleteTag.getAge(),
+                elderlyToDeleteTag.getId(), elderlyToDeleteTag.getName(), elderlyToDeleteTag.getAge(),
                 elderlyToDeleteTag.getGender(), elderlyToDeleteTag.getRoomNumber(), elderlyToDeleteTag.getNok(),
                 elderlyToDeleteTag.getRemark(), updatedTags);
 
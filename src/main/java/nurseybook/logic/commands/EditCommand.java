@@ -127,7 +127,7 @@ public class EditCommand extends Command {
         Remark updatedRemark = elderlyToEdit.getRemark(); // edit command does not allow editing remarks
         Set<Tag> updatedTags = editElderlyDescriptor.getTags().orElse(elderlyToEdit.getTags());
 
-        return new Elderly(updatedName, updatedAge, updatedGender, updatedRoomNumber,
+        return new Elderly(elderlyToEdit.getId(), updatedName, updatedAge, updatedGender, updatedRoomNumber,
                 new Nok(updatedNokName, updatedRelationship, updatedNokPhone, updatedNokEmail, updatedNokAddress),
                 updatedRemark, updatedTags);
     }
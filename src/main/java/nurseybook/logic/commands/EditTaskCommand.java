@@ -135,8 +135,8 @@ public class EditTaskCommand extends Command {
         Status updatedStatus = editTaskDescriptor.getStatus().orElse(taskToEdit.getStatus());
         Recurrence updatedRecurrence = editTaskDescriptor.getRecurrence().orElse(taskToEdit.getRecurrence());
 
-        return new RealTask(updatedDescription, new DateTime(updatedDate, updatedTime), updatedNames, updatedStatus,
-                updatedRecurrence);
+        return new RealTask(taskToEdit.getId(), updatedDescription, new DateTime(updatedDate, updatedTime),
+                updatedNames, updatedStatus, updatedRecurrence);
     }
 
     @Override
@@ -0,0 +1,72 @@
+package nurseybook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.logic.commands.exceptions.CommandException;
+import nurseybook.model.Model;
+import nurseybook.model.task.DescriptionContainsKeywordPredicate;
+import nurseybook.model.task.Task;
+
+/**
+ * Finds and lists all archived tasks which description contains any of the argument keywords.
+ * Keyword matching is case insensitive.
+ * Archived tasks are not part of the nursey book, so they are listed in the result message instead of the task list.
+ */
+public class FindArchivedCommand extends Command {
+
+    public static final String COMMAND_WORD = "findArchived";
+    public static final String[] PARAMETERS = { "KEYWORD", "[MORE_KEYWORDS]..." };
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all archived tasks which description contains "
+            + "any of the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Parameters: "
+            + String.join(" ", PARAMETERS)
+            + "\nExample: " + COMMAND_WORD
+            + " " + "Dental check-up";
+
+    public static final String MESSAGE_ARCHIVED_TASKS_LISTED_OVERVIEW = "%1$d archived tasks listed!";
+    public static final String MESSAGE_ARCHIVE_NOT_READ = "Could not read archived tasks from file: ";
+
+    private final DescriptionContainsKeywordPredicate predicate;
+
+    public FindArchivedCommand(DescriptionContainsKeywordPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Task> archivedTasks;
+        try {
+            archivedTasks = model.findArchivedTasksWithKeywords(predicate.getKeywords());
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(MESSAGE_ARCHIVE_NOT_READ + e, e);
+        }
+
+        return new CommandResult(listArchivedTasks(
+                String.format(MESSAGE_ARCHIVED_TASKS_LISTED_OVERVIEW, archivedTasks.size()), archivedTasks));
+    }
+
+    /**
+     * Returns {@code overview} followed by {@code archivedTasks} with index numbers, one on each line.
+     */
+    static String listArchivedTasks(String overview, List<Task> archivedTasks) {
+        StringBuilder message = new StringBuilder(overview);
+        for (int i = 0; i < archivedTasks.size(); i++) {
+            message.append("\n").append(i + 1).append(". ").append(archivedTasks.get(i));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindArchivedCommand // instanceof handles nulls
+                && predicate.equals(((FindArchivedCommand) other).predicate)); // state check
+    }
+
+}
@@ -2,13 +2,18 @@ package nurseybook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+
 import nurseybook.commons.core.Messages;
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.logic.commands.exceptions.CommandException;
 import nurseybook.model.Model;
 import nurseybook.model.task.DescriptionContainsKeywordPredicate;
 
 /**
  * Finds and lists all tasks in the nursey book which description contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Past tasks that were left in storage are loaded first, so that they are searched as well.
  */
 public class FindTaskCommand extends Command {
 
@@ -22,6 +27,8 @@ public class FindTaskCommand extends Command {
             + "\nExample: " + COMMAND_WORD
             + " " + "Dental check-up at Ng Teng Fong General Hospital";
 
+    public static final String MESSAGE_PAST_TASKS_NOT_LOADED = "Could not load past tasks from file: ";
+
     private final DescriptionContainsKeywordPredicate predicate;
 
     public FindTaskCommand(DescriptionContainsKeywordPredicate predicate) {
@@ -29,8 +36,13 @@ public class FindTaskCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        try {
+            model.loadPastTasks();
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(MESSAGE_PAST_TASKS_NOT_LOADED + e, e);
+        }
         model.updateTasksAccordingToTime();
         model.updateFilteredTaskList(predicate);
         return new CommandResult(
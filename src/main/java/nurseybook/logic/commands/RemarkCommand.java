@@ -66,7 +66,7 @@ public class RemarkCommand extends Command {
         }
 
         Elderly editedElderly = new Elderly(
-                elderlyToEdit.getName(), elderlyToEdit.getAge(), elderlyToEdit.getGender(),
+                elderlyToEdit.getId(), elderlyToEdit.getName(), elderlyToEdit.getAge(), elderlyToEdit.getGender(),
                 elderlyToEdit.getRoomNumber(), elderlyToEdit.getNok(), remark, elderlyToEdit.getTags());
 
         model.setElderly(elderlyToEdit, editedElderly);
@@ -0,0 +1,68 @@
+package nurseybook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.logic.commands.exceptions.CommandException;
+import nurseybook.model.Model;
+import nurseybook.model.task.DateTime;
+import nurseybook.model.task.Task;
+
+/**
+ * Lists all archived tasks that took place on a particular day.
+ * Archived tasks are not part of the nursey book, so they are listed in the result message instead of the task list.
+ */
+public class ViewArchivedScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "viewArchivedSchedule";
+    public static final String[] PARAMETERS = { "DATE" };
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Displays all archived tasks on the indicated day. "
+            + DateTime.MESSAGE_DATE_CONSTRAINTS
+            + ".\n"
+            + "Parameters: "
+            + String.join(" ", PARAMETERS)
+            + "\nExample: " + COMMAND_WORD + " "
+            + "2020-11-20";
+
+    public static final String MESSAGE_ARCHIVED_TASKS_ON_DATE = "%1$d archived tasks on indicated date!";
+
+    private final LocalDate keyDate;
+
+    /**
+     * Creates a ViewArchivedSchedule Command.
+     *
+     * @param keyDate The indicated date.
+     */
+    public ViewArchivedScheduleCommand(LocalDate keyDate) {
+        requireNonNull(keyDate);
+        this.keyDate = keyDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Task> archivedTasks;
+        try {
+            archivedTasks = model.findArchivedTasksOnDate(keyDate);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(FindArchivedCommand.MESSAGE_ARCHIVE_NOT_READ + e, e);
+        }
+
+        return new CommandResult(FindArchivedCommand.listArchivedTasks(
+                String.format(MESSAGE_ARCHIVED_TASKS_ON_DATE, archivedTasks.size()), archivedTasks));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ViewArchivedScheduleCommand // instanceof handles nulls
+                && keyDate.equals(((ViewArchivedScheduleCommand) other).keyDate)); // state check
+    }
+
+}
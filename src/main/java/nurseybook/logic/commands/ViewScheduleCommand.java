@@ -45,9 +45,9 @@ public class ViewScheduleCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
+        model.updateTasksAccordingToTime();
         model.addPossibleGhostTasksWithMatchingDate(keyDate);
 
-        model.updateTasksAccordingToTime();
         model.updateFilteredTaskList(predicate);
         return new CommandResult(String.format(Messages.MESSAGE_TASKS_ON_DATE, model.getFilteredTaskList().size()),
                 CommandResult.ListDisplayChange.TASK);
@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 import nurseybook.logic.commands.AddCommand;
 import nurseybook.logic.commands.AddTagCommand;
 import nurseybook.logic.commands.AddTaskCommand;
+import nurseybook.logic.commands.ArchiveCommand;
 import nurseybook.logic.commands.ClearCommand;
 import nurseybook.logic.commands.Command;
 import nurseybook.logic.commands.DeleteCommand;
@@ -20,6 +21,7 @@ import nurseybook.logic.commands.EditCommand;
 import nurseybook.logic.commands.EditTaskCommand;
 import nurseybook.logic.commands.ExitCommand;
 import nurseybook.logic.commands.FilterCommand;
+import nurseybook.logic.commands.FindArchivedCommand;
 import nurseybook.logic.commands.FindElderlyCommand;
 import nurseybook.logic.commands.FindTaskCommand;
 import nurseybook.logic.commands.HelpCommand;
@@ -27,6 +29,7 @@ import nurseybook.logic.commands.RedoCommand;
 import nurseybook.logic.commands.RemarkCommand;
 import nurseybook.logic.commands.RemindCommand;
 import nurseybook.logic.commands.UndoCommand;
+import nurseybook.logic.commands.ViewArchivedScheduleCommand;
 import nurseybook.logic.commands.ViewDetailsCommand;
 import nurseybook.logic.commands.ViewElderlyCommand;
 import nurseybook.logic.commands.ViewScheduleCommand;
@@ -97,6 +100,12 @@ public class NurseyBookParser {
         case FindTaskCommand.COMMAND_WORD:
             return new FindTaskCommandParser().parse(arguments);
 
+        case FindArchivedCommand.COMMAND_WORD:
+            return new FindArchivedCommandParser().parse(arguments);
+
+        case ArchiveCommand.COMMAND_WORD:
+            return new ArchiveCommand();
+
         case RemarkCommand.COMMAND_WORD:
             return new RemarkCommandParser().parse(arguments);
 
@@ -130,6 +139,9 @@ public class NurseyBookParser {
         case ViewScheduleCommand.COMMAND_WORD:
             return new ViewScheduleCommandParser().parse(arguments);
 
+        case ViewArchivedScheduleCommand.COMMAND_WORD:
+            return new ViewArchivedScheduleCommandParser().parse(arguments);
+
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
@@ -2,6 +2,7 @@ package nurseybook.logic.parser;
 
 import java.time.LocalDateTime;
 
+import nurseybook.commons.core.AppClock;
 import nurseybook.logic.commands.RemindCommand;
 import nurseybook.model.task.TaskIsReminderPredicate;
 
@@ -15,7 +16,7 @@ public class RemindCommandParser implements Parser<RemindCommand> {
      */
     @Override
     public RemindCommand parse(String userInput) {
-        LocalDateTime now = LocalDateTime.now()
+        LocalDateTime now = AppClock.now()
                 .withMinute(0).withSecond(0).withNano(0);
 
         return new RemindCommand(new TaskIsReminderPredicate(now));
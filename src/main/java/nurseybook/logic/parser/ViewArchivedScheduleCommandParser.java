@@ -0,0 +1,29 @@
+package nurseybook.logic.parser;
+
+import static nurseybook.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import nurseybook.logic.commands.Command;
+import nurseybook.logic.commands.ViewArchivedScheduleCommand;
+import nurseybook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ViewArchivedScheduleCommand object.
+ */
+public class ViewArchivedScheduleCommandParser implements Parser<Command> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the ViewArchivedScheduleCommand
+     * and returns a ViewArchivedScheduleCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ViewArchivedScheduleCommand parse(String args) throws ParseException {
+        String trimmedKeyDate = args.trim();
+
+        if (trimmedKeyDate.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewArchivedScheduleCommand.MESSAGE_USAGE));
+        }
+
+        return new ViewArchivedScheduleCommand(ParserUtil.parseDate(trimmedKeyDate));
+    }
+}
@@ -8,6 +8,7 @@ import static nurseybook.model.task.UniqueTaskList.MAX_DAYS_SCHEDULE_AHEAD;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
+import nurseybook.commons.core.AppClock;
 import nurseybook.logic.commands.Command;
 import nurseybook.logic.commands.ViewScheduleCommand;
 import nurseybook.logic.parser.exceptions.ParseException;
@@ -34,7 +35,7 @@ public class ViewScheduleCommandParser implements Parser<Command> {
         LocalDate keyDate = ParserUtil.parseDate(trimmedKeyDate);
         isDateWithinBounds(keyDate);
 
-        if (keyDate.isBefore(LocalDate.now())) {
+        if (keyDate.isBefore(AppClock.today())) {
             throw new ParseException(MESSAGE_INVALID_PASSED_DATE);
         }
 
@@ -43,7 +44,7 @@ public class ViewScheduleCommandParser implements Parser<Command> {
 
     private void isDateWithinBounds(LocalDate keyDate) throws ParseException {
         //ViewSchedule is only supported for 12 weeks, or 84 days, in advance
-        LocalDate dateToday = LocalDate.now();
+        LocalDate dateToday = AppClock.today();
         if (ChronoUnit.DAYS.between(dateToday, keyDate) > MAX_DAYS_SCHEDULE_AHEAD) {
             throw new ParseException(MESSAGE_VIEWSCHEDULE_DAYS_SUPPORTED);
         }
@@ -1,12 +1,15 @@
 package nurseybook.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import nurseybook.commons.core.GuiSettings;
+import nurseybook.commons.exceptions.DataConversionException;
 import nurseybook.logic.commands.CommandResult;
 import nurseybook.model.person.Elderly;
 import nurseybook.model.person.Name;
@@ -62,6 +65,12 @@ public interface Model {
      */
     ReadOnlyNurseyBook getVersionedNurseyBook();
 
+    /**
+     * Returns the number of modifications made to the nursey book so far.
+     * The count only ever increases, so it can be compared against an earlier value to tell if the data has changed.
+     */
+    long getNurseyBookModificationCount();
+
     /**
      * Returns true if a elderly with the same identity as {@code elderly} exists in the nursey book.
      */
@@ -131,7 +140,7 @@ public interface Model {
     void setElderly(Elderly target, Elderly editedElderly);
 
 
-    /** Deletes all tasks that are not real in NurseyBook. */
+    /** Stops showing all tasks that are not real, which are never part of NurseyBook itself. */
     void deleteGhostTasks();
 
     /**
@@ -145,7 +154,7 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered elderly list */
     ObservableList<Elderly> getFilteredElderlyList();
 
-    /** Returns an unmodifiable view of the filtered task list */
+    /** Returns an unmodifiable view of the filtered task list, with any ghost tasks shown, in chronological order */
     ObservableList<Task> getFilteredTaskList();
 
     /**
@@ -166,6 +175,52 @@ public interface Model {
      */
     void updateTasksAccordingToTime();
 
+    /**
+     * Sets the loader of the past tasks that were left in storage when the nursey book was read.
+     */
+    void setPastTaskLoader(PastTaskLoader pastTaskLoader);
+
+    /**
+     * Adds the past tasks that were left in storage to the nursey book, if they have not been added yet.
+     * Adding them is not a change that can be undone.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    void loadPastTasks() throws DataConversionException, IOException;
+
+    /**
+     * Sets the archive that tasks are moved to by {@link #archiveTasks()}.
+     */
+    void setTaskArchive(TaskArchive taskArchive);
+
+    /**
+     * Moves the done, non-recurring tasks that are older than the task archive age in the user prefs out of the
+     * nursey book into the task archive, and returns them. Nothing is archived if no task archive has been set.
+     * Archiving is not a change that can be undone.
+     *
+     * @throws IOException if there was any problem when writing to the archive. No task is archived.
+     */
+    List<Task> archiveTasks() throws IOException;
+
+    /**
+     * Returns the archived tasks which description contains any of {@code keywords}.
+     * Nothing is found if no task archive has been set.
+     *
+     * @throws DataConversionException if the data in the archive is not in the expected format.
+     * @throws IOException if there was any problem when reading from the archive.
+     */
+    List<Task> findArchivedTasksWithKeywords(List<String> keywords) throws DataConversionException, IOException;
+
+    /**
+     * Returns the archived tasks that took place on {@code date}.
+     * Nothing is found if no task archive has been set.
+     *
+     * @throws DataConversionException if the data in the archive is not in the expected format.
+     * @throws IOException if there was any problem when reading from the archive.
+     */
+    List<Task> findArchivedTasksOnDate(LocalDate date) throws DataConversionException, IOException;
+
     /**
      * Deletes the given task.
      * The task must exist in the nursey book.
@@ -198,8 +253,9 @@ public interface Model {
     boolean canRedoNurseyBook();
 
     /**
-     * Adds ghost tasks on the specified keyDate, if any of the current recurring tasks' future occurrences
-     * coincide with the given keydate.
+     * Shows ghost tasks on the specified keyDate, if any of the current recurring tasks' future occurrences
+     * coincide with the given keydate. The ghost tasks are shown in the filtered task list alongside
+     * the real tasks, but are not added to NurseyBook.
      *
      * @param keyDate Date to compare future occurrences against.
      */
@@ -3,20 +3,31 @@ package nurseybook.model;
 import static java.util.Objects.requireNonNull;
 import static nurseybook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import nurseybook.commons.core.AppClock;
 import nurseybook.commons.core.GuiSettings;
 import nurseybook.commons.core.LogsCenter;
+import nurseybook.commons.exceptions.DataConversionException;
 import nurseybook.logic.commands.CommandResult;
 import nurseybook.model.person.Elderly;
 import nurseybook.model.person.Name;
 import nurseybook.model.task.Task;
+import nurseybook.model.task.TaskIsArchivablePredicate;
+import nurseybook.model.util.ConcatenatedObservableList;
 
 /**
  * Represents the in-memory model of the nursey book data.
@@ -27,8 +38,12 @@ public class ModelManager implements Model {
     private final VersionedNurseyBook versionedNurseyBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Elderly> filteredElderlies;
+    // tasks shown alongside the real tasks, but not part of the nursey book
+    private final ObservableList<Task> ghostTasks = FXCollections.observableArrayList();
     private final FilteredList<Task> filteredTasks;
     private Elderly elderlyOfInterest;
+    private PastTaskLoader pastTaskLoader = () -> Collections.emptyList();
+    private TaskArchive taskArchive = null;
 
     /**
      * Initializes a ModelManager with the given versionedNurseyBook and userPrefs.
@@ -39,10 +54,12 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with nursey book: " + versionedNurseyBook + " and user prefs " + userPrefs);
 
-        this.versionedNurseyBook = new VersionedNurseyBook(versionedNurseyBook);
+        this.versionedNurseyBook = new VersionedNurseyBook(versionedNurseyBook, userPrefs.getUndoHistoryLimit());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredElderlies = new FilteredList<>(this.versionedNurseyBook.getElderlyList());
-        filteredTasks = new FilteredList<>(this.versionedNurseyBook.getTaskList());
+        ObservableList<Task> tasksWithGhostTasks =
+                new ConcatenatedObservableList<>(this.versionedNurseyBook.getTaskList(), ghostTasks);
+        filteredTasks = new FilteredList<>(new SortedList<>(tasksWithGhostTasks, Comparator.naturalOrder()));
         this.elderlyOfInterest = null;
     }
 
@@ -97,6 +114,11 @@ public class ModelManager implements Model {
         return versionedNurseyBook;
     }
 
+    @Override
+    public long getNurseyBookModificationCount() {
+        return versionedNurseyBook.getModificationCount();
+    }
+
     @Override
     public boolean hasElderly(Elderly elderly) {
         requireNonNull(elderly);
@@ -167,12 +189,14 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteGhostTasks() {
-        versionedNurseyBook.deleteGhostTasks();
+        if (!ghostTasks.isEmpty()) {
+            ghostTasks.clear();
+        }
     }
 
     @Override
     public void addPossibleGhostTasksWithMatchingDate(LocalDate keyDate) {
-        versionedNurseyBook.addPossibleGhostTasksWithMatchingDate(keyDate);
+        ghostTasks.addAll(versionedNurseyBook.getPossibleGhostTasksWithMatchingDate(keyDate));
     }
 
     public void setTask(Task target, Task editedTask) {
@@ -248,9 +272,66 @@ public class ModelManager implements Model {
 
     @Override
     public void updateTasksAccordingToTime() {
-        versionedNurseyBook.updateRecurringTasksDate();
-        versionedNurseyBook.updateTasksOverdueStatus();
-        versionedNurseyBook.reorderTasksChronologically();
+        versionedNurseyBook.updateTasksAccordingToTime();
+    }
+
+    @Override
+    public void setPastTaskLoader(PastTaskLoader pastTaskLoader) {
+        requireNonNull(pastTaskLoader);
+        this.pastTaskLoader = pastTaskLoader;
+    }
+
+    @Override
+    public void loadPastTasks() throws DataConversionException, IOException {
+        List<Task> pastTasks = pastTaskLoader.loadPastTasks();
+        if (!pastTasks.isEmpty()) {
+            logger.fine("Loaded " + pastTasks.size() + " past tasks");
+            versionedNurseyBook.addLoadedTasks(pastTasks);
+        }
+    }
+
+    @Override
+    public void setTaskArchive(TaskArchive taskArchive) {
+        requireNonNull(taskArchive);
+        this.taskArchive = taskArchive;
+    }
+
+    @Override
+    public List<Task> archiveTasks() throws IOException {
+        if (taskArchive == null) {
+            return Collections.emptyList();
+        }
+
+        LocalDate cutoffDate = AppClock.today().minusDays(userPrefs.getTaskArchiveAgeDays());
+        List<Task> archivableTasks = versionedNurseyBook.getRealTaskList().stream()
+                .filter(new TaskIsArchivablePredicate(cutoffDate))
+                .collect(Collectors.toList());
+        if (!archivableTasks.isEmpty()) {
+            // the tasks only leave the nursey book once they are safely in the archive
+            taskArchive.archiveTasks(archivableTasks);
+            versionedNurseyBook.removeArchivedTasks(archivableTasks);
+            logger.fine("Archived " + archivableTasks.size() + " tasks done before " + cutoffDate);
+        }
+        return archivableTasks;
+    }
+
+    @Override
+    public List<Task> findArchivedTasksWithKeywords(List<String> keywords)
+            throws DataConversionException, IOException {
+        requireNonNull(keywords);
+        if (taskArchive == null) {
+            return Collections.emptyList();
+        }
+        return taskArchive.findArchivedTasksWithKeywords(keywords);
+    }
+
+    @Override
+    public List<Task> findArchivedTasksOnDate(LocalDate date) throws DataConversionException, IOException {
+        requireNonNull(date);
+        if (taskArchive == null) {
+            return Collections.emptyList();
+        }
+        return taskArchive.findArchivedTasksOnDate(date);
     }
 
 
@@ -4,15 +4,20 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
 import nurseybook.model.person.Elderly;
 import nurseybook.model.person.Name;
 import nurseybook.model.person.UniqueElderlyList;
+import nurseybook.model.task.GhostTask;
 import nurseybook.model.task.Task;
 import nurseybook.model.task.UniqueTaskList;
+import nurseybook.model.util.ListEdit;
+import nurseybook.model.util.ListEditLog;
 
 /**
  * Wraps all data at NurseyBook level
@@ -23,19 +28,18 @@ public class NurseyBook implements ReadOnlyNurseyBook {
     private final UniqueElderlyList elderlies;
     private final UniqueTaskList tasks;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
-        elderlies = new UniqueElderlyList();
-        tasks = new UniqueTaskList();
+    public NurseyBook() {
+        this(new UniqueElderlyList(), new UniqueTaskList());
     }
 
-    public NurseyBook() {}
+    /**
+     * Creates a NurseyBook backed directly by {@code elderlies} and {@code tasks}.
+     * The lists are not copied, so they may be shared with other NurseyBooks that are never modified.
+     */
+    private NurseyBook(UniqueElderlyList elderlies, UniqueTaskList tasks) {
+        this.elderlies = elderlies;
+        this.tasks = tasks;
+    }
 
     /**
      * Creates an NurseyBook using the Elderlies in the {@code toBeCopied}
@@ -68,10 +72,147 @@ public class NurseyBook implements ReadOnlyNurseyBook {
     public void resetData(ReadOnlyNurseyBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof NurseyBook) {
+            // the lists of another NurseyBook are already known to be unique, so they can be copied directly
+            elderlies.setElderlies(((NurseyBook) newData).elderlies);
+            tasks.setTasks(((NurseyBook) newData).tasks);
+            return;
+        }
+
         setElderlies(newData.getElderlyList());
         setTasks(newData.getTaskList());
     }
 
+    //// snapshot operations
+
+    /**
+     * Returns a copy of this NurseyBook to be kept as a read-only snapshot, which takes constant time as the copied
+     * lists share their contents with the lists of this NurseyBook.
+     * Lists that have not changed since {@code previousSnapshot} was taken are shared with it instead of copied.
+     * Neither the returned NurseyBook nor {@code previousSnapshot} may be modified afterwards.
+     */
+    NurseyBook snapshot(NurseyBook previousSnapshot, boolean haveElderliesChanged, boolean haveTasksChanged) {
+        requireNonNull(previousSnapshot);
+        UniqueElderlyList elderliesSnapshot = previousSnapshot.elderlies;
+        if (haveElderliesChanged) {
+            elderliesSnapshot = new UniqueElderlyList();
+            elderliesSnapshot.setElderlies(elderlies);
+        }
+        UniqueTaskList tasksSnapshot = previousSnapshot.tasks;
+        if (haveTasksChanged) {
+            tasksSnapshot = new UniqueTaskList();
+            tasksSnapshot.setTasks(tasks);
+        }
+        return new NurseyBook(elderliesSnapshot, tasksSnapshot);
+    }
+
+    /**
+     * Resets the data of this NurseyBook to that of {@code targetSnapshot}, which {@code elderlyEdits} and
+     * {@code taskEdits} turn the lists of this NurseyBook into, so that listeners are only told of the edited
+     * entries. Either edits may be null if they are not known, in which case listeners are told that every entry of
+     * the list was replaced.
+     * Replacing a list takes constant time apart from telling listeners, as its contents are shared with the snapshot.
+     */
+    void restoreSnapshot(NurseyBook targetSnapshot, List<ListEdit<Elderly>> elderlyEdits,
+                         List<ListEdit<Task>> taskEdits) {
+        requireNonNull(targetSnapshot);
+        if (elderlyEdits == null) {
+            elderlies.setElderlies(targetSnapshot.elderlies);
+        } else {
+            elderlies.setElderlies(targetSnapshot.elderlies, elderlyEdits);
+        }
+        if (taskEdits == null) {
+            tasks.setTasks(targetSnapshot.tasks);
+        } else {
+            tasks.setTasks(targetSnapshot.tasks, taskEdits);
+        }
+    }
+
+    /**
+     * Starts recording the edits made to the lists of this NurseyBook, which are then returned by
+     * {@link #takeElderlyEdits()} and {@link #takeTaskEdits()}.
+     */
+    void startRecordingEdits() {
+        elderlies.startRecordingEdits();
+        tasks.startRecordingEdits();
+    }
+
+    List<ListEdit<Elderly>> takeElderlyEdits() {
+        return elderlies.takeEdits();
+    }
+
+    List<ListEdit<Task>> takeTaskEdits() {
+        return tasks.takeEdits();
+    }
+
+    /**
+     * Returns the edits that turned the elderly list of {@code earlier} into that of this NurseyBook, if the lists of
+     * both are at positions of the same log of edits, e.g. if both are copies, made at different times, of a
+     * NurseyBook whose edits are recorded. Finding the edits takes time in proportion to their number.
+     */
+    public Optional<List<ListEdit<Elderly>>> getElderlyEditsSince(NurseyBook earlier) {
+        requireNonNull(earlier);
+        return getEditsBetween(earlier.elderlies.getEditLog(), elderlies.getEditLog());
+    }
+
+    /**
+     * Returns the edits that turned the task list of {@code earlier} into that of this NurseyBook, if known.
+     *
+     * @see #getElderlyEditsSince(NurseyBook)
+     */
+    public Optional<List<ListEdit<Task>>> getTaskEditsSince(NurseyBook earlier) {
+        requireNonNull(earlier);
+        return getEditsBetween(earlier.tasks.getEditLog(), tasks.getEditLog());
+    }
+
+    private static <E> Optional<List<ListEdit<E>>> getEditsBetween(Optional<ListEditLog<E>> earlierPosition,
+                                                               Optional<ListEditLog<E>> laterPosition) {
+        if (earlierPosition.isEmpty() || laterPosition.isEmpty()) {
+            return Optional.empty();
+        }
+        return earlierPosition.get().getEditsUntil(laterPosition.get());
+    }
+
+    /**
+     * Adds the tasks in {@code loadedTasks} that are not in the task list yet, each at its place in the sorted list.
+     * Unlike other modifications, this may be done to snapshots, as the loaded tasks belong to every version of
+     * the data.
+     */
+    void addMissingTasks(List<Task> loadedTasks) {
+        requireNonNull(loadedTasks);
+        for (Task task : loadedTasks) {
+            if (!tasks.contains(task)) {
+                tasks.add(task);
+            }
+        }
+    }
+
+    /**
+     * Removes the tasks whose ids are in {@code archivedTaskIds}, as they were moved to the task archive.
+     * Like {@link #addMissingTasks(List)}, this may be done to snapshots, as the archived tasks leave every version
+     * of the data.
+     */
+    void removeTasksWithIds(Set<Long> archivedTaskIds) {
+        requireNonNull(archivedTaskIds);
+        tasks.removeTasksWithIds(archivedTaskIds);
+    }
+
+    /**
+     * Returns the number of modifications made to this NurseyBook so far.
+     * The count only ever increases, so callers can tell whether this NurseyBook has changed since they last looked.
+     */
+    public long getModificationCount() {
+        return getElderliesModificationCount() + getTasksModificationCount();
+    }
+
+    long getElderliesModificationCount() {
+        return elderlies.getModificationCount();
+    }
+
+    long getTasksModificationCount() {
+        return tasks.getModificationCount();
+    }
+
     //// elderly-level operations
 
     /**
@@ -160,45 +301,22 @@ public class NurseyBook implements ReadOnlyNurseyBook {
     }
 
     /**
-     * Removes all ghost tasks, if any, from this {@code NurseyBook}.
-     */
-    public void deleteGhostTasks() {
-        tasks.deleteGhostTasks();
-    }
-
-    /**
-     * Adds all possible ghost tasks that fall on the given keyDate.
+     * Returns all possible ghost tasks that fall on the given keyDate.
      */
-    public void addPossibleGhostTasksWithMatchingDate(LocalDate keyDate) {
-        tasks.addPossibleGhostTasksWithMatchingDate(keyDate);
+    public List<GhostTask> getPossibleGhostTasksWithMatchingDate(LocalDate keyDate) {
+        return tasks.getPossibleGhostTasksWithMatchingDate(keyDate);
     }
 
     ///time-related methods
 
     /**
-     * Recurring tasks' DateTime changes to its next occurrence once its previous DateTime has arrived/passed.
-     * This functions updates recurring tasks' DateTime as needed at the current time.
-     * @see UniqueTaskList#updateRecurringDates()
+     * Recurring tasks' DateTime changes to its next occurrence once its previous DateTime has arrived/passed,
+     * and tasks' overdue status is updated to match the current time.
+     * Tasks stay sorted chronologically by DateTime with the earliest task at the front.
+     * @see UniqueTaskList#updateTasksAccordingToTime()
      */
-    public void updateRecurringTasksDate() {
-        tasks.updateRecurringDates();
-    }
-
-    /**
-     * Check if tasks' overdue status is correct when comparing to the current time and update them accordingly.
-     * @see UniqueTaskList#updateOverdueStatuses()
-     */
-    public void updateTasksOverdueStatus() {
-        tasks.updateOverdueStatuses();
-    }
-
-
-    /**
-     * Sorts tasks chronologically by DateTime with the earliest task at the front.
-     * @see UniqueTaskList#reorderTasks()
-     */
-    public void reorderTasksChronologically() {
-        tasks.reorderTasks();
+    public void updateTasksAccordingToTime() {
+        tasks.updateTasksAccordingToTime();
     }
 
     //// util methods
@@ -239,8 +357,7 @@ public class NurseyBook implements ReadOnlyNurseyBook {
 
     @Override
     public ObservableList<Task> getRealTaskList() {
-        UniqueTaskList realTaskList = tasks.getRealTaskList();
-        return realTaskList.asUnmodifiableObservableList();
+        return tasks.getRealTaskList();
     }
 
     @Override
@@ -248,6 +365,15 @@ public class NurseyBook implements ReadOnlyNurseyBook {
         return tasks.doTasksContainValidNames(elderlies);
     }
 
+    /**
+     * Returns the tasks with names that are not names of existing elderlies in NurseyBook, mapped to those names.
+     *
+     * @see UniqueTaskList#getTasksWithInvalidNames(UniqueElderlyList)
+     */
+    public Map<Task, List<Name>> getTasksWithInvalidNames() {
+        return tasks.getTasksWithInvalidNames(elderlies);
+    }
+
     /**
      * Marks the given task {@code target} as done.
      * {@code target} must exist in NurseyBook.
@@ -2,25 +2,49 @@ package nurseybook.model;
 
 import static nurseybook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
+import java.util.Optional;
+
 import nurseybook.logic.commands.CommandResult;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.task.Task;
+import nurseybook.model.util.ListEdit;
 
 /**
  * Represents a state of the nursey book.
  * Contains a copy of the nursey book at a particular state
  * and the commandResult of the command that changed the state of the nursey book.
+ * The edits that the command made to the elderly and task lists may also be kept, so that the command can be undone
+ * or redone by applying them, in which case only the entries that the command changed have to be shown again.
  */
 public class NurseyBookState {
 
     private final ReadOnlyNurseyBook nurseyBook;
     private final CommandResult commandResult;
+    // the edits that turned the previous state into this state, or null if they are not known
+    private final List<ListEdit<Elderly>> elderlyEdits;
+    private final List<ListEdit<Task>> taskEdits;
 
     /**
-     * Creates a NurseyBookState using the copied {@code nurseyBook} and the {@code commandResult}.
+     * Creates a NurseyBookState using the copied {@code nurseyBook} and the {@code commandResult},
+     * without the edits that the command made.
      */
     public NurseyBookState(ReadOnlyNurseyBook nurseyBook, CommandResult commandResult) {
+        this(nurseyBook, commandResult, null, null);
+    }
+
+    /**
+     * Creates a NurseyBookState using the copied {@code nurseyBook} and the {@code commandResult},
+     * with {@code elderlyEdits} and {@code taskEdits} that the command made to the lists of the previous state,
+     * either of which may be null if they are not known.
+     */
+    public NurseyBookState(ReadOnlyNurseyBook nurseyBook, CommandResult commandResult,
+                           List<ListEdit<Elderly>> elderlyEdits, List<ListEdit<Task>> taskEdits) {
         requireAllNonNull(nurseyBook, commandResult);
         this.nurseyBook = nurseyBook;
         this.commandResult = commandResult;
+        this.elderlyEdits = elderlyEdits == null ? null : List.copyOf(elderlyEdits);
+        this.taskEdits = taskEdits == null ? null : List.copyOf(taskEdits);
     }
 
     public ReadOnlyNurseyBook getNurseyBook() {
@@ -31,6 +55,32 @@ public class NurseyBookState {
         return commandResult;
     }
 
+    /**
+     * Returns the edits that turned the elderly list of the previous state into that of this state, if known.
+     */
+    public Optional<List<ListEdit<Elderly>>> getElderlyEdits() {
+        return Optional.ofNullable(elderlyEdits);
+    }
+
+    /**
+     * Returns the edits that turned the task list of the previous state into that of this state, if known.
+     */
+    public Optional<List<ListEdit<Task>>> getTaskEdits() {
+        return Optional.ofNullable(taskEdits);
+    }
+
+    /**
+     * Returns a copy of this state without its task edits, for when the task lists of the states were changed in a
+     * way that the edits do not account for.
+     */
+    public NurseyBookState withoutTaskEdits() {
+        return new NurseyBookState(nurseyBook, commandResult, elderlyEdits, null);
+    }
+
+    /**
+     * Returns true if both states have the same nursey book and command result.
+     * The edits are not compared, as they only describe how the state was reached.
+     */
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -39,4 +89,3 @@ public class NurseyBookState {
                 && commandResult.equals(((NurseyBookState) other).commandResult));
     }
 }
-
@@ -0,0 +1,24 @@
+package nurseybook.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.model.task.Task;
+
+/**
+ * Loads the past tasks that were left in storage when the nursey book was read, so that they are only loaded once
+ * they are needed.
+ */
+@FunctionalInterface
+public interface PastTaskLoader {
+
+    /**
+     * Returns the past tasks that have not been loaded before, which is an empty list once all of them are loaded.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<Task> loadPastTasks() throws DataConversionException, IOException;
+
+}
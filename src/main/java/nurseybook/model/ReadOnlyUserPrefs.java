@@ -2,7 +2,9 @@ package nurseybook.model;
 
 import java.nio.file.Path;
 
+import nurseybook.commons.core.DataCompression;
 import nurseybook.commons.core.GuiSettings;
+import nurseybook.commons.core.StorageMode;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getNurseyBookFilePath();
 
+    int getUndoHistoryLimit();
+
+    StorageMode getStorageMode();
+
+    DataCompression getDataCompression();
+
+    int getTaskArchiveAgeDays();
+
 }
@@ -0,0 +1,48 @@
+package nurseybook.model;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.model.task.Task;
+
+/**
+ * Keeps the tasks that were moved out of the nursey book, so that they can still be searched.
+ * Archived tasks are never changed or removed.
+ */
+public interface TaskArchive {
+
+    /**
+     * Reserves the ids of the archived tasks, so that tasks created afterwards are not given the same ids.
+     * Archived tasks are no longer in the nursey book, so this must be done before any task is created.
+     *
+     * @throws IOException if there was any problem when reading from the archive.
+     */
+    void reserveArchivedTaskIds() throws IOException;
+
+    /**
+     * Adds {@code tasks} to the archive. Tasks that were archived before are not added again.
+     *
+     * @throws IOException if there was any problem when writing to the archive. None of the tasks are archived.
+     */
+    void archiveTasks(List<Task> tasks) throws IOException;
+
+    /**
+     * Returns the archived tasks which description contains any of {@code keywords}, as matched by
+     * {@link nurseybook.model.task.DescriptionContainsKeywordPredicate}, in the order they were archived.
+     *
+     * @throws DataConversionException if the data in the archive is not in the expected format.
+     * @throws IOException if there was any problem when reading from the archive.
+     */
+    List<Task> findArchivedTasksWithKeywords(List<String> keywords) throws DataConversionException, IOException;
+
+    /**
+     * Returns the archived tasks that took place on {@code date}, in the order they were archived.
+     *
+     * @throws DataConversionException if the data in the archive is not in the expected format.
+     * @throws IOException if there was any problem when reading from the archive.
+     */
+    List<Task> findArchivedTasksOnDate(LocalDate date) throws DataConversionException, IOException;
+
+}
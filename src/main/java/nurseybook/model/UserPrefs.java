@@ -1,20 +1,32 @@
 package nurseybook.model;
 
 import static java.util.Objects.requireNonNull;
+import static nurseybook.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import nurseybook.commons.core.DataCompression;
 import nurseybook.commons.core.GuiSettings;
+import nurseybook.commons.core.StorageMode;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+    public static final String MESSAGE_INVALID_UNDO_HISTORY_LIMIT = "Undo history limit should be a positive number";
+    public static final int DEFAULT_TASK_ARCHIVE_AGE_DAYS = 30;
+    public static final String MESSAGE_INVALID_TASK_ARCHIVE_AGE_DAYS = "Task archive age should not be negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path nurseyBookFilePath = Paths.get("data" , "nurseybook.json");
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private StorageMode storageMode = StorageMode.JSON;
+    private DataCompression dataCompression = new DataCompression();
+    private int taskArchiveAgeDays = DEFAULT_TASK_ARCHIVE_AGE_DAYS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +48,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setNurseyBookFilePath(newUserPrefs.getNurseyBookFilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setStorageMode(newUserPrefs.getStorageMode());
+        setDataCompression(newUserPrefs.getDataCompression());
+        setTaskArchiveAgeDays(newUserPrefs.getTaskArchiveAgeDays());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +72,42 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.nurseyBookFilePath = nurseyBookFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit > 0, MESSAGE_INVALID_UNDO_HISTORY_LIMIT);
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        requireNonNull(storageMode);
+        this.storageMode = storageMode;
+    }
+
+    public DataCompression getDataCompression() {
+        return dataCompression;
+    }
+
+    public void setDataCompression(DataCompression dataCompression) {
+        requireNonNull(dataCompression);
+        this.dataCompression = dataCompression;
+    }
+
+    public int getTaskArchiveAgeDays() {
+        return taskArchiveAgeDays;
+    }
+
+    public void setTaskArchiveAgeDays(int taskArchiveAgeDays) {
+        checkArgument(taskArchiveAgeDays >= 0, MESSAGE_INVALID_TASK_ARCHIVE_AGE_DAYS);
+        this.taskArchiveAgeDays = taskArchiveAgeDays;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +120,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && nurseyBookFilePath.equals(o.nurseyBookFilePath);
+                && nurseyBookFilePath.equals(o.nurseyBookFilePath)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && storageMode == o.storageMode
+                && dataCompression.equals(o.dataCompression)
+                && taskArchiveAgeDays == o.taskArchiveAgeDays;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, nurseyBookFilePath);
+        return Objects.hash(guiSettings, nurseyBookFilePath, undoHistoryLimit, storageMode, dataCompression,
+                taskArchiveAgeDays);
     }
 
     @Override
@@ -81,6 +138,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + nurseyBookFilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nStorage mode : " + storageMode);
+        sb.append("\nData compression : " + dataCompression);
+        sb.append("\nTask archive age in days : " + taskArchiveAgeDays);
         return sb.toString();
     }
 
@@ -1,39 +1,81 @@
 package nurseybook.model;
 
+import static nurseybook.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import nurseybook.logic.commands.CommandResult;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.task.Task;
+import nurseybook.model.util.ListEdit;
 
 // Solution below adapted from https://github.com/se-edu/addressbook-level4
 /**
  * Tracks the state of the nurseybook
+ * The elderly and task lists are persistent collections, so each saved state only holds the O(log n) nodes on the
+ * paths to the entries that its command changed, and shares every other node with the state before it.
+ * Committing, undoing or redoing a command takes constant time, as it only swaps the contents of the lists.
+ * Each state also keeps the edits that its command made to the lists, which are applied in reverse when the command
+ * is undone and forwards when it is redone, so that only the entries that the command changed are shown again.
+ * At most {@code undoHistoryLimit} commands can be undone; older states are discarded as new ones are committed.
  */
 public class VersionedNurseyBook extends NurseyBook {
 
     private static final CommandResult INITIAL_COMMAND_RESULT = new CommandResult("Initialise NurseyBook");
+    private final int undoHistoryLimit;
     private List<NurseyBookState> nurseyBookStateList;
     private int currentStateIndex;
+    // modification counts of the lists when they were last in sync with the state at currentStateIndex
+    private long syncedElderliesModificationCount;
+    private long syncedTasksModificationCount;
+    // false if tasks were loaded or archived since the last commit, undo or redo, as the task edits recorded since
+    // then do not account for the tasks that were added to or removed from every state
+    private boolean areTaskEditsKnown = true;
 
     /**
-     * Creates a VersionedNurseyBook using the data in the {@code initialNurseyBook}.
+     * Creates a VersionedNurseyBook using the data in the {@code initialNurseyBook},
+     * with the default undo history limit.
      */
     public VersionedNurseyBook(ReadOnlyNurseyBook initialNurseyBook) {
+        this(initialNurseyBook, UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a VersionedNurseyBook using the data in the {@code initialNurseyBook}
+     * that keeps at most {@code undoHistoryLimit} undoable states.
+     */
+    public VersionedNurseyBook(ReadOnlyNurseyBook initialNurseyBook, int undoHistoryLimit) {
         super(initialNurseyBook);
+        checkArgument(undoHistoryLimit > 0, UserPrefs.MESSAGE_INVALID_UNDO_HISTORY_LIMIT);
+        this.undoHistoryLimit = undoHistoryLimit;
         nurseyBookStateList = new ArrayList<>();
         nurseyBookStateList.add(new NurseyBookState(new NurseyBook(initialNurseyBook),
                 INITIAL_COMMAND_RESULT));
         currentStateIndex = 0;
+        startRecordingEdits();
+        markSynced();
     }
 
     /**
-     * Saves a new NurseyBookState with a copy of this {@code VersionedNurseyBook} and {@code commandResult}
-     * and increases the {@code currentStateIndex}.
+     * Saves a new NurseyBookState with a copy of this {@code VersionedNurseyBook}, {@code commandResult} and the
+     * edits made since the current state, and increases the {@code currentStateIndex}.
+     * The oldest state is discarded if the undo history limit would otherwise be exceeded.
      */
     public void commit(CommandResult commandResult) {
         deleteUndoneStates();
-        nurseyBookStateList.add(new NurseyBookState(new NurseyBook(this), commandResult));
+        NurseyBook snapshot = snapshot(getSnapshot(currentStateIndex), haveElderliesChanged(), haveTasksChanged());
+        List<ListEdit<Elderly>> elderlyEdits = takeElderlyEdits();
+        List<ListEdit<Task>> taskEdits = takeTaskEdits();
+        nurseyBookStateList.add(new NurseyBookState(snapshot, commandResult, elderlyEdits,
+                areTaskEditsKnown ? taskEdits : null));
+        areTaskEditsKnown = true;
         currentStateIndex++;
+        markSynced();
+        discardStatesBeyondLimit();
     }
 
     /**
@@ -44,8 +86,7 @@ public class VersionedNurseyBook extends NurseyBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStateIndex--;
-        resetData(nurseyBookStateList.get(currentStateIndex).getNurseyBook());
+        moveToState(currentStateIndex - 1);
     }
 
     /**
@@ -63,10 +104,64 @@ public class VersionedNurseyBook extends NurseyBook {
         return nurseyBookStateList.get(currentStateIndex).getCommandResult();
     }
 
+    /**
+     * Adds {@code loadedTasks}, which were left in storage when the data was read, to this
+     * {@code VersionedNurseyBook} and to every saved state, so that undoing or redoing does not remove them.
+     * Adding them is not a change that can be undone, and tasks that are already present are not added again.
+     */
+    public void addLoadedTasks(List<Task> loadedTasks) {
+        boolean haveTasksChanged = haveTasksChanged();
+        // states that share a task list add the tasks to it only once, as the others find them present
+        for (int i = 0; i < nurseyBookStateList.size(); i++) {
+            getSnapshot(i).addMissingTasks(loadedTasks);
+        }
+        addMissingTasks(loadedTasks);
+        if (!haveTasksChanged) {
+            syncedTasksModificationCount = getTasksModificationCount();
+        }
+        forgetTaskEdits();
+    }
+
+    /**
+     * Removes {@code archivedTasks}, which were moved to the task archive, from this {@code VersionedNurseyBook}
+     * and from every saved state, so that undoing or redoing does not bring them back.
+     * Tasks are matched by id, and removing them is not a change that can be undone.
+     */
+    public void removeArchivedTasks(List<Task> archivedTasks) {
+        Set<Long> archivedTaskIds = archivedTasks.stream().map(Task::getId).collect(Collectors.toSet());
+        boolean haveTasksChanged = haveTasksChanged();
+        for (int i = 0; i < nurseyBookStateList.size(); i++) {
+            getSnapshot(i).removeTasksWithIds(archivedTaskIds);
+        }
+        removeTasksWithIds(archivedTaskIds);
+        if (!haveTasksChanged) {
+            syncedTasksModificationCount = getTasksModificationCount();
+        }
+        forgetTaskEdits();
+    }
+
+    /**
+     * Forgets the task edits of every state and those made since the current state, as the tasks were changed in
+     * every state in a way that the edits do not account for.
+     */
+    private void forgetTaskEdits() {
+        nurseyBookStateList.replaceAll(NurseyBookState::withoutTaskEdits);
+        takeTaskEdits();
+        areTaskEditsKnown = false;
+    }
+
     private void deleteUndoneStates() {
         nurseyBookStateList.subList(currentStateIndex + 1, nurseyBookStateList.size()).clear();
     }
 
+    private void discardStatesBeyondLimit() {
+        int excessStates = currentStateIndex - undoHistoryLimit;
+        if (excessStates > 0) {
+            nurseyBookStateList.subList(0, excessStates).clear();
+            currentStateIndex -= excessStates;
+        }
+    }
+
     /**
      * Returns true if there is a next {@code NurseyBookState} saved.
      */
@@ -82,8 +177,64 @@ public class VersionedNurseyBook extends NurseyBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStateIndex++;
-        resetData(nurseyBookStateList.get(currentStateIndex).getNurseyBook());
+        moveToState(currentStateIndex + 1);
+    }
+
+    /**
+     * Resets the data to the state at {@code targetStateIndex}, which must be the state before or after the current
+     * state, by undoing the edits made since the current state and then undoing the edits of the current state or
+     * redoing the edits of the next state.
+     */
+    private void moveToState(int targetStateIndex) {
+        assert Math.abs(targetStateIndex - currentStateIndex) == 1;
+        NurseyBookState currentState = nurseyBookStateList.get(currentStateIndex);
+        NurseyBookState targetState = nurseyBookStateList.get(targetStateIndex);
+        boolean isUndo = targetStateIndex < currentStateIndex;
+
+        List<ListEdit<Elderly>> elderlyEdits = getEditsToState(takeElderlyEdits(), true,
+                isUndo ? currentState.getElderlyEdits() : targetState.getElderlyEdits(), isUndo);
+        List<ListEdit<Task>> taskEdits = getEditsToState(takeTaskEdits(), areTaskEditsKnown,
+                isUndo ? currentState.getTaskEdits() : targetState.getTaskEdits(), isUndo);
+        restoreSnapshot(getSnapshot(targetStateIndex), elderlyEdits, taskEdits);
+        // restoring the state is not an edit to be committed
+        takeElderlyEdits();
+        takeTaskEdits();
+        areTaskEditsKnown = true;
+        currentStateIndex = targetStateIndex;
+        markSynced();
+    }
+
+    /**
+     * Returns the edits that turn a list into that of another state, given the {@code uncommittedEdits} made to it
+     * since the current state and the {@code stateEdits} of the state being undone or redone, or null if either edits
+     * are not known.
+     */
+    private static <E> List<ListEdit<E>> getEditsToState(List<ListEdit<E>> uncommittedEdits,
+            boolean areUncommittedEditsKnown, Optional<List<ListEdit<E>>> stateEdits, boolean isUndo) {
+        if (!areUncommittedEditsKnown || stateEdits.isEmpty()) {
+            return null;
+        }
+        List<ListEdit<E>> edits = ListEdit.inverse(uncommittedEdits);
+        edits.addAll(isUndo ? ListEdit.inverse(stateEdits.get()) : stateEdits.get());
+        return edits;
+    }
+
+    private NurseyBook getSnapshot(int stateIndex) {
+        // every state is created by this class with a NurseyBook snapshot
+        return (NurseyBook) nurseyBookStateList.get(stateIndex).getNurseyBook();
+    }
+
+    private boolean haveElderliesChanged() {
+        return getElderliesModificationCount() != syncedElderliesModificationCount;
+    }
+
+    private boolean haveTasksChanged() {
+        return getTasksModificationCount() != syncedTasksModificationCount;
+    }
+
+    private void markSynced() {
+        syncedElderliesModificationCount = getElderliesModificationCount();
+        syncedTasksModificationCount = getTasksModificationCount();
     }
 
     @Override
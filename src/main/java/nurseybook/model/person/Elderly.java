@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import nurseybook.model.tag.Tag;
+import nurseybook.model.util.IdGenerator;
 
 /**
  * Represents an Elderly in the nursey book.
@@ -15,6 +16,11 @@ import nurseybook.model.tag.Tag;
  */
 public class Elderly extends Person {
 
+    private static final IdGenerator ID_GENERATOR = new IdGenerator();
+
+    // Surrogate key, kept unchanged across edits of the elderly
+    private final long id;
+
     // Identity fields
     private final Age age;
     private final Gender gender;
@@ -27,11 +33,23 @@ public class Elderly extends Person {
 
     /**
      * Every field must be present and not null.
+     * A new id is assigned to the elderly.
      */
     public Elderly(Name name, Age age, Gender gender, RoomNumber roomNumber, Nok nok,
                    Remark remark, Set<Tag> tags) {
+        this(ID_GENERATOR.next(), name, age, gender, roomNumber, nok, remark, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Used to keep the {@code id} of an existing elderly, e.g. when it is edited or loaded from storage.
+     */
+    public Elderly(long id, Name name, Age age, Gender gender, RoomNumber roomNumber, Nok nok,
+                   Remark remark, Set<Tag> tags) {
         super(name);
         requireAllNonNull(age, gender, tags);
+        ID_GENERATOR.reserve(id);
+        this.id = id;
         this.age = age;
         this.gender = gender;
         this.roomNumber = roomNumber;
@@ -40,6 +58,10 @@ public class Elderly extends Person {
         this.tags.addAll(tags);
     }
 
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return super.getName();
     }
@@ -102,6 +124,7 @@ public class Elderly extends Person {
     /**
      * Returns true if both elderlies have the same identity and data fields.
      * This defines a stronger notion of equality between two elderlies.
+     * The id is a surrogate key and is not compared.
      */
     @Override
     public boolean equals(Object other) {
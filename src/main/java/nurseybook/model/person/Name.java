@@ -3,6 +3,8 @@ package nurseybook.model.person;
 import static java.util.Objects.requireNonNull;
 import static nurseybook.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Elderly's name in the nursey book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -42,6 +44,15 @@ public class Name {
         return fullName.equalsIgnoreCase(other.fullName); // state check
     }
 
+    /**
+     * Returns a key that is the same for all names that are equal ignoring case.
+     * The key does not depend on the default locale, which would otherwise change how letters such as "I" are
+     * lowercased.
+     */
+    public String getCaseInsensitiveKey() {
+        return fullName.toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public String toString() {
         return fullName;
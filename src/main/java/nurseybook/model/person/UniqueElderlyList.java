@@ -3,14 +3,22 @@ package nurseybook.model.person;
 import static java.util.Objects.requireNonNull;
 import static nurseybook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import nurseybook.model.person.exceptions.DuplicateElderlyException;
 import nurseybook.model.person.exceptions.ElderlyNotFoundException;
+import nurseybook.model.util.ListEdit;
+import nurseybook.model.util.ListEditLog;
+import nurseybook.model.util.PersistentList;
+import nurseybook.model.util.PersistentMap;
+import nurseybook.model.util.PersistentObservableList;
 
 /**
  * A list of elderlies that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +26,9 @@ import nurseybook.model.person.exceptions.ElderlyNotFoundException;
  * updating of elderlies uses Elderly#isSameElderly(Elderly) for equality so as to ensure that the elderly being added
  * or updated is unique in terms of identity in the UniqueElderlyList. However, the removal of an elderly uses
  * Elderly#equals(Object) so as to ensure that the elderly with exactly the same fields will be removed.
+ * Elderlies are additionally indexed by their case-insensitive name so that lookups by name do not scan the list.
+ * The list and its index are persistent collections, so replacing the contents of this list with those of another
+ * list takes constant time and shares their structure, rather than copying every elderly.
  *
  * Supports a minimal set of list operations.
  *
@@ -25,16 +36,18 @@ import nurseybook.model.person.exceptions.ElderlyNotFoundException;
  */
 public class UniqueElderlyList implements Iterable<Elderly> {
 
-    private final ObservableList<Elderly> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Elderly> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final PersistentObservableList<Elderly> internalList = new PersistentObservableList<>();
+    // created when first asked for, so that lists that are never shown are not observed and can be replaced cheaply
+    private ObservableList<Elderly> internalUnmodifiableList;
+    private PersistentMap<String, Elderly> elderliesByName = PersistentMap.empty();
+    private long modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent elderly as the given argument.
      */
     public boolean contains(Elderly toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameElderly);
+        return elderliesByName.containsKey(toNameKey(toCheck.getName()));
     }
 
     /**
@@ -43,14 +56,11 @@ public class UniqueElderlyList implements Iterable<Elderly> {
      */
     public Elderly getElderly(Name name) {
         requireNonNull(name);
-        try {
-            return internalList.stream()
-                    .filter(p -> p.hasName(name))
-                    .findFirst()
-                    .orElseThrow();
-        } catch (NoSuchElementException e) {
+        Elderly elderly = elderliesByName.get(toNameKey(name));
+        if (elderly == null) {
             throw new ElderlyNotFoundException();
         }
+        return elderly;
     }
 
     /**
@@ -59,8 +69,7 @@ public class UniqueElderlyList implements Iterable<Elderly> {
      */
     public boolean hasElderly(Name name) {
         requireNonNull(name);
-        return internalList.stream()
-                .anyMatch(p -> p.hasName(name));
+        return elderliesByName.containsKey(toNameKey(name));
     }
 
     /**
@@ -69,8 +78,19 @@ public class UniqueElderlyList implements Iterable<Elderly> {
      */
     public boolean hasElderlyCaseSensitive(Name name) {
         requireNonNull(name);
-        return internalList.stream()
-                .anyMatch(p -> p.hasNameCaseSensitive(name));
+        Elderly elderly = elderliesByName.get(toNameKey(name));
+        return elderly != null && elderly.hasNameCaseSensitive(name);
+    }
+
+    /**
+     * Returns the names of all elderlies in the list, which are compared case-sensitively.
+     */
+    public Set<Name> getNames() {
+        Set<Name> names = new HashSet<>();
+        for (Elderly elderly : internalList) {
+            names.add(elderly.getName());
+        }
+        return names;
     }
 
     /**
@@ -83,6 +103,8 @@ public class UniqueElderlyList implements Iterable<Elderly> {
             throw new DuplicateElderlyException();
         }
         internalList.add(toAdd);
+        elderliesByName = elderliesByName.put(toNameKey(toAdd.getName()), toAdd);
+        modificationCount++;
     }
 
     /**
@@ -103,6 +125,9 @@ public class UniqueElderlyList implements Iterable<Elderly> {
         }
 
         internalList.set(index, editedElderly);
+        elderliesByName = elderliesByName.remove(toNameKey(target.getName()))
+                .put(toNameKey(editedElderly.getName()), editedElderly);
+        modificationCount++;
     }
 
     /**
@@ -114,33 +139,107 @@ public class UniqueElderlyList implements Iterable<Elderly> {
         if (!internalList.remove(toRemove)) {
             throw new ElderlyNotFoundException();
         }
+        elderliesByName = elderliesByName.remove(toNameKey(toRemove.getName()));
+        modificationCount++;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * As {@code replacement} already enforces uniqueness, no duplicate check is performed.
+     * The contents are shared with {@code replacement} rather than copied, which takes constant time.
+     */
     public void setElderlies(UniqueElderlyList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        if (internalList.getContents() != replacement.internalList.getContents()) {
+            modificationCount++;
+        }
+        internalList.setContents(replacement.internalList);
+        elderliesByName = replacement.elderliesByName;
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}, which {@code edits} turn the
+     * contents of this list into, so that listeners are told of the edits rather than of a replacement of every
+     * elderly. Like {@link #setElderlies(UniqueElderlyList)}, this takes constant time apart from telling listeners.
+     */
+    public void setElderlies(UniqueElderlyList replacement, List<ListEdit<Elderly>> edits) {
+        requireAllNonNull(replacement, edits);
+        if (internalList.getContents() != replacement.internalList.getContents()) {
+            internalList.setContents(replacement.internalList.getContents(), edits);
+            modificationCount++;
+        }
+        elderliesByName = replacement.elderliesByName;
     }
 
     /**
      * Replaces the contents of this list with {@code elderlies}.
      * {@code elderlies} must not contain duplicate elderlies.
+     *
+     * @throws DuplicateElderlyException listing every duplicate name if {@code elderlies} is not unique.
      */
     public void setElderlies(List<Elderly> elderlies) {
         requireAllNonNull(elderlies);
-        if (!elderliesAreUnique(elderlies)) {
-            throw new DuplicateElderlyException();
+        PersistentMap<String, Elderly> replacementByName = PersistentMap.empty();
+        List<Name> duplicateNames = new ArrayList<>();
+        for (Elderly elderly : elderlies) {
+            String nameKey = toNameKey(elderly.getName());
+            if (replacementByName.containsKey(nameKey)) {
+                duplicateNames.add(elderly.getName());
+            } else {
+                replacementByName = replacementByName.put(nameKey, elderly);
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateElderlyException(duplicateNames);
         }
 
-        internalList.setAll(elderlies);
+        internalList.setContents(PersistentList.of(elderlies));
+        elderliesByName = replacementByName;
+        modificationCount++;
+    }
+
+    /**
+     * Starts recording the edits made to this list, which are then returned by {@link #takeEdits()}.
+     */
+    public void startRecordingEdits() {
+        internalList.startRecordingEdits();
+    }
+
+    /**
+     * Returns the edits made to this list since they were last taken, in order, and forgets them.
+     * Edits must be recorded.
+     */
+    public List<ListEdit<Elderly>> takeEdits() {
+        return internalList.takeEdits();
+    }
+
+    /**
+     * Returns the position in the log of edits at which the log has the current contents of this list, if known.
+     *
+     * @see PersistentObservableList#getEditLog()
+     */
+    public Optional<ListEditLog<Elderly>> getEditLog() {
+        return internalList.getEditLog();
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Elderly> asUnmodifiableObservableList() {
+        if (internalUnmodifiableList == null) {
+            internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        }
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of modifications made to this list so far.
+     * The count only ever increases, so callers can tell whether the list has changed since they last looked.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public Iterator<Elderly> iterator() {
         return internalList.iterator();
@@ -150,25 +249,15 @@ public class UniqueElderlyList implements Iterable<Elderly> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueElderlyList // instanceof handles nulls
-                        && internalList.equals(((UniqueElderlyList) other).internalList));
+                        && internalList.getContents().equals(((UniqueElderlyList) other).internalList.getContents()));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return internalList.getContents().hashCode();
     }
 
-    /**
-     * Returns true if {@code elderlies} contains only unique elderlies.
-     */
-    private boolean elderliesAreUnique(List<Elderly> elderlies) {
-        for (int i = 0; i < elderlies.size() - 1; i++) {
-            for (int j = i + 1; j < elderlies.size(); j++) {
-                if (elderlies.get(i).isSameElderly(elderlies.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private static String toNameKey(Name name) {
+        return name.getCaseInsensitiveKey();
     }
 }
@@ -1,11 +1,37 @@
 package nurseybook.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import nurseybook.model.person.Name;
+
 /**
  * Signals that the operation will result in duplicate Elderlies (Elderlies are considered duplicates if they have
  * the same identity).
  */
 public class DuplicateElderlyException extends RuntimeException {
+    private final List<Name> duplicateNames;
+
     public DuplicateElderlyException() {
         super("Operation would result in duplicate elderlies");
+        this.duplicateNames = Collections.emptyList();
+    }
+
+    /**
+     * Creates a {@code DuplicateElderlyException} reporting every name in {@code duplicateNames}.
+     */
+    public DuplicateElderlyException(List<Name> duplicateNames) {
+        super("Operation would result in duplicate elderlies: " + duplicateNames.stream()
+                .map(name -> name.fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicateNames = Collections.unmodifiableList(duplicateNames);
+    }
+
+    /**
+     * Returns the names that caused the duplication, if known.
+     */
+    public List<Name> getDuplicateNames() {
+        return duplicateNames;
     }
 }
@@ -10,6 +10,8 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Objects;
 
+import nurseybook.commons.core.AppClock;
+
 /**
  * Represents a task's date and time in the nursey book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)} and {@link #isValidTime(String)}
@@ -19,8 +21,12 @@ public class DateTime implements Comparable<DateTime> {
     public static final String MESSAGE_DATE_CONSTRAINTS = "Date must be in the form yyyy-mm-dd";
     public static final String MESSAGE_TIME_CONSTRAINTS = "Time must be in the form HH:mm";
 
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
     public final LocalDate date;
     public final LocalTime time;
+    // minutes since the epoch, so that date and time comparisons are a single primitive comparison
+    private final long epochMinute;
 
     /**
      * Constructs an {@code DateTime}.
@@ -41,6 +47,7 @@ public class DateTime implements Comparable<DateTime> {
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException(MESSAGE_TIME_CONSTRAINTS);
         }
+        this.epochMinute = toEpochMinute(this.date, this.time);
     }
 
     /**
@@ -50,8 +57,10 @@ public class DateTime implements Comparable<DateTime> {
      * @param time A valid time.
      */
     public DateTime(LocalDate date, LocalTime time) {
+        requireAllNonNull(date, time);
         this.date = date;
         this.time = time;
+        this.epochMinute = toEpochMinute(date, time);
     }
 
     /**
@@ -131,20 +140,18 @@ public class DateTime implements Comparable<DateTime> {
 
     /**
      * Returns true if the argument is overdue (i.e later than the current date and time).
+     * The current date and time is given by {@link AppClock}, to the minute.
      *
      * @param dt The DateTime to check its overdue status.
      * @return True if it is overdue, false otherwise
      */
     public static boolean isOverdue(DateTime dt) {
-        LocalDateTime currentDateTime = LocalDateTime.now();
-
-        String[] dateTime = currentDateTime.toString().split("T");
-        String date = dateTime[0];
-        String time = dateTime[1].substring(0, 5);
-
-        DateTime now = new DateTime(date, time);
+        LocalDateTime now = AppClock.now();
+        return dt.epochMinute < toEpochMinute(now.toLocalDate(), now.toLocalTime());
+    }
 
-        return dt.isBefore(now);
+    private static long toEpochMinute(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
     }
 
     @Override
@@ -182,12 +189,13 @@ public class DateTime implements Comparable<DateTime> {
 
     @Override
     public int compareTo(DateTime o) {
-        int dateComparison = this.date.compareTo(o.date);
+        int minuteComparison = Long.compare(this.epochMinute, o.epochMinute);
 
-        if (dateComparison == 0) {
+        if (minuteComparison == 0) {
+            // only differs if either time has seconds
             return this.time.compareTo(o.time);
         }
 
-        return dateComparison;
+        return minuteComparison;
     }
 }
@@ -15,6 +15,10 @@ public class DescriptionContainsKeywordPredicate implements Predicate<Task> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Task task) {
         return keywords.stream()
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import nurseybook.commons.core.AppClock;
 import nurseybook.model.person.Name;
 import nurseybook.model.task.Recurrence.RecurrenceType;
 
@@ -28,6 +29,20 @@ public class GhostTask extends Task {
         super(desc, dt, names, status, recurrence);
     }
 
+    /**
+     * Creates a Ghost Task object that keeps the {@code id} of an existing task.
+     *
+     * @param id                        the id of the task
+     * @param desc                      the description of the task
+     * @param dt                        the date and time of the task
+     * @param names                     the names of people associated with the task
+     * @param status                    the completion status of the task
+     * @param recurrence                the recurrence type of the task
+     */
+    public GhostTask(long id, Description desc, DateTime dt, Set<Name> names, Status status, Recurrence recurrence) {
+        super(id, desc, dt, names, status, recurrence);
+    }
+
     /**
      * Copies the task and all it's fields and returns a new instance of it.
      *
@@ -44,7 +59,7 @@ public class GhostTask extends Task {
         Status copyStatus = new Status(getStatus().isDone, getStatus().isOverdue);
         Recurrence copyRecurrence = new Recurrence(getRecurrence().toString());
 
-        return new GhostTask(copyDesc, copyDt, copyRelatedNames, copyStatus, copyRecurrence);
+        return new GhostTask(getId(), copyDesc, copyDt, copyRelatedNames, copyStatus, copyRecurrence);
     }
 
     /**
@@ -56,7 +71,7 @@ public class GhostTask extends Task {
     public GhostTask markAsDone() {
         String overdueStatus = Boolean.toString(isTaskOverdue());
 
-        return new GhostTask(this.getDesc(), this.getDateTime(),
+        return new GhostTask(getId(), this.getDesc(), this.getDateTime(),
                 super.getRelatedNames(), new Status("true", overdueStatus), super.getRecurrence());
     }
 
@@ -69,7 +84,7 @@ public class GhostTask extends Task {
     public GhostTask markAsOverdue() {
         String completedStatus = Boolean.toString(isTaskDone());
 
-        return new GhostTask(this.getDesc(), this.getDateTime(),
+        return new GhostTask(getId(), this.getDesc(), this.getDateTime(),
                 super.getRelatedNames(), new Status(completedStatus, "true"), super.getRecurrence());
     }
 
@@ -83,21 +98,21 @@ public class GhostTask extends Task {
     public GhostTask markAsNotOverdue() {
         String completedStatus = Boolean.toString(isTaskDone());
 
-        return new GhostTask(this.getDesc(), this.getDateTime(),
+        return new GhostTask(getId(), this.getDesc(), this.getDateTime(),
                 super.getRelatedNames(), new Status(completedStatus, "false"), super.getRecurrence());
     }
 
     //@@ Superbestron
     @Override
     public GhostTask updateDateRecurringTask() {
-        LocalDateTime currentDateTime = LocalDateTime.now();
+        LocalDateTime currentDateTime = AppClock.now();
 
         if (getRecurrence().isRecurring()) {
             Recurrence.RecurrenceType recurrenceType = getRecurrence().getRecurrenceType();
             assert(recurrenceType != Recurrence.RecurrenceType.NONE);
 
             DateTime dateTime = changeTaskDate(currentDateTime, recurrenceType);
-            return new GhostTask(getDesc(), dateTime,
+            return new GhostTask(getId(), getDesc(), dateTime,
                     getRelatedNames(), new Status("false", "false"), getRecurrence());
         } else {
             return this;
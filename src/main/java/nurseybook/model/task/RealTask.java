@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import nurseybook.commons.core.AppClock;
 import nurseybook.model.person.Name;
 import nurseybook.model.task.Recurrence.RecurrenceType;
 
@@ -37,6 +38,20 @@ public class RealTask extends Task {
         super(desc, dt, names, status, recurrence);
     }
 
+    /**
+     * Creates a RealTask object that keeps the {@code id} of an existing task.
+     *
+     * @param id                        the id of the task
+     * @param desc                      the description of the task
+     * @param dt                        the date and time of the task
+     * @param names                     the names of people associated with the task
+     * @param status                    the completion status of the task
+     * @param recurrence                the recurrence type of the task
+     */
+    public RealTask(long id, Description desc, DateTime dt, Set<Name> names, Status status, Recurrence recurrence) {
+        super(id, desc, dt, names, status, recurrence);
+    }
+
     /**
      * Marks task as done.
      *
@@ -44,7 +59,7 @@ public class RealTask extends Task {
      */
     @Override
     public RealTask markAsDone() {
-        return new RealTask(this.getDesc(),
+        return new RealTask(getId(), this.getDesc(),
                 this.getDateTime(), super.getRelatedNames(), new Status(true, isTaskOverdue()), super.getRecurrence());
     }
 
@@ -55,7 +70,7 @@ public class RealTask extends Task {
      */
     @Override
     public RealTask markAsOverdue() {
-        return new RealTask(this.getDesc(), this.getDateTime(),
+        return new RealTask(getId(), this.getDesc(), this.getDateTime(),
                 super.getRelatedNames(), new Status(isTaskDone(), true), super.getRecurrence());
     }
 
@@ -68,7 +83,7 @@ public class RealTask extends Task {
     @Override
     public RealTask markAsNotOverdue() {
 
-        return new RealTask(this.getDesc(), this.getDateTime(),
+        return new RealTask(getId(), this.getDesc(), this.getDateTime(),
                 super.getRelatedNames(), new Status(isTaskDone(), false), super.getRecurrence());
     }
 
@@ -80,14 +95,14 @@ public class RealTask extends Task {
      */
     @Override
     public RealTask updateDateRecurringTask() {
-        LocalDateTime currentDateTime = LocalDateTime.now();
+        LocalDateTime currentDateTime = AppClock.now();
 
         if (getRecurrence().isRecurring()) {
             RecurrenceType recurrenceType = this.getRecurrenceType();
             assert(recurrenceType != Recurrence.RecurrenceType.NONE);
 
             DateTime dateTime = changeTaskDate(currentDateTime, recurrenceType);
-            return new RealTask(getDesc(), dateTime,
+            return new RealTask(getId(), getDesc(), dateTime,
                     getRelatedNames(), new Status("false", "false"), getRecurrence());
         } else {
             return this;
@@ -110,11 +125,12 @@ public class RealTask extends Task {
         Status copyStatus = new Status(getStatus().isDone, getStatus().isOverdue);
         Recurrence copyRecurrence = new Recurrence(getRecurrence().toString());
 
-        return new RealTask(copyDesc, copyDt, copyRelatedNames, copyStatus, copyRecurrence);
+        return new RealTask(getId(), copyDesc, copyDt, copyRelatedNames, copyStatus, copyRecurrence);
     }
 
     /**
      * Copies the contents of this task into a new GhostTask.
+     * The GhostTask is given an id of its own, as it stands for another occurrence of this task.
      *
      * @return A copy of the contents of this task into a new GhostTask.
      */
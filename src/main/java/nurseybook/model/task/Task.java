@@ -6,14 +6,19 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 import nurseybook.model.person.Name;
-import nurseybook.model.person.UniqueElderlyList;
 import nurseybook.model.task.Recurrence.RecurrenceType;
+import nurseybook.model.util.IdGenerator;
 
 public abstract class Task implements Comparable<Task> {
 
+    private static final IdGenerator ID_GENERATOR = new IdGenerator();
+
+    // Surrogate key, kept unchanged across copies and edits of the task
+    private final long id;
     private final Description desc;
     private DateTime dateTime;
     private final Status status;
@@ -31,6 +36,7 @@ public abstract class Task implements Comparable<Task> {
     public Task(Description desc, DateTime dt, Set<Name> names, Recurrence recurrence) {
         boolean isOverdue = DateTime.isOverdue(dt);
 
+        this.id = ID_GENERATOR.next();
         this.desc = desc;
         this.dateTime = dt;
         this.relatedNames.addAll(names);
@@ -48,6 +54,22 @@ public abstract class Task implements Comparable<Task> {
      * @param recurrence                the recurrence type of the task
      */
     public Task(Description desc, DateTime dt, Set<Name> names, Status status, Recurrence recurrence) {
+        this(ID_GENERATOR.next(), desc, dt, names, status, recurrence);
+    }
+
+    /**
+     * Creates a Task object that keeps the {@code id} of an existing task.
+     *
+     * @param id                        the id of the task
+     * @param desc                      the description of the task
+     * @param dt                        the date and time of the task
+     * @param names                     the names of people associated with the task
+     * @param status                    the completion status of the task
+     * @param recurrence                the recurrence type of the task
+     */
+    public Task(long id, Description desc, DateTime dt, Set<Name> names, Status status, Recurrence recurrence) {
+        ID_GENERATOR.reserve(id);
+        this.id = id;
         this.desc = desc;
         this.dateTime = dt;
         this.relatedNames.addAll(names);
@@ -55,6 +77,14 @@ public abstract class Task implements Comparable<Task> {
         this.recurrence = recurrence;
     }
 
+    /**
+     * Marks {@code id} as used by a task that is kept in storage but not loaded, so that no task created afterwards
+     * is given the same id.
+     */
+    public static void reserveId(long id) {
+        ID_GENERATOR.reserve(id);
+    }
+
     /**
      * Marks task as done.
      *
@@ -110,6 +140,15 @@ public abstract class Task implements Comparable<Task> {
         return this.dateTime.isSameDate(givenDate);
     }
 
+    /**
+     * Returns the id of this task.
+     *
+     * @return The task's id
+     */
+    public long getId() {
+        return id;
+    }
+
     /**
      * Returns task description of this task.
      *
@@ -325,14 +364,6 @@ public abstract class Task implements Comparable<Task> {
                 && otherTask.getRelatedNames().equals(getRelatedNames());
     }
 
-    /**
-     * Returns true if related names are all of existing elderlies in NurseyBook and each name has the same case as the
-     * corresponding elderly's name.
-     */
-    public boolean isRelatedNamesValid(UniqueElderlyList elderlies) {
-        return relatedNames.stream().allMatch(name -> elderlies.hasElderlyCaseSensitive(name));
-    }
-
     //@@ Superbestron
     protected DateTime changeTaskDate(LocalDateTime currentDateTime, RecurrenceType recurrenceType) {
         LocalDate taskDate = getDateTime().date;
@@ -393,4 +424,10 @@ public abstract class Task implements Comparable<Task> {
                 && (other.status).equals(status)
                 && (other.recurrence).equals(recurrence);
     }
+
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(desc, dateTime, relatedNames, status, recurrence);
+    }
 }
@@ -0,0 +1,33 @@
+package nurseybook.model.task;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+/**
+ * Tests whether a {@code Task} can be moved out of the nursey book into the task archive, which is the case for
+ * done tasks that do not recur and that took place before the cutoff date.
+ */
+public class TaskIsArchivablePredicate implements Predicate<Task> {
+
+    public final LocalDate cutoffDate;
+
+    /**
+     * Creates a predicate for done, non-recurring tasks dated before {@code cutoffDate}.
+     */
+    public TaskIsArchivablePredicate(LocalDate cutoffDate) {
+        this.cutoffDate = cutoffDate;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return task.isRealTask() && task.isTaskDone() && !task.isTaskRecurring()
+                && task.getDate().isBefore(cutoffDate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskIsArchivablePredicate // instanceof handles nulls
+                && cutoffDate.equals(((TaskIsArchivablePredicate) other).cutoffDate)); // state check
+    }
+}
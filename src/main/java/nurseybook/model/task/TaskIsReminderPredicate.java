@@ -1,6 +1,7 @@
 package nurseybook.model.task;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.function.Predicate;
 
 /**
@@ -9,28 +10,28 @@ import java.util.function.Predicate;
 public class TaskIsReminderPredicate implements Predicate<Task> {
 
     public final LocalDateTime currentDateTime;
+    private final DateTime now;
+    private final DateTime limit;
 
+    /**
+     * Creates a predicate for undone tasks that are due within the next few days after {@code now}.
+     */
     public TaskIsReminderPredicate(LocalDateTime now) {
         this.currentDateTime = now;
+        this.now = toDateTime(now);
+        this.limit = toDateTime(now.plusDays(4).withHour(0));
     }
 
     @Override
     public boolean test(Task task) {
-        String[] dateTime = currentDateTime.toString().split("T");
-        String currentDate = dateTime[0];
-        String currentTime = dateTime[1].substring(0, 5);
-        DateTime now = new DateTime(currentDate, currentTime);
-
-        String[] limitDateTime = currentDateTime.plusDays(4)
-                .withHour(0)
-                .toString().split("T");
-        String limitDate = limitDateTime[0];
-        String limitTime = limitDateTime[1].substring(0, 5);
-        DateTime limit = new DateTime(limitDate, limitTime);
-
         return task.isAfter(now) && task.isBefore(limit) && !task.isTaskDone();
     }
 
+    private static DateTime toDateTime(LocalDateTime dateTime) {
+        // tasks are only precise to the minute
+        return new DateTime(dateTime.toLocalDate(), dateTime.toLocalTime().truncatedTo(ChronoUnit.MINUTES));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -7,34 +7,70 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import nurseybook.commons.core.AppClock;
 import nurseybook.model.person.Elderly;
 import nurseybook.model.person.Name;
 import nurseybook.model.person.UniqueElderlyList;
 import nurseybook.model.task.exceptions.DuplicateTaskException;
 import nurseybook.model.task.exceptions.TaskNotFoundException;
+import nurseybook.model.util.ListEdit;
+import nurseybook.model.util.ListEditLog;
+import nurseybook.model.util.PersistentList;
+import nurseybook.model.util.PersistentMap;
+import nurseybook.model.util.PersistentObservableList;
+import nurseybook.model.util.PersistentPriorityQueue;
 
 /**
  * A list of tasks that does not allow nulls.
+ * A secondary hash index keyed on the identity used by {@code Task#isSameTask(Task)} is kept alongside the list,
+ * so that checking whether an equivalent task exists does not require a scan of the list.
+ * Tasks are also indexed by their related names (case-insensitive), so that changes to an elderly's name
+ * only touch the tasks related to that elderly.
+ * Tasks are treated as immutable once they are in the list.
+ * To keep time-based updates cheap, each task is checked against the current time once when it enters the list,
+ * and from then on only when its date and time passes, which is tracked with a queue of upcoming tasks.
+ * The list is always kept in chronological order: tasks are inserted, and moved when their date and time changes, at
+ * the position found by a binary search, so no change to a single task needs the whole list to be sorted again.
+ * The list, its indexes and the queue are persistent collections, so replacing the contents of this list with those
+ * of another list takes constant time and shares their structure, rather than copying every task.
  *
  * Supports a minimal set of list operations.
  *
+ * @see Task#isSameTask(Task)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
     //No. of days to check for recurring tasks in the future is set to 84 days, or 12 weeks.
     public static final int MAX_DAYS_SCHEDULE_AHEAD = 84;
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Task> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final PersistentObservableList<Task> internalList = new PersistentObservableList<>();
+    // created when first asked for, so that lists that are never shown are not observed and can be replaced cheaply
+    private ObservableList<Task> internalUnmodifiableList;
+    private PersistentMap<TaskIdentity, Integer> identityCounts = PersistentMap.empty();
+    private PersistentMap<String, PersistentMap<TaskReference, Task>> tasksByName = PersistentMap.empty();
+    // the tasks currently in the list, by reference
+    private PersistentMap<TaskReference, Task> liveTasks = PersistentMap.empty();
+    // tasks that have not been checked against the current time since they entered the list, by reference
+    private PersistentMap<TaskReference, Task> uncheckedTasks = PersistentMap.empty();
+    // checked tasks that were not yet due when last checked, earliest first; may hold tasks no longer in the list
+    private PersistentPriorityQueue<Task> upcomingTasks = PersistentPriorityQueue.empty();
+    private int ghostTaskCount = 0;
+    private long modificationCount = 0;
 
     /**
-     * Adds a task to the list and sorts the list after each addition by the DateTime
+     * Adds a task to the list, after the tasks with the same DateTime, so that the list stays sorted by the DateTime
      * field of each Task instance.
      */
     public void add(Task toAdd) {
@@ -42,7 +78,9 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        internalList.add(insertionIndexOf(toAdd), toAdd);
+        indexTask(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -53,16 +91,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new TaskNotFoundException();
-        }
-
-        if (!target.isSameTask(editedTask) && contains(editedTask)) {
-            throw new DuplicateTaskException();
-        }
-
-        internalList.set(index, editedTask);
+        setTaskAt(indexOf(target), target, editedTask);
     }
 
     /**
@@ -103,35 +132,80 @@ public class UniqueTaskList implements Iterable<Task> {
 
     /**
      * Replaces this list with the list from {@code replacement}.
+     * The contents are shared with {@code replacement} rather than copied, which takes constant time.
      */
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        if (internalList.getContents() != replacement.internalList.getContents()) {
+            modificationCount++;
+        }
+        internalList.setContents(replacement.internalList);
+        copyIndexes(replacement);
+    }
+
+    /**
+     * Replaces this list with the list from {@code replacement}, which {@code edits} turn this list into,
+     * so that listeners are told of the edits rather than of a replacement of every task.
+     * Like {@link #setTasks(UniqueTaskList)}, this takes constant time apart from telling listeners.
+     */
+    public void setTasks(UniqueTaskList replacement, List<ListEdit<Task>> edits) {
+        requireAllNonNull(replacement, edits);
+        if (internalList.getContents() != replacement.internalList.getContents()) {
+            internalList.setContents(replacement.internalList.getContents(), edits);
+            modificationCount++;
+        }
+        copyIndexes(replacement);
     }
 
     /**
-     * Replaces the contents of this list with {@code tasks}.
+     * Replaces the contents of this list with {@code tasks}, sorted by their DateTime with tasks of the same DateTime
+     * kept in their order.
      */
     public void setTasks(List<Task> tasks) {
         requireAllNonNull(tasks);
-        internalList.setAll(tasks);
+        List<Task> sortedTasks = new ArrayList<>(tasks);
+        sortedTasks.sort(Comparator.naturalOrder());
+        internalList.setContents(PersistentList.of(sortedTasks));
+        rebuildIndex();
+        modificationCount++;
     }
 
     /**
-     * Updates the given elderly {@code target}'s name for all tasks in the list that contains that name
-     * with {@code editedElderly}'s name.
-     * {@code target} must exist in NurseyBook.
-     * The elderly identity of {@code editedElderly} must not be the same as another existing elderly in NurseyBook.
+     * Returns true if the related names of all tasks in the list are names of elderlies in {@code elderlies}, with
+     * the same case.
      */
     public boolean doTasksContainValidNames(UniqueElderlyList elderlies) {
+        Set<Name> elderlyNames = elderlies.getNames();
         for (Task t: internalList) {
-            if (!t.isRelatedNamesValid(elderlies)) {
+            if (!elderlyNames.containsAll(t.getRelatedNames())) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the tasks in the list with related names that are not names of elderlies in {@code elderlies}, with
+     * the same case, mapped to those names. The tasks are in the order of the list and their names are sorted.
+     */
+    public Map<Task, List<Name>> getTasksWithInvalidNames(UniqueElderlyList elderlies) {
+        Set<Name> elderlyNames = elderlies.getNames();
+        Map<Task, List<Name>> invalidNamesByTask = new LinkedHashMap<>();
+        for (Task t: internalList) {
+            List<Name> invalidNames = new ArrayList<>();
+            for (Name name : t.getRelatedNames()) {
+                if (!elderlyNames.contains(name)) {
+                    invalidNames.add(name);
+                }
+            }
+            if (!invalidNames.isEmpty()) {
+                invalidNames.sort(Comparator.comparing(name -> name.fullName));
+                invalidNamesByTask.put(t, invalidNames);
+            }
+        }
+        return invalidNamesByTask;
+    }
+
     /**
      * Updates the given elderly {@code target}'s name for all tasks in the list that contains that name
      * with {@code editedElderly}'s name.
@@ -139,17 +213,7 @@ public class UniqueTaskList implements Iterable<Task> {
      * The elderly identity of {@code editedElderly} must not be the same as another existing elderly in NurseyBook.
      */
     public void updateElderlyNameInTasks(Elderly target, Elderly editedElderly) {
-        // modifying list contents within foreach loop not allowed. Thus, this for loop is used
-        int size = internalList.size();
-        for (int i = 0; i < size; i++) {
-            Task task = internalList.get(i);
-            for (Name name : task.getRelatedNames()) {
-                if (target.getName().caseInsensitiveEquals(name)) {
-                    int index = internalList.indexOf(task);
-                    internalList.set(index, task.replaceName(name, editedElderly.getName()));
-                }
-            }
-        }
+        replaceTasksRelatedTo(target.getName(), (task, name) -> task.replaceName(name, editedElderly.getName()));
     }
 
     /**
@@ -158,17 +222,44 @@ public class UniqueTaskList implements Iterable<Task> {
      * The elderly identity of {@code editedElderly} must not be the same as another existing elderly in NurseyBook.
      */
     public void deleteElderlyNameInTasks(Elderly elderlyToDelete) {
-        // modifying list contents within foreach loop not allowed. Thus, this for loop is used
-        int size = internalList.size();
-        for (int i = 0; i < size; i++) {
-            Task task = internalList.get(i);
-            for (Name name : task.getRelatedNames()) {
-                if (elderlyToDelete.getName().caseInsensitiveEquals(name)) {
-                    int index = internalList.indexOf(task);
-                    internalList.set(index, task.deleteName(name));
+        replaceTasksRelatedTo(elderlyToDelete.getName(), Task::deleteName);
+    }
+
+    /**
+     * Replaces every task related to {@code name} (case-insensitive matching) with the task produced by
+     * {@code replacer}, which is given the task and its related name that matched, and must keep its DateTime.
+     * Only the tasks related to {@code name} are looked at, each found by a binary search, and listeners are told
+     * of all the replacements as one change.
+     */
+    private void replaceTasksRelatedTo(Name name, BiFunction<Task, Name, Task> replacer) {
+        PersistentMap<TaskReference, Task> relatedTasks = tasksByName.get(name.getCaseInsensitiveKey());
+        if (relatedTasks == null) {
+            return;
+        }
+
+        List<Task> tasksToReplace = new ArrayList<>(relatedTasks.size());
+        relatedTasks.forEach((reference, task) -> tasksToReplace.add(task));
+        PersistentList<Task> newContents = internalList.getContents();
+        List<ListEdit<Task>> edits = new ArrayList<>();
+        for (Task task : tasksToReplace) {
+            for (Name relatedName : task.getRelatedNames()) {
+                if (name.caseInsensitiveEquals(relatedName)) {
+                    Task replacement = replacer.apply(task, relatedName);
+                    assert replacement.compareTo(task) == 0;
+                    int index = indexOfIdentical(task);
+                    newContents = newContents.set(index, replacement);
+                    edits.add(ListEdit.replace(index, task, replacement));
+                    break;
                 }
             }
         }
+
+        internalList.setContents(newContents, edits);
+        for (ListEdit<Task> edit : edits) {
+            unindexTask(edit.getOldElement());
+            indexTask(edit.getNewElement());
+        }
+        modificationCount++;
     }
 
     /**
@@ -177,40 +268,61 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new TaskNotFoundException();
+        unindexTask(internalList.remove(indexOf(toRemove)));
+        modificationCount++;
+    }
+
+    /**
+     * Removes every task whose id is in {@code taskIds}, after a single pass to find their positions.
+     * Ids that no task in the list has are ignored.
+     */
+    public void removeTasksWithIds(Set<Long> taskIds) {
+        requireNonNull(taskIds);
+        List<Integer> removedIndexes = new ArrayList<>();
+        int index = 0;
+        for (Task task : internalList.getContents()) {
+            if (taskIds.contains(task.getId())) {
+                removedIndexes.add(index);
+            }
+            index++;
+        }
+        if (removedIndexes.isEmpty()) {
+            return;
         }
+        // removes the last tasks first, so that the positions of the others do not shift
+        for (int i = removedIndexes.size() - 1; i >= 0; i--) {
+            unindexTask(internalList.remove((int) removedIndexes.get(i)));
+        }
+        modificationCount++;
     }
 
     /**
-     * Creates and returns a UniqueTaskList consisting of only the real tasks within this task list.
+     * Returns an unmodifiable list of only the real tasks within this task list.
+     * Ghost tasks are normally never added to the list, in which case the backing list itself is returned
+     * rather than a copy.
      *
-     * @returns New task List consisting of only the real tasks within this task list.
+     * @returns Task list consisting of only the real tasks within this task list.
      */
-    public UniqueTaskList getRealTaskList() {
-        UniqueTaskList realTaskList = new UniqueTaskList();
+    public ObservableList<Task> getRealTaskList() {
+        if (ghostTaskCount == 0) {
+            return asUnmodifiableObservableList();
+        }
+
+        ObservableList<Task> realTaskList = FXCollections.observableArrayList();
         for (Task task : this.internalList) {
             if (task.isRealTask()) {
                 realTaskList.add(task);
             }
         }
-        return realTaskList;
-    }
-
-
-    /**
-     * Removes all tasks that are ghost tasks, if any.
-     */
-    public void deleteGhostTasks() {
-        this.internalList.removeIf(task -> !task.isRealTask());
+        return FXCollections.unmodifiableObservableList(realTaskList);
     }
 
     /**
      * For each task in the TaskList, if it is a real and recurring task, all possible future occurrences of the task
      * are compared against the given keyDate. If any future task's date matches with the given keyDate,
-     * the future task is added as a ghost task to the TaskList.
+     * the future task is returned as a ghost task. The TaskList itself is left unchanged.
      */
-    public void addPossibleGhostTasksWithMatchingDate(LocalDate keyDate) {
+    public List<GhostTask> getPossibleGhostTasksWithMatchingDate(LocalDate keyDate) {
         List<GhostTask> ghostTaskList = new ArrayList<GhostTask>();
         for (Task task : this.internalList) {
             if (task.isTaskRecurring() && task.isRealTask()) {
@@ -220,16 +332,15 @@ public class UniqueTaskList implements Iterable<Task> {
                 }
             }
         }
-
-        for (GhostTask ghostTask : ghostTaskList) {
-            this.add(ghostTask);
-        }
+        return ghostTaskList;
     }
 
     /**
      * Checks if any of the given recurring task's future occurrences coincide with the given keyDate. If it does,
      * a GhostTask is created and returned to represent the future task occurrence. Checks up to 84 days in advance,
      * starting from current date.
+     * Occurrences are a whole number of intervals after the task's date, so this is worked out directly
+     * from the number of days between the task's date and the keyDate.
      */
     private GhostTask createPossibleFutureTaskWithMatchingDate(RealTask task, LocalDate keyDate) {
         assert task.isTaskRecurring();
@@ -239,30 +350,49 @@ public class UniqueTaskList implements Iterable<Task> {
 
         //No. of days to check for recurring tasks in the future is set to 84 days, or 12 weeks,
         //starting from current date.
-        LocalDate dateToday = LocalDate.now();
-        LocalDate taskDate = task.getDate();
-        int daysLeftToCheck = MAX_DAYS_SCHEDULE_AHEAD - ((int) ChronoUnit.DAYS.between(dateToday, taskDate));
+        LocalDate dateToday = AppClock.today();
+        long daysAfterTask = ChronoUnit.DAYS.between(task.getDate(), keyDate);
+        boolean isOccurrence = daysAfterTask > 0 && daysAfterTask % interval == 0;
+        if (!isOccurrence || ChronoUnit.DAYS.between(dateToday, keyDate) > MAX_DAYS_SCHEDULE_AHEAD) {
+            return null;
+        }
 
+        GhostTask occurrence = task.copyToGhostTask();
+        occurrence.setDate(keyDate);
+        return this.contains(occurrence) ? null : occurrence;
+    }
 
-        GhostTask ghostTaskCopy = task.copyToGhostTask();
-        GhostTask currTask = ghostTaskCopy.createNextTaskOccurrence();
-        daysLeftToCheck -= interval;
+    /**
+     * Starts recording the edits made to this list, which are then returned by {@link #takeEdits()}.
+     */
+    public void startRecordingEdits() {
+        internalList.startRecordingEdits();
+    }
 
-        while (daysLeftToCheck >= 0) {
-            if (currTask.doesTaskFallOnDate(keyDate) && !this.contains(currTask)) {
-                return currTask;
-            }
+    /**
+     * Returns the edits made to this list since they were last taken, in order, and forgets them.
+     * Edits must be recorded.
+     */
+    public List<ListEdit<Task>> takeEdits() {
+        return internalList.takeEdits();
+    }
 
-            currTask = currTask.createNextTaskOccurrence();
-            daysLeftToCheck -= interval;
-        }
-        return null;
+    /**
+     * Returns the position in the log of edits at which the log has the current contents of this list, if known.
+     *
+     * @see PersistentObservableList#getEditLog()
+     */
+    public Optional<ListEditLog<Task>> getEditLog() {
+        return internalList.getEditLog();
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Task> asUnmodifiableObservableList() {
+        if (internalUnmodifiableList == null) {
+            internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        }
         return internalUnmodifiableList;
     }
 
@@ -275,12 +405,12 @@ public class UniqueTaskList implements Iterable<Task> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueTaskList // instanceof handles nulls
-                && internalList.equals(((UniqueTaskList) other).internalList));
+                && internalList.getContents().equals(((UniqueTaskList) other).internalList.getContents()));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return internalList.getContents().hashCode();
     }
 
     /**
@@ -288,44 +418,247 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean contains(Task t) {
         requireNonNull(t);
-        return internalList.stream().anyMatch(t::isSameTask);
+        return identityCounts.containsKey(new TaskIdentity(t));
     }
 
     /**
-     * Updates tasks in list that should be overdue according to the current time.
+     * Brings every task up to date with the current time, keeping the list in chronological order.
+     * Recurring tasks whose date and time has passed are moved to their next occurrence,
+     * and the overdue status of every task is made to match whether its date and time has passed.
+     * Only tasks that entered the list or became due since the last update are checked.
      */
-    public void updateOverdueStatuses() {
-        // modifying list contents within foreach loop not allowed. thus this for loop is used
-        int size = internalList.size();
-        for (int i = 0; i < size; i++) {
-            Task t = internalList.get(i);
-            if (t.isTaskOverdue() != t.shouldTaskBeOverdue()) {
-                if (t.shouldTaskBeOverdue()) {
-                    markTaskAsOverdue(t);
-                } else {
-                    markTaskAsNotOverdue(t);
-                }
+    public void updateTasksAccordingToTime() {
+        while (!upcomingTasks.isEmpty() && upcomingTasks.getFirst().shouldTaskBeOverdue()) {
+            Task dueTask = upcomingTasks.getFirst();
+            upcomingTasks = upcomingTasks.removeFirst();
+            if (liveTasks.containsKey(new TaskReference(dueTask))) {
+                uncheckedTasks = uncheckedTasks.put(new TaskReference(dueTask), dueTask);
             }
         }
+
+        List<Task> tasksToCheck = new ArrayList<>(uncheckedTasks.size());
+        uncheckedTasks.forEach((reference, task) -> tasksToCheck.add(task));
+        for (Task task : tasksToCheck) {
+            Task updatedTask = task;
+            if (updatedTask.isTaskRecurringAndOverdue()) {
+                updatedTask = updatedTask.updateDateRecurringTask();
+            }
+            if (updatedTask.isTaskOverdue() != updatedTask.shouldTaskBeOverdue()) {
+                updatedTask = updatedTask.shouldTaskBeOverdue()
+                        ? updatedTask.markAsOverdue()
+                        : updatedTask.markAsNotOverdue();
+            }
+
+            if (updatedTask != task) {
+                setTaskAt(indexOfIdentical(task), task, updatedTask);
+            }
+            markChecked(updatedTask);
+        }
+
+        if (upcomingTasks.size() > 2 * liveTasks.size()) {
+            // drop queued tasks that have since been removed or replaced
+            upcomingTasks = upcomingTasks.filter(task -> liveTasks.containsKey(new TaskReference(task)));
+        }
+    }
+
+    /**
+     * Returns the number of modifications made to this list so far.
+     * The count only ever increases, so callers can tell whether the list has changed since they last looked.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
-     * Update the dates of all recurring tasks if their previous date/time has passed.
+     * Returns the index of the first task in the list that is not earlier than {@code task}, or after the last task
+     * of the same DateTime if {@code isAfterSameDateTime}, found by a binary search in O(log n) time.
      */
-    public void updateRecurringDates() {
-        int size = internalList.size();
-        for (int i = 0; i < size; i++) {
-            Task t = internalList.get(i);
-            if (t.isTaskRecurringAndOverdue()) {
-                setTask(t, t.updateDateRecurringTask());
+    private int binarySearch(Task task, boolean isAfterSameDateTime) {
+        return internalList.getContents().indexOfFirst(isAfterSameDateTime
+                ? t -> t.compareTo(task) > 0
+                : t -> t.compareTo(task) >= 0);
+    }
+
+    /**
+     * Returns the index at which {@code task} should be inserted to keep the list sorted, after the tasks with the
+     * same DateTime.
+     */
+    private int insertionIndexOf(Task task) {
+        return binarySearch(task, true);
+    }
+
+    /**
+     * Returns the index of {@code task} itself (not merely an equal task) in the list.
+     * Only the tasks with the same DateTime as {@code task} are looked through, after a binary search.
+     */
+    private int indexOfIdentical(Task task) {
+        for (int i = binarySearch(task, false); i < internalList.size() && internalList.get(i).compareTo(task) == 0;
+                i++) {
+            if (internalList.get(i) == task) {
+                return i;
             }
         }
+        throw new TaskNotFoundException();
     }
 
     /**
-     * Sorts the task list such that it is in chronological order.
+     * Returns the index of {@code task} itself in the list, or else of the first task equal to it.
+     * Like {@link #indexOfIdentical(Task)}, only the tasks with the same DateTime as {@code task} are looked through.
      */
-    public void reorderTasks() {
-        internalList.sort(Comparator.naturalOrder());
+    private int indexOf(Task task) {
+        int start = binarySearch(task, false);
+        int firstEqualIndex = -1;
+        for (int i = start; i < internalList.size() && internalList.get(i).compareTo(task) == 0; i++) {
+            if (internalList.get(i) == task) {
+                return i;
+            }
+            if (firstEqualIndex == -1 && internalList.get(i).equals(task)) {
+                firstEqualIndex = i;
+            }
+        }
+        if (firstEqualIndex == -1) {
+            throw new TaskNotFoundException();
+        }
+        return firstEqualIndex;
+    }
+
+    /**
+     * Records that {@code task} is up to date with the current time.
+     */
+    private void markChecked(Task task) {
+        uncheckedTasks = uncheckedTasks.remove(new TaskReference(task));
+        if (!task.shouldTaskBeOverdue()) {
+            upcomingTasks = upcomingTasks.add(task);
+        }
+    }
+
+    /**
+     * Replaces the task {@code target} at {@code index} with {@code editedTask}, keeping the indexes in sync.
+     * If {@code editedTask} is out of order at {@code index}, it is moved to its place in the list instead.
+     * The task identity of {@code editedTask} must not be the same as another existing task in the list.
+     */
+    private void setTaskAt(int index, Task target, Task editedTask) {
+        if (!target.isSameTask(editedTask) && contains(editedTask)) {
+            throw new DuplicateTaskException();
+        }
+
+        boolean isInOrder = (index == 0 || internalList.get(index - 1).compareTo(editedTask) <= 0)
+                && (index == internalList.size() - 1 || editedTask.compareTo(internalList.get(index + 1)) <= 0);
+        if (isInOrder) {
+            internalList.set(index, editedTask);
+        } else {
+            internalList.remove(index);
+            internalList.add(insertionIndexOf(editedTask), editedTask);
+        }
+        unindexTask(target);
+        indexTask(editedTask);
+        modificationCount++;
+    }
+
+    private void indexTask(Task task) {
+        ghostTaskCount += task.isRealTask() ? 0 : 1;
+        TaskReference reference = new TaskReference(task);
+        liveTasks = liveTasks.put(reference, task);
+        uncheckedTasks = uncheckedTasks.put(reference, task);
+        TaskIdentity identity = new TaskIdentity(task);
+        Integer count = identityCounts.get(identity);
+        identityCounts = identityCounts.put(identity, count == null ? 1 : count + 1);
+        for (Name name : task.getRelatedNames()) {
+            String nameKey = name.getCaseInsensitiveKey();
+            PersistentMap<TaskReference, Task> tasks = tasksByName.get(nameKey);
+            tasksByName = tasksByName.put(nameKey, (tasks == null ? PersistentMap.<TaskReference, Task>empty() : tasks)
+                    .put(reference, task));
+        }
+    }
+
+    private void unindexTask(Task task) {
+        ghostTaskCount -= task.isRealTask() ? 0 : 1;
+        TaskReference reference = new TaskReference(task);
+        liveTasks = liveTasks.remove(reference);
+        uncheckedTasks = uncheckedTasks.remove(reference);
+        TaskIdentity identity = new TaskIdentity(task);
+        Integer count = identityCounts.get(identity);
+        if (count != null) {
+            identityCounts = count > 1 ? identityCounts.put(identity, count - 1) : identityCounts.remove(identity);
+        }
+        for (Name name : task.getRelatedNames()) {
+            String nameKey = name.getCaseInsensitiveKey();
+            PersistentMap<TaskReference, Task> tasks = tasksByName.get(nameKey);
+            if (tasks != null) {
+                tasks = tasks.remove(reference);
+                tasksByName = tasks.isEmpty() ? tasksByName.remove(nameKey) : tasksByName.put(nameKey, tasks);
+            }
+        }
+    }
+
+    private void rebuildIndex() {
+        identityCounts = PersistentMap.empty();
+        tasksByName = PersistentMap.empty();
+        liveTasks = PersistentMap.empty();
+        uncheckedTasks = PersistentMap.empty();
+        upcomingTasks = PersistentPriorityQueue.empty();
+        ghostTaskCount = 0;
+        internalList.getContents().forEach(this::indexTask);
+    }
+
+    private void copyIndexes(UniqueTaskList replacement) {
+        identityCounts = replacement.identityCounts;
+        tasksByName = replacement.tasksByName;
+        liveTasks = replacement.liveTasks;
+        uncheckedTasks = replacement.uncheckedTasks;
+        upcomingTasks = replacement.upcomingTasks;
+        ghostTaskCount = replacement.ghostTaskCount;
+    }
+
+    /**
+     * Hash key holding the fields compared by {@code Task#isSameTask(Task)}.
+     */
+    private static class TaskIdentity {
+        private final Description desc;
+        private final DateTime dateTime;
+        private final Set<Name> relatedNames;
+
+        TaskIdentity(Task task) {
+            this.desc = task.getDesc();
+            this.dateTime = task.getDateTime();
+            this.relatedNames = new HashSet<>(task.getRelatedNames());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof TaskIdentity // instanceof handles nulls
+                    && desc.equals(((TaskIdentity) other).desc)
+                    && dateTime.equals(((TaskIdentity) other).dateTime)
+                    && relatedNames.equals(((TaskIdentity) other).relatedNames));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(desc, dateTime, relatedNames);
+        }
+    }
+
+    /**
+     * Hash key that compares tasks by reference rather than by their fields.
+     */
+    private static class TaskReference {
+        private final Task task;
+
+        TaskReference(Task task) {
+            this.task = task;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof TaskReference // instanceof handles nulls
+                    && task == ((TaskReference) other).task);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(task);
+        }
     }
 }
@@ -0,0 +1,69 @@
+package nurseybook.model.util;
+
+import static nurseybook.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of two {@code ObservableList}s, showing the elements of the first list followed by
+ * the elements of the second. Changes to either list are passed on to the listeners of this list.
+ */
+public class ConcatenatedObservableList<E> extends ObservableListBase<E> {
+
+    private final ObservableList<E> first;
+    private final ObservableList<E> second;
+
+    /**
+     * Creates a view of {@code first} followed by {@code second}.
+     */
+    public ConcatenatedObservableList(ObservableList<E> first, ObservableList<E> second) {
+        requireAllNonNull(first, second);
+        this.first = first;
+        this.second = second;
+        first.addListener((ListChangeListener<E>) change -> forwardChange(change, 0));
+        second.addListener((ListChangeListener<E>) change -> forwardChange(change, first.size()));
+    }
+
+    @Override
+    public E get(int index) {
+        return index < first.size() ? first.get(index) : second.get(index - first.size());
+    }
+
+    @Override
+    public int size() {
+        return first.size() + second.size();
+    }
+
+    /**
+     * Fires {@code change} to the listeners of this list, with its positions shifted by {@code offset}.
+     */
+    private void forwardChange(ListChangeListener.Change<? extends E> change, int offset) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[size()];
+                for (int i = 0; i < permutation.length; i++) {
+                    permutation[i] = i;
+                }
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[offset + i] = offset + change.getPermutation(i);
+                }
+                nextPermutation(0, permutation.length, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(offset + i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(offset + change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(offset + change.getFrom(), offset + change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+}
@@ -0,0 +1,25 @@
+package nurseybook.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out positive numeric ids that are unique among the ids generated or reserved through it.
+ */
+public class IdGenerator {
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * Returns an id that has not been generated or reserved before.
+     */
+    public long next() {
+        return nextId.getAndIncrement();
+    }
+
+    /**
+     * Marks {@code id} as used, so that it will never be returned by {@link #next()}.
+     */
+    public void reserve(long id) {
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+}
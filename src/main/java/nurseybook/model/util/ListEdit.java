@@ -0,0 +1,183 @@
+package nurseybook.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static nurseybook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A single change made to a list: an element added, removed or replaced at a position, or every element replaced.
+ * Edits are recorded as a list is changed, so that the change can later be undone by applying the inverse edits in
+ * reverse order, or redone by applying the edits again.
+ * An edit only refers to the elements it changed, or to the persistent contents of the list for a replacement of every
+ * element, so it takes constant space.
+ */
+public final class ListEdit<E> {
+
+    /**
+     * The kinds of change an edit can make.
+     */
+    public enum Type { ADD, REMOVE, REPLACE, REPLACE_ALL }
+
+    private final Type type;
+    private final int index;
+    // the element before and after the edit, for edits of a single position
+    private final E oldElement;
+    private final E newElement;
+    // the contents before and after the edit, for a replacement of every element
+    private final PersistentList<E> oldContents;
+    private final PersistentList<E> newContents;
+
+    private ListEdit(Type type, int index, E oldElement, E newElement,
+                     PersistentList<E> oldContents, PersistentList<E> newContents) {
+        this.type = type;
+        this.index = index;
+        this.oldElement = oldElement;
+        this.newElement = newElement;
+        this.oldContents = oldContents;
+        this.newContents = newContents;
+    }
+
+    /**
+     * Returns an edit that inserts {@code element} at {@code index}.
+     */
+    public static <E> ListEdit<E> add(int index, E element) {
+        requireNonNull(element);
+        return new ListEdit<>(Type.ADD, index, null, element, null, null);
+    }
+
+    /**
+     * Returns an edit that removes {@code element}, which is at {@code index}.
+     */
+    public static <E> ListEdit<E> remove(int index, E element) {
+        requireNonNull(element);
+        return new ListEdit<>(Type.REMOVE, index, element, null, null, null);
+    }
+
+    /**
+     * Returns an edit that replaces {@code oldElement}, which is at {@code index}, with {@code newElement}.
+     */
+    public static <E> ListEdit<E> replace(int index, E oldElement, E newElement) {
+        requireAllNonNull(oldElement, newElement);
+        return new ListEdit<>(Type.REPLACE, index, oldElement, newElement, null, null);
+    }
+
+    /**
+     * Returns an edit that replaces the contents {@code oldContents} with {@code newContents}.
+     */
+    public static <E> ListEdit<E> replaceAll(PersistentList<E> oldContents, PersistentList<E> newContents) {
+        requireAllNonNull(oldContents, newContents);
+        return new ListEdit<>(Type.REPLACE_ALL, 0, null, null, oldContents, newContents);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public E getOldElement() {
+        return oldElement;
+    }
+
+    public E getNewElement() {
+        return newElement;
+    }
+
+    public PersistentList<E> getOldContents() {
+        return oldContents;
+    }
+
+    public PersistentList<E> getNewContents() {
+        return newContents;
+    }
+
+    /**
+     * Returns the edit that undoes this edit.
+     */
+    public ListEdit<E> inverse() {
+        switch (type) {
+        case ADD:
+            return remove(index, newElement);
+        case REMOVE:
+            return add(index, oldElement);
+        case REPLACE:
+            return replace(index, newElement, oldElement);
+        default:
+            return replaceAll(newContents, oldContents);
+        }
+    }
+
+    /**
+     * Returns the edits that undo {@code edits}, which are the inverses of {@code edits} in reverse order.
+     */
+    public static <E> List<ListEdit<E>> inverse(List<ListEdit<E>> edits) {
+        requireNonNull(edits);
+        List<ListEdit<E>> inverseEdits = new ArrayList<>(edits.size());
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            inverseEdits.add(edits.get(i).inverse());
+        }
+        return inverseEdits;
+    }
+
+    /**
+     * Returns the contents that result from applying this edit to {@code contents}.
+     */
+    public PersistentList<E> applyTo(PersistentList<E> contents) {
+        requireNonNull(contents);
+        switch (type) {
+        case ADD:
+            return contents.add(index, newElement);
+        case REMOVE:
+            return contents.remove(index);
+        case REPLACE:
+            return contents.set(index, newElement);
+        default:
+            return newContents;
+        }
+    }
+
+    /**
+     * Returns the contents that result from applying {@code edits} to {@code contents} in order.
+     */
+    public static <E> PersistentList<E> applyAll(List<ListEdit<E>> edits, PersistentList<E> contents) {
+        requireAllNonNull(edits, contents);
+        for (ListEdit<E> edit : edits) {
+            contents = edit.applyTo(contents);
+        }
+        return contents;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ListEdit)) {
+            return false;
+        }
+
+        ListEdit<?> otherEdit = (ListEdit<?>) other;
+        return type == otherEdit.type
+                && index == otherEdit.index
+                && Objects.equals(oldElement, otherEdit.oldElement)
+                && Objects.equals(newElement, otherEdit.newElement)
+                && Objects.equals(oldContents, otherEdit.oldContents)
+                && Objects.equals(newContents, otherEdit.newContents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, index, oldElement, newElement, oldContents, newContents);
+    }
+
+    @Override
+    public String toString() {
+        return type + (type == Type.REPLACE_ALL ? " " + oldContents + " -> " + newContents
+                : " at " + index + ": " + oldElement + " -> " + newElement);
+    }
+}
@@ -0,0 +1,49 @@
+package nurseybook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A position in the log of the edits made to a list, which links to the next position once the next edit is made.
+ * The edits made after a position can be read from it in time proportional to their number, so whoever needs the
+ * edits made since some point keeps the position at that point. As positions only link forwards, the edits before
+ * the earliest position still kept are forgotten.
+ */
+public final class ListEditLog<E> {
+
+    // set once, when the next edit is made; volatile so that positions can be read on another thread
+    private volatile ListEdit<E> nextEdit;
+    private volatile ListEditLog<E> nextPosition;
+
+    /**
+     * Records {@code edit} as the edit made after this position, which must be the last position of its log, and
+     * returns the position after it.
+     */
+    ListEditLog<E> append(ListEdit<E> edit) {
+        requireNonNull(edit);
+        assert nextPosition == null : "Only the last position of a log can be appended to";
+        ListEditLog<E> position = new ListEditLog<>();
+        nextEdit = edit;
+        nextPosition = position;
+        return position;
+    }
+
+    /**
+     * Returns the edits made from this position to {@code laterPosition}, in order, or an empty {@code Optional} if
+     * {@code laterPosition} is not this position or a position after it.
+     */
+    public Optional<List<ListEdit<E>>> getEditsUntil(ListEditLog<E> laterPosition) {
+        requireNonNull(laterPosition);
+        List<ListEdit<E>> edits = new ArrayList<>();
+        for (ListEditLog<E> position = this; position != null; position = position.nextPosition) {
+            if (position == laterPosition) {
+                return Optional.of(edits);
+            }
+            edits.add(position.nextEdit);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,318 @@
+package nurseybook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An immutable list that is changed by creating a new version of it.
+ * The elements are kept in a balanced (AVL) tree ordered by position, where every node knows the size of its subtree,
+ * so getting, replacing, inserting or removing the element at any position takes O(log n) time.
+ * A new version only copies the nodes on the path to the changed position and shares every other node with the
+ * version it was made from, so any number of versions can be kept cheaply.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in the same order, which is built in O(n) time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements.isEmpty()) {
+            return empty();
+        }
+        return new PersistentList<>(build(new ArrayList<>(elements), 0, elements.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first element that satisfies {@code condition}, or the size of this list if none does,
+     * given that every element after the first one that satisfies it does too, as in a sorted list.
+     * This is a binary search down the tree, which takes O(log n) time.
+     */
+    public int indexOfFirst(Predicate<? super E> condition) {
+        requireNonNull(condition);
+        int index = size();
+        int offset = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (condition.test(node.element)) {
+                index = offset + size(node.left);
+                node = node.left;
+            } else {
+                offset += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns a version of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> set(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with {@code element} added at the end.
+     */
+    public PersistentList<E> add(E element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a version of this list with {@code element} inserted at {@code index}, shifting the elements from
+     * {@code index} onwards by one position.
+     */
+    public PersistentList<E> add(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(add(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list without the element at {@code index}.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns a mutable copy of this list.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Returns an iterator over the elements in order, which does not support removal.
+     * Iterating over the whole list takes O(n) time.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersistentList) || ((PersistentList<?>) other).size() != size()) {
+            return false;
+        }
+
+        Iterator<?> otherElements = ((PersistentList<?>) other).iterator();
+        for (E element : this) {
+            if (!Objects.equals(element, otherElements.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the same hash code as a {@code List} with the same elements.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (E element : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(element);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <E> Node<E> build(List<E> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements.get(middle), build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.element, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.element, set(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(node.left, element, node.right);
+        }
+    }
+
+    private static <E> Node<E> add(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(add(node.left, index, element), node.element, node.right);
+        } else {
+            return balance(node.left, node.element, add(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.element, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node of {@code left}, {@code element} and {@code right}, rotated so that the heights of its subtrees
+     * differ by at most one, given that they differ by at most two.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            return new Node<>(new Node<>(left.left, left.element, left.right.left), left.right.element,
+                    new Node<>(left.right.right, element, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            return new Node<>(new Node<>(left, element, right.left.left), right.left.element,
+                    new Node<>(right.left.right, right.element, right.right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, which does not support removal.
+     */
+    private static class InOrderIterator<E> implements Iterator<E> {
+        // the nodes whose element and right subtree are yet to be visited, innermost on top
+        private final Deque<Node<E>> pendingNodes = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftmostPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pendingNodes.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (pendingNodes.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = pendingNodes.pop();
+            pushLeftmostPath(node.right);
+            return node.element;
+        }
+
+        private void pushLeftmostPath(Node<E> node) {
+            for (; node != null; node = node.left) {
+                pendingNodes.push(node);
+            }
+        }
+    }
+}
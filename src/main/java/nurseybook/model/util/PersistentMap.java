@@ -0,0 +1,386 @@
+package nurseybook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable map that is changed by creating a new version of it.
+ * The entries are kept in a hash array mapped trie: every level of the trie branches on the next five bits of the hash
+ * codes of the keys, and only holds the branches that are in use, so looking up, putting or removing a key takes
+ * O(log n) time with a base of 32, which is a few steps for any realistic number of keys.
+ * A new version only copies the nodes on the path to the changed key and shares every other node with the version it
+ * was made from, so any number of versions can be kept cheaply.
+ * Keys are compared with {@code equals}, and neither keys nor values may be null.
+ */
+public final class PersistentMap<K, V> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private PersistentMap(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map does not contain it.
+     */
+    public V get(Object key) {
+        requireNonNull(key);
+        if (root == null) {
+            return null;
+        }
+        Entry<K, V> entry = root.find(0, key.hashCode(), key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Returns true if the map contains {@code key}.
+     */
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a version of this map where {@code key} has {@code value}.
+     * This map itself is returned if {@code key} already has {@code value}.
+     */
+    public PersistentMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Entry<K, V> entry = new Entry<>(key.hashCode(), key, value);
+        if (root == null) {
+            return new PersistentMap<>(new BitmapNode<K, V>(0, new Object[0]).put(0, entry), 1);
+        }
+
+        Node<K, V> newRoot = root.put(0, entry);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentMap<>(newRoot, root.find(0, entry.hash, key) == null ? size + 1 : size);
+    }
+
+    /**
+     * Returns a version of this map without {@code key}.
+     * This map itself is returned if it does not contain {@code key}.
+     */
+    public PersistentMap<K, V> remove(Object key) {
+        requireNonNull(key);
+        if (root == null) {
+            return this;
+        }
+
+        Node<K, V> newRoot = root.remove(0, key.hashCode(), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PersistentMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Performs {@code action} on every key and its value, in no particular order.
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action);
+        if (root != null) {
+            root.forEach(action);
+        }
+    }
+
+    private static int bitAt(int shift, int hash) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * Returns a node at the level of {@code shift} holding the entries of two different keys.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V> createNode(int shift, Entry<K, V> first, Entry<K, V> second) {
+        if (first.hash == second.hash) {
+            return new CollisionNode<>(first.hash, new Entry[] {first, second});
+        }
+
+        int firstBit = bitAt(shift, first.hash);
+        int secondBit = bitAt(shift, second.hash);
+        if (firstBit == secondBit) {
+            return new BitmapNode<>(firstBit, new Object[] {createNode(shift + BITS_PER_LEVEL, first, second)});
+        }
+        // the children of a node are ordered by their bit
+        Object[] children = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[] {first, second}
+                : new Object[] {second, first};
+        return new BitmapNode<>(firstBit | secondBit, children);
+    }
+
+    private static class Entry<K, V> {
+        private final int hash;
+        private final K key;
+        private final V value;
+
+        Entry(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        boolean hasKey(int hash, Object key) {
+            return this.hash == hash && this.key.equals(key);
+        }
+    }
+
+    /**
+     * A node of the trie at the level of some {@code shift}, whose entries all have the same hash bits before it.
+     */
+    private abstract static class Node<K, V> {
+
+        /**
+         * Returns the entry of {@code key}, which has the hash code {@code hash}, or null if there is none.
+         */
+        abstract Entry<K, V> find(int shift, int hash, Object key);
+
+        /**
+         * Returns a version of this node with {@code entry} in place of any entry with the same key,
+         * or this node itself if it already has the same entry.
+         */
+        abstract Node<K, V> put(int shift, Entry<K, V> entry);
+
+        /**
+         * Returns a version of this node without the entry of {@code key}, null if that leaves it empty,
+         * or this node itself if it has no entry of {@code key}.
+         */
+        abstract Node<K, V> remove(int shift, int hash, Object key);
+
+        /**
+         * Returns the only entry of this node, or null if it has more than one entry.
+         */
+        abstract Entry<K, V> getOnlyEntry();
+
+        abstract void forEach(BiConsumer<? super K, ? super V> action);
+    }
+
+    /**
+     * A node with a child for every hash bits in use at its level, in the order of those bits.
+     * Each child is either an entry or a node of the next level.
+     */
+    private static class BitmapNode<K, V> extends Node<K, V> {
+        private final int bitmap;
+        private final Object[] children;
+
+        BitmapNode(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Entry<K, V> find(int shift, int hash, Object key) {
+            int bit = bitAt(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object child = children[indexOf(bit)];
+            if (child instanceof Entry) {
+                Entry<K, V> entry = (Entry<K, V>) child;
+                return entry.hasKey(hash, key) ? entry : null;
+            }
+            return ((Node<K, V>) child).find(shift + BITS_PER_LEVEL, hash, key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> put(int shift, Entry<K, V> entry) {
+            int bit = bitAt(shift, entry.hash);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = entry;
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+                return new BitmapNode<>(bitmap | bit, newChildren);
+            }
+
+            Object child = children[index];
+            Object newChild;
+            if (child instanceof Entry) {
+                Entry<K, V> childEntry = (Entry<K, V>) child;
+                if (childEntry.hasKey(entry.hash, entry.key)) {
+                    if (childEntry.value == entry.value) {
+                        return this;
+                    }
+                    newChild = entry;
+                } else {
+                    newChild = createNode(shift + BITS_PER_LEVEL, childEntry, entry);
+                }
+            } else {
+                newChild = ((Node<K, V>) child).put(shift + BITS_PER_LEVEL, entry);
+                if (newChild == child) {
+                    return this;
+                }
+            }
+            return withChild(index, newChild);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> remove(int shift, int hash, Object key) {
+            int bit = bitAt(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            int index = indexOf(bit);
+            Object child = children[index];
+            if (child instanceof Entry) {
+                if (!((Entry<K, V>) child).hasKey(hash, key)) {
+                    return this;
+                }
+                return withoutChild(index, bit);
+            }
+
+            Node<K, V> newChild = ((Node<K, V>) child).remove(shift + BITS_PER_LEVEL, hash, key);
+            if (newChild == child) {
+                return this;
+            } else if (newChild == null) {
+                return withoutChild(index, bit);
+            }
+            // a node left with a single entry is replaced by the entry, so that lookups do not descend needlessly
+            Entry<K, V> onlyEntry = newChild.getOnlyEntry();
+            return withChild(index, onlyEntry == null ? newChild : onlyEntry);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Entry<K, V> getOnlyEntry() {
+            return children.length == 1 && children[0] instanceof Entry ? (Entry<K, V>) children[0] : null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void forEach(BiConsumer<? super K, ? super V> action) {
+            for (Object child : children) {
+                if (child instanceof Entry) {
+                    action.accept(((Entry<K, V>) child).key, ((Entry<K, V>) child).value);
+                } else {
+                    ((Node<K, V>) child).forEach(action);
+                }
+            }
+        }
+
+        private BitmapNode<K, V> withChild(int index, Object newChild) {
+            Object[] newChildren = children.clone();
+            newChildren[index] = newChild;
+            return new BitmapNode<>(bitmap, newChildren);
+        }
+
+        private BitmapNode<K, V> withoutChild(int index, int bit) {
+            if (children.length == 1) {
+                return null;
+            }
+            Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, newChildren.length - index);
+            return new BitmapNode<>(bitmap & ~bit, newChildren);
+        }
+    }
+
+    /**
+     * A node holding the entries of different keys that have the same hash code.
+     */
+    private static class CollisionNode<K, V> extends Node<K, V> {
+        private final int hash;
+        private final Entry<K, V>[] entries;
+
+        CollisionNode(int hash, Entry<K, V>[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Entry<K, V> find(int shift, int hash, Object key) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            return index == -1 ? null : entries[index];
+        }
+
+        @Override
+        Node<K, V> put(int shift, Entry<K, V> entry) {
+            if (entry.hash != hash) {
+                // moves the colliding entries a level down, next to the new entry
+                return new BitmapNode<K, V>(bitAt(shift, hash), new Object[] {this}).put(shift, entry);
+            }
+
+            int index = indexOf(entry.key);
+            if (index == -1) {
+                Entry<K, V>[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+                newEntries[entries.length] = entry;
+                return new CollisionNode<>(hash, newEntries);
+            } else if (entries[index].value == entry.value) {
+                return this;
+            }
+            Entry<K, V>[] newEntries = entries.clone();
+            newEntries[index] = entry;
+            return new CollisionNode<>(hash, newEntries);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> remove(int shift, int hash, Object key) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            if (index == -1) {
+                return this;
+            } else if (entries.length == 1) {
+                return null;
+            }
+            Entry<K, V>[] newEntries = new Entry[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, newEntries.length - index);
+            return new CollisionNode<>(hash, newEntries);
+        }
+
+        @Override
+        Entry<K, V> getOnlyEntry() {
+            return entries.length == 1 ? entries[0] : null;
+        }
+
+        @Override
+        void forEach(BiConsumer<? super K, ? super V> action) {
+            for (Entry<K, V> entry : entries) {
+                action.accept(entry.key, entry.value);
+            }
+        }
+    }
+}
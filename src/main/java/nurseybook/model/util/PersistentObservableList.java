@@ -0,0 +1,311 @@
+package nurseybook.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static nurseybook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An {@code ObservableList} whose contents are held in a {@code PersistentList}.
+ * Getting, replacing, inserting or removing an element takes O(log n) time, and the contents can be taken out or put
+ * back as a whole in constant time, which lets any number of versions of the list be kept while sharing structure.
+ * Every change is passed on to the listeners of this list, and can also be recorded in a {@code ListEditLog}.
+ * A list whose edits are not recorded instead keeps the position in the log of the list whose contents it last took,
+ * for as long as it is not changed, so that a copy of a list can tell which edits led to it.
+ */
+public class PersistentObservableList<E> extends ObservableListBase<E> {
+
+    private PersistentList<E> contents = PersistentList.empty();
+    private boolean isRecordingEdits = false;
+    // the position in the log of edits at which the log has the current contents, or null if that is not known
+    private ListEditLog<E> editLog = null;
+    // the position up to which the edits were last taken
+    private ListEditLog<E> takenEditLog = null;
+
+    /**
+     * Starts recording the edits made to this list in a new log, whose latest position is returned by
+     * {@link #getEditLog()}, and which are also returned by {@link #takeEdits()}.
+     */
+    public void startRecordingEdits() {
+        if (!isRecordingEdits) {
+            isRecordingEdits = true;
+            editLog = new ListEditLog<>();
+            takenEditLog = editLog;
+        }
+    }
+
+    /**
+     * Returns the edits made to this list since they were last taken, in order, and forgets them.
+     * Edits must be recorded.
+     */
+    public List<ListEdit<E>> takeEdits() {
+        if (!isRecordingEdits) {
+            throw new IllegalStateException("Edits are not recorded");
+        }
+        List<ListEdit<E>> edits = takenEditLog.getEditsUntil(editLog).get();
+        takenEditLog = editLog;
+        return edits;
+    }
+
+    /**
+     * Returns the position in a log of edits at which the log has the current contents of this list, which is the
+     * latest position if edits to this list are recorded. Otherwise, it is the position of the list that the contents
+     * were taken from with {@link #setContents(PersistentObservableList)}, or empty if this list has been changed
+     * since.
+     */
+    public Optional<ListEditLog<E>> getEditLog() {
+        return Optional.ofNullable(editLog);
+    }
+
+    /**
+     * Returns the current contents of this list, which are never changed by later changes to this list.
+     */
+    public PersistentList<E> getContents() {
+        return contents;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newContents}, which takes constant time if this list has no
+     * listeners. Otherwise, they are told that every element was replaced, unless {@code newContents} are the
+     * current contents.
+     */
+    public void setContents(PersistentList<E> newContents) {
+        requireNonNull(newContents);
+        PersistentList<E> oldContents = contents;
+        if (newContents == oldContents) {
+            return;
+        }
+        contents = newContents;
+        record(ListEdit.replaceAll(oldContents, newContents));
+        if (!hasListeners()) {
+            return;
+        }
+
+        beginChange();
+        nextReplace(0, newContents.size(), oldContents.toList());
+        endChange();
+    }
+
+    /**
+     * Replaces the contents of this list with the current contents of {@code other}, like
+     * {@link #setContents(PersistentList)}. If edits to this list are not recorded, this list then has the position of
+     * {@code other} in its log of edits, as it has the same contents.
+     */
+    public void setContents(PersistentObservableList<E> other) {
+        requireNonNull(other);
+        setContents(other.contents);
+        if (!isRecordingEdits) {
+            editLog = other.editLog;
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newContents}, which {@code edits} turn the current contents into.
+     * Listeners are told of every edit, rather than that every element was replaced.
+     * Only the size that the edits lead to is checked, so that this takes time in proportion to the number of edits.
+     */
+    public void setContents(PersistentList<E> newContents, List<ListEdit<E>> edits) {
+        requireAllNonNull(newContents, edits);
+        assert sizeAfter(edits, contents.size()) == newContents.size();
+        if (newContents == contents) {
+            return;
+        }
+
+        contents = newContents;
+        edits.forEach(this::record);
+        beginChange();
+        for (ListEdit<E> edit : edits) {
+            fireEdit(edit);
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return contents.get(index);
+    }
+
+    @Override
+    public int size() {
+        return contents.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E oldElement = contents.get(index);
+        contents = contents.set(index, element);
+        record(ListEdit.replace(index, oldElement, element));
+        beginChange();
+        nextSet(index, oldElement);
+        endChange();
+        return oldElement;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        contents = contents.add(index, element);
+        record(ListEdit.add(index, element));
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    @Override
+    public E remove(int index) {
+        E oldElement = contents.get(index);
+        contents = contents.remove(index);
+        record(ListEdit.remove(index, oldElement));
+        beginChange();
+        nextRemove(index, oldElement);
+        endChange();
+        return oldElement;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        setContents(PersistentList.of(new ArrayList<>(elements)));
+        return true;
+    }
+
+    /**
+     * Sorts this list with {@code comparator}, keeping equal elements in their order, in O(n log n) time.
+     * Listeners are told of the permutation of the elements, which is recorded as a replacement of every element.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        List<E> elements = contents.toList();
+        List<Integer> sortedIndexes = new ArrayList<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            sortedIndexes.add(i);
+        }
+        sortedIndexes.sort((first, second) -> compare(elements.get(first), elements.get(second), comparator));
+
+        List<E> sortedElements = new ArrayList<>(elements.size());
+        int[] permutation = new int[elements.size()];
+        for (int i = 0; i < sortedIndexes.size(); i++) {
+            sortedElements.add(elements.get(sortedIndexes.get(i)));
+            permutation[sortedIndexes.get(i)] = i;
+        }
+        PersistentList<E> oldContents = contents;
+        contents = PersistentList.of(sortedElements);
+        record(ListEdit.replaceAll(oldContents, contents));
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        int index = 0;
+        for (E e : contents) {
+            if (Objects.equals(e, element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator that takes O(1) time per element, rather than the O(log n) time of getting each element by
+     * its index. As with other lists, this list must not be changed other than through the iterator while iterating.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ContentsIterator();
+    }
+
+    private void record(ListEdit<E> edit) {
+        editLog = isRecordingEdits ? editLog.append(edit) : null;
+    }
+
+    /**
+     * Returns the size of a list of {@code size} elements after {@code edits} are applied to it.
+     */
+    private static <E> int sizeAfter(List<ListEdit<E>> edits, int size) {
+        for (ListEdit<E> edit : edits) {
+            switch (edit.getType()) {
+            case ADD:
+                size++;
+                break;
+            case REMOVE:
+                size--;
+                break;
+            case REPLACE:
+                break;
+            default:
+                size = edit.getNewContents().size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Tells the listeners of this list of {@code edit}, which must be part of a change that has begun.
+     */
+    private void fireEdit(ListEdit<E> edit) {
+        switch (edit.getType()) {
+        case ADD:
+            nextAdd(edit.getIndex(), edit.getIndex() + 1);
+            break;
+        case REMOVE:
+            nextRemove(edit.getIndex(), edit.getOldElement());
+            break;
+        case REPLACE:
+            nextSet(edit.getIndex(), edit.getOldElement());
+            break;
+        default:
+            nextReplace(0, edit.getNewContents().size(), edit.getOldContents().toList());
+        }
+    }
+
+    /**
+     * Compares {@code first} and {@code second} with {@code comparator}, or by their natural order if it is null.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> int compare(E first, E second, Comparator<? super E> comparator) {
+        return comparator == null
+                ? ((Comparable<? super E>) first).compareTo(second)
+                : comparator.compare(first, second);
+    }
+
+    /**
+     * Iterates over the contents of this list when it was created.
+     */
+    private class ContentsIterator implements Iterator<E> {
+        private final Iterator<E> elements = contents.iterator();
+        private int nextIndex = 0;
+        private boolean canRemove = false;
+
+        @Override
+        public boolean hasNext() {
+            return elements.hasNext();
+        }
+
+        @Override
+        public E next() {
+            E element = elements.next();
+            nextIndex++;
+            canRemove = true;
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            nextIndex--;
+            PersistentObservableList.this.remove(nextIndex);
+            canRemove = false;
+        }
+    }
+}
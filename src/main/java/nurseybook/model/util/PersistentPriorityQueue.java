@@ -0,0 +1,149 @@
+package nurseybook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable priority queue of elements in their natural order, which is changed by creating a new version of it.
+ * The elements are kept in a leftist heap, where the path down the right children of every node is at most
+ * logarithmic in the size of the node, so adding an element or removing the first one takes O(log n) time.
+ * A new version only copies the nodes on the right paths it merges and shares every other node with the version it
+ * was made from, so any number of versions can be kept cheaply.
+ */
+public final class PersistentPriorityQueue<E extends Comparable<? super E>> {
+
+    private static final PersistentPriorityQueue<?> EMPTY = new PersistentPriorityQueue<>(null);
+
+    private final Node<E> root;
+
+    private PersistentPriorityQueue(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty queue.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Comparable<? super E>> PersistentPriorityQueue<E> empty() {
+        return (PersistentPriorityQueue<E>) EMPTY;
+    }
+
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the first element, which is not greater than any other element.
+     * The queue must not be empty.
+     */
+    public E getFirst() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        return root.element;
+    }
+
+    /**
+     * Returns a version of this queue with {@code element} added.
+     */
+    public PersistentPriorityQueue<E> add(E element) {
+        requireNonNull(element);
+        return new PersistentPriorityQueue<>(merge(root, new Node<>(element, null, null)));
+    }
+
+    /**
+     * Returns a version of this queue without its first element.
+     * The queue must not be empty.
+     */
+    public PersistentPriorityQueue<E> removeFirst() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        return new PersistentPriorityQueue<>(merge(root.left, root.right));
+    }
+
+    /**
+     * Returns a version of this queue with only the elements that satisfy {@code predicate},
+     * which is built in O(n) time.
+     */
+    public PersistentPriorityQueue<E> filter(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        Deque<Node<E>> heaps = new ArrayDeque<>();
+        for (E element : getElements()) {
+            if (predicate.test(element)) {
+                heaps.add(new Node<>(element, null, null));
+            }
+        }
+        // merges the heaps in pairs, round after round, until a single heap is left
+        while (heaps.size() > 1) {
+            heaps.add(merge(heaps.poll(), heaps.poll()));
+        }
+        return heaps.isEmpty() ? empty() : new PersistentPriorityQueue<>(heaps.poll());
+    }
+
+    private List<E> getElements() {
+        List<E> elements = new ArrayList<>(size());
+        Deque<Node<E>> pendingNodes = new ArrayDeque<>();
+        if (root != null) {
+            pendingNodes.push(root);
+        }
+        while (!pendingNodes.isEmpty()) {
+            Node<E> node = pendingNodes.pop();
+            elements.add(node.element);
+            if (node.left != null) {
+                pendingNodes.push(node.left);
+            }
+            if (node.right != null) {
+                pendingNodes.push(node.right);
+            }
+        }
+        return elements;
+    }
+
+    private static <E extends Comparable<? super E>> Node<E> merge(Node<E> first, Node<E> second) {
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
+        } else if (second.element.compareTo(first.element) < 0) {
+            return merge(second, first);
+        }
+
+        Node<E> mergedRight = merge(first.right, second);
+        // keeps the shorter right path on the right
+        return rank(first.left) >= rank(mergedRight)
+                ? new Node<>(first.element, first.left, mergedRight)
+                : new Node<>(first.element, mergedRight, first.left);
+    }
+
+    private static int rank(Node<?> node) {
+        return node == null ? 0 : node.rank;
+    }
+
+    private static class Node<E> {
+        private final E element;
+        private final Node<E> left;
+        private final Node<E> right;
+        // the length of the path down the right children of this node
+        private final int rank;
+        private final int size;
+
+        Node(E element, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.rank = rank(right) + 1;
+            this.size = 1 + (left == null ? 0 : left.size) + (right == null ? 0 : right.size);
+        }
+    }
+}
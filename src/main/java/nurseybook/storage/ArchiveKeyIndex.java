@@ -0,0 +1,267 @@
+package nurseybook.storage;
+
+import static java.util.Objects.requireNonNull;
+import static nurseybook.commons.util.AppUtil.checkArgument;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.core.LogsCenter;
+import nurseybook.commons.util.FileUtil;
+import nurseybook.commons.util.MappedFile;
+import nurseybook.model.task.Task;
+
+/**
+ * An index of the records in the task archive by a key of their tasks, such as their date, which is stored in a file
+ * of its own next to the archive.
+ *
+ * Every archiving appends a run to the file: a header with the number of the first record archived, the number of
+ * records archived and the number of entries, followed by fixed-size entries of a key and a record number, sorted by
+ * key and then by record number. A run only belongs to the index once its records are in the archive, so runs left by
+ * an archiving that was interrupted are ignored, and overwritten by the next one.
+ * Looking up a key binary searches every run in a read-only memory mapping of the file, so only the pages visited by
+ * the searches are read from the disk. Once there are more than {@value #MAX_RUN_COUNT} runs, they are merged into
+ * one before the next run is appended, so that lookups never search more than that many runs.
+ */
+class ArchiveKeyIndex {
+
+    // number of the first record, number of records and number of entries
+    static final int RUN_HEADER_BYTES = Integer.BYTES + Integer.BYTES + Integer.BYTES;
+    // key and record number
+    static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+    static final int MAX_RUN_COUNT = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(ArchiveKeyIndex.class);
+
+    private static final Comparator<long[]> ENTRY_ORDER = Comparator.<long[]>comparingLong(entry -> entry[0])
+            .thenComparingLong(entry -> entry[1]);
+
+    private final Path filePath;
+    private final Function<Task, Set<Long>> keysOfTask;
+
+    // offsets of the runs that belong to the index, in the order they were appended
+    private final List<Long> runOffsets = new ArrayList<>();
+    private int recordCount = 0;
+    private long end = 0;
+
+    // the file mapped up to the end of the last run, or null if it has not been mapped since the last run was appended
+    private MappedFile mappedFile = null;
+
+    /**
+     * Creates an index stored at {@code filePath}, where the keys of every archived task are given by
+     * {@code keysOfTask}.
+     */
+    ArchiveKeyIndex(Path filePath, Function<Task, Set<Long>> keysOfTask) {
+        requireNonNull(filePath);
+        requireNonNull(keysOfTask);
+        this.filePath = filePath;
+        this.keysOfTask = keysOfTask;
+    }
+
+    /**
+     * Reads the headers of the runs in the file, keeping the runs of the first {@code archivedRecordCount} records.
+     *
+     * @return the number of records in the runs kept, which is less than {@code archivedRecordCount} if the file is
+     *     missing or lost some of its runs.
+     */
+    int read(int archivedRecordCount) throws IOException {
+        runOffsets.clear();
+        recordCount = 0;
+        end = 0;
+        mappedFile = null;
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(RUN_HEADER_BYTES);
+            while (end + RUN_HEADER_BYTES <= size) {
+                header.clear();
+                while (header.hasRemaining()) {
+                    if (channel.read(header, end + header.position()) < 0) {
+                        throw new IOException("Task archive key index " + filePath + " ended while being read");
+                    }
+                }
+                header.flip();
+                int firstRecordNumber = header.getInt();
+                int runRecordCount = header.getInt();
+                int entryCount = header.getInt();
+                long runEnd = end + RUN_HEADER_BYTES + (long) entryCount * ENTRY_BYTES;
+                if (firstRecordNumber != recordCount || runRecordCount <= 0 || entryCount < 0 || runEnd > size
+                        || (long) recordCount + runRecordCount > archivedRecordCount) {
+                    break;
+                }
+                runOffsets.add(end);
+                recordCount += runRecordCount;
+                end = runEnd;
+            }
+        }
+        return recordCount;
+    }
+
+    /**
+     * Appends a run for {@code tasks}, which are archived as the records numbered from {@code firstRecordNumber}.
+     * Every record before them must already be in the index.
+     */
+    void appendRun(int firstRecordNumber, List<Task> tasks) throws IOException {
+        checkArgument(firstRecordNumber == recordCount, "Records must be added to the index in order");
+        checkArgument(!tasks.isEmpty(), "A run must have at least one record");
+        if (runOffsets.size() >= MAX_RUN_COUNT) {
+            mergeRuns();
+        }
+
+        List<long[]> entries = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            for (long key : keysOfTask.apply(tasks.get(i))) {
+                entries.add(new long[] {key, firstRecordNumber + i});
+            }
+        }
+        entries.sort(ENTRY_ORDER);
+
+        ByteBuffer run = ByteBuffer.allocate(RUN_HEADER_BYTES + entries.size() * ENTRY_BYTES);
+        run.putInt(firstRecordNumber).putInt(tasks.size()).putInt(entries.size());
+        entries.forEach(entry -> run.putLong(entry[0]).putInt((int) entry[1]));
+        run.flip();
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeAt(filePath, end, run);
+
+        runOffsets.add(end);
+        recordCount += tasks.size();
+        end += run.capacity();
+        mappedFile = null;
+    }
+
+    /**
+     * Returns the numbers of the records with {@code key}, in increasing order.
+     */
+    List<Integer> findRecordNumbers(long key) throws IOException {
+        List<Integer> recordNumbers = new ArrayList<>();
+        if (runOffsets.isEmpty()) {
+            return recordNumbers;
+        }
+
+        MappedFile file = getMappedFile();
+        for (long runOffset : runOffsets) {
+            int entryCount = getEntryCount(file, runOffset);
+            // finds the first entry with a key that is not smaller than key
+            int low = 0;
+            int high = entryCount;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (file.getLong(getEntryOffset(runOffset, middle)) < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (int i = low; i < entryCount && file.getLong(getEntryOffset(runOffset, i)) == key; i++) {
+                recordNumbers.add(file.getInt(getEntryOffset(runOffset, i) + Long.BYTES));
+            }
+        }
+        return recordNumbers;
+    }
+
+    /**
+     * Returns the largest key in the index, or {@code Long.MIN_VALUE} if the index is empty.
+     */
+    long findLargestKey() throws IOException {
+        long largestKey = Long.MIN_VALUE;
+        if (runOffsets.isEmpty()) {
+            return largestKey;
+        }
+
+        MappedFile file = getMappedFile();
+        for (long runOffset : runOffsets) {
+            int entryCount = getEntryCount(file, runOffset);
+            if (entryCount > 0) {
+                largestKey = Math.max(largestKey, file.getLong(getEntryOffset(runOffset, entryCount - 1)));
+            }
+        }
+        return largestKey;
+    }
+
+    int getRunCount() {
+        return runOffsets.size();
+    }
+
+    /**
+     * Replaces the file with one that holds a single run of all the entries in the index, merged from its runs.
+     * The merge only saves time in later lookups, so if it fails, the runs are kept as they are.
+     */
+    private void mergeRuns() throws IOException {
+        MappedFile file = getMappedFile();
+        long entryCount = 0;
+        // the next entry of every run, as its key, run offset, entry number and the entry count of the run; entries
+        // with the same key are taken from earlier runs first, as they have smaller record numbers
+        PriorityQueue<long[]> nextEntries = new PriorityQueue<>(ENTRY_ORDER);
+        for (long runOffset : runOffsets) {
+            int runEntryCount = getEntryCount(file, runOffset);
+            entryCount += runEntryCount;
+            if (runEntryCount > 0) {
+                nextEntries.add(new long[] {file.getLong(getEntryOffset(runOffset, 0)), runOffset, 0, runEntryCount});
+            }
+        }
+        if (entryCount > Integer.MAX_VALUE) {
+            // a single run cannot hold them all
+            return;
+        }
+
+        int mergedEntryCount = (int) entryCount;
+        try {
+            FileUtil.writeAtomically(filePath, new DataCompression(), out -> {
+                DataOutputStream dataOut = new DataOutputStream(out);
+                dataOut.writeInt(0);
+                dataOut.writeInt(recordCount);
+                dataOut.writeInt(mergedEntryCount);
+                while (!nextEntries.isEmpty()) {
+                    long[] entry = nextEntries.poll();
+                    long entryOffset = getEntryOffset(entry[1], (int) entry[2]);
+                    dataOut.writeLong(entry[0]);
+                    dataOut.writeInt(file.getInt(entryOffset + Long.BYTES));
+                    if (++entry[2] < entry[3]) {
+                        entry[0] = file.getLong(entryOffset + ENTRY_BYTES);
+                        nextEntries.add(entry);
+                    }
+                }
+                dataOut.flush();
+            });
+        } catch (IOException e) {
+            logger.warning("Could not merge the runs of task archive key index " + filePath + ": " + e.getMessage());
+            return;
+        }
+
+        runOffsets.clear();
+        runOffsets.add(0L);
+        end = RUN_HEADER_BYTES + entryCount * ENTRY_BYTES;
+        mappedFile = null;
+    }
+
+    private static int getEntryCount(MappedFile file, long runOffset) throws IOException {
+        return file.getInt(runOffset + Integer.BYTES + Integer.BYTES);
+    }
+
+    private static long getEntryOffset(long runOffset, int entryNumber) {
+        return runOffset + RUN_HEADER_BYTES + (long) entryNumber * ENTRY_BYTES;
+    }
+
+    private MappedFile getMappedFile() throws IOException {
+        if (mappedFile == null) {
+            mappedFile = FileUtil.mapReadOnly(filePath, end);
+        }
+        return mappedFile;
+    }
+}
@@ -0,0 +1,140 @@
+package nurseybook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import nurseybook.commons.core.LogsCenter;
+import nurseybook.commons.util.StringUtil;
+import nurseybook.model.ReadOnlyNurseyBook;
+
+/**
+ * Saves nursey books to a {@code NurseyBookStorage} on a background thread.
+ * Nursey books submitted within {@code saveDelayMillis} of each other are coalesced so that only the latest one is
+ * written, and a submitted nursey book is written no later than {@code saveDelayMillis} after it is submitted.
+ * Submitted nursey books must not be modified afterwards.
+ * The background thread is a daemon thread, so {@link #flush()} must be called before the app exits.
+ */
+class BackgroundNurseyBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundNurseyBookSaver.class);
+
+    private final NurseyBookStorage nurseyBookStorage;
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "nursey-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // guarded by this
+    private ReadOnlyNurseyBook pendingNurseyBook = null;
+    private boolean isSaveScheduled = false;
+    private IOException saveFailure = null;
+
+    /**
+     * Creates a {@code BackgroundNurseyBookSaver} that writes to the default file path of {@code nurseyBookStorage}.
+     */
+    BackgroundNurseyBookSaver(NurseyBookStorage nurseyBookStorage, long saveDelayMillis) {
+        requireNonNull(nurseyBookStorage);
+        assert saveDelayMillis >= 0;
+        this.nurseyBookStorage = nurseyBookStorage;
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Schedules {@code nurseyBook} to be written, replacing any nursey book that has not been written yet.
+     *
+     * @throws IOException if an earlier save failed. {@code nurseyBook} is still scheduled to be written.
+     */
+    synchronized void submit(ReadOnlyNurseyBook nurseyBook) throws IOException {
+        requireNonNull(nurseyBook);
+        pendingNurseyBook = nurseyBook;
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.schedule(this::savePendingNurseyBook, saveDelayMillis, TimeUnit.MILLISECONDS);
+        }
+        throwSaveFailure();
+    }
+
+    /**
+     * Reports a save that has failed since the last time a failure was reported.
+     *
+     * @throws IOException if such a save exists.
+     */
+    synchronized void reportSaveFailure() throws IOException {
+        throwSaveFailure();
+    }
+
+    /**
+     * Writes any nursey book that has not been written yet, and waits for every write to finish.
+     *
+     * @throws IOException if a save failed since the last time a failure was reported.
+     */
+    void flush() throws IOException {
+        awaitWrites();
+        reportSaveFailure();
+    }
+
+    /**
+     * Writes any nursey book that has not been written yet, and waits for every write to finish.
+     * Unlike {@link #flush()}, failed saves are left to be reported later.
+     *
+     * @throws IOException if interrupted while waiting.
+     */
+    void awaitWrites() throws IOException {
+        // the executor has a single thread, so this runs after any write that is already in progress
+        Future<?> write = executor.submit(this::savePendingNurseyBook);
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to save data", e.getCause());
+        }
+    }
+
+    private void savePendingNurseyBook() {
+        ReadOnlyNurseyBook nurseyBook;
+        synchronized (this) {
+            nurseyBook = pendingNurseyBook;
+            pendingNurseyBook = null;
+            isSaveScheduled = false;
+        }
+        if (nurseyBook == null) {
+            return;
+        }
+
+        try {
+            nurseyBookStorage.saveNurseyBook(nurseyBook);
+        } catch (IOException e) {
+            recordSaveFailure(e);
+        } catch (RuntimeException e) {
+            // the future of this write is not read, so an unexpected failure would otherwise go unreported
+            recordSaveFailure(new IOException("Unexpected error while saving data", e));
+        }
+    }
+
+    private void recordSaveFailure(IOException failure) {
+        logger.warning("Failed to save data in the background " + StringUtil.getDetails(failure));
+        synchronized (this) {
+            saveFailure = failure;
+        }
+    }
+
+    private void throwSaveFailure() throws IOException {
+        assert Thread.holdsLock(this);
+        if (saveFailure != null) {
+            IOException failure = saveFailure;
+            saveFailure = null;
+            throw failure;
+        }
+    }
+}
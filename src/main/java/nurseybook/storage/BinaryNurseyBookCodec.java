@@ -0,0 +1,316 @@
+package nurseybook.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.person.Name;
+import nurseybook.model.person.Nok;
+import nurseybook.model.tag.Tag;
+import nurseybook.model.task.Recurrence.RecurrenceType;
+import nurseybook.model.task.Task;
+
+/**
+ * Encodes a nursey book into a compact binary format and decodes it back.
+ *
+ * The format starts with {@link #MAGIC_HEADER} and a format version, followed by a dictionary of every distinct
+ * string in the nursey book, the elderlies and then the tasks. Strings are stored as indices into the dictionary,
+ * numbers as variable-length integers, dates as epoch days and the status and recurrence of a task packed into
+ * a single flags field.
+ *
+ * Decoded elderlies and tasks go through the same checks as those read from json, so a nursey book decodes into
+ * exactly what it would be if it had been saved as json and read back.
+ */
+class BinaryNurseyBookCodec {
+
+    public static final byte[] MAGIC_HEADER = {'N', 'B', 'K', 'B'};
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_INVALID_MAGIC_HEADER = "Data is not in the binary nursey book format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary nursey book format version %d is not supported.";
+    public static final String MESSAGE_INVALID_DATA = "Binary nursey book data is corrupted: %s";
+
+    private static final int FLAG_DONE = 1;
+    private static final int FLAG_OVERDUE = 1 << 1;
+    private static final int FLAG_SUB_MINUTE_TIME = 1 << 2;
+    private static final int RECURRENCE_SHIFT = 3;
+    private static final int RECURRENCE_MASK = 0b11;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    /**
+     * Returns true if {@code header}, the first bytes of some data, starts with {@link #MAGIC_HEADER}.
+     */
+    public static boolean hasMagicHeader(byte[] header) {
+        return header.length >= MAGIC_HEADER.length
+                && Arrays.equals(Arrays.copyOf(header, MAGIC_HEADER.length), MAGIC_HEADER);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath}, once decompressed if it is compressed, starts with
+     * {@link #MAGIC_HEADER}.
+     */
+    public static boolean hasMagicHeader(Path filePath) throws IOException {
+        try (InputStream in = DataCompression.decompress(Files.newInputStream(filePath))) {
+            return hasMagicHeader(in.readNBytes(MAGIC_HEADER.length));
+        }
+    }
+
+    /**
+     * Writes {@code nurseyBook} to {@code out} in the binary format.
+     * Only real tasks are written.
+     */
+    public static void encode(ReadOnlyNurseyBook nurseyBook, OutputStream out) throws IOException {
+        List<Elderly> elderlies = nurseyBook.getElderlyList();
+        List<Task> tasks = nurseyBook.getRealTaskList();
+        Map<String, Integer> dictionary = buildDictionary(elderlies, tasks);
+
+        out.write(MAGIC_HEADER);
+        writeVarLong(out, FORMAT_VERSION);
+        writeVarLong(out, dictionary.size());
+        for (String string : dictionary.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+
+        writeVarLong(out, elderlies.size());
+        for (Elderly elderly : elderlies) {
+            Nok nok = elderly.getNok();
+            writeVarLong(out, elderly.getId());
+            writeString(out, dictionary, elderly.getName().fullName);
+            writeVarLong(out, elderly.getAge().value);
+            writeString(out, dictionary, elderly.getGender().value);
+            writeString(out, dictionary, elderly.getRoomNumber().value);
+            writeString(out, dictionary, nok.getName().fullName);
+            writeString(out, dictionary, nok.getRelationship().value);
+            writeString(out, dictionary, nok.getPhone().value);
+            writeString(out, dictionary, nok.getEmail().value);
+            writeString(out, dictionary, nok.getAddress().value);
+            writeString(out, dictionary, elderly.getRemark().value);
+            writeVarLong(out, elderly.getTags().size());
+            for (Tag tag : elderly.getTags()) {
+                writeString(out, dictionary, tag.tagName);
+            }
+        }
+
+        writeVarLong(out, tasks.size());
+        for (Task task : tasks) {
+            LocalTime time = task.getTime();
+            long nanoOfMinute = time.toNanoOfDay() % NANOS_PER_MINUTE;
+            int flags = (task.getStatus().isDone ? FLAG_DONE : 0)
+                    | (task.getStatus().isOverdue ? FLAG_OVERDUE : 0)
+                    | (nanoOfMinute != 0 ? FLAG_SUB_MINUTE_TIME : 0)
+                    | task.getRecurrenceType().ordinal() << RECURRENCE_SHIFT;
+
+            writeVarLong(out, task.getId());
+            writeString(out, dictionary, task.getDesc().value);
+            writeVarLong(out, flags);
+            writeVarLong(out, zigZagEncode(task.getDate().toEpochDay()));
+            writeVarLong(out, time.toNanoOfDay() / NANOS_PER_MINUTE);
+            if (nanoOfMinute != 0) {
+                writeVarLong(out, nanoOfMinute);
+            }
+            writeVarLong(out, task.getRelatedNames().size());
+            for (Name name : task.getRelatedNames()) {
+                writeString(out, dictionary, name.fullName);
+            }
+        }
+    }
+
+    /**
+     * Reads a nursey book in the binary format from {@code in}.
+     *
+     * @throws IOException if {@code in} cannot be read, or does not hold a nursey book in the binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static NurseyBook decode(InputStream in) throws IOException, IllegalValueException {
+        byte[] header = in.readNBytes(MAGIC_HEADER.length);
+        if (!hasMagicHeader(header)) {
+            throw new IOException(MESSAGE_INVALID_MAGIC_HEADER);
+        }
+        long version = readVarLong(in);
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int dictionarySize = readCount(in);
+        List<String> dictionary = new ArrayList<>();
+        for (int i = 0; i < dictionarySize; i++) {
+            int length = readCount(in);
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length != length) {
+                throw new EOFException();
+            }
+            dictionary.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        List<JsonAdaptedElderly> elderlies = new ArrayList<>();
+        int elderlyCount = readCount(in);
+        for (int i = 0; i < elderlyCount; i++) {
+            long id = readVarLong(in);
+            String name = readString(in, dictionary);
+            String age = Long.toString(readVarLong(in));
+            String gender = readString(in, dictionary);
+            String roomNumber = readString(in, dictionary);
+            String nokName = readString(in, dictionary);
+            String relationship = readString(in, dictionary);
+            String phone = readString(in, dictionary);
+            String email = readString(in, dictionary);
+            String address = readString(in, dictionary);
+            String remark = readString(in, dictionary);
+            int tagCount = readCount(in);
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int j = 0; j < tagCount; j++) {
+                tags.add(new JsonAdaptedTag(readString(in, dictionary)));
+            }
+            elderlies.add(new JsonAdaptedElderly(id, name, age, gender, roomNumber, nokName, relationship,
+                    phone, email, address, remark, tags));
+        }
+
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        int taskCount = readCount(in);
+        for (int i = 0; i < taskCount; i++) {
+            long id = readVarLong(in);
+            String description = readString(in, dictionary);
+            long flags = readVarLong(in);
+            LocalDate date = readDate(in);
+            long minuteOfDay = readVarLong(in);
+            long nanoOfMinute = (flags & FLAG_SUB_MINUTE_TIME) != 0 ? readVarLong(in) : 0;
+            if (minuteOfDay >= MINUTES_PER_DAY || nanoOfMinute >= NANOS_PER_MINUTE) {
+                throw new IOException(String.format(MESSAGE_INVALID_DATA, "time out of range"));
+            }
+            LocalTime time = LocalTime.ofNanoOfDay(minuteOfDay * NANOS_PER_MINUTE + nanoOfMinute);
+            int relatedNameCount = readCount(in);
+            List<String> relatedNames = new ArrayList<>();
+            for (int j = 0; j < relatedNameCount; j++) {
+                relatedNames.add(readString(in, dictionary));
+            }
+
+            List<String> status = Arrays.asList(Boolean.toString((flags & FLAG_DONE) != 0),
+                    Boolean.toString((flags & FLAG_OVERDUE) != 0));
+            int recurrenceOrdinal = (int) (flags >> RECURRENCE_SHIFT & RECURRENCE_MASK);
+            RecurrenceType recurrenceType = RecurrenceType.values()[recurrenceOrdinal];
+            tasks.add(new JsonAdaptedTask(id, relatedNames, null, description,
+                    date.format(DateTimeFormatter.ISO_LOCAL_DATE),
+                    time.format(DateTimeFormatter.ISO_LOCAL_TIME),
+                    status, recurrenceType.name()));
+        }
+
+        NurseyBookAssembler assembler = new NurseyBookAssembler();
+        assembler.addElderlies(elderlies);
+        assembler.addTasks(tasks);
+        return assembler.getNurseyBook();
+    }
+
+    private static Map<String, Integer> buildDictionary(List<Elderly> elderlies, List<Task> tasks) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Elderly elderly : elderlies) {
+            Nok nok = elderly.getNok();
+            addToDictionary(dictionary, elderly.getName().fullName, elderly.getGender().value,
+                    elderly.getRoomNumber().value, nok.getName().fullName, nok.getRelationship().value,
+                    nok.getPhone().value, nok.getEmail().value, nok.getAddress().value, elderly.getRemark().value);
+            elderly.getTags().forEach(tag -> addToDictionary(dictionary, tag.tagName));
+        }
+        for (Task task : tasks) {
+            addToDictionary(dictionary, task.getDesc().value);
+            task.getRelatedNames().forEach(name -> addToDictionary(dictionary, name.fullName));
+        }
+        return dictionary;
+    }
+
+    private static void addToDictionary(Map<String, Integer> dictionary, String... strings) {
+        for (String string : strings) {
+            dictionary.putIfAbsent(string, dictionary.size());
+        }
+    }
+
+    private static void writeString(OutputStream out, Map<String, Integer> dictionary, String string)
+            throws IOException {
+        writeVarLong(out, dictionary.get(string));
+    }
+
+    private static String readString(InputStream in, List<String> dictionary) throws IOException {
+        long index = readVarLong(in);
+        if (index < 0 || index >= dictionary.size()) {
+            throw new IOException(String.format(MESSAGE_INVALID_DATA, "unknown string " + index));
+        }
+        return dictionary.get((int) index);
+    }
+
+    /**
+     * Writes {@code value} as an unsigned number 7 bits at a time, least significant bits first, with the highest bit
+     * of each byte set if more bytes follow.
+     */
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.read();
+            if (b == -1) {
+                throw new EOFException();
+            }
+            if (shift == Long.SIZE - 1 && b > 1) {
+                break;
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(String.format(MESSAGE_INVALID_DATA, "number too large"));
+    }
+
+    private static LocalDate readDate(InputStream in) throws IOException {
+        try {
+            return LocalDate.ofEpochDay(zigZagDecode(readVarLong(in)));
+        } catch (DateTimeException dte) {
+            throw new IOException(String.format(MESSAGE_INVALID_DATA, "date out of range"), dte);
+        }
+    }
+
+    private static int readCount(InputStream in) throws IOException {
+        long count = readVarLong(in);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IOException(String.format(MESSAGE_INVALID_DATA, "count too large"));
+        }
+        return (int) count;
+    }
+
+    /**
+     * Maps a signed value to a non-negative one, so that values close to zero stay small.
+     */
+    private static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
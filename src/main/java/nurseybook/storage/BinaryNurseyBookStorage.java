@@ -0,0 +1,116 @@
+package nurseybook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.DoubleConsumer;
+
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.commons.util.FileUtil;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.task.Task;
+
+/**
+ * A class to access NurseyBook data stored in a compact binary format on the hard disk.
+ * Files that are not in the binary format are read as json, so an existing json file is converted to the binary
+ * format the first time it is saved. Compressed files of either format are read as well.
+ */
+public class BinaryNurseyBookStorage implements NurseyBookStorage {
+
+    private final Path filePath;
+    private final DataCompression compression;
+    private final JsonNurseyBookStorage fallbackStorage;
+
+    public BinaryNurseyBookStorage(Path filePath) {
+        this(filePath, progress -> {});
+    }
+
+    /**
+     * Creates a {@code BinaryNurseyBookStorage} that reports the progress of reading large json files, as the
+     * fraction of the file read so far, to {@code readProgressListener}.
+     */
+    public BinaryNurseyBookStorage(Path filePath, DoubleConsumer readProgressListener) {
+        this(filePath, readProgressListener, new DataCompression());
+    }
+
+    /**
+     * Creates a {@code BinaryNurseyBookStorage} that reports the progress of reading large json files to
+     * {@code readProgressListener}, and that compresses the files it saves with {@code compression}.
+     */
+    public BinaryNurseyBookStorage(Path filePath, DoubleConsumer readProgressListener, DataCompression compression) {
+        requireNonNull(filePath);
+        requireNonNull(compression);
+        this.filePath = filePath;
+        this.compression = compression;
+        this.fallbackStorage = new JsonNurseyBookStorage(filePath, readProgressListener, compression);
+    }
+
+    public Path getNurseyBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyNurseyBook> readNurseyBook() throws DataConversionException {
+        return readNurseyBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readNurseyBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyNurseyBook> readNurseyBook(Path filePath) throws DataConversionException {
+        // the json storage recognises binary files by their header
+        return fallbackStorage.readNurseyBook(filePath);
+    }
+
+    @Override
+    public void saveNurseyBook(ReadOnlyNurseyBook nurseyBook) throws IOException {
+        saveNurseyBook(nurseyBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveNurseyBook(ReadOnlyNurseyBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveNurseyBook(ReadOnlyNurseyBook nurseyBook, Path filePath) throws IOException {
+        requireNonNull(nurseyBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, compression, out -> BinaryNurseyBookCodec.encode(nurseyBook, out));
+    }
+
+    @Override
+    public void compactNurseyBook() {
+        // the binary file only ever holds the latest data
+    }
+
+    @Override
+    public List<Task> readPastTasks() {
+        // every task is read with the nursey book
+        return Collections.emptyList();
+    }
+
+    /**
+     * Reads the nursey book in the binary format at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read, or is not in the binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static NurseyBook readBinaryFile(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = DataCompression.decompress(Files.newInputStream(filePath))) {
+            return BinaryNurseyBookCodec.decode(in);
+        }
+    }
+}
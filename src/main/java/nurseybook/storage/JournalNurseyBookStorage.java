@@ -0,0 +1,306 @@
+package nurseybook.storage;
+
+import static java.util.Objects.requireNonNull;
+import static nurseybook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.DoubleConsumer;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.core.LogsCenter;
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.commons.util.FileUtil;
+import nurseybook.commons.util.JsonUtil;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.person.exceptions.DuplicateElderlyException;
+import nurseybook.model.task.Task;
+
+/**
+ * A class to access NurseyBook data stored as a json snapshot file on the hard disk, together with a journal of the
+ * changes made since the snapshot was written.
+ * Saving appends only the change since the previous save to the journal, which is the edits that the change was made
+ * with when the saved nursey books are copies of the same nursey book whose edits are recorded, so that a save takes
+ * time in proportion to the change rather than to the whole nursey book. The journal is folded into the snapshot once
+ * it holds
+ * {@code compactionThreshold} entries, and whenever {@link #compactNurseyBook()} is called.
+ *
+ * The journal is stored next to the snapshot, with {@value #JOURNAL_FILE_SUFFIX} appended to its file name.
+ * Its first line is the checksum of the snapshot that it applies to, so that a journal left behind by a compaction
+ * that was interrupted after writing the snapshot is ignored. Every following line is a journal entry.
+ */
+public class JournalNurseyBookStorage implements NurseyBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final int CHECKSUM_BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalNurseyBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final JsonNurseyBookStorage snapshotStorage;
+
+    // a copy of the data saved at filePath, or null if the next save has to write a new snapshot
+    private NurseyBook savedNurseyBook = null;
+    private int journalEntryCount = 0;
+
+    public JournalNurseyBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalNurseyBookStorage} that folds the journal into the snapshot at {@code filePath}
+     * once the journal holds {@code compactionThreshold} entries.
+     */
+    public JournalNurseyBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, progress -> {});
+    }
+
+    /**
+     * Creates a {@code JournalNurseyBookStorage} that folds the journal into the snapshot at {@code filePath}
+     * once the journal holds {@code compactionThreshold} entries, and that reports the progress of reading large
+     * snapshots to {@code readProgressListener}.
+     */
+    public JournalNurseyBookStorage(Path filePath, int compactionThreshold, DoubleConsumer readProgressListener) {
+        this(filePath, compactionThreshold, readProgressListener, new DataCompression());
+    }
+
+    /**
+     * Similar to {@link #JournalNurseyBookStorage(Path, int, DoubleConsumer)}, but compresses the snapshot with
+     * {@code compression}. The journal is never compressed, so that it can be appended to.
+     */
+    public JournalNurseyBookStorage(Path filePath, int compactionThreshold, DoubleConsumer readProgressListener,
+                                    DataCompression compression) {
+        requireNonNull(filePath);
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new JsonNurseyBookStorage(filePath, readProgressListener, compression);
+    }
+
+    public Path getNurseyBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyNurseyBook> readNurseyBook() throws DataConversionException, IOException {
+        return readNurseyBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readNurseyBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyNurseyBook> readNurseyBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyNurseyBook> snapshot = snapshotStorage.readNurseyBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Elderly> elderlies = new ArrayList<>(snapshot.get().getElderlyList());
+        List<Task> tasks = new ArrayList<>(snapshot.get().getRealTaskList());
+        int entryCount = replayJournal(filePath, elderlies, tasks);
+
+        NurseyBook nurseyBook = new NurseyBook();
+        try {
+            nurseyBook.setElderlies(elderlies);
+        } catch (DuplicateElderlyException dee) {
+            logger.info("Illegal values found in " + getJournalFilePath(filePath) + ": " + dee.getMessage());
+            throw new DataConversionException(dee);
+        }
+        nurseyBook.setTasks(tasks);
+        try {
+            JsonNurseyBookStorage.checkTaskNames(nurseyBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + getJournalFilePath(filePath) + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            if (entryCount >= 0) {
+                rememberSaved(nurseyBook, entryCount);
+            } else {
+                forgetSaved();
+            }
+        }
+        return Optional.of(nurseyBook);
+    }
+
+    @Override
+    public void saveNurseyBook(ReadOnlyNurseyBook nurseyBook) throws IOException {
+        saveNurseyBook(nurseyBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveNurseyBook(ReadOnlyNurseyBook)}.
+     * Saving to a file path other than {@link #getNurseyBookFilePath()} always writes a new snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveNurseyBook(ReadOnlyNurseyBook nurseyBook, Path filePath) throws IOException {
+        requireAllNonNull(nurseyBook, filePath);
+
+        if (!filePath.equals(this.filePath) || savedNurseyBook == null || journalEntryCount >= compactionThreshold) {
+            writeSnapshot(nurseyBook, filePath);
+            return;
+        }
+
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.of(savedNurseyBook, nurseyBook);
+        if (entry.isEmpty()) {
+            return;
+        }
+        try {
+            appendToJournal(JsonUtil.toCompactJsonString(entry));
+        } catch (IOException ioe) {
+            // the journal may now end with part of the entry, so it cannot be appended to
+            forgetSaved();
+            throw ioe;
+        }
+        rememberSaved(nurseyBook, journalEntryCount + 1);
+    }
+
+    /**
+     * Folds the journal into the snapshot, if there is anything in the journal.
+     */
+    @Override
+    public synchronized void compactNurseyBook() throws IOException {
+        if (savedNurseyBook == null || journalEntryCount == 0) {
+            return;
+        }
+
+        writeSnapshot(savedNurseyBook, filePath);
+    }
+
+    @Override
+    public List<Task> readPastTasks() {
+        // every task is read with the nursey book
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Applies the entries in the journal of the snapshot at {@code filePath} to {@code elderlies} and {@code tasks}.
+     * Returns the number of entries applied, or -1 if the journal cannot be appended to and has to be rewritten.
+     *
+     * @throws DataConversionException if an entry that is not the last one is not in the correct format.
+     */
+    private int replayJournal(Path filePath, List<Elderly> elderlies, List<Task> tasks)
+            throws DataConversionException, IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            logger.info("Journal file " + journalFilePath + " not found");
+            return -1;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(Long.toString(getChecksum(filePath)))) {
+            logger.warning("Journal file " + journalFilePath + " does not belong to " + filePath + ", ignoring it");
+            return -1;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    // the app stopped while writing the last entry, which was therefore never saved
+                    logger.warning("Ignoring incomplete last entry of journal file " + journalFilePath);
+                    return -1;
+                }
+                logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+                throw new DataConversionException(ioe);
+            }
+
+            try {
+                entry.applyTo(elderlies, tasks);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+        return lines.size() - 1;
+    }
+
+    /**
+     * Writes {@code nurseyBook} as a new snapshot at {@code filePath} and starts a new, empty journal for it.
+     */
+    private void writeSnapshot(ReadOnlyNurseyBook nurseyBook, Path filePath) throws IOException {
+        if (filePath.equals(this.filePath)) {
+            forgetSaved();
+        }
+        snapshotStorage.saveNurseyBook(nurseyBook, filePath);
+        byte[] header = (getChecksum(filePath) + "\n").getBytes(StandardCharsets.UTF_8);
+        // the header must reach the disk like the entries, or a crash could leave a journal that matches no snapshot
+        FileUtil.writeAtomically(getJournalFilePath(filePath), new DataCompression(), out -> out.write(header));
+        if (filePath.equals(this.filePath)) {
+            rememberSaved(nurseyBook, 0);
+        }
+    }
+
+    private void appendToJournal(String line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Remembers {@code nurseyBook} as the data saved at {@link #getNurseyBookFilePath()}, which takes constant time if
+     * it is a {@code NurseyBook}, as its lists are then shared rather than copied.
+     */
+    private void rememberSaved(ReadOnlyNurseyBook nurseyBook, int journalEntryCount) {
+        savedNurseyBook = new NurseyBook(nurseyBook);
+        this.journalEntryCount = journalEntryCount;
+    }
+
+    private void forgetSaved() {
+        savedNurseyBook = null;
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Returns the checksum of the file at {@code filePath}, which is read as a stream rather than as a whole.
+     */
+    private static long getChecksum(Path filePath) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // the checksum is updated as the file is read
+            }
+            return in.getChecksum().getValue();
+        }
+    }
+}
@@ -30,6 +30,7 @@ class JsonAdaptedElderly {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Elderly's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String age;
     private final String gender;
@@ -42,11 +43,21 @@ class JsonAdaptedElderly {
     private final String remark;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedElderly} with the given elderly details and no id.
+     */
+    public JsonAdaptedElderly(String name, String age, String gender, String roomNumber, String nokName,
+                              String relationship, String phone, String email, String address, String remark,
+                              List<JsonAdaptedTag> tagged) {
+        this(null, name, age, gender, roomNumber, nokName, relationship, phone, email, address, remark, tagged);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedElderly} with the given elderly details.
+     * A new id is assigned when converting to the model if {@code id} is null.
      */
     @JsonCreator
-    public JsonAdaptedElderly(@JsonProperty("name") String name,
+    public JsonAdaptedElderly(@JsonProperty("id") Long id, @JsonProperty("name") String name,
                               @JsonProperty("age") String age, @JsonProperty("gender") String gender,
                               @JsonProperty("roomNumber") String roomNumber,
                               @JsonProperty("nokName") String nokName,
@@ -55,6 +66,7 @@ class JsonAdaptedElderly {
                               @JsonProperty("address") String address,
                               @JsonProperty("remark") String remark,
                               @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.name = name;
         this.age = age;
         this.gender = gender;
@@ -74,6 +86,7 @@ class JsonAdaptedElderly {
      * Converts a given {@code Elderly} into this class for Jackson use.
      */
     public JsonAdaptedElderly(Elderly source) {
+        id = source.getId();
         name = source.getName().fullName;
         age = Integer.toString(source.getAge().value);
         gender = source.getGender().value;
@@ -89,6 +102,13 @@ class JsonAdaptedElderly {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if this elderly has a stored id, so that converting it does not generate a new id.
+     */
+    boolean hasId() {
+        return id != null;
+    }
+
     /**
      * Converts this Jackson-friendly adapted elderly object into the model's {@code Elderly} object.
      *
@@ -173,7 +193,10 @@ class JsonAdaptedElderly {
         final Remark modelRemark = new Remark(remark);
 
         final Set<Tag> modelTags = new HashSet<>(elderlyTags);
-        return new Elderly(modelName, modelAge, modelGender, modelRoomNumber,
-                new Nok(modelNokName, modelRelationship, modelPhone, modelEmail, modelAddress), modelRemark, modelTags);
+        final Nok modelNok = new Nok(modelNokName, modelRelationship, modelPhone, modelEmail, modelAddress);
+        if (id == null) {
+            return new Elderly(modelName, modelAge, modelGender, modelRoomNumber, modelNok, modelRemark, modelTags);
+        }
+        return new Elderly(id, modelName, modelAge, modelGender, modelRoomNumber, modelNok, modelRemark, modelTags);
     }
 }
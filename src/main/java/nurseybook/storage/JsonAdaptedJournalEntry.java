@@ -0,0 +1,254 @@
+package nurseybook.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.person.Name;
+import nurseybook.model.task.Task;
+import nurseybook.model.util.ListEdit;
+
+/**
+ * Jackson-friendly version of a change made to the nursey book between two saves.
+ * The change is stored as the edits that made it, each adding, removing or replacing a single elderly or task, when
+ * those edits are known. Otherwise, it replaces a range of the elderlies and a range of the tasks with new ones, which
+ * covers adding, editing and deleting of one or more adjacent elderlies or tasks.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry refers to %s that do not exist.";
+
+    private final int elderliesIndex;
+    private final int removedElderliesCount;
+    private final List<JsonAdaptedElderly> addedElderlies = new ArrayList<>();
+    private final int tasksIndex;
+    private final int removedTasksCount;
+    private final List<JsonAdaptedTask> addedTasks = new ArrayList<>();
+    private final List<JsonAdaptedListEdit> elderlyEdits = new ArrayList<>();
+    private final List<JsonAdaptedListEdit> taskEdits = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given ranges and replacements, and no edits.
+     */
+    public JsonAdaptedJournalEntry(int elderliesIndex, int removedElderliesCount,
+                                   List<JsonAdaptedElderly> addedElderlies, int tasksIndex, int removedTasksCount,
+                                   List<JsonAdaptedTask> addedTasks) {
+        this(elderliesIndex, removedElderliesCount, addedElderlies, tasksIndex, removedTasksCount, addedTasks,
+                null, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given ranges and replacements, followed by the given
+     * edits.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("elderliesIndex") int elderliesIndex,
+                                   @JsonProperty("removedElderliesCount") int removedElderliesCount,
+                                   @JsonProperty("addedElderlies") List<JsonAdaptedElderly> addedElderlies,
+                                   @JsonProperty("tasksIndex") int tasksIndex,
+                                   @JsonProperty("removedTasksCount") int removedTasksCount,
+                                   @JsonProperty("addedTasks") List<JsonAdaptedTask> addedTasks,
+                                   @JsonProperty("elderlyEdits") List<JsonAdaptedListEdit> elderlyEdits,
+                                   @JsonProperty("taskEdits") List<JsonAdaptedListEdit> taskEdits) {
+        this.elderliesIndex = elderliesIndex;
+        this.removedElderliesCount = removedElderliesCount;
+        if (addedElderlies != null) {
+            this.addedElderlies.addAll(addedElderlies);
+        }
+        this.tasksIndex = tasksIndex;
+        this.removedTasksCount = removedTasksCount;
+        if (addedTasks != null) {
+            this.addedTasks.addAll(addedTasks);
+        }
+        if (elderlyEdits != null) {
+            this.elderlyEdits.addAll(elderlyEdits);
+        }
+        if (taskEdits != null) {
+            this.taskEdits.addAll(taskEdits);
+        }
+    }
+
+    /**
+     * Converts the change from {@code before}, the nursey book as it was last saved, to {@code after} into this class
+     * for Jackson use. If the edits that made the change are known, only they are stored, which takes time in
+     * proportion to their number. Otherwise, the change is found by comparing the lists, as in
+     * {@link #JsonAdaptedJournalEntry(List, List, ReadOnlyNurseyBook)}.
+     *
+     * @param after future changes to this will not affect the created {@code JsonAdaptedJournalEntry}.
+     */
+    public static JsonAdaptedJournalEntry of(NurseyBook before, ReadOnlyNurseyBook after) {
+        // the real task list is the task list itself when there are no ghost tasks, which edits cannot skip over
+        boolean hasGhostTasks = before.getRealTaskList() != before.getTaskList();
+        if (after instanceof NurseyBook && !hasGhostTasks) {
+            Optional<List<ListEdit<Elderly>>> elderlyEdits = ((NurseyBook) after).getElderlyEditsSince(before);
+            Optional<List<ListEdit<Task>>> taskEdits = ((NurseyBook) after).getTaskEditsSince(before);
+            if (elderlyEdits.isPresent() && taskEdits.isPresent()
+                    && areConvertible(elderlyEdits.get(), taskEdits.get())) {
+                return fromEdits(elderlyEdits.get(), taskEdits.get(), (NurseyBook) after);
+            }
+        }
+        return new JsonAdaptedJournalEntry(before.getElderlyList(), before.getRealTaskList(), after);
+    }
+
+    private static boolean areConvertible(List<ListEdit<Elderly>> elderlyEdits, List<ListEdit<Task>> taskEdits) {
+        return elderlyEdits.stream().allMatch(JsonAdaptedListEdit::isConvertible)
+                && taskEdits.stream().allMatch(edit -> JsonAdaptedListEdit.isConvertible(edit)
+                        && (edit.getOldElement() == null || edit.getOldElement().isRealTask())
+                        && (edit.getNewElement() == null || edit.getNewElement().isRealTask()));
+    }
+
+    private static JsonAdaptedJournalEntry fromEdits(List<ListEdit<Elderly>> elderlyEdits,
+                                                     List<ListEdit<Task>> taskEdits, NurseyBook after) {
+        // only the elderlies related to the stored tasks are looked up, rather than every elderly
+        Map<Name, Long> elderlyIds = new HashMap<>();
+        for (ListEdit<Task> edit : taskEdits) {
+            if (edit.getNewElement() == null) {
+                continue;
+            }
+            for (Name name : edit.getNewElement().getRelatedNames()) {
+                if (after.areAllElderliesPresent(Set.of(name))) {
+                    Elderly elderly = after.findElderlyWithName(name);
+                    elderlyIds.put(elderly.getName(), elderly.getId());
+                }
+            }
+        }
+        return new JsonAdaptedJournalEntry(0, 0, null, 0, 0, null,
+                elderlyEdits.stream().map(JsonAdaptedListEdit::fromElderlyEdit).collect(Collectors.toList()),
+                taskEdits.stream().map(edit -> JsonAdaptedListEdit.fromTaskEdit(edit, elderlyIds))
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts the change from {@code elderliesBefore} and {@code tasksBefore} to {@code after} into this class
+     * for Jackson use. Only the elderlies and tasks between the first and last difference are stored.
+     *
+     * @param after future changes to this will not affect the created {@code JsonAdaptedJournalEntry}.
+     */
+    public JsonAdaptedJournalEntry(List<Elderly> elderliesBefore, List<Task> tasksBefore, ReadOnlyNurseyBook after) {
+        List<Elderly> elderliesAfter = after.getElderlyList();
+        elderliesIndex = getCommonPrefixLength(elderliesBefore, elderliesAfter, Elderly::getId);
+        int elderliesSuffixLength = getCommonSuffixLength(elderliesBefore, elderliesAfter, elderliesIndex,
+                Elderly::getId);
+        removedElderliesCount = elderliesBefore.size() - elderliesIndex - elderliesSuffixLength;
+        addedElderlies.addAll(elderliesAfter.subList(elderliesIndex, elderliesAfter.size() - elderliesSuffixLength)
+                .stream().map(JsonAdaptedElderly::new).collect(Collectors.toList()));
+
+        List<Task> tasksAfter = after.getRealTaskList();
+        tasksIndex = getCommonPrefixLength(tasksBefore, tasksAfter, Task::getId);
+        int tasksSuffixLength = getCommonSuffixLength(tasksBefore, tasksAfter, tasksIndex, Task::getId);
+        removedTasksCount = tasksBefore.size() - tasksIndex - tasksSuffixLength;
+        List<Task> changedTasks = tasksAfter.subList(tasksIndex, tasksAfter.size() - tasksSuffixLength);
+        if (!changedTasks.isEmpty()) {
+            Map<Name, Long> elderlyIds = new HashMap<>();
+            elderliesAfter.forEach(elderly -> elderlyIds.put(elderly.getName(), elderly.getId()));
+            addedTasks.addAll(changedTasks.stream()
+                    .map(task -> new JsonAdaptedTask(task, elderlyIds))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Returns true if this entry does not change anything.
+     */
+    public boolean isEmpty() {
+        return removedElderliesCount == 0 && addedElderlies.isEmpty()
+                && removedTasksCount == 0 && addedTasks.isEmpty()
+                && elderlyEdits.isEmpty() && taskEdits.isEmpty();
+    }
+
+    /**
+     * Applies this change to {@code elderlies} and {@code tasks}.
+     *
+     * @throws IllegalValueException if this change does not fit the lists, or if there were any data constraints
+     *     violated in the added elderlies or tasks.
+     */
+    public void applyTo(List<Elderly> elderlies, List<Task> tasks) throws IllegalValueException {
+        if (!isValidRange(elderliesIndex, removedElderliesCount, elderlies.size())) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, "elderlies"));
+        }
+        if (!isValidRange(tasksIndex, removedTasksCount, tasks.size())) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, "tasks"));
+        }
+
+        List<Elderly> elderliesToAdd = new ArrayList<>();
+        for (JsonAdaptedElderly jsonAdaptedElderly : addedElderlies) {
+            elderliesToAdd.add(jsonAdaptedElderly.toModelType());
+        }
+        List<Elderly> removedElderlies = elderlies.subList(elderliesIndex, elderliesIndex + removedElderliesCount);
+        removedElderlies.clear();
+        removedElderlies.addAll(elderliesToAdd);
+        for (JsonAdaptedListEdit edit : elderlyEdits) {
+            edit.applyToElderlies(elderlies);
+        }
+
+        Map<Long, Elderly> elderliesById = new HashMap<>();
+        if (!addedTasks.isEmpty() || !taskEdits.isEmpty()) {
+            elderlies.forEach(elderly -> elderliesById.put(elderly.getId(), elderly));
+        }
+        List<Task> tasksToAdd = new ArrayList<>();
+        for (JsonAdaptedTask jsonAdaptedTask : addedTasks) {
+            tasksToAdd.add(jsonAdaptedTask.toModelType(elderliesById));
+        }
+        List<Task> removedTasks = tasks.subList(tasksIndex, tasksIndex + removedTasksCount);
+        removedTasks.clear();
+        removedTasks.addAll(tasksToAdd);
+        for (JsonAdaptedListEdit edit : taskEdits) {
+            edit.applyToTasks(tasks, elderliesById);
+        }
+    }
+
+    private static boolean isValidRange(int index, int count, int size) {
+        return index >= 0 && count >= 0 && index <= size - count;
+    }
+
+    /**
+     * Returns the length of the common prefix of {@code before} and {@code after}, where two items are only the same
+     * if they are equal and have the same id given by {@code getId}, as items are saved and found again by their ids.
+     */
+    static <T> int getCommonPrefixLength(List<T> before, List<T> after, ToLongFunction<T> getId) {
+        int length = 0;
+        int maxLength = Math.min(before.size(), after.size());
+        while (length < maxLength && isSameItem(before.get(length), after.get(length), getId)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the length of the common suffix of {@code before} and {@code after} that does not overlap with their
+     * common prefix of length {@code prefixLength}, where items are compared as in {@link #getCommonPrefixLength}.
+     */
+    static <T> int getCommonSuffixLength(List<T> before, List<T> after, int prefixLength, ToLongFunction<T> getId) {
+        int length = 0;
+        int maxLength = Math.min(before.size(), after.size()) - prefixLength;
+        while (length < maxLength
+                && isSameItem(before.get(before.size() - 1 - length), after.get(after.size() - 1 - length), getId)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns true if {@code before} and {@code after} have the same items, compared as in
+     * {@link #getCommonPrefixLength}.
+     */
+    static <T> boolean isSameList(List<T> before, List<T> after, ToLongFunction<T> getId) {
+        return before.size() == after.size() && getCommonPrefixLength(before, after, getId) == before.size();
+    }
+
+    private static <T> boolean isSameItem(T before, T after, ToLongFunction<T> getId) {
+        return getId.applyAsLong(before) == getId.applyAsLong(after) && before.equals(after);
+    }
+}
@@ -0,0 +1,119 @@
+package nurseybook.storage;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.person.Name;
+import nurseybook.model.task.Task;
+import nurseybook.model.util.ListEdit;
+
+/**
+ * Jackson-friendly version of a {@link ListEdit} that adds, removes or replaces a single elderly or task.
+ * Only what is needed to redo the edit is stored: its position, and the elderly or task it adds or puts in place.
+ */
+class JsonAdaptedListEdit {
+
+    public static final String MESSAGE_INVALID_EDIT = "Journal entry has an invalid %s edit.";
+
+    private final ListEdit.Type type;
+    private final int index;
+    private final JsonAdaptedElderly elderly;
+    private final JsonAdaptedTask task;
+
+    /**
+     * Constructs a {@code JsonAdaptedListEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedListEdit(@JsonProperty("type") ListEdit.Type type, @JsonProperty("index") int index,
+                               @JsonProperty("elderly") JsonAdaptedElderly elderly,
+                               @JsonProperty("task") JsonAdaptedTask task) {
+        this.type = type;
+        this.index = index;
+        this.elderly = elderly;
+        this.task = task;
+    }
+
+    /**
+     * Returns true if {@code edit} can be converted into this class, which is the case for any edit other than a
+     * replacement of every element.
+     */
+    public static boolean isConvertible(ListEdit<?> edit) {
+        return edit.getType() != ListEdit.Type.REPLACE_ALL;
+    }
+
+    /**
+     * Converts a given edit of the elderly list into this class for Jackson use.
+     */
+    public static JsonAdaptedListEdit fromElderlyEdit(ListEdit<Elderly> source) {
+        assert isConvertible(source);
+        Elderly newElderly = source.getNewElement();
+        return new JsonAdaptedListEdit(source.getType(), source.getIndex(),
+                newElderly == null ? null : new JsonAdaptedElderly(newElderly), null);
+    }
+
+    /**
+     * Converts a given edit of the task list into this class for Jackson use, referring to the related elderlies of
+     * the task it adds or puts in place by the ids in {@code elderlyIds}.
+     */
+    public static JsonAdaptedListEdit fromTaskEdit(ListEdit<Task> source, Map<Name, Long> elderlyIds) {
+        assert isConvertible(source);
+        Task newTask = source.getNewElement();
+        return new JsonAdaptedListEdit(source.getType(), source.getIndex(), null,
+                newTask == null ? null : new JsonAdaptedTask(newTask, elderlyIds));
+    }
+
+    /**
+     * Redoes this edit on {@code elderlies}.
+     *
+     * @throws IllegalValueException if this edit does not fit the list, or if there were any data constraints
+     *     violated in the added elderly.
+     */
+    public void applyToElderlies(List<Elderly> elderlies) throws IllegalValueException {
+        checkIsValid(elderly, elderlies.size(), "elderly");
+        applyTo(elderlies, elderly == null ? null : elderly.toModelType());
+    }
+
+    /**
+     * Redoes this edit on {@code tasks}, taking the names of the related elderlies of the added task from
+     * {@code elderliesById}.
+     *
+     * @throws IllegalValueException if this edit does not fit the list, or if there were any data constraints
+     *     violated in the added task.
+     */
+    public void applyToTasks(List<Task> tasks, Map<Long, Elderly> elderliesById) throws IllegalValueException {
+        checkIsValid(task, tasks.size(), "task");
+        applyTo(tasks, task == null ? null : task.toModelType(elderliesById));
+    }
+
+    private void checkIsValid(Object element, int size, String elementName) throws IllegalValueException {
+        boolean isValid;
+        if (type == ListEdit.Type.ADD) {
+            isValid = element != null && index >= 0 && index <= size;
+        } else if (type == ListEdit.Type.REPLACE) {
+            isValid = element != null && index >= 0 && index < size;
+        } else {
+            isValid = type == ListEdit.Type.REMOVE && index >= 0 && index < size;
+        }
+        if (!isValid) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_EDIT, elementName));
+        }
+    }
+
+    private <E> void applyTo(List<E> list, E element) {
+        switch (type) {
+        case ADD:
+            list.add(index, element);
+            break;
+        case REPLACE:
+            list.set(index, element);
+            break;
+        default:
+            list.remove(index);
+        }
+    }
+}
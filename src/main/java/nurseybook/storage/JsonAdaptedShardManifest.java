@@ -0,0 +1,25 @@
+package nurseybook.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of the task shards of a {@link ShardedNurseyBookStorage}.
+ */
+class JsonAdaptedShardManifest {
+
+    private final long maxTaskId;
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the largest id of any task saved to the shards.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty("maxTaskId") long maxTaskId) {
+        this.maxTaskId = maxTaskId;
+    }
+
+    public long getMaxTaskId() {
+        return maxTaskId;
+    }
+
+}
@@ -2,8 +2,10 @@ package nurseybook.storage;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -11,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.model.person.Elderly;
 import nurseybook.model.person.Name;
 import nurseybook.model.task.DateTime;
 import nurseybook.model.task.Description;
@@ -21,24 +24,42 @@ import nurseybook.model.task.Task;
 
 public class JsonAdaptedTask {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_ELDERLY_ID = "Task refers to an elderly id that does not exist: %d";
 
+    private final Long id;
     private final String description;
     private final List<String> names = new ArrayList<>();
+    private final List<Long> relatedIds = new ArrayList<>();
     private final String date;
     private final String time;
     private final List<String> status;
     private final String recurrence;
 
+    /**
+     * Constructs a {@code JsonAdaptedTask} with the given task details, no id and no related elderly ids.
+     */
+    public JsonAdaptedTask(List<String> names, String description, String date, String time,
+                           List<String> status, String recurrence) {
+        this(null, names, null, description, date, time, status, recurrence);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedTask} with the given task details.
+     * A new id is assigned when converting to the model if {@code id} is null.
      */
     @JsonCreator
-    public JsonAdaptedTask(@JsonProperty("names") List<String> names, @JsonProperty("description") String description,
+    public JsonAdaptedTask(@JsonProperty("id") Long id, @JsonProperty("names") List<String> names,
+                           @JsonProperty("relatedIds") List<Long> relatedIds,
+                           @JsonProperty("description") String description,
                            @JsonProperty("date") String date, @JsonProperty("time") String time,
                            @JsonProperty("status") List<String> status, @JsonProperty("recurrence") String recurrence) {
+        this.id = id;
         if (names != null) {
             this.names.addAll(names);
         }
+        if (relatedIds != null) {
+            this.relatedIds.addAll(relatedIds);
+        }
         this.description = description;
         this.date = date;
         this.time = time;
@@ -50,6 +71,18 @@ public class JsonAdaptedTask {
      * Converts a given {@code Task} into this class for Jackson use.
      */
     public JsonAdaptedTask(Task source) {
+        this(source, Collections.emptyMap());
+    }
+
+    /**
+     * Converts a given {@code Task} into this class for Jackson use, referring to its related elderlies by the ids
+     * in {@code elderlyIds}. The ids are only stored if every related name has an id.
+     */
+    public JsonAdaptedTask(Task source, Map<Name, Long> elderlyIds) {
+        id = source.getId();
+        if (elderlyIds.keySet().containsAll(source.getRelatedNames())) {
+            source.getRelatedNames().forEach(name -> relatedIds.add(elderlyIds.get(name)));
+        }
         description = source.getDesc().value;
         date = source.getDateTime().getStringDate();
         time = source.getDateTime().getStringTime();
@@ -60,8 +93,40 @@ public class JsonAdaptedTask {
         recurrence = source.getRecurrence().toString();
     }
 
+    /**
+     * Returns true if this task has a stored id, so that converting it does not generate a new id.
+     */
+    boolean hasId() {
+        return id != null;
+    }
+
+    /**
+     * Returns true if this task refers to its related elderlies by id, rather than only by name.
+     */
+    boolean hasRelatedIds() {
+        return !relatedIds.isEmpty();
+    }
+
+    /**
+     * Returns the stored id of this task, which must have one.
+     */
+    long getId() {
+        return id;
+    }
+
+    /**
+     * Similar to {@link #toModelType(Map)}, except that related elderly ids that are not in {@code elderliesById}
+     * are left out rather than rejected, as the elderlies were deleted after the task was stored.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted task.
+     */
+    Task toModelTypeWithoutDeletedElderlies(Map<Long, Elderly> elderliesById) throws IllegalValueException {
+        return toModelType(elderliesById, true);
+    }
+
     /**
      * Converts this Jackson-friendly adapted task object into the model's {@code Task} object.
+     * The related names stored with the task are used, and related elderly ids are ignored.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted task.
      */
@@ -70,7 +135,39 @@ public class JsonAdaptedTask {
         for (String name : names) {
             relatedNames.add(new Name(name));
         }
+        return toModelType(relatedNames);
+    }
 
+    /**
+     * Converts this Jackson-friendly adapted task object into the model's {@code Task} object.
+     * If the task refers to its related elderlies by id, their names are taken from {@code elderliesById}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted task,
+     *     or if it refers to an elderly id that is not in {@code elderliesById}.
+     */
+    public Task toModelType(Map<Long, Elderly> elderliesById) throws IllegalValueException {
+        return toModelType(elderliesById, false);
+    }
+
+    private Task toModelType(Map<Long, Elderly> elderliesById, boolean isDeletedElderlyAllowed)
+            throws IllegalValueException {
+        if (relatedIds.isEmpty()) {
+            return toModelType();
+        }
+
+        final List<Name> relatedNames = new ArrayList<>();
+        for (Long relatedId : relatedIds) {
+            Elderly elderly = elderliesById.get(relatedId);
+            if (elderly != null) {
+                relatedNames.add(elderly.getName());
+            } else if (!isDeletedElderlyAllowed) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_ELDERLY_ID, relatedId));
+            }
+        }
+        return toModelType(relatedNames);
+    }
+
+    private Task toModelType(List<Name> relatedNames) throws IllegalValueException {
         if (description == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Description.class.getSimpleName()));
@@ -117,6 +214,9 @@ public class JsonAdaptedTask {
 
         final Set<Name> modelNames = new HashSet<>(relatedNames);
 
-        return new RealTask(modelDesc, modelDt, modelNames, modelStatus, modelRecurrence);
+        if (id == null) {
+            return new RealTask(modelDesc, modelDt, modelNames, modelStatus, modelRecurrence);
+        }
+        return new RealTask(id, modelDesc, modelDt, modelNames, modelStatus, modelRecurrence);
     }
 }
@@ -3,30 +3,69 @@ package nurseybook.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.DoubleConsumer;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import nurseybook.commons.core.DataCompression;
 import nurseybook.commons.core.LogsCenter;
 import nurseybook.commons.exceptions.DataConversionException;
 import nurseybook.commons.exceptions.IllegalValueException;
-import nurseybook.commons.util.FileUtil;
 import nurseybook.commons.util.JsonUtil;
+import nurseybook.model.NurseyBook;
 import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.person.Name;
+import nurseybook.model.task.Task;
 
 /**
  * A class to access NurseyBook data stored as a json file on the hard disk.
+ * Files in the binary format of {@link BinaryNurseyBookStorage} are recognised by their header and read as well.
  */
 public class JsonNurseyBookStorage implements NurseyBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonNurseyBookStorage.class);
 
-    private static final String INVALID_NAMES_IN_TASKS = "Tasks contain invalid elderly names";
+    static final String INVALID_NAMES_IN_TASKS = "Tasks contain invalid elderly names";
+    static final String INVALID_NAMES_IN_TASK_FORMAT = "%1$s on %2$s has %3$s";
+    static final String MESSAGE_SHARDED_DATA = "The data of %1$s is split into shards in %2$s. Set the storage mode "
+            + "back to SHARDED, or move the shards into a data file with NurseyBookFileConverter";
 
     private Path filePath;
+    private DoubleConsumer readProgressListener;
+    private DataCompression compression;
 
     public JsonNurseyBookStorage(Path filePath) {
+        this(filePath, progress -> {});
+    }
+
+    /**
+     * Creates a {@code JsonNurseyBookStorage} that reports the progress of reading large files, as the fraction of
+     * the file read so far, to {@code readProgressListener}.
+     */
+    public JsonNurseyBookStorage(Path filePath, DoubleConsumer readProgressListener) {
+        this(filePath, readProgressListener, new DataCompression());
+    }
+
+    /**
+     * Creates a {@code JsonNurseyBookStorage} that reports the progress of reading large files to
+     * {@code readProgressListener}, and that compresses the files it saves with {@code compression}.
+     * Files are read whether they are compressed or not.
+     */
+    public JsonNurseyBookStorage(Path filePath, DoubleConsumer readProgressListener, DataCompression compression) {
+        requireNonNull(readProgressListener);
+        requireNonNull(compression);
         this.filePath = filePath;
+        this.readProgressListener = readProgressListener;
+        this.compression = compression;
     }
 
     public Path getNurseyBookFilePath() {
@@ -42,29 +81,76 @@ public class JsonNurseyBookStorage implements NurseyBookStorage {
     /**
      * Similar to {@link #readNurseyBook()}.
      *
+     * The data file is not read if its data was split into shards by {@link ShardedNurseyBookStorage}, as the
+     * shards hold the latest data instead.
+     *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if the file is not in the correct format, or its data is split into shards.
      */
     public Optional<ReadOnlyNurseyBook> readNurseyBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableNurseyBook> jsonNurseyBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableNurseyBook.class);
-        if (!jsonNurseyBook.isPresent()) {
+        if (ShardedNurseyBookStorage.isSharded(filePath)) {
+            String message = String.format(MESSAGE_SHARDED_DATA, filePath,
+                    ShardedNurseyBookStorage.getShardDirectoryPath(filePath));
+            logger.warning(message);
+            throw new DataConversionException(new IOException(message));
+        }
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        NurseyBook nurseyBook;
         try {
-            Optional<ReadOnlyNurseyBook> nb = Optional.of(jsonNurseyBook.get().toModelType());
-            if (nb.isPresent() && !nb.get().doTasksContainValidNames()) {
-                logger.info("Illegal values found in " + filePath + ": " + INVALID_NAMES_IN_TASKS);
-                throw new DataConversionException(new IllegalValueException(INVALID_NAMES_IN_TASKS));
-            }
-            return nb;
+            nurseyBook = BinaryNurseyBookCodec.hasMagicHeader(filePath)
+                    ? BinaryNurseyBookStorage.readBinaryFile(filePath)
+                    : new StreamingJsonNurseyBookReader(readProgressListener).read(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+        return Optional.of(nurseyBook);
+    }
+
+    /**
+     * Checks that the names of all tasks in {@code nurseyBook} are names of its elderlies.
+     *
+     * @throws IllegalValueException listing every task with names that are not, and those names.
+     */
+    static void checkTaskNames(NurseyBook nurseyBook) throws IllegalValueException {
+        checkTaskNames(nurseyBook.getTasksWithInvalidNames());
+    }
+
+    /**
+     * Checks that the names of {@code task} are in {@code elderlyNames}.
+     *
+     * @throws IllegalValueException listing the names of the task that are not.
+     */
+    static void checkTaskNames(Task task, Set<Name> elderlyNames) throws IllegalValueException {
+        List<Name> invalidNames = task.getRelatedNames().stream()
+                .filter(name -> !elderlyNames.contains(name))
+                .sorted(Comparator.comparing(name -> name.fullName))
+                .collect(Collectors.toList());
+        if (!invalidNames.isEmpty()) {
+            checkTaskNames(Map.of(task, invalidNames));
+        }
+    }
+
+    private static void checkTaskNames(Map<Task, List<Name>> tasksWithInvalidNames) throws IllegalValueException {
+        if (tasksWithInvalidNames.isEmpty()) {
+            return;
+        }
+
+        StringJoiner message = new StringJoiner("; ", INVALID_NAMES_IN_TASKS + ": ", "");
+        tasksWithInvalidNames.forEach((task, names) -> message.add(String.format(INVALID_NAMES_IN_TASK_FORMAT,
+                task.getDesc(), task.getDateTime(), names.stream().map(name -> name.fullName)
+                        .collect(Collectors.joining(", ")))));
+        throw new IllegalValueException(message.toString());
     }
 
     @Override
@@ -81,8 +167,18 @@ public class JsonNurseyBookStorage implements NurseyBookStorage {
         requireNonNull(nurseyBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableNurseyBook(nurseyBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableNurseyBook(nurseyBook), filePath, compression);
+    }
+
+    @Override
+    public void compactNurseyBook() {
+        // the json file only ever holds the latest data
+    }
+
+    @Override
+    public List<Task> readPastTasks() {
+        // every task is read with the nursey book
+        return Collections.emptyList();
     }
 
 }
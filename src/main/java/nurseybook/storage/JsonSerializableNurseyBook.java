@@ -1,7 +1,9 @@
 package nurseybook.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,8 +13,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import nurseybook.commons.exceptions.IllegalValueException;
 import nurseybook.model.NurseyBook;
 import nurseybook.model.ReadOnlyNurseyBook;
-import nurseybook.model.person.Elderly;
-import nurseybook.model.task.Task;
+import nurseybook.model.person.Name;
 
 /**
  * An Immutable NurseyBook that is serializable to JSON format.
@@ -21,6 +22,8 @@ import nurseybook.model.task.Task;
 class JsonSerializableNurseyBook {
 
     public static final String MESSAGE_DUPLICATE_ELDERLY = "Elderlies list contains duplicate elderly(s).";
+    public static final String MESSAGE_DUPLICATE_ELDERLY_ID = "Elderlies list contains duplicate id(s).";
+    public static final String MESSAGE_DUPLICATE_TASK_ID = "Tasks list contains duplicate id(s).";
 
     private final List<JsonAdaptedElderly> elderlies = new ArrayList<>();
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
@@ -41,8 +44,20 @@ class JsonSerializableNurseyBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableNurseyBook}.
      */
     public JsonSerializableNurseyBook(ReadOnlyNurseyBook source) {
+        Map<Name, Long> elderlyIds = new HashMap<>();
+        source.getElderlyList().forEach(elderly -> elderlyIds.put(elderly.getName(), elderly.getId()));
         elderlies.addAll(source.getElderlyList().stream().map(JsonAdaptedElderly::new).collect(Collectors.toList()));
-        tasks.addAll(source.getRealTaskList().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
+        tasks.addAll(source.getRealTaskList().stream()
+                .map(task -> new JsonAdaptedTask(task, elderlyIds))
+                .collect(Collectors.toList()));
+    }
+
+    List<JsonAdaptedElderly> getElderlies() {
+        return elderlies;
+    }
+
+    List<JsonAdaptedTask> getTasks() {
+        return tasks;
     }
 
     /**
@@ -51,19 +66,10 @@ class JsonSerializableNurseyBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public NurseyBook toModelType() throws IllegalValueException {
-        NurseyBook nurseyBook = new NurseyBook();
-        for (JsonAdaptedElderly jsonAdaptedElderly : elderlies) {
-            Elderly elderly = jsonAdaptedElderly.toModelType();
-            if (nurseyBook.hasElderly(elderly)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ELDERLY);
-            }
-            nurseyBook.addElderly(elderly);
-        }
-        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
-            nurseyBook.addTask(task);
-        }
-        return nurseyBook;
+        NurseyBookAssembler assembler = new NurseyBookAssembler();
+        assembler.addElderlies(elderlies);
+        assembler.addTasks(tasks);
+        return assembler.getNurseyBook();
     }
 
 }
@@ -0,0 +1,345 @@
+package nurseybook.storage;
+
+import static java.util.Objects.requireNonNull;
+import static nurseybook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import nurseybook.commons.core.LogsCenter;
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.commons.util.FileUtil;
+import nurseybook.commons.util.JsonUtil;
+import nurseybook.commons.util.MappedFile;
+import nurseybook.model.task.DescriptionContainsKeywordPredicate;
+import nurseybook.model.task.Task;
+
+/**
+ * A class to access the task archive stored as an append-only file of json task records on the hard disk, together
+ * with indexes of the records.
+ * Archiving appends the new records to the archive file and then their entries to the indexes, so it takes time in
+ * proportion to the archived tasks rather than to the whole archive, and archived tasks are never written again.
+ *
+ * The archive file holds one {@link JsonAdaptedTask} per line, with the names of its related elderlies rather than
+ * their ids, as archived tasks outlive the elderlies. The index is stored next to it with
+ * {@value #INDEX_FILE_SUFFIX} appended to its file name, and holds a fixed-size entry with the task id, offset and
+ * length of every record, so record {@code n} is located by the entry at {@code n} times the entry size. A record only
+ * belongs to the archive once its index entry is written, so records left at the end of the archive file by an
+ * archiving that was interrupted are ignored, and overwritten by the next one.
+ *
+ * The records are also indexed by task id, date and the words in their description in {@link ArchiveKeyIndex}es,
+ * which are written before the index so that they never miss a record, and rebuilt from the records if they are
+ * lost. Searches by keyword or date only read the entries and records they need through read-only memory mappings
+ * of the files, so the archive is never held in memory, and only the tasks found are converted.
+ */
+public class JsonTaskArchiveStorage implements TaskArchiveStorage {
+
+    public static final String ARCHIVE_FILE_SUFFIX = ".archive";
+    public static final String INDEX_FILE_SUFFIX = ".index";
+    public static final String ID_INDEX_FILE_SUFFIX = ".ids";
+    public static final String DATE_INDEX_FILE_SUFFIX = ".dates";
+    public static final String WORD_INDEX_FILE_SUFFIX = ".words";
+
+    // task id, record offset and record length
+    static final int INDEX_ENTRY_BYTES = Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonTaskArchiveStorage.class);
+
+    private final Path filePath;
+    private final ArchiveKeyIndex idIndex;
+    private final ArchiveKeyIndex dateIndex;
+    private final ArchiveKeyIndex wordIndex;
+
+    private boolean isIndexRead = false;
+    private int recordCount = 0;
+    private long archiveEnd = 0;
+
+    // the files mapped up to the last indexed record, or null if they have not been mapped since it was archived
+    private MappedFile mappedArchive = null;
+    private MappedFile mappedIndex = null;
+
+    /**
+     * Creates a task archive storage for the archive file at {@code filePath}, with its indexes next to it.
+     */
+    public JsonTaskArchiveStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        idIndex = new ArchiveKeyIndex(resolveSuffix(filePath, ID_INDEX_FILE_SUFFIX),
+                task -> Collections.singleton(task.getId()));
+        dateIndex = new ArchiveKeyIndex(resolveSuffix(filePath, DATE_INDEX_FILE_SUFFIX),
+                task -> Collections.singleton(task.getDate().toEpochDay()));
+        wordIndex = new ArchiveKeyIndex(resolveSuffix(filePath, WORD_INDEX_FILE_SUFFIX),
+                JsonTaskArchiveStorage::getWordKeys);
+    }
+
+    /**
+     * Returns the path of the task archive that is kept next to the data file at {@code nurseyBookFilePath}.
+     */
+    public static Path getTaskArchiveFilePath(Path nurseyBookFilePath) {
+        return resolveSuffix(nurseyBookFilePath, ARCHIVE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the index of the task archive at {@code filePath}.
+     */
+    static Path getIndexFilePath(Path filePath) {
+        return resolveSuffix(filePath, INDEX_FILE_SUFFIX);
+    }
+
+    private static Path resolveSuffix(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+
+    /**
+     * Returns the key in the word index of {@code word}.
+     * Words that are equal ignoring case, as compared by {@code StringUtil#containsWordIgnoreCase}, have the same key.
+     * Different words may have the same key too, so the tasks found by their keys have to be checked.
+     */
+    static long getWordKey(String word) {
+        // 64-bit FNV-1a hash of the word with every character in one case
+        long key = 0xcbf29ce484222325L;
+        for (char c : word.toCharArray()) {
+            key ^= Character.toLowerCase(Character.toUpperCase(c));
+            key *= 0x100000001b3L;
+        }
+        return key;
+    }
+
+    private static Set<Long> getWordKeys(Task task) {
+        Set<Long> wordKeys = new HashSet<>();
+        for (String word : task.getDesc().value.split("\\s+")) {
+            if (!word.isEmpty()) {
+                wordKeys.add(getWordKey(word));
+            }
+        }
+        return wordKeys;
+    }
+
+    @Override
+    public Path getTaskArchiveFilePath() {
+        return filePath;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The largest id in the id index is reserved, which only reads the last entry of each of its runs.
+     */
+    @Override
+    public synchronized void reserveArchivedTaskIds() throws IOException {
+        readIndexIfNeeded();
+    }
+
+    /**
+     * {@inheritDoc}
+     * A task counts as archived before if a task with the same id and identity is in the archive, such as when the
+     * app stopped after archiving the task but before saving the nursey book without it.
+     */
+    @Override
+    public synchronized void archiveTasks(List<Task> tasks) throws IOException {
+        requireAllNonNull(tasks);
+        readIndexIfNeeded();
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        List<Task> newTasks = new ArrayList<>();
+        for (Task task : tasks) {
+            if (isArchived(task)) {
+                continue;
+            }
+            byte[] record = (JsonUtil.toCompactJsonString(new JsonAdaptedTask(task)) + "\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            entries.write(ByteBuffer.allocate(INDEX_ENTRY_BYTES)
+                    .putLong(task.getId()).putLong(archiveEnd + records.size()).putInt(record.length).array());
+            records.write(record);
+            newTasks.add(task);
+        }
+        if (newTasks.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            // anything after the last indexed record was left by an archiving that was interrupted
+            FileUtil.writeAt(filePath, archiveEnd, ByteBuffer.wrap(records.toByteArray()));
+            idIndex.appendRun(recordCount, newTasks);
+            dateIndex.appendRun(recordCount, newTasks);
+            wordIndex.appendRun(recordCount, newTasks);
+            FileUtil.writeAt(getIndexFilePath(filePath), (long) recordCount * INDEX_ENTRY_BYTES,
+                    ByteBuffer.wrap(entries.toByteArray()));
+        } catch (IOException e) {
+            // the indexes are read again from the disk, without the runs of the tasks that were not archived
+            isIndexRead = false;
+            throw e;
+        }
+
+        recordCount += newTasks.size();
+        archiveEnd += records.size();
+        mappedArchive = null;
+        mappedIndex = null;
+        logger.fine("Archived " + newTasks.size() + " tasks to " + filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the records with a word that has the same key in the word index as one of the keywords are read.
+     */
+    @Override
+    public synchronized List<Task> findArchivedTasksWithKeywords(List<String> keywords)
+            throws DataConversionException, IOException {
+        requireAllNonNull(keywords);
+        readIndexIfNeeded();
+
+        SortedSet<Integer> recordNumbers = new TreeSet<>();
+        for (String keyword : keywords) {
+            recordNumbers.addAll(wordIndex.findRecordNumbers(getWordKey(keyword.trim())));
+        }
+        DescriptionContainsKeywordPredicate predicate = new DescriptionContainsKeywordPredicate(keywords);
+        List<Task> foundTasks = new ArrayList<>();
+        for (int recordNumber : recordNumbers) {
+            Task task = readRecord(recordNumber);
+            if (predicate.test(task)) {
+                foundTasks.add(task);
+            }
+        }
+        return foundTasks;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the records on {@code date} are read, as found in the date index.
+     */
+    @Override
+    public synchronized List<Task> findArchivedTasksOnDate(LocalDate date)
+            throws DataConversionException, IOException {
+        requireNonNull(date);
+        readIndexIfNeeded();
+
+        List<Task> foundTasks = new ArrayList<>();
+        for (int recordNumber : dateIndex.findRecordNumbers(date.toEpochDay())) {
+            foundTasks.add(readRecord(recordNumber));
+        }
+        return foundTasks;
+    }
+
+    /**
+     * Returns true if {@code task} is already in the archive.
+     */
+    private boolean isArchived(Task task) throws IOException {
+        try {
+            for (int recordNumber : idIndex.findRecordNumbers(task.getId())) {
+                if (readRecord(recordNumber).isSameTask(task)) {
+                    return true;
+                }
+            }
+        } catch (DataConversionException e) {
+            // the task is archived again rather than risk losing it
+            logger.warning("Error reading from task archive " + filePath + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Returns the task in the record numbered {@code recordNumber}, which is decoded straight from the mapped archive.
+     */
+    private Task readRecord(int recordNumber) throws DataConversionException, IOException {
+        long entryOffset = (long) recordNumber * INDEX_ENTRY_BYTES;
+        long offset = getMappedIndex().getLong(entryOffset + Long.BYTES);
+        int length = getMappedIndex().getInt(entryOffset + Long.BYTES + Long.BYTES);
+        if (offset < 0 || length <= 0 || offset + length > archiveEnd) {
+            throw new IOException("Task archive index " + getIndexFilePath(filePath) + " is corrupted");
+        }
+
+        ByteBuffer record = getMappedArchive().get(offset, length);
+        try {
+            String json = StandardCharsets.UTF_8.decode(record).toString();
+            return JsonUtil.fromJsonString(json, JsonAdaptedTask.class).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the index file and the headers of the key indexes the first time the archive is used, and adds any
+     * records missing from the key indexes to them.
+     * Ids of archived tasks are reserved, so that tasks created afterwards are not given the same ids.
+     */
+    private void readIndexIfNeeded() throws IOException {
+        if (isIndexRead) {
+            return;
+        }
+
+        Path indexFilePath = getIndexFilePath(filePath);
+        long indexSize = Files.exists(indexFilePath) ? Files.size(indexFilePath) : 0;
+        // a partly written last entry was left by an archiving that was interrupted
+        recordCount = (int) Math.min(indexSize / INDEX_ENTRY_BYTES, Integer.MAX_VALUE);
+        archiveEnd = 0;
+        mappedArchive = null;
+        mappedIndex = null;
+        if (recordCount > 0) {
+            long lastEntryOffset = (long) (recordCount - 1) * INDEX_ENTRY_BYTES;
+            long lastOffset = getMappedIndex().getLong(lastEntryOffset + Long.BYTES);
+            int lastLength = getMappedIndex().getInt(lastEntryOffset + Long.BYTES + Long.BYTES);
+            if (lastOffset < 0 || lastLength <= 0) {
+                throw new IOException("Task archive index " + indexFilePath + " is corrupted");
+            }
+            archiveEnd = lastOffset + lastLength;
+        }
+        if (archiveEnd > (Files.exists(filePath) ? Files.size(filePath) : 0)) {
+            throw new IOException("Task archive " + filePath + " is shorter than its index " + indexFilePath);
+        }
+
+        for (ArchiveKeyIndex keyIndex : Arrays.asList(idIndex, dateIndex, wordIndex)) {
+            int indexedRecordCount = keyIndex.read(recordCount);
+            if (indexedRecordCount < recordCount) {
+                logger.info("Rebuilding task archive key index from record " + indexedRecordCount);
+                keyIndex.appendRun(indexedRecordCount, readRecords(indexedRecordCount));
+            }
+        }
+        if (recordCount > 0) {
+            Task.reserveId(idIndex.findLargestKey());
+        }
+        isIndexRead = true;
+    }
+
+    private List<Task> readRecords(int firstRecordNumber) throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        try {
+            for (int recordNumber = firstRecordNumber; recordNumber < recordCount; recordNumber++) {
+                tasks.add(readRecord(recordNumber));
+            }
+        } catch (DataConversionException e) {
+            throw new IOException("Task archive " + filePath + " could not be indexed", e);
+        }
+        return tasks;
+    }
+
+    private MappedFile getMappedArchive() throws IOException {
+        if (mappedArchive == null) {
+            mappedArchive = FileUtil.mapReadOnly(filePath, archiveEnd);
+        }
+        return mappedArchive;
+    }
+
+    private MappedFile getMappedIndex() throws IOException {
+        if (mappedIndex == null) {
+            mappedIndex = FileUtil.mapReadOnly(getIndexFilePath(filePath), (long) recordCount * INDEX_ENTRY_BYTES);
+        }
+        return mappedIndex;
+    }
+}
@@ -0,0 +1,185 @@
+package nurseybook.storage;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.person.Name;
+import nurseybook.model.task.Task;
+
+/**
+ * Converts adapted elderlies and tasks into the model's {@code NurseyBook} one at a time or in batches, so that they
+ * can be converted as soon as they are read from storage.
+ * Every elderly that a task refers to must be added before the task. A task that refers to its elderlies by id is
+ * checked by looking up the ids, and one stored with only their names, by looking up the names. Either way, the task
+ * in the model refers to its elderlies by name, as the model does not keep the ids of the related elderlies.
+ * This means that renaming an elderly still rewrites each of their tasks in the model, which takes O(log n) time per
+ * related task rather than constant time, while the saved tasks keep referring to the elderly by id.
+ *
+ * The elderlies or tasks of a batch are converted in parallel, as each conversion is independent of the others.
+ * They are then checked and added in order, so a batch is added exactly as if it was added one at a time, and fails
+ * with the same error.
+ */
+class NurseyBookAssembler {
+
+    /** Batches smaller than this are converted one at a time, as they are too small to gain from parallelism. */
+    public static final int MIN_BATCH_SIZE_FOR_PARALLELISM = 256;
+
+    private final NurseyBook nurseyBook = new NurseyBook();
+    private final Map<Long, Elderly> elderliesById = new HashMap<>();
+    private final Set<Name> elderlyNames = new HashSet<>();
+    private final Set<Long> taskIds = new HashSet<>();
+
+    /**
+     * Converts {@code jsonAdaptedElderly} and adds it to the nursey book.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted elderly, or if the
+     *     nursey book already has the same elderly or an elderly with the same id.
+     */
+    public void addElderly(JsonAdaptedElderly jsonAdaptedElderly) throws IllegalValueException {
+        addElderly(jsonAdaptedElderly.toModelType());
+    }
+
+    /**
+     * Converts {@code jsonAdaptedElderlies} and adds them to the nursey book in order.
+     *
+     * @throws IllegalValueException for the first adapted elderly that {@link #addElderly(JsonAdaptedElderly)}
+     *     would throw for. The elderlies before it are added.
+     */
+    public void addElderlies(List<JsonAdaptedElderly> jsonAdaptedElderlies) throws IllegalValueException {
+        List<Conversion<Elderly>> conversions = convert(jsonAdaptedElderlies, JsonAdaptedElderly::toModelType,
+                JsonAdaptedElderly::hasId);
+        for (int i = 0; i < conversions.size(); i++) {
+            Conversion<Elderly> conversion = conversions.get(i);
+            addElderly(conversion != null ? conversion.get() : jsonAdaptedElderlies.get(i).toModelType());
+        }
+    }
+
+    /**
+     * Converts {@code jsonAdaptedTask} and adds it to the nursey book.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted task, if it refers to
+     *     an elderly that is not in the nursey book, or if the nursey book already has a task with the same id.
+     */
+    public void addTask(JsonAdaptedTask jsonAdaptedTask) throws IllegalValueException {
+        addTask(jsonAdaptedTask, jsonAdaptedTask.toModelType(elderliesById));
+    }
+
+    /**
+     * Converts {@code jsonAdaptedTasks} and adds them to the nursey book in order.
+     *
+     * @throws IllegalValueException for the first adapted task that {@link #addTask(JsonAdaptedTask)} would throw
+     *     for. The tasks before it are added.
+     */
+    public void addTasks(List<JsonAdaptedTask> jsonAdaptedTasks) throws IllegalValueException {
+        List<Conversion<Task>> conversions = convert(jsonAdaptedTasks, task -> task.toModelType(elderliesById),
+                JsonAdaptedTask::hasId);
+        for (int i = 0; i < conversions.size(); i++) {
+            Conversion<Task> conversion = conversions.get(i);
+            JsonAdaptedTask jsonAdaptedTask = jsonAdaptedTasks.get(i);
+            addTask(jsonAdaptedTask, conversion != null
+                    ? conversion.get()
+                    : jsonAdaptedTask.toModelType(elderliesById));
+        }
+    }
+
+    public NurseyBook getNurseyBook() {
+        return nurseyBook;
+    }
+
+    private void addElderly(Elderly elderly) throws IllegalValueException {
+        if (nurseyBook.hasElderly(elderly)) {
+            throw new IllegalValueException(JsonSerializableNurseyBook.MESSAGE_DUPLICATE_ELDERLY);
+        }
+        if (elderliesById.put(elderly.getId(), elderly) != null) {
+            throw new IllegalValueException(JsonSerializableNurseyBook.MESSAGE_DUPLICATE_ELDERLY_ID);
+        }
+        elderlyNames.add(elderly.getName());
+        nurseyBook.addElderly(elderly);
+    }
+
+    /**
+     * Adds {@code task}, which was converted from {@code jsonAdaptedTask}, to the nursey book.
+     * The elderlies of a task stored with their ids were already looked up while converting it.
+     */
+    private void addTask(JsonAdaptedTask jsonAdaptedTask, Task task) throws IllegalValueException {
+        if (!jsonAdaptedTask.hasRelatedIds()) {
+            JsonNurseyBookStorage.checkTaskNames(task, elderlyNames);
+        }
+        if (!taskIds.add(task.getId())) {
+            throw new IllegalValueException(JsonSerializableNurseyBook.MESSAGE_DUPLICATE_TASK_ID);
+        }
+        nurseyBook.addTask(task);
+    }
+
+    /**
+     * Converts the elements of {@code adapted} that have an id with {@code converter}, in parallel on the common
+     * fork/join pool if there are enough of them. The conversions are returned in the order of {@code adapted}, with
+     * null in place of the elements without an id.
+     * Those are left to be converted in order, as they are given newly generated ids which must not depend on the
+     * order in which the elements happened to be converted.
+     */
+    private static <A, T> List<Conversion<T>> convert(List<A> adapted, Converter<A, T> converter,
+                                                      Predicate<A> hasId) {
+        IntStream indices = IntStream.range(0, adapted.size());
+        if (adapted.size() >= MIN_BATCH_SIZE_FOR_PARALLELISM) {
+            indices = indices.parallel();
+        }
+        return indices.mapToObj(i -> hasId.test(adapted.get(i)) ? Conversion.of(converter, adapted.get(i)) : null)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Converts an adapted object into the model's object.
+     */
+    @FunctionalInterface
+    private interface Converter<A, T> {
+        T convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * The result of a conversion, which is either the converted object or the exception thrown while converting.
+     * Exceptions are kept rather than thrown, so that the one thrown for a batch does not depend on the order in
+     * which its elements happened to be converted.
+     */
+    private static class Conversion<T> {
+        private final T result;
+        private final Exception exception;
+
+        private Conversion(T result, Exception exception) {
+            this.result = result;
+            this.exception = exception;
+        }
+
+        static <A, T> Conversion<T> of(Converter<A, T> converter, A adapted) {
+            try {
+                return new Conversion<>(converter.convert(adapted), null);
+            } catch (IllegalValueException | RuntimeException e) {
+                return new Conversion<>(null, e);
+            }
+        }
+
+        /**
+         * Returns the converted object, or throws the exception thrown while converting.
+         *
+         * @throws IllegalValueException if the conversion failed with it.
+         */
+        T get() throws IllegalValueException {
+            if (exception instanceof IllegalValueException) {
+                throw (IllegalValueException) exception;
+            }
+            if (exception != null) {
+                throw (RuntimeException) exception;
+            }
+            return result;
+        }
+    }
+}
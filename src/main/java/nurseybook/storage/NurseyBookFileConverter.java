@@ -0,0 +1,184 @@
+package nurseybook.storage;
+
+import static nurseybook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.core.StorageMode;
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+
+/**
+ * Converts NurseyBook data files between the json format and the binary format, moves them into the database of
+ * {@link SqlNurseyBookStorage}, and moves the data between the files of the storages of the different storage modes.
+ * The format of the source file is recognised by its header, so either format can be converted into either format.
+ *
+ * A source whose data is held in a database, in shards of {@link ShardedNurseyBookStorage} or in a journal of
+ * {@link JournalNurseyBookStorage} is read from there instead, as those hold the latest data rather than the data
+ * file. When such a source is converted in place, the files its data was held in are deleted once the data is
+ * written, so that the data is never read from them again.
+ */
+public class NurseyBookFileConverter {
+
+    /**
+     * Writes the nursey book in {@code source} to {@code target} in the binary format.
+     *
+     * @throws DataConversionException if {@code source} is not in the correct format.
+     * @throws IOException if {@code source} does not exist, or if there was an error writing {@code target}.
+     */
+    public static void toBinary(Path source, Path target) throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+        convert(source, target, StorageMode.BINARY, new DataCompression());
+    }
+
+    /**
+     * Writes the nursey book in {@code source} to {@code target} in the json format.
+     * This exports the data out of a database or shards into a single data file.
+     *
+     * @throws DataConversionException if {@code source} is not in the correct format.
+     * @throws IOException if {@code source} does not exist, or if there was an error writing {@code target}.
+     */
+    public static void toJson(Path source, Path target) throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+        convert(source, target, StorageMode.JSON, new DataCompression());
+    }
+
+    /**
+     * Writes the nursey book in {@code source} into the database of {@code target} of
+     * {@link SqlNurseyBookStorage}, replacing everything in the database.
+     *
+     * @throws DataConversionException if {@code source} is not in the correct format.
+     * @throws IOException if {@code source} does not exist, or if there was an error writing the database.
+     */
+    public static void toSql(Path source, Path target) throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+        convert(source, target, StorageMode.SQL, new DataCompression());
+    }
+
+    /**
+     * Moves the data at {@code filePath} into the files that the storage of {@code storageMode} reads, if it is held
+     * in the files of another storage mode, so that changing the storage mode never leaves the latest data behind.
+     * Files are saved with {@code compression}.
+     * A data file in the json or binary format is read in either format, and is split into shards or taken as the
+     * snapshot of a journal by those storages themselves, so it is only moved into a database.
+     *
+     * @return true if the data was moved.
+     * @throws DataConversionException if the data is not in the correct format.
+     * @throws IOException if there was an error reading or writing the data.
+     */
+    public static boolean moveToStorageMode(Path filePath, StorageMode storageMode, DataCompression compression)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, storageMode, compression);
+        StorageMode heldIn = getStorageModeHeldIn(filePath);
+        if (heldIn == StorageMode.JSON && !Files.exists(filePath)) {
+            // there is no data yet
+            return false;
+        }
+        boolean isReadWhereHeld = heldIn == storageMode
+                || heldIn == StorageMode.JSON && storageMode != StorageMode.SQL;
+        if (isReadWhereHeld) {
+            return false;
+        }
+
+        convert(filePath, filePath, storageMode, compression);
+        return true;
+    }
+
+    /**
+     * Returns the storage mode whose files hold the latest data at {@code filePath}, which is {@code JSON} if the
+     * data is held in the data file, in either format.
+     */
+    private static StorageMode getStorageModeHeldIn(Path filePath) {
+        if (Files.exists(SqlNurseyBookStorage.getDatabaseFilePath(filePath))) {
+            return StorageMode.SQL;
+        } else if (ShardedNurseyBookStorage.isSharded(filePath)) {
+            return StorageMode.SHARDED;
+        } else if (Files.exists(JournalNurseyBookStorage.getJournalFilePath(filePath))) {
+            return StorageMode.JOURNAL;
+        } else {
+            return StorageMode.JSON;
+        }
+    }
+
+    /**
+     * Writes the nursey book in {@code source} to {@code target} with the storage of {@code storageMode}, and
+     * deletes the files that held the data of {@code source} if it was converted in place.
+     */
+    private static void convert(Path source, Path target, StorageMode storageMode, DataCompression compression)
+            throws DataConversionException, IOException {
+        StorageMode heldIn = getStorageModeHeldIn(source);
+        write(read(source, heldIn), target, storageMode, compression);
+
+        boolean isInPlace = source.toAbsolutePath().normalize().equals(target.toAbsolutePath().normalize());
+        if (!isInPlace || heldIn == storageMode) {
+            return;
+        }
+        switch (heldIn) {
+        case SQL:
+            Files.deleteIfExists(SqlNurseyBookStorage.getDatabaseFilePath(source));
+            break;
+        case SHARDED:
+            ShardedNurseyBookStorage.deleteShards(source);
+            break;
+        case JOURNAL:
+            Files.deleteIfExists(JournalNurseyBookStorage.getJournalFilePath(source));
+            break;
+        default:
+            // the data file is read by the storage of every mode until it is replaced
+        }
+    }
+
+    private static ReadOnlyNurseyBook read(Path source, StorageMode heldIn)
+            throws DataConversionException, IOException {
+        switch (heldIn) {
+        case SQL:
+            SqlNurseyBookStorage sqlStorage = new SqlNurseyBookStorage(source);
+            try {
+                return sqlStorage.readNurseyBook().orElseThrow(() -> new NoSuchFileException(source.toString()));
+            } finally {
+                sqlStorage.compactNurseyBook();
+            }
+        case SHARDED:
+            ShardedNurseyBookStorage shardedStorage = new ShardedNurseyBookStorage(source);
+            NurseyBook nurseyBook = new NurseyBook(shardedStorage.readNurseyBook()
+                    .orElseThrow(() -> new NoSuchFileException(source.toString())));
+            // the shards of past months are left on disk until asked for
+            shardedStorage.readPastTasks().forEach(nurseyBook::addTask);
+            return nurseyBook;
+        case JOURNAL:
+            return new JournalNurseyBookStorage(source).readNurseyBook()
+                    .orElseThrow(() -> new NoSuchFileException(source.toString()));
+        default:
+            return new JsonNurseyBookStorage(source).readNurseyBook()
+                    .orElseThrow(() -> new NoSuchFileException(source.toString()));
+        }
+    }
+
+    private static void write(ReadOnlyNurseyBook nurseyBook, Path target, StorageMode storageMode,
+                              DataCompression compression) throws IOException {
+        switch (storageMode) {
+        case BINARY:
+            new BinaryNurseyBookStorage(target, progress -> {}, compression).saveNurseyBook(nurseyBook);
+            break;
+        case SQL:
+            SqlNurseyBookStorage sqlStorage = new SqlNurseyBookStorage(target);
+            try {
+                sqlStorage.saveNurseyBook(nurseyBook);
+            } finally {
+                sqlStorage.compactNurseyBook();
+            }
+            break;
+        case SHARDED:
+            new ShardedNurseyBookStorage(target, progress -> {}, compression).saveNurseyBook(nurseyBook);
+            break;
+        default:
+            // a journal starts from a snapshot, which is a json data file
+            new JsonNurseyBookStorage(target, progress -> {}, compression).saveNurseyBook(nurseyBook);
+        }
+    }
+}
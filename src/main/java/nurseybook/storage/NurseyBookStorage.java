@@ -2,11 +2,13 @@ package nurseybook.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import nurseybook.commons.exceptions.DataConversionException;
 import nurseybook.model.NurseyBook;
 import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.task.Task;
 
 /**
  * Represents a storage for {@link NurseyBook}.
@@ -43,4 +45,18 @@ public interface NurseyBookStorage {
      */
     void saveNurseyBook(ReadOnlyNurseyBook nurseyBook, Path filePath) throws IOException;
 
+    /**
+     * Rewrites the saved data into its most compact form, e.g. before the app exits.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactNurseyBook() throws IOException;
+
+    /**
+     * Returns the past tasks that were left out of the nursey book when it was read, and that have not been
+     * returned before. Their related elderlies are those of the nursey book last read or saved.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<Task> readPastTasks() throws DataConversionException, IOException;
+
 }
@@ -0,0 +1,537 @@
+package nurseybook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.DoubleConsumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import nurseybook.commons.core.AppClock;
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.core.LogsCenter;
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.commons.util.JsonUtil;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.person.Name;
+import nurseybook.model.task.Task;
+
+/**
+ * A class to access NurseyBook data stored in a directory on the hard disk, as an elderly file and shard files that
+ * split the tasks by the month of their date.
+ * Only the shards of the current and later months, and the shard of recurring tasks, are read with the nursey book.
+ * The shards of earlier months are left on disk until {@link #readPastTasks()} is called, so the past tasks that
+ * build up over the years are neither read at startup nor written again by saves that do not change them.
+ *
+ * The files are stored in the directory next to the data file path with {@value #SHARD_DIRECTORY_SUFFIX} appended to
+ * its name, and the data file itself is never written, so that it is never mistaken for the whole nursey book by the
+ * other storages. The elderlies are stored in {@value #ELDERLY_FILE_NAME}, as a json nursey book without tasks. The
+ * shards are stored as one json file per month that is named after the month, such as {@code 2021-10.json}, and
+ * {@code recurring.json} for recurring tasks, whose dates keep moving. The directory also holds a manifest with the
+ * largest id of any saved task, which is reserved when the data is read so that new tasks are never given the id of
+ * a task in a shard that was left on disk.
+ *
+ * Tasks refer to their related elderlies by id, so shards left on disk stay correct when an elderly is renamed.
+ * Elderlies that were deleted after a shard was written are left out of its tasks when it is read.
+ *
+ * A save only writes the shards whose tasks changed. Shards that gain tasks are written before shards that lose
+ * tasks, so a save that is interrupted part way may leave a task that moved in both shards, but never in neither.
+ * Until the directory has an elderly file, the data file is read as a json or binary nursey book instead, and it is
+ * split into shards the first time it is saved. The elderly file is written last, so the data is only read from the
+ * shards once they are all written. {@link NurseyBookFileConverter} turns the shards back into a single data file.
+ */
+public class ShardedNurseyBookStorage implements NurseyBookStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String ELDERLY_FILE_NAME = "elderlies.json";
+    public static final String RECURRING_SHARD_NAME = "recurring";
+    public static final String SHARD_FILE_EXTENSION = ".json";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedNurseyBookStorage.class);
+
+    private final Path filePath;
+    private final DataCompression compression;
+    private final JsonNurseyBookStorage dataFileStorage;
+
+    // the elderlies saved in the elderly file, or null if the next save has to rewrite every file
+    private List<Elderly> savedElderlies = null;
+    // the tasks in memory that were last saved to each shard, which are all of its tasks unless it is a past shard
+    private final Map<String, Map<Long, Task>> savedShards = new HashMap<>();
+    // the shards of filePath with tasks that are left on disk
+    private final Set<String> pastShards = new HashSet<>();
+    private long savedMaxTaskId = 0;
+
+    public ShardedNurseyBookStorage(Path filePath) {
+        this(filePath, progress -> {});
+    }
+
+    /**
+     * Creates a {@code ShardedNurseyBookStorage} that reports the progress of reading a large data file that is not
+     * split into shards yet, as the fraction of the file read so far, to {@code readProgressListener}.
+     */
+    public ShardedNurseyBookStorage(Path filePath, DoubleConsumer readProgressListener) {
+        this(filePath, readProgressListener, new DataCompression());
+    }
+
+    /**
+     * Creates a {@code ShardedNurseyBookStorage} that reports the progress of reading a large data file that is not
+     * split into shards yet to {@code readProgressListener}, and that compresses the files it saves with
+     * {@code compression}.
+     */
+    public ShardedNurseyBookStorage(Path filePath, DoubleConsumer readProgressListener,
+                                    DataCompression compression) {
+        requireNonNull(filePath);
+        requireNonNull(compression);
+        this.filePath = filePath;
+        this.compression = compression;
+        this.dataFileStorage = new JsonNurseyBookStorage(filePath, readProgressListener, compression);
+    }
+
+    public Path getNurseyBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyNurseyBook> readNurseyBook() throws DataConversionException {
+        return readNurseyBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readNurseyBook()}.
+     * The shards of past months are only left on disk when reading {@link #getNurseyBookFilePath()}, as no later
+     * saves keep track of the shards of other file paths.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the data is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyNurseyBook> readNurseyBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        boolean isPastLeftOnDisk = filePath.equals(this.filePath);
+        if (isPastLeftOnDisk) {
+            forgetSavedData();
+        }
+
+        if (!isSharded(filePath)) {
+            // a data file that is not split into shards yet holds every task
+            return dataFileStorage.readNurseyBook(filePath);
+        }
+
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        Optional<ReadOnlyNurseyBook> elderlyFileContents = dataFileStorage.readNurseyBook(
+                shardDirectory.resolve(ELDERLY_FILE_NAME));
+        if (!elderlyFileContents.isPresent()) {
+            return elderlyFileContents;
+        }
+
+        try {
+            NurseyBook nurseyBook = new NurseyBook();
+            nurseyBook.setElderlies(elderlyFileContents.get().getElderlyList());
+            Map<Long, Elderly> elderliesById = getElderliesById(nurseyBook.getElderlyList());
+            long maxTaskId = readManifest(shardDirectory).getMaxTaskId();
+            Task.reserveId(maxTaskId);
+
+            Map<String, Map<Long, Task>> shards = new HashMap<>();
+            Set<String> pastShardNames = new HashSet<>();
+            Set<Long> taskIdsRead = new HashSet<>();
+            for (String shardName : listShardNames(shardDirectory)) {
+                if (isPastLeftOnDisk && isPastShard(shardName)) {
+                    pastShardNames.add(shardName);
+                    continue;
+                }
+                Map<Long, Task> tasks = readShard(getShardFilePath(shardDirectory, shardName), elderliesById);
+                shards.put(shardName, tasks);
+                for (Task task : tasks.values()) {
+                    // a task that moved in a save that was interrupted may be in two shards
+                    if (taskIdsRead.add(task.getId()) && !nurseyBook.hasTask(task)) {
+                        nurseyBook.addTask(task);
+                    }
+                }
+            }
+
+            if (isPastLeftOnDisk) {
+                savedElderlies = new ArrayList<>(nurseyBook.getElderlyList());
+                savedShards.putAll(shards);
+                pastShards.addAll(pastShardNames);
+                savedMaxTaskId = maxTaskId;
+                logger.info("Left " + pastShardNames.size() + " shards of past tasks in " + shardDirectory);
+            }
+            return Optional.of(nurseyBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from shards in " + shardDirectory + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardDirectory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the shards of past months that were left on disk when {@link #getNurseyBookFilePath()} was read, and
+     * returns their tasks that are not in memory yet. The shards are then kept track of like the other shards.
+     *
+     * @throws DataConversionException if the data is not in the correct format.
+     */
+    @Override
+    public synchronized List<Task> readPastTasks() throws DataConversionException {
+        if (pastShards.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        Map<Long, Elderly> elderliesById = getElderliesById(savedElderlies);
+        Map<String, Map<Long, Task>> shards = new HashMap<>();
+        try {
+            for (String shardName : new TreeSet<>(pastShards)) {
+                shards.put(shardName, readShard(getShardFilePath(shardDirectory, shardName), elderliesById));
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from shards in " + shardDirectory + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardDirectory + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        // tasks that were saved from memory, including those saved to past shards, are in memory already
+        Set<Long> taskIdsInMemory = new HashSet<>();
+        savedShards.values().forEach(tasks -> taskIdsInMemory.addAll(tasks.keySet()));
+        List<Task> pastTasks = new ArrayList<>();
+        for (String shardName : new TreeSet<>(shards.keySet())) {
+            Map<Long, Task> tasks = shards.get(shardName);
+            tasks.values().stream().filter(task -> taskIdsInMemory.add(task.getId())).forEach(pastTasks::add);
+            savedShards.put(shardName, tasks);
+        }
+        pastShards.clear();
+        logger.info("Read " + pastTasks.size() + " past tasks from " + shardDirectory);
+        return pastTasks;
+    }
+
+    @Override
+    public void saveNurseyBook(ReadOnlyNurseyBook nurseyBook) throws IOException {
+        saveNurseyBook(nurseyBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveNurseyBook(ReadOnlyNurseyBook)}.
+     * Every file is written when saving to another file path, or when the data at {@link #getNurseyBookFilePath()}
+     * was not read or saved before.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveNurseyBook(ReadOnlyNurseyBook nurseyBook, Path filePath) throws IOException {
+        requireNonNull(nurseyBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeNurseyBook(nurseyBook, filePath);
+        } else if (savedElderlies == null) {
+            forgetSavedData();
+            writeNurseyBook(nurseyBook, filePath);
+            savedElderlies = new ArrayList<>(nurseyBook.getElderlyList());
+            savedShards.putAll(groupIntoShards(nurseyBook.getRealTaskList()));
+            savedMaxTaskId = getMaxTaskId(nurseyBook.getRealTaskList(), 0);
+        } else {
+            writeChanges(nurseyBook);
+        }
+    }
+
+    @Override
+    public void compactNurseyBook() {
+        // the files only ever hold the latest data
+    }
+
+    /**
+     * Returns the path of the directory that holds the shards of the data at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the data at {@code filePath} is split into shards, in which case the shards hold the data
+     * rather than the data file.
+     */
+    public static boolean isSharded(Path filePath) {
+        return Files.exists(getShardDirectoryPath(filePath).resolve(ELDERLY_FILE_NAME));
+    }
+
+    /**
+     * Deletes the shards of the data at {@code filePath}, after which the data is read from the data file again.
+     * The elderly file is deleted first, so that the data is never read from shards that are partly deleted.
+     */
+    public static void deleteShards(Path filePath) throws IOException {
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        Files.deleteIfExists(shardDirectory.resolve(ELDERLY_FILE_NAME));
+        if (!Files.isDirectory(shardDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(shardDirectory);
+    }
+
+    /**
+     * Returns the name of the shard that {@code task} is stored in.
+     */
+    static String getShardName(Task task) {
+        return task.isTaskRecurring()
+                ? RECURRING_SHARD_NAME
+                : YearMonth.from(task.getDateTime().getDate()).toString();
+    }
+
+    private void forgetSavedData() {
+        savedElderlies = null;
+        savedShards.clear();
+        pastShards.clear();
+        savedMaxTaskId = 0;
+    }
+
+    /**
+     * Writes every file of {@code nurseyBook} to the shard directory of {@code filePath}, and deletes the other shards
+     * in the directory.
+     */
+    private void writeNurseyBook(ReadOnlyNurseyBook nurseyBook, Path filePath) throws IOException {
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        Map<Name, Long> elderlyIds = getElderlyIds(nurseyBook.getElderlyList());
+        Set<String> staleShardNames = new HashSet<>();
+        if (Files.isDirectory(shardDirectory)) {
+            staleShardNames.addAll(listShardNames(shardDirectory));
+        }
+
+        writeManifest(shardDirectory, getMaxTaskId(nurseyBook.getRealTaskList(), 0));
+        for (Map.Entry<String, Map<Long, Task>> shard : groupIntoShards(nurseyBook.getRealTaskList()).entrySet()) {
+            writeShard(getShardFilePath(shardDirectory, shard.getKey()),
+                    toAdaptedTasks(shard.getValue().values(), elderlyIds));
+            staleShardNames.remove(shard.getKey());
+        }
+        for (String shardName : staleShardNames) {
+            Files.deleteIfExists(getShardFilePath(shardDirectory, shardName));
+        }
+        // written last, so that the data is read from the data file until every shard is written
+        writeElderlies(nurseyBook.getElderlyList(), shardDirectory);
+    }
+
+    /**
+     * Writes the files of {@link #getNurseyBookFilePath()} that changed since the data was last read or saved.
+     */
+    private void writeChanges(ReadOnlyNurseyBook nurseyBook) throws IOException {
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        if (!JsonAdaptedJournalEntry.isSameList(savedElderlies, nurseyBook.getElderlyList(), Elderly::getId)) {
+            // written first, so that the shards never refer to elderlies that are not saved yet
+            writeElderlies(nurseyBook.getElderlyList(), shardDirectory);
+            savedElderlies = new ArrayList<>(nurseyBook.getElderlyList());
+        }
+
+        long maxTaskId = getMaxTaskId(nurseyBook.getRealTaskList(), savedMaxTaskId);
+        if (maxTaskId > savedMaxTaskId) {
+            writeManifest(shardDirectory, maxTaskId);
+            savedMaxTaskId = maxTaskId;
+        }
+
+        Map<String, Map<Long, Task>> shards = groupIntoShards(nurseyBook.getRealTaskList());
+        Set<String> shardNames = new HashSet<>(shards.keySet());
+        shardNames.addAll(savedShards.keySet());
+        List<String> changedShardNames = shardNames.stream()
+                .filter(shardName -> !getTasks(shards, shardName).equals(getTasks(savedShards, shardName)))
+                .sorted(Comparator.comparing(shardName -> !getTasks(savedShards, shardName).keySet()
+                        .containsAll(getTasks(shards, shardName).keySet())))
+                .collect(Collectors.toList());
+
+        Map<Name, Long> elderlyIds = getElderlyIds(nurseyBook.getElderlyList());
+        for (String shardName : changedShardNames) {
+            writeChangedShard(shardDirectory, shardName, getTasks(shards, shardName), elderlyIds);
+        }
+    }
+
+    /**
+     * Writes {@code tasks} to the shard named {@code shardName}, or deletes the shard if it has no tasks left.
+     * The tasks of a past shard that are left on disk are kept.
+     */
+    private void writeChangedShard(Path shardDirectory, String shardName, Map<Long, Task> tasks,
+                                   Map<Name, Long> elderlyIds) throws IOException {
+        Path shardFile = getShardFilePath(shardDirectory, shardName);
+        List<JsonAdaptedTask> adaptedTasks = new ArrayList<>();
+        if (pastShards.contains(shardName)) {
+            Set<Long> savedTaskIds = getTasks(savedShards, shardName).keySet();
+            for (JsonAdaptedTask adaptedTask : readShardFile(shardFile).getTasks()) {
+                if (!adaptedTask.hasId()
+                        || !savedTaskIds.contains(adaptedTask.getId()) && !tasks.containsKey(adaptedTask.getId())) {
+                    adaptedTasks.add(adaptedTask);
+                }
+            }
+        }
+        adaptedTasks.addAll(toAdaptedTasks(tasks.values(), elderlyIds));
+
+        if (adaptedTasks.isEmpty()) {
+            Files.deleteIfExists(shardFile);
+            pastShards.remove(shardName);
+        } else {
+            writeShard(shardFile, adaptedTasks);
+        }
+        if (tasks.isEmpty()) {
+            savedShards.remove(shardName);
+        } else {
+            savedShards.put(shardName, tasks);
+        }
+    }
+
+    private void writeElderlies(List<Elderly> elderlies, Path shardDirectory) throws IOException {
+        List<JsonAdaptedElderly> adaptedElderlies = elderlies.stream()
+                .map(JsonAdaptedElderly::new)
+                .collect(Collectors.toList());
+        JsonUtil.saveJsonFile(new JsonSerializableNurseyBook(adaptedElderlies, Collections.emptyList()),
+                shardDirectory.resolve(ELDERLY_FILE_NAME), compression);
+    }
+
+    private void writeManifest(Path shardDirectory, long maxTaskId) throws IOException {
+        JsonUtil.saveJsonFile(new JsonAdaptedShardManifest(maxTaskId), shardDirectory.resolve(MANIFEST_FILE_NAME),
+                compression);
+    }
+
+    private void writeShard(Path shardFile, List<JsonAdaptedTask> adaptedTasks) throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableNurseyBook(Collections.emptyList(), adaptedTasks), shardFile,
+                compression);
+    }
+
+    private static JsonAdaptedShardManifest readManifest(Path shardDirectory) throws IOException {
+        Path manifestFile = shardDirectory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestFile)) {
+            return new JsonAdaptedShardManifest(0);
+        }
+        return readCompressedJsonFile(manifestFile, JsonAdaptedShardManifest.class);
+    }
+
+    /**
+     * Reads the tasks of the shard at {@code shardFile}, keyed by their ids in the order they are stored.
+     * The related elderlies of tasks stored with their ids are looked up in {@code elderliesById}, and those of tasks
+     * stored with only their names, by their names.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the tasks, or if a task stored
+     *     with only the names of its related elderlies has a name of none of {@code elderliesById}.
+     */
+    private static Map<Long, Task> readShard(Path shardFile, Map<Long, Elderly> elderliesById)
+            throws IOException, IllegalValueException {
+        Set<Name> elderlyNames = new HashSet<>();
+        elderliesById.values().forEach(elderly -> elderlyNames.add(elderly.getName()));
+        Map<Long, Task> tasks = new LinkedHashMap<>();
+        for (JsonAdaptedTask adaptedTask : readShardFile(shardFile).getTasks()) {
+            Task task = adaptedTask.toModelTypeWithoutDeletedElderlies(elderliesById);
+            if (!adaptedTask.hasRelatedIds()) {
+                JsonNurseyBookStorage.checkTaskNames(task, elderlyNames);
+            }
+            tasks.put(task.getId(), task);
+        }
+        return tasks;
+    }
+
+    private static JsonSerializableNurseyBook readShardFile(Path shardFile) throws IOException {
+        return readCompressedJsonFile(shardFile, JsonSerializableNurseyBook.class);
+    }
+
+    private static <T> T readCompressedJsonFile(Path file, Class<T> type) throws IOException {
+        try (InputStream in = DataCompression.decompress(Files.newInputStream(file));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            return parser.readValueAs(type);
+        }
+    }
+
+    /**
+     * Returns the names of the shards in {@code shardDirectory}, in order.
+     */
+    private static List<String> listShardNames(Path shardDirectory) throws IOException {
+        List<String> shardNames = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String shardName = fileName.substring(0, fileName.length() - SHARD_FILE_EXTENSION.length());
+                if (isShardName(shardName)) {
+                    shardNames.add(shardName);
+                }
+            }
+        }
+        Collections.sort(shardNames);
+        return shardNames;
+    }
+
+    private static boolean isShardName(String name) {
+        if (name.equals(RECURRING_SHARD_NAME)) {
+            return true;
+        }
+        try {
+            YearMonth.parse(name);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static boolean isPastShard(String shardName) {
+        return !shardName.equals(RECURRING_SHARD_NAME)
+                && YearMonth.parse(shardName).isBefore(YearMonth.from(AppClock.today()));
+    }
+
+    private static Path getShardFilePath(Path shardDirectory, String shardName) {
+        return shardDirectory.resolve(shardName + SHARD_FILE_EXTENSION);
+    }
+
+    private static Map<String, Map<Long, Task>> groupIntoShards(List<Task> tasks) {
+        Map<String, Map<Long, Task>> shards = new HashMap<>();
+        for (Task task : tasks) {
+            shards.computeIfAbsent(getShardName(task), shardName -> new LinkedHashMap<>()).put(task.getId(), task);
+        }
+        return shards;
+    }
+
+    private static Map<Long, Task> getTasks(Map<String, Map<Long, Task>> shards, String shardName) {
+        return shards.getOrDefault(shardName, Collections.emptyMap());
+    }
+
+    private static List<JsonAdaptedTask> toAdaptedTasks(Collection<Task> tasks, Map<Name, Long> elderlyIds) {
+        return tasks.stream()
+                .map(task -> new JsonAdaptedTask(task, elderlyIds))
+                .collect(Collectors.toList());
+    }
+
+    private static long getMaxTaskId(List<Task> tasks, long savedMaxTaskId) {
+        return Math.max(savedMaxTaskId, tasks.stream().mapToLong(Task::getId).max().orElse(0));
+    }
+
+    private static Map<Long, Elderly> getElderliesById(List<Elderly> elderlies) {
+        Map<Long, Elderly> elderliesById = new HashMap<>();
+        elderlies.forEach(elderly -> elderliesById.put(elderly.getId(), elderly));
+        return elderliesById;
+    }
+
+    private static Map<Name, Long> getElderlyIds(List<Elderly> elderlies) {
+        Map<Name, Long> elderlyIds = new HashMap<>();
+        elderlies.forEach(elderly -> elderlyIds.put(elderly.getName(), elderly.getId()));
+        return elderlyIds;
+    }
+}
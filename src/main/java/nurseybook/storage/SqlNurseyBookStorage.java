@@ -0,0 +1,543 @@
+package nurseybook.storage;
+
+import static java.util.Objects.requireNonNull;
+import static nurseybook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import nurseybook.commons.core.LogsCenter;
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.person.Name;
+import nurseybook.model.person.Nok;
+import nurseybook.model.tag.Tag;
+import nurseybook.model.task.Task;
+
+/**
+ * A class to access NurseyBook data stored in an embedded SQL database on the hard disk.
+ * The elderlies, their next-of-kins, their tags, the tasks and the names related to the tasks are each stored in a
+ * table. Saving writes only the rows of the elderlies and tasks changed since the previous save, in one transaction,
+ * so a save takes time in proportion to the change rather than to the whole nursey book.
+ *
+ * The database is stored next to {@link #getNurseyBookFilePath()}, with {@value #DATABASE_FILE_SUFFIX} appended to
+ * its file name. While there is no database, the data file itself is read as json or in the binary format, so an
+ * existing data file is moved into the database the first time it is saved.
+ */
+public class SqlNurseyBookStorage implements NurseyBookStorage {
+
+    public static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlNurseyBookStorage.class);
+
+    private static final String[] CREATE_TABLES = {
+        "CREATE TABLE IF NOT EXISTS elderly (id BIGINT PRIMARY KEY, list_position INT NOT NULL,"
+                + " name VARCHAR NOT NULL, age INT NOT NULL, gender VARCHAR NOT NULL, room_number VARCHAR NOT NULL,"
+                + " remark VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS nok (elderly_id BIGINT PRIMARY KEY REFERENCES elderly (id),"
+                + " name VARCHAR NOT NULL, relationship VARCHAR NOT NULL, phone VARCHAR NOT NULL,"
+                + " email VARCHAR NOT NULL, address VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS elderly_tag (elderly_id BIGINT NOT NULL REFERENCES elderly (id),"
+                + " tag VARCHAR NOT NULL, PRIMARY KEY (elderly_id, tag))",
+        "CREATE TABLE IF NOT EXISTS task (id BIGINT PRIMARY KEY, list_position INT NOT NULL,"
+                + " description VARCHAR NOT NULL, task_date VARCHAR NOT NULL, task_time VARCHAR NOT NULL,"
+                + " done BOOLEAN NOT NULL, overdue BOOLEAN NOT NULL, recurrence VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS task_name (task_id BIGINT NOT NULL REFERENCES task (id),"
+                + " name VARCHAR NOT NULL, PRIMARY KEY (task_id, name))"
+    };
+    // children before parents, so that no row is left referring to a deleted row
+    private static final String[] DELETE_ALL = {
+        "DELETE FROM task_name", "DELETE FROM task", "DELETE FROM elderly_tag", "DELETE FROM nok", "DELETE FROM elderly"
+    };
+
+    private static final String SELECT_ELDERLIES = "SELECT e.id, e.name, e.age, e.gender, e.room_number, n.name,"
+            + " n.relationship, n.phone, n.email, n.address, e.remark"
+            + " FROM elderly e LEFT JOIN nok n ON n.elderly_id = e.id ORDER BY e.list_position";
+    private static final String SELECT_ELDERLY_TAGS = "SELECT elderly_id, tag FROM elderly_tag";
+    private static final String INSERT_ELDERLY = "INSERT INTO elderly"
+            + " (list_position, name, age, gender, room_number, remark, id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_ELDERLY = "UPDATE elderly SET list_position = ?, name = ?, age = ?,"
+            + " gender = ?, room_number = ?, remark = ? WHERE id = ?";
+    private static final String SHIFT_ELDERLIES = "UPDATE elderly SET list_position = list_position + ?"
+            + " WHERE list_position >= ?";
+    private static final String DELETE_ELDERLY = "DELETE FROM elderly WHERE id = ?";
+    private static final String INSERT_NOK = "INSERT INTO nok"
+            + " (name, relationship, phone, email, address, elderly_id) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_NOK = "UPDATE nok SET name = ?, relationship = ?, phone = ?, email = ?,"
+            + " address = ? WHERE elderly_id = ?";
+    private static final String DELETE_NOK = "DELETE FROM nok WHERE elderly_id = ?";
+    private static final String INSERT_ELDERLY_TAG = "INSERT INTO elderly_tag (elderly_id, tag) VALUES (?, ?)";
+    private static final String DELETE_ELDERLY_TAGS = "DELETE FROM elderly_tag WHERE elderly_id = ?";
+
+    private static final String SELECT_TASKS = "SELECT id, description, task_date, task_time, done, overdue,"
+            + " recurrence FROM task ORDER BY list_position";
+    private static final String SELECT_TASK_NAMES = "SELECT task_id, name FROM task_name";
+    private static final String INSERT_TASK = "INSERT INTO task (list_position, description, task_date, task_time,"
+            + " done, overdue, recurrence, id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_TASK = "UPDATE task SET list_position = ?, description = ?, task_date = ?,"
+            + " task_time = ?, done = ?, overdue = ?, recurrence = ? WHERE id = ?";
+    private static final String SHIFT_TASKS = "UPDATE task SET list_position = list_position + ?"
+            + " WHERE list_position >= ?";
+    private static final String DELETE_TASK = "DELETE FROM task WHERE id = ?";
+    private static final String INSERT_TASK_NAME = "INSERT INTO task_name (task_id, name) VALUES (?, ?)";
+    private static final String DELETE_TASK_NAMES = "DELETE FROM task_name WHERE task_id = ?";
+
+    private final Path filePath;
+    private final JsonNurseyBookStorage fallbackStorage;
+
+    // the open connection to the database of filePath, or null if it has not been opened
+    private Connection connection = null;
+    // the data saved at filePath, or null if the next save has to rewrite every row
+    private List<Elderly> savedElderlies = null;
+    private List<Task> savedTasks = null;
+
+    /**
+     * Creates a {@code SqlNurseyBookStorage} with its database next to {@code filePath}.
+     */
+    public SqlNurseyBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.fallbackStorage = new JsonNurseyBookStorage(filePath);
+    }
+
+    public Path getNurseyBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the database of the data file at {@code filePath}.
+     */
+    public static Path getDatabaseFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + DATABASE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyNurseyBook> readNurseyBook() throws DataConversionException, IOException {
+        return readNurseyBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readNurseyBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the data is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyNurseyBook> readNurseyBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (!Files.exists(getDatabaseFilePath(filePath))) {
+            logger.info("Database file " + getDatabaseFilePath(filePath) + " not found, reading " + filePath);
+            if (isOwnFile) {
+                forgetSaved();
+            }
+            return fallbackStorage.readNurseyBook(filePath);
+        }
+
+        NurseyBook nurseyBook;
+        try {
+            nurseyBook = isOwnFile ? readTables(getConnection()) : readTables(filePath);
+        } catch (SQLException sqle) {
+            logger.warning("Error reading from database of " + filePath + ": " + sqle);
+            throw new IOException(sqle);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in database of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (isOwnFile) {
+            rememberSaved(nurseyBook);
+        }
+        return Optional.of(nurseyBook);
+    }
+
+    @Override
+    public void saveNurseyBook(ReadOnlyNurseyBook nurseyBook) throws IOException {
+        saveNurseyBook(nurseyBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveNurseyBook(ReadOnlyNurseyBook)}.
+     * Saving to a file path other than {@link #getNurseyBookFilePath()} always rewrites every row.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveNurseyBook(ReadOnlyNurseyBook nurseyBook, Path filePath) throws IOException {
+        requireAllNonNull(nurseyBook, filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            try (Connection otherConnection = openConnection(filePath)) {
+                writeTables(otherConnection, null, null, nurseyBook);
+            } catch (SQLException sqle) {
+                throw new IOException(sqle);
+            }
+            return;
+        }
+
+        try {
+            writeTables(getConnection(), savedElderlies, savedTasks, nurseyBook);
+        } catch (SQLException sqle) {
+            logger.warning("Error writing to database of " + filePath + ": " + sqle);
+            // the saved data is no longer known, so the next save rewrites every row
+            forgetSaved();
+            throw new IOException(sqle);
+        }
+        rememberSaved(nurseyBook);
+    }
+
+    /**
+     * Closes the database, which compacts its file. It is opened again by the next read or save.
+     */
+    @Override
+    public synchronized void compactNurseyBook() throws IOException {
+        if (connection == null) {
+            return;
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException sqle) {
+            throw new IOException(sqle);
+        } finally {
+            connection = null;
+        }
+    }
+
+    @Override
+    public List<Task> readPastTasks() {
+        // every task is read with the nursey book
+        return Collections.emptyList();
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection == null) {
+            connection = openConnection(filePath);
+        }
+        return connection;
+    }
+
+    /**
+     * Opens the database of the data file at {@code filePath}, creating the database and its tables if needed.
+     * Changes made through the returned connection have to be committed.
+     */
+    private static Connection openConnection(Path filePath) throws SQLException {
+        String databasePath = filePath.toAbsolutePath().toString();
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + databasePath);
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : CREATE_TABLES) {
+                statement.executeUpdate(sql);
+            }
+            connection.setAutoCommit(false);
+        } catch (SQLException sqle) {
+            connection.close();
+            throw sqle;
+        }
+        return connection;
+    }
+
+    private static NurseyBook readTables(Path filePath) throws SQLException, IllegalValueException {
+        try (Connection otherConnection = openConnection(filePath)) {
+            return readTables(otherConnection);
+        }
+    }
+
+    private static NurseyBook readTables(Connection connection) throws SQLException, IllegalValueException {
+        List<JsonAdaptedElderly> elderlies = new ArrayList<>();
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            Map<Long, List<JsonAdaptedTag>> tagsByElderlyId = new HashMap<>();
+            try (ResultSet rows = statement.executeQuery(SELECT_ELDERLY_TAGS)) {
+                while (rows.next()) {
+                    tagsByElderlyId.computeIfAbsent(rows.getLong(1), id -> new ArrayList<>())
+                            .add(new JsonAdaptedTag(rows.getString(2)));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery(SELECT_ELDERLIES)) {
+                while (rows.next()) {
+                    long id = rows.getLong(1);
+                    elderlies.add(new JsonAdaptedElderly(id, rows.getString(2), Integer.toString(rows.getInt(3)),
+                            rows.getString(4), rows.getString(5), rows.getString(6), rows.getString(7),
+                            rows.getString(8), rows.getString(9), rows.getString(10), rows.getString(11),
+                            tagsByElderlyId.getOrDefault(id, Collections.emptyList())));
+                }
+            }
+
+            Map<Long, List<String>> namesByTaskId = new HashMap<>();
+            try (ResultSet rows = statement.executeQuery(SELECT_TASK_NAMES)) {
+                while (rows.next()) {
+                    namesByTaskId.computeIfAbsent(rows.getLong(1), id -> new ArrayList<>()).add(rows.getString(2));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery(SELECT_TASKS)) {
+                while (rows.next()) {
+                    long id = rows.getLong(1);
+                    List<String> status = Arrays.asList(Boolean.toString(rows.getBoolean(5)),
+                            Boolean.toString(rows.getBoolean(6)));
+                    tasks.add(new JsonAdaptedTask(id, namesByTaskId.getOrDefault(id, Collections.emptyList()), null,
+                            rows.getString(2), rows.getString(3), rows.getString(4), status, rows.getString(7)));
+                }
+            }
+        } finally {
+            connection.rollback();
+        }
+
+        NurseyBookAssembler assembler = new NurseyBookAssembler();
+        assembler.addElderlies(elderlies);
+        assembler.addTasks(tasks);
+        return assembler.getNurseyBook();
+    }
+
+    /**
+     * Writes the rows that differ between {@code savedElderlies} and {@code savedTasks}, the data in the database,
+     * and {@code nurseyBook} in one transaction. Every row is rewritten if the data in the database is null.
+     */
+    private static void writeTables(Connection connection, List<Elderly> savedElderlies, List<Task> savedTasks,
+                                    ReadOnlyNurseyBook nurseyBook) throws SQLException {
+        try {
+            if (savedElderlies == null || savedTasks == null) {
+                try (Statement statement = connection.createStatement()) {
+                    for (String sql : DELETE_ALL) {
+                        statement.executeUpdate(sql);
+                    }
+                }
+                savedElderlies = Collections.emptyList();
+                savedTasks = Collections.emptyList();
+            }
+
+            Change<Elderly> elderlyChange = new Change<>(savedElderlies, nurseyBook.getElderlyList(), Elderly::getId);
+            Change<Task> taskChange = new Change<>(savedTasks, nurseyBook.getRealTaskList(), Task::getId);
+            writeElderlyChange(connection, elderlyChange);
+            writeTaskChange(connection, taskChange);
+            connection.commit();
+        } catch (SQLException sqle) {
+            connection.rollback();
+            throw sqle;
+        }
+    }
+
+    private static void writeElderlyChange(Connection connection, Change<Elderly> change) throws SQLException {
+        List<Long> replacedIds = new ArrayList<>(change.deletedIds);
+        change.updated.forEach(elderly -> replacedIds.add(elderly.getId()));
+        executeBatch(connection, DELETE_ELDERLY_TAGS, replacedIds, (statement, id) -> {
+            statement.setLong(1, id);
+            statement.addBatch();
+        });
+        executeRowBatch(connection, DELETE_NOK, change.deletedIds, (statement, id) -> {
+            statement.setLong(1, id);
+            statement.addBatch();
+        });
+        executeRowBatch(connection, DELETE_ELDERLY, change.deletedIds, (statement, id) -> {
+            statement.setLong(1, id);
+            statement.addBatch();
+        });
+        change.shiftFollowingRows(connection, SHIFT_ELDERLIES);
+
+        BatchAdder<Elderly> elderlyAdder = (statement, elderly) -> {
+            statement.setInt(1, change.getPosition(elderly));
+            statement.setString(2, elderly.getName().fullName);
+            statement.setInt(3, elderly.getAge().value);
+            statement.setString(4, elderly.getGender().value);
+            statement.setString(5, elderly.getRoomNumber().value);
+            statement.setString(6, elderly.getRemark().value);
+            statement.setLong(7, elderly.getId());
+            statement.addBatch();
+        };
+        BatchAdder<Elderly> nokAdder = (statement, elderly) -> {
+            Nok nok = elderly.getNok();
+            statement.setString(1, nok.getName().fullName);
+            statement.setString(2, nok.getRelationship().value);
+            statement.setString(3, nok.getPhone().value);
+            statement.setString(4, nok.getEmail().value);
+            statement.setString(5, nok.getAddress().value);
+            statement.setLong(6, elderly.getId());
+            statement.addBatch();
+        };
+        BatchAdder<Elderly> tagAdder = (statement, elderly) -> {
+            for (Tag tag : elderly.getTags()) {
+                statement.setLong(1, elderly.getId());
+                statement.setString(2, tag.tagName);
+                statement.addBatch();
+            }
+        };
+        executeRowBatch(connection, UPDATE_ELDERLY, change.updated, elderlyAdder);
+        executeRowBatch(connection, UPDATE_NOK, change.updated, nokAdder);
+        executeBatch(connection, INSERT_ELDERLY, change.inserted, elderlyAdder);
+        executeBatch(connection, INSERT_NOK, change.inserted, nokAdder);
+        executeBatch(connection, INSERT_ELDERLY_TAG, change.updated, tagAdder);
+        executeBatch(connection, INSERT_ELDERLY_TAG, change.inserted, tagAdder);
+    }
+
+    private static void writeTaskChange(Connection connection, Change<Task> change) throws SQLException {
+        List<Long> replacedIds = new ArrayList<>(change.deletedIds);
+        change.updated.forEach(task -> replacedIds.add(task.getId()));
+        executeBatch(connection, DELETE_TASK_NAMES, replacedIds, (statement, id) -> {
+            statement.setLong(1, id);
+            statement.addBatch();
+        });
+        executeRowBatch(connection, DELETE_TASK, change.deletedIds, (statement, id) -> {
+            statement.setLong(1, id);
+            statement.addBatch();
+        });
+        change.shiftFollowingRows(connection, SHIFT_TASKS);
+
+        BatchAdder<Task> taskAdder = (statement, task) -> {
+            statement.setInt(1, change.getPosition(task));
+            statement.setString(2, task.getDesc().value);
+            statement.setString(3, task.getDateTime().getStringDate());
+            statement.setString(4, task.getDateTime().getStringTime());
+            statement.setBoolean(5, task.getStatus().isDone);
+            statement.setBoolean(6, task.getStatus().isOverdue);
+            statement.setString(7, task.getRecurrence().toString());
+            statement.setLong(8, task.getId());
+            statement.addBatch();
+        };
+        BatchAdder<Task> nameAdder = (statement, task) -> {
+            for (Name name : task.getRelatedNames()) {
+                statement.setLong(1, task.getId());
+                statement.setString(2, name.fullName);
+                statement.addBatch();
+            }
+        };
+        executeRowBatch(connection, UPDATE_TASK, change.updated, taskAdder);
+        executeBatch(connection, INSERT_TASK, change.inserted, taskAdder);
+        executeBatch(connection, INSERT_TASK_NAME, change.updated, nameAdder);
+        executeBatch(connection, INSERT_TASK_NAME, change.inserted, nameAdder);
+    }
+
+    /**
+     * Prepares {@code sql}, adds the batches for {@code rows} with {@code batchAdder} and executes them.
+     *
+     * @return the number of rows changed by each batch.
+     */
+    private static <T> int[] executeBatch(Connection connection, String sql, List<T> rows, BatchAdder<T> batchAdder)
+            throws SQLException {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (T row : rows) {
+                batchAdder.addBatches(statement, row);
+            }
+            return statement.executeBatch();
+        }
+    }
+
+    /**
+     * Similar to {@link #executeBatch}, for a {@code sql} that updates or deletes the row of each of {@code rows},
+     * which must be in the database as they were last saved.
+     *
+     * @throws SQLException if a batch changed no row, as the database was then changed by something else since the
+     *     last save, and the saved data is no longer known.
+     */
+    private static <T> void executeRowBatch(Connection connection, String sql, List<T> rows,
+                                            BatchAdder<T> batchAdder) throws SQLException {
+        int[] updateCounts = executeBatch(connection, sql, rows, batchAdder);
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                throw new SQLException("No row changed by \"" + sql + "\" for " + rows.get(i));
+            }
+        }
+    }
+
+    private void rememberSaved(ReadOnlyNurseyBook nurseyBook) {
+        savedElderlies = new ArrayList<>(nurseyBook.getElderlyList());
+        savedTasks = new ArrayList<>(nurseyBook.getRealTaskList());
+    }
+
+    private void forgetSaved() {
+        savedElderlies = null;
+        savedTasks = null;
+    }
+
+    /**
+     * Sets the parameters of a prepared statement for a row, and adds them to its batch.
+     */
+    @FunctionalInterface
+    private interface BatchAdder<T> {
+        void addBatches(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    /**
+     * The rows to delete, update and insert to change a table from a list to another list.
+     * Like {@link JsonAdaptedJournalEntry}, only the rows between the first and last difference are changed, and the
+     * positions of the rows after them are shifted.
+     */
+    private static class Change<T> {
+        private final List<Long> deletedIds = new ArrayList<>();
+        private final List<T> updated = new ArrayList<>();
+        private final List<T> inserted = new ArrayList<>();
+        private final Map<T, Integer> positions = new IdentityHashMap<>();
+        private final int shift;
+        private final int shiftFrom;
+
+        Change(List<T> before, List<T> after, ToLongFunction<T> getId) {
+            int index = JsonAdaptedJournalEntry.getCommonPrefixLength(before, after, getId);
+            int suffixLength = JsonAdaptedJournalEntry.getCommonSuffixLength(before, after, index, getId);
+            List<T> removed = before.subList(index, before.size() - suffixLength);
+            List<T> added = after.subList(index, after.size() - suffixLength);
+
+            Set<Long> removedIds = new HashSet<>();
+            removed.forEach(row -> removedIds.add(getId.applyAsLong(row)));
+            Set<Long> addedIds = new HashSet<>();
+            for (int i = 0; i < added.size(); i++) {
+                T row = added.get(i);
+                long id = getId.applyAsLong(row);
+                addedIds.add(id);
+                positions.put(row, index + i);
+                if (removedIds.contains(id)) {
+                    updated.add(row);
+                } else {
+                    inserted.add(row);
+                }
+            }
+            removedIds.stream().filter(id -> !addedIds.contains(id)).forEach(deletedIds::add);
+
+            shift = added.size() - removed.size();
+            shiftFrom = index + removed.size();
+        }
+
+        int getPosition(T row) {
+            return positions.get(row);
+        }
+
+        /**
+         * Shifts the positions of the rows after the changed ones with {@code shiftSql}, if their positions change.
+         */
+        void shiftFollowingRows(Connection connection, String shiftSql) throws SQLException {
+            if (shift == 0) {
+                return;
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(shiftSql)) {
+                statement.setInt(1, shift);
+                statement.setInt(2, shiftFrom);
+                statement.executeUpdate();
+            }
+        }
+    }
+}
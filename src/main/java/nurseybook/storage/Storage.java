@@ -2,17 +2,19 @@ package nurseybook.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import nurseybook.commons.exceptions.DataConversionException;
 import nurseybook.model.ReadOnlyNurseyBook;
 import nurseybook.model.ReadOnlyUserPrefs;
 import nurseybook.model.UserPrefs;
+import nurseybook.model.task.Task;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends NurseyBookStorage, UserPrefsStorage {
+public interface Storage extends NurseyBookStorage, UserPrefsStorage, TaskArchiveStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -29,4 +31,37 @@ public interface Storage extends NurseyBookStorage, UserPrefsStorage {
     @Override
     void saveNurseyBook(ReadOnlyNurseyBook nurseyBook) throws IOException;
 
+    /**
+     * Saves a copy of {@code nurseyBook} to {@link #getNurseyBookFilePath()} in the background.
+     * Saves made in quick succession may be combined into a single write of the latest data.
+     *
+     * @param nurseyBook cannot be null.
+     * @throws IOException if an earlier background save failed.
+     */
+    void saveNurseyBookInBackground(ReadOnlyNurseyBook nurseyBook) throws IOException;
+
+    /**
+     * Reports a background save that has failed since the last time a failure was reported.
+     *
+     * @throws IOException if such a save exists.
+     */
+    void reportBackgroundSaveFailure() throws IOException;
+
+    /**
+     * Waits for every save made by {@link #saveNurseyBookInBackground(ReadOnlyNurseyBook)} to be written.
+     *
+     * @throws IOException if a background save failed.
+     */
+    void flushNurseyBook() throws IOException;
+
+    /**
+     * Returns the past tasks that were left out of the nursey book when it was read, once every save made in the
+     * background is written, so that the tasks are read against the latest saved data.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage, or if a background save failed.
+     */
+    @Override
+    List<Task> readPastTasks() throws DataConversionException, IOException;
+
 }
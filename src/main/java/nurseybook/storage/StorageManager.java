@@ -2,31 +2,64 @@ package nurseybook.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import nurseybook.commons.core.LogsCenter;
 import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.model.NurseyBook;
 import nurseybook.model.ReadOnlyNurseyBook;
 import nurseybook.model.ReadOnlyUserPrefs;
 import nurseybook.model.UserPrefs;
+import nurseybook.model.task.Task;
 
 /**
  * Manages storage of NurseyBook data in local storage.
  */
 public class StorageManager implements Storage {
 
+    /** Longest time that data saved in the background may go unwritten, in milliseconds. */
+    public static final long DEFAULT_BACKGROUND_SAVE_DELAY_MILLIS = 500;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private NurseyBookStorage nurseyBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundNurseyBookSaver backgroundSaver;
+    private TaskArchiveStorage taskArchiveStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code NurseyBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(NurseyBookStorage nurseyBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(nurseyBookStorage, userPrefsStorage, DEFAULT_BACKGROUND_SAVE_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code NurseyBookStorage} and {@code UserPrefStorage}
+     * that writes data saved in the background no later than {@code backgroundSaveDelayMillis} after it is saved.
+     * Tasks are archived to a {@link JsonTaskArchiveStorage} next to the data file.
+     */
+    public StorageManager(NurseyBookStorage nurseyBookStorage, UserPrefsStorage userPrefsStorage,
+                          long backgroundSaveDelayMillis) {
+        this(nurseyBookStorage, userPrefsStorage, new JsonTaskArchiveStorage(
+                JsonTaskArchiveStorage.getTaskArchiveFilePath(nurseyBookStorage.getNurseyBookFilePath())),
+                backgroundSaveDelayMillis);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code NurseyBookStorage}, {@code UserPrefStorage} and
+     * {@code TaskArchiveStorage} that writes data saved in the background no later than
+     * {@code backgroundSaveDelayMillis} after it is saved.
+     */
+    public StorageManager(NurseyBookStorage nurseyBookStorage, UserPrefsStorage userPrefsStorage,
+                          TaskArchiveStorage taskArchiveStorage, long backgroundSaveDelayMillis) {
         super();
         this.nurseyBookStorage = nurseyBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.taskArchiveStorage = taskArchiveStorage;
+        this.backgroundSaver = new BackgroundNurseyBookSaver(nurseyBookStorage, backgroundSaveDelayMillis);
     }
 
     // ================ UserPrefs methods ==============================
@@ -76,4 +109,67 @@ public class StorageManager implements Storage {
         nurseyBookStorage.saveNurseyBook(nurseyBook, filePath);
     }
 
+    @Override
+    public void compactNurseyBook() throws IOException {
+        logger.fine("Attempting to compact data file: " + nurseyBookStorage.getNurseyBookFilePath());
+        nurseyBookStorage.compactNurseyBook();
+    }
+
+    @Override
+    public List<Task> readPastTasks() throws DataConversionException, IOException {
+        // a save still waiting in the background would otherwise overwrite the past tasks it does not have
+        backgroundSaver.flush();
+        logger.fine("Attempting to read past tasks of data file: " + nurseyBookStorage.getNurseyBookFilePath());
+        return nurseyBookStorage.readPastTasks();
+    }
+
+    @Override
+    public void saveNurseyBookInBackground(ReadOnlyNurseyBook nurseyBook) throws IOException {
+        logger.fine("Scheduling write to data file: " + nurseyBookStorage.getNurseyBookFilePath());
+        // the copy is written on another thread, so later changes to nurseyBook do not affect it
+        backgroundSaver.submit(new NurseyBook(nurseyBook));
+    }
+
+    @Override
+    public void reportBackgroundSaveFailure() throws IOException {
+        backgroundSaver.reportSaveFailure();
+    }
+
+    @Override
+    public void flushNurseyBook() throws IOException {
+        backgroundSaver.flush();
+    }
+
+    // ================ TaskArchive methods ==============================
+
+    @Override
+    public Path getTaskArchiveFilePath() {
+        return taskArchiveStorage.getTaskArchiveFilePath();
+    }
+
+    @Override
+    public void reserveArchivedTaskIds() throws IOException {
+        logger.fine("Attempting to read archived task ids from file: " + getTaskArchiveFilePath());
+        taskArchiveStorage.reserveArchivedTaskIds();
+    }
+
+    @Override
+    public void archiveTasks(List<Task> tasks) throws IOException {
+        logger.fine("Attempting to archive " + tasks.size() + " tasks to file: " + getTaskArchiveFilePath());
+        taskArchiveStorage.archiveTasks(tasks);
+    }
+
+    @Override
+    public List<Task> findArchivedTasksWithKeywords(List<String> keywords)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read archived tasks with keywords from file: " + getTaskArchiveFilePath());
+        return taskArchiveStorage.findArchivedTasksWithKeywords(keywords);
+    }
+
+    @Override
+    public List<Task> findArchivedTasksOnDate(LocalDate date) throws DataConversionException, IOException {
+        logger.fine("Attempting to read archived tasks on " + date + " from file: " + getTaskArchiveFilePath());
+        return taskArchiveStorage.findArchivedTasksOnDate(date);
+    }
+
 }
@@ -0,0 +1,137 @@
+package nurseybook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.commons.util.JsonUtil;
+import nurseybook.model.NurseyBook;
+
+/**
+ * Reads a {@code NurseyBook} from a json file, which may be compressed, one elderly or task at a time.
+ * Elderlies and tasks are converted into the model in batches as they are parsed, so the adapted objects of the
+ * whole file are never in memory at the same time, and the progress of the read can be reported along the way.
+ */
+class StreamingJsonNurseyBookReader {
+
+    /** Files smaller than this are read too quickly for their progress to be worth reporting. */
+    public static final long MIN_FILE_SIZE_FOR_PROGRESS = 1024 * 1024;
+
+    private static final double PROGRESS_STEP = 0.01;
+
+    /** Elderlies and tasks are converted in batches of this size, so that each batch can be converted in parallel. */
+    private static final int BATCH_SIZE = 4096;
+
+    private final DoubleConsumer progressListener;
+
+    /**
+     * Creates a {@code StreamingJsonNurseyBookReader} that reports the fraction of a file read so far, from 0 to 1,
+     * to {@code progressListener}.
+     */
+    StreamingJsonNurseyBookReader(DoubleConsumer progressListener) {
+        requireNonNull(progressListener);
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Reads the nursey book in the json file at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public NurseyBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        long fileSize = Files.size(filePath);
+        boolean isProgressReported = fileSize >= MIN_FILE_SIZE_FOR_PROGRESS;
+
+        try (FileChannel channel = FileChannel.open(filePath);
+                InputStream fileIn = new BufferedInputStream(Channels.newInputStream(channel));
+                InputStream in = DataCompression.decompress(fileIn);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            boolean isCompressed = in != fileIn;
+            NurseyBookAssembler assembler = new NurseyBookAssembler();
+            // tasks can only be converted after the elderlies they refer to, so any tasks before them must wait
+            List<JsonAdaptedTask> tasksBeforeElderlies = new ArrayList<>();
+            List<JsonAdaptedElderly> elderliesBatch = new ArrayList<>();
+            List<JsonAdaptedTask> tasksBatch = new ArrayList<>();
+            boolean haveElderliesBeenRead = false;
+            double reportedProgress = 0;
+
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                boolean isNurseyBookList = fieldName.equals("elderlies") || fieldName.equals("tasks");
+                if (!isNurseyBookList || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (fieldName.equals("elderlies")) {
+                        elderliesBatch.add(parser.readValueAs(JsonAdaptedElderly.class));
+                    } else if (haveElderliesBeenRead) {
+                        tasksBatch.add(parser.readValueAs(JsonAdaptedTask.class));
+                    } else {
+                        tasksBeforeElderlies.add(parser.readValueAs(JsonAdaptedTask.class));
+                    }
+                    if (elderliesBatch.size() + tasksBatch.size() >= BATCH_SIZE) {
+                        addBatches(assembler, elderliesBatch, tasksBatch);
+                    }
+
+                    // the json of a compressed file is longer than the file, so the file read so far is used
+                    long bytesRead = isCompressed ? channel.position() : parser.getCurrentLocation().getByteOffset();
+                    double progress = (double) bytesRead / fileSize;
+                    if (isProgressReported && progress - reportedProgress >= PROGRESS_STEP && progress < 1) {
+                        progressListener.accept(progress);
+                        reportedProgress = progress;
+                    }
+                }
+                addBatches(assembler, elderliesBatch, tasksBatch);
+                haveElderliesBeenRead |= fieldName.equals("elderlies");
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+            assembler.addTasks(tasksBeforeElderlies);
+            if (isProgressReported) {
+                progressListener.accept(1);
+            }
+            return assembler.getNurseyBook();
+        }
+    }
+
+    /**
+     * Converts and adds the elderlies and tasks in {@code elderliesBatch} and {@code tasksBatch} to
+     * {@code assembler}, and empties the batches.
+     */
+    private static void addBatches(NurseyBookAssembler assembler, List<JsonAdaptedElderly> elderliesBatch,
+                                   List<JsonAdaptedTask> tasksBatch) throws IllegalValueException {
+        assembler.addElderlies(elderliesBatch);
+        elderliesBatch.clear();
+        assembler.addTasks(tasksBatch);
+        tasksBatch.clear();
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
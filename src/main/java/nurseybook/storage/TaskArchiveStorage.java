@@ -0,0 +1,34 @@
+package nurseybook.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.model.TaskArchive;
+import nurseybook.model.task.Task;
+
+/**
+ * Represents a storage for the tasks that were moved out of the nursey book into a {@link TaskArchive}.
+ */
+public interface TaskArchiveStorage extends TaskArchive {
+
+    /**
+     * Returns the file path of the task archive.
+     */
+    Path getTaskArchiveFilePath();
+
+    @Override
+    void reserveArchivedTaskIds() throws IOException;
+
+    @Override
+    void archiveTasks(List<Task> tasks) throws IOException;
+
+    @Override
+    List<Task> findArchivedTasksWithKeywords(List<String> keywords) throws DataConversionException, IOException;
+
+    @Override
+    List<Task> findArchivedTasksOnDate(LocalDate date) throws DataConversionException, IOException;
+
+}
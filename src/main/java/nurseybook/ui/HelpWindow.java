@@ -16,6 +16,7 @@ import nurseybook.commons.core.LogsCenter;
 import nurseybook.logic.commands.AddCommand;
 import nurseybook.logic.commands.AddTagCommand;
 import nurseybook.logic.commands.AddTaskCommand;
+import nurseybook.logic.commands.ArchiveCommand;
 import nurseybook.logic.commands.ClearCommand;
 import nurseybook.logic.commands.DeleteCommand;
 import nurseybook.logic.commands.DeleteNokCommand;
@@ -26,6 +27,7 @@ import nurseybook.logic.commands.EditCommand;
 import nurseybook.logic.commands.EditTaskCommand;
 import nurseybook.logic.commands.ExitCommand;
 import nurseybook.logic.commands.FilterCommand;
+import nurseybook.logic.commands.FindArchivedCommand;
 import nurseybook.logic.commands.FindElderlyCommand;
 import nurseybook.logic.commands.FindTaskCommand;
 import nurseybook.logic.commands.HelpCommand;
@@ -33,6 +35,7 @@ import nurseybook.logic.commands.RedoCommand;
 import nurseybook.logic.commands.RemarkCommand;
 import nurseybook.logic.commands.RemindCommand;
 import nurseybook.logic.commands.UndoCommand;
+import nurseybook.logic.commands.ViewArchivedScheduleCommand;
 import nurseybook.logic.commands.ViewDetailsCommand;
 import nurseybook.logic.commands.ViewElderlyCommand;
 import nurseybook.logic.commands.ViewScheduleCommand;
@@ -202,6 +205,10 @@ public class HelpWindow extends UiPart<Stage> {
             params.setText(String.join(DELIMITER, FindTaskCommand.PARAMETERS));
             break;
 
+        case FindArchivedCommand.COMMAND_WORD:
+            params.setText(String.join(DELIMITER, FindArchivedCommand.PARAMETERS));
+            break;
+
         case RemarkCommand.COMMAND_WORD:
             params.setText(String.join(DELIMITER, RemarkCommand.PARAMETERS));
             break;
@@ -226,8 +233,14 @@ public class HelpWindow extends UiPart<Stage> {
             params.setText(String.join(DELIMITER, ViewScheduleCommand.PARAMETERS));
             break;
 
+        case ViewArchivedScheduleCommand.COMMAND_WORD:
+            params.setText(String.join(DELIMITER, ViewArchivedScheduleCommand.PARAMETERS));
+            break;
+
         case RemindCommand.COMMAND_WORD:
 
+        case ArchiveCommand.COMMAND_WORD:
+
         case ViewTasksCommand.COMMAND_WORD:
 
         case ViewElderlyCommand.COMMAND_WORD:
@@ -283,9 +296,13 @@ public class HelpWindow extends UiPart<Stage> {
         TreeItem<String> findTaskLeaf = new TreeItem<>(FindTaskCommand.COMMAND_WORD);
         TreeItem<String> remindLeaf = new TreeItem<>(RemindCommand.COMMAND_WORD);
         TreeItem<String> viewScheduleLeaf = new TreeItem<>(ViewScheduleCommand.COMMAND_WORD);
+        TreeItem<String> archiveLeaf = new TreeItem<>(ArchiveCommand.COMMAND_WORD);
+        TreeItem<String> findArchivedLeaf = new TreeItem<>(FindArchivedCommand.COMMAND_WORD);
+        TreeItem<String> viewArchivedScheduleLeaf = new TreeItem<>(ViewArchivedScheduleCommand.COMMAND_WORD);
 
         taskNode.getChildren().addAll(Arrays.asList(viewTaskLeaf, addTaskLeaf, deleteTaskLeaf, doneTaskLeaf,
-                editTaskLeaf, findTaskLeaf, remindLeaf, viewScheduleLeaf));
+                editTaskLeaf, findTaskLeaf, remindLeaf, viewScheduleLeaf, archiveLeaf, findArchivedLeaf,
+                viewArchivedScheduleLeaf));
     }
 
     /**
@@ -0,0 +1,55 @@
+package nurseybook.ui;
+
+import javafx.application.Preloader;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+/**
+ * A window that shows the progress of loading the data file while the app starts up.
+ * The window is only shown once progress is reported, which only happens for large data files.
+ */
+public class LoadingPreloader extends Preloader {
+
+    private static final String TITLE = "NurseyBook";
+    private static final String LOADING_MESSAGE = "Loading data...";
+    private static final double PROGRESS_BAR_WIDTH = 300;
+    private static final double SPACING = 10;
+
+    private Stage stage;
+    private ProgressBar progressBar;
+
+    @Override
+    public void start(Stage primaryStage) {
+        stage = primaryStage;
+        progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(PROGRESS_BAR_WIDTH);
+
+        VBox root = new VBox(SPACING, new Label(LOADING_MESSAGE), progressBar);
+        root.setPadding(new Insets(SPACING * 2));
+        stage.setTitle(TITLE);
+        stage.setScene(new Scene(root));
+    }
+
+    @Override
+    public void handleApplicationNotification(PreloaderNotification info) {
+        if (!(info instanceof ProgressNotification)) {
+            return;
+        }
+
+        progressBar.setProgress(((ProgressNotification) info).getProgress());
+        if (!stage.isShowing()) {
+            stage.show();
+        }
+    }
+
+    @Override
+    public void handleStateChangeNotification(StateChangeNotification info) {
+        if (info.getType() == StateChangeNotification.Type.BEFORE_START) {
+            stage.hide();
+        }
+    }
+}
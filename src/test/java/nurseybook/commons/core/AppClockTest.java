@@ -0,0 +1,50 @@
+package nurseybook.commons.core;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+public class AppClockTest {
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2021-10-31T10:15:30Z");
+
+    @Test
+    public void setClock_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AppClock.setClock(null));
+    }
+
+    @Test
+    public void now_fixedClock_returnsClockTime() {
+        try {
+            AppClock.setClock(Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC));
+            assertEquals(LocalDateTime.of(2021, 10, 31, 10, 15, 30), AppClock.now());
+            assertEquals(LocalDate.of(2021, 10, 31), AppClock.today());
+        } finally {
+            AppClock.setClock(Clock.systemDefaultZone());
+        }
+    }
+
+    @Test
+    public void freeze_clockMovesOn_returnsFrozenTime() {
+        try {
+            AppClock.setClock(Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC));
+            AppClock.freeze();
+            AppClock.setClock(Clock.fixed(FIXED_INSTANT.plus(Duration.ofDays(1)), ZoneOffset.UTC));
+            assertEquals(LocalDateTime.of(2021, 10, 31, 10, 15, 30), AppClock.now());
+
+            AppClock.unfreeze();
+            assertEquals(LocalDateTime.of(2021, 11, 1, 10, 15, 30), AppClock.now());
+        } finally {
+            AppClock.unfreeze();
+            AppClock.setClock(Clock.systemDefaultZone());
+        }
+    }
+}
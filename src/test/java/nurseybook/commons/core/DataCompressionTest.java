@@ -0,0 +1,82 @@
+package nurseybook.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import nurseybook.commons.core.DataCompression.Format;
+
+public class DataCompressionTest {
+
+    private static final byte[] DATA = "{ \"elderlies\" : [ ] }".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void compressDecompress_allFormats_sameData() throws Exception {
+        for (Format format : Format.values()) {
+            byte[] compressed = compress(new DataCompression(format, DataCompression.DEFAULT_LEVEL), DATA);
+            assertEquals(format, DataCompression.detectFormat(new ByteArrayInputStream(compressed)));
+            assertEquals(new String(DATA, StandardCharsets.UTF_8),
+                    new String(decompress(compressed), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void compress_compressedFormats_smaller() throws Exception {
+        assertEquals(DATA.length, compress(new DataCompression(), DATA).length);
+        assertTrue(compress(new DataCompression(Format.GZIP, 9), DATA).length < DATA.length);
+        assertTrue(compress(new DataCompression(Format.DEFLATE, 9), DATA).length < DATA.length);
+    }
+
+    @Test
+    public void detectFormat_uncompressedData_none() throws Exception {
+        assertEquals(Format.NONE, DataCompression.detectFormat(new ByteArrayInputStream(new byte[0])));
+        assertEquals(Format.NONE, DataCompression.detectFormat(new ByteArrayInputStream(new byte[] {0x1f})));
+        assertEquals(Format.NONE, DataCompression.detectFormat(new ByteArrayInputStream(DATA)));
+        assertEquals(Format.NONE, DataCompression.detectFormat(new ByteArrayInputStream(
+                "NBKB".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void getLevel_invalidLevel_defaultLevel() {
+        assertEquals(0, new DataCompression(Format.GZIP, 0).getLevel());
+        assertEquals(9, new DataCompression(Format.GZIP, 9).getLevel());
+        assertEquals(DataCompression.DEFAULT_LEVEL, new DataCompression(Format.GZIP, 10).getLevel());
+        assertEquals(DataCompression.DEFAULT_LEVEL, new DataCompression(Format.GZIP, -1).getLevel());
+    }
+
+    @Test
+    public void equals() {
+        DataCompression gzip = new DataCompression(Format.GZIP, 6);
+
+        assertTrue(gzip.equals(new DataCompression(Format.GZIP, 6)));
+        assertTrue(gzip.equals(gzip));
+        assertFalse(gzip.equals(null));
+        assertFalse(gzip.equals(new DataCompression(Format.DEFLATE, 6)));
+        assertFalse(gzip.equals(new DataCompression(Format.GZIP, 9)));
+        assertTrue(new DataCompression().equals(new DataCompression(Format.NONE, DataCompression.DEFAULT_LEVEL)));
+    }
+
+    private static byte[] compress(DataCompression compression, byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream compressedOut = compression.compress(out)) {
+            compressedOut.write(data);
+            DataCompression.finish(compressedOut);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] data) throws IOException {
+        try (InputStream in = DataCompression.decompress(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+}
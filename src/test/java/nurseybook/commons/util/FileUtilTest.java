@@ -1,13 +1,28 @@
 package nurseybook.commons.util;
 
 import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.commons.core.DataCompression;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +35,57 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void createTempFileNextTo_missingDirectory_createdInSameDirectory() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.json");
+        Path tempFile = FileUtil.createTempFileNextTo(file);
+        assertTrue(FileUtil.isFileExists(tempFile));
+        assertEquals(file.getParent(), tempFile.getParent());
+        assertFalse(FileUtil.isFileExists(file));
+    }
+
+    @Test
+    public void moveAtomically_existingTarget_replaced() throws Exception {
+        Path source = testFolder.resolve("source.json");
+        Path target = testFolder.resolve("target.json");
+        FileUtil.writeToFile(source, "new");
+        FileUtil.writeToFile(target, "old");
+
+        FileUtil.moveAtomically(source, target);
+        assertFalse(Files.exists(source));
+        assertEquals("new", FileUtil.readFromFile(target));
+    }
+
+    @Test
+    public void writeAtomically_compressed_readBackDecompressed() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        String content = "compressible ".repeat(1000);
+        FileUtil.writeAtomically(file, new DataCompression(DataCompression.Format.GZIP, 9), out ->
+                out.write(content.getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(Files.size(file) < content.length());
+        try (InputStream in = DataCompression.decompress(Files.newInputStream(file))) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeAt_contentAfterPosition_replaced() throws Exception {
+        Path file = testFolder.resolve("file");
+        Files.write(file, "abcdef".getBytes(StandardCharsets.UTF_8));
+        FileUtil.writeAt(file, 2, ByteBuffer.wrap("X".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("abX", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void mapReadOnly_fileShorterThanSize_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("file");
+        Files.write(file, "abc".getBytes(StandardCharsets.UTF_8));
+        assertEquals('c', FileUtil.mapReadOnly(file, 3).get(2, 1).get());
+        assertThrows(IOException.class, () -> FileUtil.mapReadOnly(file, 4));
+    }
+
 }
@@ -3,9 +3,12 @@ package nurseybook.commons.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import nurseybook.testutil.SerializableTestClass;
 import nurseybook.testutil.TestUtil;
@@ -17,6 +20,9 @@ public class JsonUtilTest {
 
     private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
@@ -27,6 +33,21 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_existingFile_replacedWithoutLeavingTempFiles() throws IOException {
+        Path jsonFile = testFolder.resolve("folder").resolve("serialize.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(jsonFile, serializableTestClass);
+        JsonUtil.serializeObjectToJsonFile(jsonFile, serializableTestClass);
+
+        assertEquals(FileUtil.readFromFile(jsonFile), SerializableTestClass.JSON_STRING_REPRESENTATION);
+        try (Stream<Path> files = Files.list(jsonFile.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -0,0 +1,50 @@
+package nurseybook.commons.util;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getLong_valueSpansWindows_valueRead() throws Exception {
+        Path file = testFolder.resolve("file");
+        Files.write(file, ByteBuffer.allocate(24).putInt(7).putLong(0x0102030405060708L).putLong(-1).array());
+
+        MappedFile mappedFile = new MappedFile(file, 20, 8);
+        assertEquals(7, mappedFile.getInt(0));
+        assertEquals(0x0102030405060708L, mappedFile.getLong(4));
+        assertEquals(0x05060708ffffffffL, mappedFile.getLong(8));
+    }
+
+    @Test
+    public void get_bytesSpanSeveralWindows_bytesCopied() throws Exception {
+        Path file = testFolder.resolve("file");
+        Files.write(file, "abcdefghij".getBytes(StandardCharsets.UTF_8));
+
+        MappedFile mappedFile = new MappedFile(file, 10, 3);
+        assertEquals("bcdefgh", StandardCharsets.UTF_8.decode(mappedFile.get(1, 7)).toString());
+        assertEquals("de", StandardCharsets.UTF_8.decode(mappedFile.get(3, 2)).toString());
+        assertEquals("j", StandardCharsets.UTF_8.decode(mappedFile.get(9, 1)).toString());
+    }
+
+    @Test
+    public void get_bytesAfterSize_throwsIndexOutOfBoundsException() throws Exception {
+        Path file = testFolder.resolve("file");
+        Files.write(file, "abcdef".getBytes(StandardCharsets.UTF_8));
+
+        MappedFile mappedFile = new MappedFile(file, 5, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> mappedFile.get(4, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> mappedFile.getInt(2));
+    }
+}
@@ -75,13 +75,8 @@ public class LogicManagerTest {
 
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonNurseyBookIoExceptionThrowingStub
-        JsonNurseyBookStorage nurseyBookStorage =
-                new JsonNurseyBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionNurseyBook.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(nurseyBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        // Setup LogicManager with StorageManagerIoExceptionThrowingStub
+        logic = new LogicManager(model, new StorageManagerIoExceptionThrowingStub(temporaryFolder));
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + AGE_DESC_AMY + GENDER_DESC_AMY
@@ -96,6 +91,49 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_storageThrowsIoExceptionForEarlierSave_throwsCommandException() {
+        logic = new LogicManager(model, new StorageManagerIoExceptionThrowingStub(temporaryFolder));
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+
+        // failure is reported even though nothing changed
+        assertCommandFailure(ViewElderlyCommand.COMMAND_WORD, CommandException.class, expectedMessage, model);
+        assertCommandFailure(ViewElderlyCommand.COMMAND_WORD, CommandException.class, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_commandsWithoutChanges_savesOnlyWhenChanged() throws Exception {
+        JsonNurseyBookSaveCountingStub nurseyBookStorage =
+                new JsonNurseyBookSaveCountingStub(temporaryFolder.resolve("saveCountingNurseyBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("saveCountingUserPrefs.json"));
+        StorageManager storage = new StorageManager(nurseyBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        // first command is always saved
+        logic.execute(ViewElderlyCommand.COMMAND_WORD);
+        storage.flushNurseyBook();
+        assertEquals(1, nurseyBookStorage.saveCount);
+
+        // nothing changed -> not saved again
+        logic.execute(ViewElderlyCommand.COMMAND_WORD);
+        storage.flushNurseyBook();
+        assertEquals(1, nurseyBookStorage.saveCount);
+
+        // nursey book changed -> saved
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + AGE_DESC_AMY + GENDER_DESC_AMY
+                + ROOM_NUMBER_DESC_AMY + NOK_NAME_DESC_AMY + NOK_RELATIONSHIP_DESC_AMY + NOK_PHONE_DESC_AMY
+                + NOK_EMAIL_DESC_AMY + NOK_ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        storage.flushNurseyBook();
+        assertEquals(2, nurseyBookStorage.saveCount);
+
+        // failed command that changes nothing -> not saved
+        assertThrows(CommandException.class, () -> logic.execute(addCommand));
+        storage.flushNurseyBook();
+        assertEquals(2, nurseyBookStorage.saveCount);
+    }
+
     @Test
     public void getFilteredElderlyList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredElderlyList().remove(0));
@@ -156,16 +194,39 @@ public class LogicManagerTest {
     }
 
     /**
-     * A stub class to throw an {@code IOException} when the save method is called.
+     * A stub class to throw an {@code IOException} as if every background save had failed.
+     */
+    private static class StorageManagerIoExceptionThrowingStub extends StorageManager {
+        private StorageManagerIoExceptionThrowingStub(Path folder) {
+            super(new JsonNurseyBookStorage(folder.resolve("ioExceptionNurseyBook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("ioExceptionUserPrefs.json")));
+        }
+
+        @Override
+        public void saveNurseyBookInBackground(ReadOnlyNurseyBook nurseyBook) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+
+        @Override
+        public void reportBackgroundSaveFailure() throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+
+    /**
+     * A stub class that counts the number of times the nursey book is saved.
      */
-    private static class JsonNurseyBookIoExceptionThrowingStub extends JsonNurseyBookStorage {
-        private JsonNurseyBookIoExceptionThrowingStub(Path filePath) {
+    private static class JsonNurseyBookSaveCountingStub extends JsonNurseyBookStorage {
+        private int saveCount = 0;
+
+        private JsonNurseyBookSaveCountingStub(Path filePath) {
             super(filePath);
         }
 
         @Override
         public void saveNurseyBook(ReadOnlyNurseyBook nurseyBook, Path filePath) throws IOException {
-            throw DUMMY_IO_EXCEPTION;
+            saveCount++;
+            super.saveNurseyBook(nurseyBook, filePath);
         }
     }
 }
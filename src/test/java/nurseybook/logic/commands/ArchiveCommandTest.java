@@ -0,0 +1,62 @@
+package nurseybook.logic.commands;
+
+import static nurseybook.logic.commands.CommandResult.ListDisplayChange.TASK;
+import static nurseybook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static nurseybook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static nurseybook.model.Model.PREDICATE_SHOW_ALL_TASKS;
+import static nurseybook.testutil.TypicalTasks.FIONA_PHYSIO;
+import static nurseybook.testutil.TypicalTasks.getTypicalNurseyBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.model.Model;
+import nurseybook.model.ModelManager;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.UserPrefs;
+import nurseybook.storage.JsonTaskArchiveStorage;
+import nurseybook.testutil.TaskArchiveStub;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ArchiveCommand}.
+ */
+public class ArchiveCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalNurseyBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalNurseyBook(), new UserPrefs());
+
+    @Test
+    public void execute_archivableTasks_tasksArchived() throws Exception {
+        JsonTaskArchiveStorage taskArchive = new JsonTaskArchiveStorage(testFolder.resolve("archive"));
+        model.setTaskArchive(taskArchive);
+        String expectedMessage = String.format(ArchiveCommand.MESSAGE_SUCCESS, 1,
+                UserPrefs.DEFAULT_TASK_ARCHIVE_AGE_DAYS);
+
+        // archived tasks leave every state of the nursey book, not just the current one
+        NurseyBook expectedNurseyBook = getTypicalNurseyBook();
+        expectedNurseyBook.removeTask(FIONA_PHYSIO);
+        expectedModel = new ModelManager(expectedNurseyBook, new UserPrefs());
+        expectedModel.updateTasksAccordingToTime();
+        expectedModel.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+
+        assertCommandSuccess(new ArchiveCommand(), model, new CommandResult(expectedMessage, TASK), expectedModel);
+        assertEquals(Collections.singletonList(FIONA_PHYSIO),
+                taskArchive.findArchivedTasksOnDate(FIONA_PHYSIO.getDate()));
+    }
+
+    @Test
+    public void execute_archiveFails_throwsCommandException() {
+        IOException ioException = new IOException("Disk full");
+        model.setTaskArchive(new TaskArchiveStub(ioException));
+
+        assertCommandFailure(new ArchiveCommand(), model, ArchiveCommand.MESSAGE_ARCHIVE_FAILED + ioException);
+    }
+}
@@ -1,7 +1,13 @@
 package nurseybook.logic.commands;
 
+import static nurseybook.logic.commands.CommandTestUtil.assertCommandFailure;
 import static nurseybook.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static nurseybook.testutil.TypicalElderlies.getTypicalNurseyBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -9,6 +15,8 @@ import nurseybook.model.Model;
 import nurseybook.model.ModelManager;
 import nurseybook.model.NurseyBook;
 import nurseybook.model.UserPrefs;
+import nurseybook.model.task.Task;
+import nurseybook.testutil.TaskBuilder;
 
 public class ClearCommandTest {
 
@@ -31,4 +39,29 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_pastTasksLeftInStorage_pastTasksClearedAndRestoredOnUndo() throws Exception {
+        Task pastTask = new TaskBuilder().withDesc("Yoga in the park").withDateTime("2020-01-01", "10:00").build();
+        Model model = new ModelManager(getTypicalNurseyBook(), new UserPrefs());
+        model.setPastTaskLoader(() -> Collections.singletonList(pastTask));
+
+        new ClearCommand().execute(model);
+        assertTrue(model.getVersionedNurseyBook().getRealTaskList().isEmpty());
+
+        model.undoNurseyBook();
+        assertEquals(getTypicalNurseyBook().getRealTaskList().size() + 1,
+                model.getVersionedNurseyBook().getRealTaskList().size());
+    }
+
+    @Test
+    public void execute_pastTasksNotLoaded_throwsCommandException() {
+        IOException ioException = new IOException("Shard not found");
+        Model model = new ModelManager(getTypicalNurseyBook(), new UserPrefs());
+        model.setPastTaskLoader(() -> {
+            throw ioException;
+        });
+
+        assertCommandFailure(new ClearCommand(), model, FindTaskCommand.MESSAGE_PAST_TASKS_NOT_LOADED + ioException);
+    }
+
 }
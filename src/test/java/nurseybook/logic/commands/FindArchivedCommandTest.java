@@ -0,0 +1,94 @@
+package nurseybook.logic.commands;
+
+import static nurseybook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static nurseybook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static nurseybook.testutil.TypicalTasks.FIONA_PHYSIO;
+import static nurseybook.testutil.TypicalTasks.KG_SC_VACCINE;
+import static nurseybook.testutil.TypicalTasks.getTypicalNurseyBook;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.model.Model;
+import nurseybook.model.ModelManager;
+import nurseybook.model.UserPrefs;
+import nurseybook.model.task.DescriptionContainsKeywordPredicate;
+import nurseybook.model.task.Task;
+import nurseybook.storage.JsonTaskArchiveStorage;
+import nurseybook.testutil.TaskArchiveStub;
+import nurseybook.testutil.TaskBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindArchivedCommand}.
+ */
+public class FindArchivedCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalNurseyBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalNurseyBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        DescriptionContainsKeywordPredicate firstPredicate =
+                new DescriptionContainsKeywordPredicate(Collections.singletonList("first"));
+        DescriptionContainsKeywordPredicate secondPredicate =
+                new DescriptionContainsKeywordPredicate(Collections.singletonList("second"));
+
+        FindArchivedCommand findArchivedFirstCommand = new FindArchivedCommand(firstPredicate);
+        FindArchivedCommand findArchivedSecondCommand = new FindArchivedCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findArchivedFirstCommand.equals(findArchivedFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findArchivedFirstCommand.equals(new FindArchivedCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(findArchivedFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findArchivedFirstCommand.equals(null));
+
+        // different command -> returns false
+        assertFalse(findArchivedFirstCommand.equals(findArchivedSecondCommand));
+    }
+
+    @Test
+    public void execute_multipleKeywords_archivedTasksListed() throws Exception {
+        Task otherTask = new TaskBuilder().withDesc("Old paperwork").withDateTime("2020-01-01", "10:00").build();
+        JsonTaskArchiveStorage taskArchive = new JsonTaskArchiveStorage(testFolder.resolve("archive"));
+        taskArchive.archiveTasks(Arrays.asList(FIONA_PHYSIO, otherTask, KG_SC_VACCINE));
+        model.setTaskArchive(taskArchive);
+
+        String expectedMessage = String.format(FindArchivedCommand.MESSAGE_ARCHIVED_TASKS_LISTED_OVERVIEW, 2)
+                + "\n1. " + FIONA_PHYSIO + "\n2. " + KG_SC_VACCINE;
+        // archived tasks are only listed, so the nursey book and its task list are unchanged
+        assertCommandSuccess(new FindArchivedCommand(preparePredicate("Yoga Pfizer")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_archiveNotReadable_throwsCommandException() {
+        IOException ioException = new IOException("Archive not found");
+        model.setTaskArchive(new TaskArchiveStub(ioException));
+
+        assertCommandFailure(new FindArchivedCommand(preparePredicate("Yoga")), model,
+                FindArchivedCommand.MESSAGE_ARCHIVE_NOT_READ + ioException);
+    }
+
+    /**
+     * Parses {@code userInput} into a {@code DescriptionContainsKeywordPredicate}.
+     */
+    private DescriptionContainsKeywordPredicate preparePredicate(String userInput) {
+        return new DescriptionContainsKeywordPredicate(Arrays.asList(userInput.split("\\s+")));
+    }
+}
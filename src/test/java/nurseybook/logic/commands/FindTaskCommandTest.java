@@ -2,6 +2,7 @@ package nurseybook.logic.commands;
 
 import static nurseybook.commons.core.Messages.MESSAGE_TASKS_LISTED_OVERVIEW;
 import static nurseybook.logic.commands.CommandResult.ListDisplayChange.TASK;
+import static nurseybook.logic.commands.CommandTestUtil.assertCommandFailure;
 import static nurseybook.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static nurseybook.testutil.TypicalTasks.FIONA_PHYSIO;
 import static nurseybook.testutil.TypicalTasks.KG_SC_VACCINE;
@@ -10,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -19,6 +21,8 @@ import nurseybook.model.Model;
 import nurseybook.model.ModelManager;
 import nurseybook.model.UserPrefs;
 import nurseybook.model.task.DescriptionContainsKeywordPredicate;
+import nurseybook.model.task.Task;
+import nurseybook.testutil.TaskBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindTaskCommand}.
@@ -80,6 +84,35 @@ public class FindTaskCommandTest {
         assertEquals(Arrays.asList(FIONA_PHYSIO, KG_SC_VACCINE), model.getFilteredTaskList());
     }
 
+    @Test
+    public void execute_pastTasksLeftInStorage_pastTasksFound() throws Exception {
+        Task pastTask = new TaskBuilder().withDesc("Yoga in the park").withDateTime("2020-01-01", "10:00").build();
+        model.setPastTaskLoader(() -> Collections.singletonList(pastTask));
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, TASK);
+
+        DescriptionContainsKeywordPredicate predicate = preparePredicate("Yoga");
+        FindTaskCommand command = new FindTaskCommand(predicate);
+        expectedModel.setPastTaskLoader(() -> Collections.singletonList(pastTask));
+        expectedModel.loadPastTasks();
+        expectedModel.updateTasksAccordingToTime();
+        expectedModel.updateFilteredTaskList(predicate);
+
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(pastTask.markAsOverdue(), FIONA_PHYSIO), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_pastTasksNotLoaded_throwsCommandException() {
+        IOException ioException = new IOException("Shard not found");
+        model.setPastTaskLoader(() -> {
+            throw ioException;
+        });
+
+        assertCommandFailure(new FindTaskCommand(preparePredicate("Yoga")), model,
+                FindTaskCommand.MESSAGE_PAST_TASKS_NOT_LOADED + ioException);
+    }
+
     /**
      * Parses {@code userInput} into a {@code DescriptionContainsKeywordPredicate}.
      */
@@ -0,0 +1,81 @@
+package nurseybook.logic.commands;
+
+import static nurseybook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static nurseybook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static nurseybook.testutil.TypicalTasks.FIONA_PHYSIO;
+import static nurseybook.testutil.TypicalTasks.KG_SC_VACCINE;
+import static nurseybook.testutil.TypicalTasks.getTypicalNurseyBook;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.model.Model;
+import nurseybook.model.ModelManager;
+import nurseybook.model.UserPrefs;
+import nurseybook.model.task.Task;
+import nurseybook.storage.JsonTaskArchiveStorage;
+import nurseybook.testutil.TaskArchiveStub;
+import nurseybook.testutil.TaskBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ViewArchivedScheduleCommand}.
+ */
+public class ViewArchivedScheduleCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalNurseyBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalNurseyBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ViewArchivedScheduleCommand firstCommand = new ViewArchivedScheduleCommand(LocalDate.of(2021, 9, 13));
+        ViewArchivedScheduleCommand secondCommand = new ViewArchivedScheduleCommand(LocalDate.of(2021, 10, 30));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new ViewArchivedScheduleCommand(LocalDate.of(2021, 9, 13))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different date -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_archivedTasksOnDate_archivedTasksListed() throws Exception {
+        Task laterTask = new TaskBuilder().withDesc("Evening walk").withDateTime("2021-09-13", "19:00").build();
+        JsonTaskArchiveStorage taskArchive = new JsonTaskArchiveStorage(testFolder.resolve("archive"));
+        taskArchive.archiveTasks(Arrays.asList(FIONA_PHYSIO, KG_SC_VACCINE, laterTask));
+        model.setTaskArchive(taskArchive);
+
+        String expectedMessage = String.format(ViewArchivedScheduleCommand.MESSAGE_ARCHIVED_TASKS_ON_DATE, 2)
+                + "\n1. " + FIONA_PHYSIO + "\n2. " + laterTask;
+        // archived tasks are only listed, so the nursey book and its task list are unchanged
+        assertCommandSuccess(new ViewArchivedScheduleCommand(FIONA_PHYSIO.getDate()), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_archiveNotReadable_throwsCommandException() {
+        IOException ioException = new IOException("Archive not found");
+        model.setTaskArchive(new TaskArchiveStub(ioException));
+
+        assertCommandFailure(new ViewArchivedScheduleCommand(FIONA_PHYSIO.getDate()), model,
+                FindArchivedCommand.MESSAGE_ARCHIVE_NOT_READ + ioException);
+    }
+}
@@ -0,0 +1,33 @@
+package nurseybook.logic.parser;
+
+import static nurseybook.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nurseybook.logic.commands.FindArchivedCommand.MESSAGE_USAGE;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import nurseybook.logic.commands.FindArchivedCommand;
+import nurseybook.model.task.DescriptionContainsKeywordPredicate;
+
+public class FindArchivedCommandParserTest {
+
+    private FindArchivedCommandParser parser = new FindArchivedCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindArchivedCommand() {
+        // no leading and trailing whitespaces
+        FindArchivedCommand expectedFindArchivedCommand =
+                new FindArchivedCommand(new DescriptionContainsKeywordPredicate(Arrays.asList("Apply", "Pfizer")));
+        CommandParserTestUtil.assertParseSuccess(parser, "Apply Pfizer", expectedFindArchivedCommand);
+
+        // multiple white spaces between keywords
+        CommandParserTestUtil.assertParseSuccess(parser, " \n Apply \n \t Pfizer  \t", expectedFindArchivedCommand);
+    }
+}
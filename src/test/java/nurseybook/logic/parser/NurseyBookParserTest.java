@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import nurseybook.logic.commands.AddCommand;
 import nurseybook.logic.commands.AddTagCommand;
 import nurseybook.logic.commands.AddTaskCommand;
+import nurseybook.logic.commands.ArchiveCommand;
 import nurseybook.logic.commands.ClearCommand;
 import nurseybook.logic.commands.DeleteCommand;
 import nurseybook.logic.commands.DeleteNokCommand;
@@ -31,6 +32,7 @@ import nurseybook.logic.commands.EditCommand;
 import nurseybook.logic.commands.EditTaskCommand;
 import nurseybook.logic.commands.ExitCommand;
 import nurseybook.logic.commands.FilterCommand;
+import nurseybook.logic.commands.FindArchivedCommand;
 import nurseybook.logic.commands.FindElderlyCommand;
 import nurseybook.logic.commands.FindTaskCommand;
 import nurseybook.logic.commands.HelpCommand;
@@ -38,6 +40,7 @@ import nurseybook.logic.commands.RedoCommand;
 import nurseybook.logic.commands.RemarkCommand;
 import nurseybook.logic.commands.RemindCommand;
 import nurseybook.logic.commands.UndoCommand;
+import nurseybook.logic.commands.ViewArchivedScheduleCommand;
 import nurseybook.logic.commands.ViewDetailsCommand;
 import nurseybook.logic.commands.ViewElderlyCommand;
 import nurseybook.logic.commands.ViewScheduleCommand;
@@ -163,6 +166,21 @@ public class NurseyBookParserTest {
         assertEquals(new FindTaskCommand(new DescriptionContainsKeywordPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findArchived() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        FindArchivedCommand command = (FindArchivedCommand) parser.parseCommand(
+                FindArchivedCommand.COMMAND_WORD + " "
+                        + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FindArchivedCommand(new DescriptionContainsKeywordPredicate(keywords)), command);
+    }
+
+    @Test
+    public void parseCommand_archive() throws Exception {
+        assertTrue(parser.parseCommand(ArchiveCommand.COMMAND_WORD) instanceof ArchiveCommand);
+        assertTrue(parser.parseCommand(ArchiveCommand.COMMAND_WORD + " 3") instanceof ArchiveCommand);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -225,6 +243,14 @@ public class NurseyBookParserTest {
         assertEquals(new ViewScheduleCommand(new DateTimeContainsDatePredicate(keyDate), keyDate), viewScheduleCommand);
     }
 
+    @Test
+    public void parseCommand_viewArchivedSchedule() throws Exception {
+        LocalDate keyDate = LocalDate.of(2020, 11, 20);
+        ViewArchivedScheduleCommand command = (ViewArchivedScheduleCommand) parser.parseCommand(
+                ViewArchivedScheduleCommand.COMMAND_WORD + " " + keyDate);
+        assertEquals(new ViewArchivedScheduleCommand(keyDate), command);
+    }
+
     @Test
     public void parseCommand_undo() throws Exception {
         assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
@@ -0,0 +1,34 @@
+package nurseybook.logic.parser;
+
+import static nurseybook.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static nurseybook.logic.commands.ViewArchivedScheduleCommand.MESSAGE_USAGE;
+import static nurseybook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static nurseybook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static nurseybook.model.task.DateTime.MESSAGE_DATE_CONSTRAINTS;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import nurseybook.logic.commands.ViewArchivedScheduleCommand;
+
+public class ViewArchivedScheduleCommandParserTest {
+
+    private ViewArchivedScheduleCommandParser parser = new ViewArchivedScheduleCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_pastDate_returnsViewArchivedScheduleCommand() {
+        LocalDate keyDate = LocalDate.now().minusYears(2);
+        assertParseSuccess(parser, " " + keyDate + " ", new ViewArchivedScheduleCommand(keyDate));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a", MESSAGE_DATE_CONSTRAINTS);
+    }
+}
@@ -10,19 +10,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import nurseybook.commons.core.AppClock;
 import nurseybook.commons.core.GuiSettings;
 import nurseybook.model.person.Name;
 import nurseybook.model.person.NameContainsKeywordsPredicate;
 import nurseybook.model.person.exceptions.ElderlyNotFoundException;
+import nurseybook.model.task.Task;
 import nurseybook.testutil.NurseyBookBuilder;
+import nurseybook.testutil.TaskArchiveStub;
+import nurseybook.testutil.TaskBuilder;
 
 public class ModelManagerTest {
 
@@ -158,6 +165,91 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredTaskList().remove(0));
     }
 
+    @Test
+    public void addPossibleGhostTasksWithMatchingDate_recurringTask_showsGhostTaskWithoutChangingNurseyBook() {
+        LocalDate today = LocalDate.now();
+        Task recurringTask = new TaskBuilder().withDateTime(today.plusDays(1).toString(), "10:00")
+                .withRecurrence("WEEK").build();
+        modelManager.addTask(recurringTask);
+        NurseyBook expectedNurseyBook = new NurseyBook(modelManager.getVersionedNurseyBook());
+
+        modelManager.updateFilteredTaskList(task -> true);
+        modelManager.addPossibleGhostTasksWithMatchingDate(today.plusDays(8));
+        assertEquals(expectedNurseyBook, new NurseyBook(modelManager.getVersionedNurseyBook()));
+        assertEquals(2, modelManager.getFilteredTaskList().size());
+        assertFalse(modelManager.getFilteredTaskList().get(1).isRealTask());
+
+        modelManager.deleteGhostTasks();
+        assertEquals(Collections.singletonList(recurringTask), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void setPastTaskLoader_nullLoader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.setPastTaskLoader(null));
+    }
+
+    @Test
+    public void loadPastTasks_pastTasksLoaded_addedWithoutUndoableChange() throws Exception {
+        modelManager.setPastTaskLoader(() -> Collections.singletonList(GEORGE_INSULIN));
+        modelManager.loadPastTasks();
+        assertTrue(modelManager.hasTask(GEORGE_INSULIN));
+        assertFalse(modelManager.canUndoNurseyBook());
+
+        // tasks loaded again are not added twice
+        modelManager.loadPastTasks();
+        assertEquals(Collections.singletonList(GEORGE_INSULIN), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void setTaskArchive_nullArchive_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.setTaskArchive(null));
+    }
+
+    @Test
+    public void archiveTasks_noTaskArchive_nothingArchived() throws Exception {
+        Task oldDoneTask = new TaskBuilder(GEORGE_INSULIN).withStatus("true", "true").build();
+        modelManager.addTask(oldDoneTask);
+        assertEquals(Collections.emptyList(), modelManager.archiveTasks());
+        assertTrue(modelManager.hasTask(oldDoneTask));
+        assertEquals(Collections.emptyList(), modelManager.findArchivedTasksOnDate(oldDoneTask.getDate()));
+    }
+
+    @Test
+    public void archiveTasks_archivableTasks_movedToArchive() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTaskArchiveAgeDays(7);
+        modelManager = new ModelManager(new NurseyBook(), userPrefs);
+        Task oldDoneTask = new TaskBuilder(GEORGE_INSULIN).withStatus("true", "true").build();
+        Task recentDoneTask = new TaskBuilder().withDesc("Recent check-up")
+                .withDateTime(AppClock.today().minusDays(6).toString(), "10:00").withStatus("true", "true").build();
+        Task oldUndoneTask = new TaskBuilder().withDesc("Missed check-up").withDateTime("2020-01-01", "10:00")
+                .withStatus("false", "true").build();
+        modelManager.addTask(oldDoneTask);
+        modelManager.addTask(recentDoneTask);
+        modelManager.addTask(oldUndoneTask);
+
+        TaskArchiveStub taskArchive = new TaskArchiveStub();
+        modelManager.setTaskArchive(taskArchive);
+        assertEquals(Collections.singletonList(oldDoneTask), modelManager.archiveTasks());
+        assertEquals(Collections.singletonList(oldDoneTask), taskArchive.getArchivedTasks());
+        assertFalse(modelManager.hasTask(oldDoneTask));
+        assertTrue(modelManager.hasTask(recentDoneTask));
+        assertTrue(modelManager.hasTask(oldUndoneTask));
+        assertEquals(Collections.singletonList(oldDoneTask),
+                modelManager.findArchivedTasksOnDate(oldDoneTask.getDate()));
+    }
+
+    @Test
+    public void archiveTasks_archiveFails_tasksKept() {
+        Task oldDoneTask = new TaskBuilder(GEORGE_INSULIN).withStatus("true", "true").build();
+        modelManager.addTask(oldDoneTask);
+        TaskArchiveStub taskArchive = new TaskArchiveStub(new IOException("Archive failure"));
+        modelManager.setTaskArchive(taskArchive);
+
+        assertThrows(IOException.class, () -> modelManager.archiveTasks());
+        assertTrue(modelManager.hasTask(oldDoneTask));
+    }
+
     @Test
     public void equals() {
         NurseyBook nurseyBook = new NurseyBookBuilder().withElderly(ALICE).withElderly(BENSON).build();
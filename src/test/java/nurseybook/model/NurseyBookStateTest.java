@@ -1,16 +1,37 @@
 package nurseybook.model;
 
+import static nurseybook.testutil.TypicalElderlies.AMY;
 import static nurseybook.testutil.TypicalElderlies.getTypicalNurseyBook;
+import static nurseybook.testutil.TypicalTasks.DO_PAPERWORK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import nurseybook.logic.commands.CommandResult;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.util.ListEdit;
 import nurseybook.testutil.NurseyBookBuilder;
 
 public class NurseyBookStateTest {
 
+    @Test
+    public void withoutTaskEdits_stateWithEdits_onlyTaskEditsForgotten() {
+        List<ListEdit<Elderly>> elderlyEdits = List.of(ListEdit.add(0, AMY));
+        NurseyBookState nurseyBookState = new NurseyBookState(getTypicalNurseyBook(),
+                new CommandResult("feedback"), elderlyEdits, List.of(ListEdit.add(0, DO_PAPERWORK)));
+
+        NurseyBookState stateWithoutTaskEdits = nurseyBookState.withoutTaskEdits();
+        assertEquals(Optional.of(elderlyEdits), stateWithoutTaskEdits.getElderlyEdits());
+        assertEquals(Optional.empty(), stateWithoutTaskEdits.getTaskEdits());
+        // edits are not compared
+        assertTrue(nurseyBookState.equals(stateWithoutTaskEdits));
+    }
+
     @Test
     public void equals() {
         NurseyBookState nurseyBookState = new NurseyBookState(getTypicalNurseyBook(),
@@ -22,6 +22,7 @@ import javafx.collections.ObservableList;
 import nurseybook.model.person.Elderly;
 import nurseybook.model.person.exceptions.DuplicateElderlyException;
 import nurseybook.model.task.Task;
+import nurseybook.model.util.ListEdit;
 import nurseybook.testutil.ElderlyBuilder;
 
 public class NurseyBookTest {
@@ -72,6 +73,46 @@ public class NurseyBookTest {
         assertTrue(nurseyBook.hasElderly(ALICE));
     }
 
+    @Test
+    public void getModificationCount_afterModifications_increases() {
+        long initialCount = nurseyBook.getModificationCount();
+        nurseyBook.hasElderly(ALICE);
+        assertEquals(initialCount, nurseyBook.getModificationCount());
+
+        nurseyBook.addElderly(ALICE);
+        long countAfterElderly = nurseyBook.getModificationCount();
+        assertTrue(countAfterElderly > initialCount);
+
+        nurseyBook.addTask(DO_PAPERWORK);
+        assertTrue(nurseyBook.getModificationCount() > countAfterElderly);
+    }
+
+    @Test
+    public void getElderlyEditsSince_copiesOfRecordedNurseyBook_editsBetweenCopies() {
+        nurseyBook.startRecordingEdits();
+        nurseyBook.addElderly(ALICE);
+        NurseyBook earlierCopy = new NurseyBook(nurseyBook);
+        nurseyBook.addTask(DO_PAPERWORK);
+        nurseyBook.removeElderly(ALICE);
+        NurseyBook laterCopy = new NurseyBook(nurseyBook);
+
+        assertEquals(List.of(ListEdit.remove(0, ALICE)), laterCopy.getElderlyEditsSince(earlierCopy).get());
+        assertEquals(List.of(ListEdit.add(0, DO_PAPERWORK)), laterCopy.getTaskEditsSince(earlierCopy).get());
+        // the edits only lead forwards
+        assertFalse(earlierCopy.getElderlyEditsSince(laterCopy).isPresent());
+    }
+
+    @Test
+    public void getElderlyEditsSince_copyChangedAfterwards_editsNotKnown() {
+        nurseyBook.startRecordingEdits();
+        NurseyBook earlierCopy = new NurseyBook(nurseyBook);
+        NurseyBook laterCopy = new NurseyBook(nurseyBook);
+        laterCopy.addElderly(ALICE);
+
+        assertFalse(laterCopy.getElderlyEditsSince(earlierCopy).isPresent());
+        assertTrue(laterCopy.getTaskEditsSince(earlierCopy).get().isEmpty());
+    }
+
     @Test
     public void hasElderly_elderlyWithSameIdentityFieldsInNurseyBook_returnsTrue() {
         nurseyBook.addElderly(ALICE);
@@ -18,4 +18,29 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setNurseyBookFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(-1));
+    }
+
+    @Test
+    public void setStorageMode_nullStorageMode_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStorageMode(null));
+    }
+
+    @Test
+    public void setDataCompression_nullDataCompression_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setDataCompression(null));
+    }
+
+    @Test
+    public void setTaskArchiveAgeDays_negativeAge_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setTaskArchiveAgeDays(-1));
+    }
+
 }
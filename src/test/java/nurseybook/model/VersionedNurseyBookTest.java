@@ -4,6 +4,8 @@ import static nurseybook.testutil.Assert.assertThrows;
 import static nurseybook.testutil.TypicalElderlies.AMY;
 import static nurseybook.testutil.TypicalElderlies.BOB;
 import static nurseybook.testutil.TypicalElderlies.getTypicalNurseyBook;
+import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE;
+import static nurseybook.testutil.TypicalTasks.DO_PAPERWORK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -15,6 +17,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import nurseybook.logic.commands.CommandResult;
+import nurseybook.model.task.Task;
 import nurseybook.testutil.NurseyBookBuilder;
 
 // Solution below adapted from https://github.com/se-edu/addressbook-level4
@@ -59,6 +62,130 @@ public class VersionedNurseyBookTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void commit_thenModified_savedStateUnaffected() {
+        VersionedNurseyBook versionedNurseyBook = new VersionedNurseyBook(nurseyBookInitial);
+        versionedNurseyBook.addElderly(AMY);
+        versionedNurseyBook.commit(dummyCommandResult);
+
+        versionedNurseyBook.removeElderly(AMY);
+        versionedNurseyBook.addTask(DO_PAPERWORK);
+        versionedNurseyBook.undo();
+        versionedNurseyBook.redo();
+
+        NurseyBook expectedNurseyBook = new NurseyBook(nurseyBookInitial);
+        expectedNurseyBook.addElderly(AMY);
+        assertEquals(expectedNurseyBook, new NurseyBook(versionedNurseyBook));
+    }
+
+    @Test
+    public void undo_onlyTasksChanged_restoresTasksAndKeepsElderlies() {
+        VersionedNurseyBook versionedNurseyBook = new VersionedNurseyBook(nurseyBookInitial);
+        versionedNurseyBook.addTask(DO_PAPERWORK);
+        versionedNurseyBook.commit(dummyCommandResult);
+        versionedNurseyBook.addElderly(AMY);
+        versionedNurseyBook.commit(dummyCommandResult);
+
+        versionedNurseyBook.undo();
+        NurseyBook expectedNurseyBook = new NurseyBook(nurseyBookInitial);
+        expectedNurseyBook.addTask(DO_PAPERWORK);
+        assertEquals(expectedNurseyBook, new NurseyBook(versionedNurseyBook));
+
+        versionedNurseyBook.undo();
+        assertEquals(nurseyBookInitial, new NurseyBook(versionedNurseyBook));
+
+        versionedNurseyBook.redo();
+        versionedNurseyBook.redo();
+        expectedNurseyBook.addElderly(AMY);
+        assertEquals(expectedNurseyBook, new NurseyBook(versionedNurseyBook));
+    }
+
+    @Test
+    public void addLoadedTasks_afterCommit_tasksKeptWhenUndoingAndRedoing() {
+        VersionedNurseyBook versionedNurseyBook = new VersionedNurseyBook(nurseyBookInitial);
+        versionedNurseyBook.addElderly(AMY);
+        versionedNurseyBook.commit(dummyCommandResult);
+
+        versionedNurseyBook.addLoadedTasks(Collections.singletonList(DO_PAPERWORK));
+        versionedNurseyBook.undo();
+        assertFalse(versionedNurseyBook.hasElderly(AMY));
+        assertTrue(versionedNurseyBook.hasTask(DO_PAPERWORK));
+        versionedNurseyBook.redo();
+        assertTrue(versionedNurseyBook.hasElderly(AMY));
+        assertTrue(versionedNurseyBook.hasTask(DO_PAPERWORK));
+    }
+
+    @Test
+    public void removeArchivedTasks_taskChangedInEarlierStates_removedFromEveryState() {
+        VersionedNurseyBook versionedNurseyBook = new VersionedNurseyBook(nurseyBookInitial);
+        versionedNurseyBook.addTask(DO_PAPERWORK);
+        versionedNurseyBook.commit(dummyCommandResult);
+        Task doneTask = DO_PAPERWORK.markAsDone();
+        versionedNurseyBook.setTask(DO_PAPERWORK, doneTask);
+        versionedNurseyBook.commit(dummyCommandResult);
+
+        versionedNurseyBook.removeArchivedTasks(Collections.singletonList(doneTask));
+        assertFalse(versionedNurseyBook.hasTask(doneTask));
+        // the earlier version of the task has the same id, so it does not come back either
+        versionedNurseyBook.undo();
+        assertFalse(versionedNurseyBook.hasTask(DO_PAPERWORK));
+        versionedNurseyBook.redo();
+        assertFalse(versionedNurseyBook.hasTask(doneTask));
+    }
+
+    @Test
+    public void undo_uncommittedEditsAfterCommit_editsOfBothUndoneAndRedone() {
+        VersionedNurseyBook versionedNurseyBook = new VersionedNurseyBook(nurseyBookInitial);
+        versionedNurseyBook.addElderly(AMY);
+        versionedNurseyBook.addTask(DO_PAPERWORK);
+        versionedNurseyBook.commit(dummyCommandResult);
+        NurseyBook nurseyBookAfterCommit = new NurseyBook(versionedNurseyBook);
+        versionedNurseyBook.removeElderly(AMY);
+        versionedNurseyBook.setTask(DO_PAPERWORK, DO_PAPERWORK.markAsDone());
+
+        versionedNurseyBook.undo();
+        assertEquals(nurseyBookInitial, new NurseyBook(versionedNurseyBook));
+        versionedNurseyBook.redo();
+        assertEquals(nurseyBookAfterCommit, new NurseyBook(versionedNurseyBook));
+    }
+
+    @Test
+    public void undo_uncommittedEditsBeforeTasksLoaded_editsUndoneAndLoadedTasksKept() {
+        VersionedNurseyBook versionedNurseyBook = new VersionedNurseyBook(nurseyBookInitial);
+        versionedNurseyBook.addElderly(AMY);
+        versionedNurseyBook.commit(dummyCommandResult);
+        versionedNurseyBook.addTask(APPLY_LEAVE);
+
+        // the loaded task is added to every state, which the edits recorded so far do not account for
+        versionedNurseyBook.addLoadedTasks(Collections.singletonList(DO_PAPERWORK));
+        versionedNurseyBook.undo();
+        assertFalse(versionedNurseyBook.hasElderly(AMY));
+        assertFalse(versionedNurseyBook.hasTask(APPLY_LEAVE));
+        assertTrue(versionedNurseyBook.hasTask(DO_PAPERWORK));
+        versionedNurseyBook.redo();
+        assertTrue(versionedNurseyBook.hasElderly(AMY));
+        assertTrue(versionedNurseyBook.hasTask(DO_PAPERWORK));
+    }
+
+    @Test
+    public void constructor_nonPositiveUndoHistoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedNurseyBook(nurseyBookInitial, 0));
+    }
+
+    @Test
+    public void commit_undoHistoryLimitReached_oldestStateDiscarded() {
+        VersionedNurseyBook versionedNurseyBook = new VersionedNurseyBook(nurseyBookInitial, 1);
+        versionedNurseyBook.resetData(nurseyBookWithAmy);
+        versionedNurseyBook.commit(dummyCommandResult);
+        versionedNurseyBook.resetData(nurseyBookWithBob);
+        versionedNurseyBook.commit(dummyCommandResult);
+
+        assertNurseyBookListStatus(versionedNurseyBook,
+                Collections.singletonList(nurseyBookWithAmy),
+                nurseyBookWithBob,
+                Collections.emptyList());
+    }
+
     //=========== tests for undo =============================================================
 
     @Test
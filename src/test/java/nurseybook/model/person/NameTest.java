@@ -1,9 +1,13 @@
 package nurseybook.model.person;
 
 import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -48,4 +52,24 @@ public class NameTest {
         assertTrue(testName.caseInsensitiveEquals(new Name("hUbeRT")));
 
     }
+
+    @Test
+    public void getCaseInsensitiveKey() {
+        Name name = new Name("Alice Pauline");
+        assertEquals(name.getCaseInsensitiveKey(), new Name("alice PAULINE").getCaseInsensitiveKey());
+        assertNotEquals(name.getCaseInsensitiveKey(), new Name("Alice Paulin").getCaseInsensitiveKey());
+    }
+
+    @Test
+    public void getCaseInsensitiveKey_turkishDefaultLocale_sameKeyForNamesEqualIgnoringCase() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            Name name = new Name("IVAN");
+            assertTrue(name.caseInsensitiveEquals(new Name("ivan")));
+            assertEquals(name.getCaseInsensitiveKey(), new Name("ivan").getCaseInsensitiveKey());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
@@ -11,8 +11,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import nurseybook.model.person.exceptions.DuplicateElderlyException;
@@ -47,6 +49,50 @@ public class UniqueElderlyListTest {
         assertTrue(uniqueElderlyList.contains(editedAlice));
     }
 
+    @Test
+    public void hasElderly_nameWithDifferentCase_returnsTrue() {
+        uniqueElderlyList.add(ALICE);
+        Name lowerCaseName = new Name(ALICE.getName().fullName.toLowerCase());
+        assertTrue(uniqueElderlyList.hasElderly(lowerCaseName));
+        assertFalse(uniqueElderlyList.hasElderlyCaseSensitive(lowerCaseName));
+        assertTrue(uniqueElderlyList.hasElderlyCaseSensitive(ALICE.getName()));
+        assertEquals(ALICE, uniqueElderlyList.getElderly(lowerCaseName));
+    }
+
+    @Test
+    public void getElderly_elderlyNotInList_throwsElderlyNotFoundException() {
+        assertThrows(ElderlyNotFoundException.class, () -> uniqueElderlyList.getElderly(ALICE.getName()));
+    }
+
+    @Test
+    public void getElderly_afterRename_returnsEditedElderly() {
+        uniqueElderlyList.add(ALICE);
+        uniqueElderlyList.setElderly(ALICE, BOB);
+        assertFalse(uniqueElderlyList.hasElderly(ALICE.getName()));
+        assertEquals(BOB, uniqueElderlyList.getElderly(BOB.getName()));
+    }
+
+    @Test
+    public void hasElderly_afterSetElderlies_tracksReplacementElderlies() {
+        uniqueElderlyList.add(ALICE);
+        uniqueElderlyList.setElderlies(Collections.singletonList(BOB));
+        assertFalse(uniqueElderlyList.hasElderly(ALICE.getName()));
+        assertTrue(uniqueElderlyList.hasElderly(BOB.getName()));
+
+        UniqueElderlyList replacement = new UniqueElderlyList();
+        replacement.add(ALICE);
+        uniqueElderlyList.setElderlies(replacement);
+        assertTrue(uniqueElderlyList.hasElderly(ALICE.getName()));
+        assertFalse(uniqueElderlyList.hasElderly(BOB.getName()));
+    }
+
+    @Test
+    public void hasElderly_afterRemove_returnsFalse() {
+        uniqueElderlyList.add(ALICE);
+        uniqueElderlyList.remove(ALICE);
+        assertFalse(uniqueElderlyList.hasElderly(ALICE.getName()));
+    }
+
     @Test
     public void add_nullElderly_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueElderlyList.add(null));
@@ -127,6 +173,21 @@ public class UniqueElderlyListTest {
         assertEquals(expectedUniqueElderlyList, uniqueElderlyList);
     }
 
+    @Test
+    public void getModificationCount_afterEachModification_increases() {
+        long modificationCount = uniqueElderlyList.getModificationCount();
+        uniqueElderlyList.add(ALICE);
+        assertTrue(uniqueElderlyList.getModificationCount() > modificationCount);
+
+        modificationCount = uniqueElderlyList.getModificationCount();
+        uniqueElderlyList.setElderly(ALICE, BOB);
+        assertTrue(uniqueElderlyList.getModificationCount() > modificationCount);
+
+        modificationCount = uniqueElderlyList.getModificationCount();
+        uniqueElderlyList.remove(BOB);
+        assertTrue(uniqueElderlyList.getModificationCount() > modificationCount);
+    }
+
     @Test
     public void setElderlies_nullUniqueElderlyList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueElderlyList.setElderlies((UniqueElderlyList) null));
@@ -141,6 +202,20 @@ public class UniqueElderlyListTest {
         assertEquals(expectedUniqueElderlyList, uniqueElderlyList);
     }
 
+    @Test
+    public void setElderlies_uniqueElderlyList_listsChangedIndependentlyAfterwards() {
+        UniqueElderlyList replacement = new UniqueElderlyList();
+        replacement.add(BOB);
+        uniqueElderlyList.setElderlies(replacement);
+
+        uniqueElderlyList.add(ALICE);
+        replacement.remove(BOB);
+        assertTrue(uniqueElderlyList.contains(BOB));
+        assertEquals(Arrays.asList(BOB, ALICE), uniqueElderlyList.asUnmodifiableObservableList());
+        assertFalse(replacement.contains(ALICE));
+        assertTrue(replacement.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void setElderlies_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueElderlyList.setElderlies((List<Elderly>) null));
@@ -162,6 +237,27 @@ public class UniqueElderlyListTest {
         assertThrows(DuplicateElderlyException.class, () -> uniqueElderlyList.setElderlies(listWithDuplicateElderlies));
     }
 
+    @Test
+    public void setElderlies_listWithDuplicateElderlies_reportsEveryDuplicateName() {
+        Elderly lowerCaseAlice = new ElderlyBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        List<Elderly> listWithDuplicateElderlies = Arrays.asList(ALICE, BOB, lowerCaseAlice, BOB);
+        DuplicateElderlyException exception = Assertions.assertThrows(DuplicateElderlyException.class, () ->
+                uniqueElderlyList.setElderlies(listWithDuplicateElderlies));
+        assertEquals(Arrays.asList(lowerCaseAlice.getName(), BOB.getName()), exception.getDuplicateNames());
+
+        // list is left unchanged
+        assertEquals(new UniqueElderlyList(), uniqueElderlyList);
+    }
+
+    @Test
+    public void getNames_returnsNamesOfAllElderlies() {
+        assertEquals(Collections.emptySet(), uniqueElderlyList.getNames());
+
+        uniqueElderlyList.add(ALICE);
+        uniqueElderlyList.add(BOB);
+        assertEquals(new HashSet<>(Arrays.asList(ALICE.getName(), BOB.getName())), uniqueElderlyList.getNames());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
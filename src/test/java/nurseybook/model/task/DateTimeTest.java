@@ -5,10 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
 
 import org.junit.jupiter.api.Test;
 
+import nurseybook.commons.core.AppClock;
+
 class DateTimeTest {
     @Test
     public void constructor_null_throwsNullPointerException() {
@@ -111,6 +118,36 @@ class DateTimeTest {
 
     }
 
+    @Test
+    public void isOverdue_fixedClock_comparesToTheMinute() {
+        try {
+            AppClock.setClock(Clock.fixed(Instant.parse("2021-10-31T10:15:30Z"), ZoneOffset.UTC));
+
+            // one minute before current time -> returns true
+            assertTrue(DateTime.isOverdue(new DateTime("2021-10-31", "10:14")));
+
+            // one day before current time -> returns true
+            assertTrue(DateTime.isOverdue(new DateTime("2021-10-30", "23:59")));
+
+            // same minute as current time -> returns false
+            assertFalse(DateTime.isOverdue(new DateTime("2021-10-31", "10:15")));
+
+            // later than current time -> returns false
+            assertFalse(DateTime.isOverdue(new DateTime("2021-11-01", "00:00")));
+        } finally {
+            AppClock.setClock(Clock.systemDefaultZone());
+        }
+    }
+
+    @Test
+    public void compareTo_timesWithSeconds_comparesSeconds() {
+        DateTime withoutSeconds = new DateTime(LocalDate.of(2021, 10, 31), LocalTime.of(10, 15));
+        DateTime withSeconds = new DateTime(LocalDate.of(2021, 10, 31), LocalTime.of(10, 15, 30));
+
+        assertTrue(withoutSeconds.compareTo(withSeconds) < 0);
+        assertTrue(withSeconds.compareTo(withoutSeconds) > 0);
+    }
+
     @Test
     public void incrementDateByDays() {
         DateTime before = new DateTime("2021-10-20", "12:30");
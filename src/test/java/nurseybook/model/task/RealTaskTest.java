@@ -13,6 +13,7 @@ import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_NEXT_DAY;
 import static nurseybook.testutil.TypicalTasks.GEORGE_INSULIN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -46,6 +47,7 @@ public class RealTaskTest {
         RealTask realTask = (RealTask) APPLY_LEAVE_NEXT_DAY;
         GhostTask ghostTask = realTask.copyToGhostTask();
         assertEquals(new TaskBuilder(APPLY_LEAVE_NEXT_DAY, false).build(), ghostTask);
+        assertNotEquals(realTask.getId(), ghostTask.getId());
     }
 
     @Test
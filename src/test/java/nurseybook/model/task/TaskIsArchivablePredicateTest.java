@@ -0,0 +1,56 @@
+package nurseybook.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import nurseybook.testutil.TaskBuilder;
+
+public class TaskIsArchivablePredicateTest {
+
+    private final TaskIsArchivablePredicate predicate = new TaskIsArchivablePredicate(LocalDate.of(2021, 11, 1));
+
+    @Test
+    public void equals() {
+        TaskIsArchivablePredicate secondPredicate = new TaskIsArchivablePredicate(LocalDate.of(2021, 12, 1));
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new TaskIsArchivablePredicate(LocalDate.of(2021, 11, 1))));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(1));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(predicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_doneNonRecurringTaskBeforeCutoff_returnsTrue() {
+        assertTrue(predicate.test(new TaskBuilder().withDateTime("2021-10-31", "23:59")
+                .withStatus("true", "true").build()));
+    }
+
+    @Test
+    public void test_taskNotArchivable_returnsFalse() {
+        // not done -> returns false
+        assertFalse(predicate.test(new TaskBuilder().withDateTime("2021-10-31", "10:00")
+                .withStatus("false", "true").build()));
+
+        // on the cutoff date -> returns false
+        assertFalse(predicate.test(new TaskBuilder().withDateTime("2021-11-01", "10:00")
+                .withStatus("true", "true").build()));
+
+        // recurring -> returns false
+        assertFalse(predicate.test(new TaskBuilder().withDateTime("2021-10-31", "10:00")
+                .withStatus("true", "true").withRecurrence("WEEK").build()));
+    }
+}
@@ -137,6 +137,15 @@ public class TaskTest {
         assertFalse(georgeInsulin.equals(APPLY_LEAVE_DAY_NEXT_RECURRENCE_GHOST));
     }
 
+    @Test
+    public void hashCode_equalTasks_sameHashCode() {
+        Task alexToGeorge = new TaskBuilder(ALICE_INSULIN).withNames(VALID_NAME_GEORGE).withDesc(VALID_DESC_MEDICINE)
+                .withDateTime(VALID_DATE_NOV, VALID_TIME_SEVENPM).withStatus("false", "true")
+                .withRecurrence(Recurrence.RecurrenceType.NONE.name()).build();
+        assertEquals(georgeInsulin.hashCode(), alexToGeorge.hashCode());
+        assertEquals(georgeInsulin.hashCode(), new TaskBuilder(georgeInsulin).build().hashCode());
+    }
+
     @Test
     public void isAfter() {
         DateTime october = new DateTime("2020-10-31", "23:59");
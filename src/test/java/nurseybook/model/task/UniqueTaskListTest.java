@@ -1,29 +1,38 @@
 //@@ Superbestron
 package nurseybook.model.task;
 
+import static nurseybook.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static nurseybook.testutil.Assert.assertThrows;
+import static nurseybook.testutil.TypicalElderlies.ALICE;
+import static nurseybook.testutil.TypicalTasks.ALICE_INSULIN;
 import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE;
-import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_DAY_NEXT_RECURRENCE_GHOST;
 import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_LATE_TIME;
-import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_MONTH_NEXT_RECURRENCE_GHOST;
-import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_WEEK_NEXT_RECURRENCE_GHOST;
 import static nurseybook.testutil.TypicalTasks.DO_PAPERWORK;
+import static nurseybook.testutil.TypicalTasks.GEORGE_INSULIN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import nurseybook.model.person.Elderly;
 import nurseybook.model.person.Name;
+import nurseybook.model.person.UniqueElderlyList;
 import nurseybook.model.task.exceptions.TaskNotFoundException;
+import nurseybook.model.util.ListEdit;
+import nurseybook.testutil.ElderlyBuilder;
 import nurseybook.testutil.TaskBuilder;
 
 public class UniqueTaskListTest {
@@ -45,6 +54,42 @@ public class UniqueTaskListTest {
         assertTrue(uniqueTaskList.contains(APPLY_LEAVE));
     }
 
+    @Test
+    public void contains_taskWithSameIdentityInList_returnsTrue() {
+        uniqueTaskList.add(APPLY_LEAVE);
+        Task doneApplyLeave = new TaskBuilder(APPLY_LEAVE).withStatus("true", "false").build();
+        assertTrue(uniqueTaskList.contains(doneApplyLeave));
+    }
+
+    @Test
+    public void contains_afterSetTask_tracksEditedTask() {
+        uniqueTaskList.add(APPLY_LEAVE);
+        uniqueTaskList.setTask(APPLY_LEAVE, DO_PAPERWORK);
+        assertFalse(uniqueTaskList.contains(APPLY_LEAVE));
+        assertTrue(uniqueTaskList.contains(DO_PAPERWORK));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniqueTaskList.add(APPLY_LEAVE);
+        uniqueTaskList.remove(APPLY_LEAVE);
+        assertFalse(uniqueTaskList.contains(APPLY_LEAVE));
+    }
+
+    @Test
+    public void contains_afterSetTasks_tracksReplacementTasks() {
+        uniqueTaskList.add(APPLY_LEAVE);
+        uniqueTaskList.setTasks(Collections.singletonList(DO_PAPERWORK));
+        assertFalse(uniqueTaskList.contains(APPLY_LEAVE));
+        assertTrue(uniqueTaskList.contains(DO_PAPERWORK));
+
+        UniqueTaskList replacement = new UniqueTaskList();
+        replacement.add(APPLY_LEAVE);
+        uniqueTaskList.setTasks(replacement);
+        assertTrue(uniqueTaskList.contains(APPLY_LEAVE));
+        assertFalse(uniqueTaskList.contains(DO_PAPERWORK));
+    }
+
     @Test
     public void add_nullTask_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.add(null));
@@ -68,6 +113,71 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void removeTasksWithIds_someIdsInList_onlyThoseTasksRemoved() {
+        uniqueTaskList.add(ALICE_INSULIN);
+        uniqueTaskList.add(DO_PAPERWORK);
+        uniqueTaskList.add(GEORGE_INSULIN);
+        long modificationCount = uniqueTaskList.getModificationCount();
+
+        // an id that no task in the list has is ignored
+        uniqueTaskList.removeTasksWithIds(Set.of(ALICE_INSULIN.getId(), GEORGE_INSULIN.getId(), Long.MAX_VALUE));
+        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
+        expectedUniqueTaskList.add(DO_PAPERWORK);
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+        assertFalse(uniqueTaskList.contains(ALICE_INSULIN));
+        assertTrue(modificationCount < uniqueTaskList.getModificationCount());
+
+        // nothing removed -> list not modified
+        modificationCount = uniqueTaskList.getModificationCount();
+        uniqueTaskList.removeTasksWithIds(Set.of(ALICE_INSULIN.getId()));
+        assertEquals(modificationCount, uniqueTaskList.getModificationCount());
+    }
+
+    @Test
+    public void getRealTaskList_noGhostTasks_returnsBackingList() {
+        uniqueTaskList.add(APPLY_LEAVE);
+        assertSame(uniqueTaskList.asUnmodifiableObservableList(), uniqueTaskList.getRealTaskList());
+    }
+
+    @Test
+    public void getRealTaskList_withGhostTasks_excludesGhostTasks() {
+        Task ghostTask = new TaskBuilder(false).build();
+        uniqueTaskList.add(APPLY_LEAVE);
+        uniqueTaskList.add(ghostTask);
+        assertEquals(Collections.singletonList(APPLY_LEAVE), uniqueTaskList.getRealTaskList());
+
+        uniqueTaskList.remove(ghostTask);
+        assertSame(uniqueTaskList.asUnmodifiableObservableList(), uniqueTaskList.getRealTaskList());
+    }
+
+    @Test
+    public void add_earlierTask_insertedInOrder() {
+        uniqueTaskList.add(APPLY_LEAVE_LATE_TIME);
+        uniqueTaskList.add(APPLY_LEAVE);
+        assertEquals(Arrays.asList(APPLY_LEAVE, APPLY_LEAVE_LATE_TIME), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTask_dateTimeChanged_movedToItsPlace() {
+        uniqueTaskList.add(APPLY_LEAVE);
+        uniqueTaskList.add(APPLY_LEAVE_LATE_TIME);
+        Task earlierTask = new TaskBuilder(APPLY_LEAVE_LATE_TIME).withDate("2000-01-01").build();
+        uniqueTaskList.setTask(APPLY_LEAVE_LATE_TIME, earlierTask);
+        assertEquals(Arrays.asList(earlierTask, APPLY_LEAVE), uniqueTaskList.asUnmodifiableObservableList());
+
+        // a task that stays in order is replaced where it is
+        Task doneTask = earlierTask.markAsDone();
+        uniqueTaskList.setTask(earlierTask, doneTask);
+        assertEquals(Arrays.asList(doneTask, APPLY_LEAVE), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_outOfOrder_sortsList() {
+        uniqueTaskList.setTasks(Arrays.asList(APPLY_LEAVE_LATE_TIME, APPLY_LEAVE));
+        assertEquals(Arrays.asList(APPLY_LEAVE, APPLY_LEAVE_LATE_TIME), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void mark_nullTask_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.markTaskAsDone(null));
@@ -96,6 +206,20 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void setTasks_taskList_listsChangedIndependentlyAfterwards() {
+        UniqueTaskList replacement = new UniqueTaskList();
+        replacement.add(DO_PAPERWORK);
+        uniqueTaskList.setTasks(replacement);
+
+        uniqueTaskList.add(APPLY_LEAVE);
+        replacement.remove(DO_PAPERWORK);
+        assertTrue(uniqueTaskList.contains(DO_PAPERWORK));
+        assertEquals(Arrays.asList(APPLY_LEAVE, DO_PAPERWORK), uniqueTaskList.asUnmodifiableObservableList());
+        assertFalse(replacement.contains(APPLY_LEAVE));
+        assertTrue(replacement.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void setTasks_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.setTasks((List<Task>) null));
@@ -111,6 +235,54 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void updateElderlyNameInTasks_renamedElderly_updatesOnlyRelatedTasks() {
+        uniqueTaskList.add(ALICE_INSULIN);
+        uniqueTaskList.add(GEORGE_INSULIN);
+        Elderly renamedAlice = new ElderlyBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        uniqueTaskList.updateElderlyNameInTasks(ALICE, renamedAlice);
+
+        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
+        expectedUniqueTaskList.add(new TaskBuilder(ALICE_INSULIN).withNames(VALID_NAME_BOB).build());
+        expectedUniqueTaskList.add(GEORGE_INSULIN);
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+
+        // renaming back only finds tasks through the new name
+        uniqueTaskList.updateElderlyNameInTasks(renamedAlice, ALICE);
+        expectedUniqueTaskList.setTasks(Arrays.asList(ALICE_INSULIN, GEORGE_INSULIN));
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+    }
+
+    @Test
+    public void updateElderlyNameInTasks_renamedElderly_relatedTasksReplacedInPlace() {
+        uniqueTaskList.add(ALICE_INSULIN);
+        uniqueTaskList.add(GEORGE_INSULIN);
+        uniqueTaskList.add(DO_PAPERWORK);
+        int index = uniqueTaskList.asUnmodifiableObservableList().indexOf(ALICE_INSULIN);
+        uniqueTaskList.startRecordingEdits();
+
+        uniqueTaskList.updateElderlyNameInTasks(ALICE, new ElderlyBuilder(ALICE).withName(VALID_NAME_BOB).build());
+        Task renamedTask = uniqueTaskList.asUnmodifiableObservableList().get(index);
+        assertEquals(new TaskBuilder(ALICE_INSULIN).withNames(VALID_NAME_BOB).build(), renamedTask);
+        assertEquals(List.of(ListEdit.replace(index, ALICE_INSULIN, renamedTask)), uniqueTaskList.takeEdits());
+    }
+
+    @Test
+    public void deleteElderlyNameInTasks_deletedElderly_removesNameFromRelatedTasks() {
+        uniqueTaskList.add(ALICE_INSULIN);
+        uniqueTaskList.add(GEORGE_INSULIN);
+        uniqueTaskList.deleteElderlyNameInTasks(ALICE);
+
+        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
+        expectedUniqueTaskList.add(new TaskBuilder(ALICE_INSULIN).withNames().build());
+        expectedUniqueTaskList.add(GEORGE_INSULIN);
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+
+        // name is no longer indexed, so deleting it again changes nothing
+        uniqueTaskList.deleteElderlyNameInTasks(ALICE);
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+    }
+
     @Test
     public void updateDateOfRecurringTask_nullTask_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.updateDateOfRecurringTask(null));
@@ -128,24 +300,55 @@ public class UniqueTaskListTest {
         assertTrue(uniqueTaskList.contains(test));
     }
 
-    //@@author CraveToCode
     @Test
-    public void deleteGhostTasks_deletesAllGhostTasks() {
-        UniqueTaskList uniqueTaskList = new UniqueTaskList();
-        uniqueTaskList.add(APPLY_LEAVE_DAY_NEXT_RECURRENCE_GHOST);
-        uniqueTaskList.add(APPLY_LEAVE);
-        uniqueTaskList.add(APPLY_LEAVE_WEEK_NEXT_RECURRENCE_GHOST);
-        uniqueTaskList.add(APPLY_LEAVE_MONTH_NEXT_RECURRENCE_GHOST);
-        uniqueTaskList.deleteGhostTasks();
+    public void updateTasksAccordingToTime_pastAndFutureTasks_updatesStatusesAndSorts() {
+        Task pastTask = new TaskBuilder().withDateTime("2021-01-01", "10:00").build();
+        Task futureTask = new TaskBuilder().withStatus("false", "true").build();
+        uniqueTaskList.add(futureTask);
+        uniqueTaskList.add(pastTask);
+
+        uniqueTaskList.updateTasksAccordingToTime();
+        assertEquals(Arrays.asList(pastTask.markAsOverdue(), futureTask.markAsNotOverdue()),
+                uniqueTaskList.asUnmodifiableObservableList());
+    }
 
-        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
-        expectedUniqueTaskList.add(APPLY_LEAVE);
+    @Test
+    public void updateTasksAccordingToTime_pastRecurringTask_movedToNextOccurrence() {
+        uniqueTaskList.add(APPLY_LEAVE_LATE_TIME);
+        uniqueTaskList.updateTasksAccordingToTime();
+
+        Task updatedTask = uniqueTaskList.asUnmodifiableObservableList().get(0);
+        assertFalse(updatedTask.shouldTaskBeOverdue());
+        assertFalse(updatedTask.isTaskOverdue());
+        assertEquals(APPLY_LEAVE_LATE_TIME.getId(), updatedTask.getId());
+    }
+
+    @Test
+    public void updateTasksAccordingToTime_taskEditedAfterUpdate_editedTaskUpdated() {
+        uniqueTaskList.add(new TaskBuilder().build());
+        uniqueTaskList.updateTasksAccordingToTime();
+        Task editedTask = new TaskBuilder().withDateTime("2021-01-01", "10:00").build();
+        uniqueTaskList.setTask(uniqueTaskList.asUnmodifiableObservableList().get(0), editedTask);
+
+        uniqueTaskList.updateTasksAccordingToTime();
+        assertEquals(Collections.singletonList(editedTask.markAsOverdue()),
+                uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updateTasksAccordingToTime_upToDateTasks_listNotModified() {
+        uniqueTaskList.add(APPLY_LEAVE_LATE_TIME);
+        uniqueTaskList.add(DO_PAPERWORK);
+        uniqueTaskList.updateTasksAccordingToTime();
+        long modificationCount = uniqueTaskList.getModificationCount();
 
-        assertEquals(uniqueTaskList, expectedUniqueTaskList);
+        uniqueTaskList.updateTasksAccordingToTime();
+        assertEquals(modificationCount, uniqueTaskList.getModificationCount());
     }
 
+    //@@author CraveToCode
     @Test
-    public void addPossibleGhostTasksWithMatchingDate_forDayRecurring() {
+    public void getPossibleGhostTasksWithMatchingDate_forDayRecurring() {
         Set<Name> nameSet = new HashSet<>();
         LocalDate today = LocalDate.now();
         LocalDate keyDate = LocalDate.now().plusDays(1);
@@ -157,17 +360,13 @@ public class UniqueTaskListTest {
 
         UniqueTaskList taskList = new UniqueTaskList();
         taskList.add(testTask);
-        taskList.addPossibleGhostTasksWithMatchingDate(keyDate);
 
-        UniqueTaskList expectedTaskList = new UniqueTaskList();
-        expectedTaskList.add(testTask);
-        expectedTaskList.add(nextTaskRecurrence);
-
-        assertEquals(taskList, expectedTaskList);
+        assertEquals(Collections.singletonList(nextTaskRecurrence),
+                taskList.getPossibleGhostTasksWithMatchingDate(keyDate));
     }
 
     @Test
-    public void addPossibleGhostTasksWithMatchingDate_forWeekRecurring() {
+    public void getPossibleGhostTasksWithMatchingDate_forWeekRecurring() {
         Set<Name> nameSet = new HashSet<>();
         LocalDate today = LocalDate.now();
         LocalDate keyDate = LocalDate.now().plusDays(7);
@@ -179,17 +378,13 @@ public class UniqueTaskListTest {
 
         UniqueTaskList taskList = new UniqueTaskList();
         taskList.add(testTask);
-        taskList.addPossibleGhostTasksWithMatchingDate(keyDate);
-
-        UniqueTaskList expectedTaskList = new UniqueTaskList();
-        expectedTaskList.add(testTask);
-        expectedTaskList.add(nextTaskRecurrence);
 
-        assertEquals(taskList, expectedTaskList);
+        assertEquals(Collections.singletonList(nextTaskRecurrence),
+                taskList.getPossibleGhostTasksWithMatchingDate(keyDate));
     }
 
     @Test
-    public void addPossibleGhostTasksWithMatchingDate_forMonthRecurring() {
+    public void getPossibleGhostTasksWithMatchingDate_forMonthRecurring() {
         Set<Name> nameSet = new HashSet<>();
         LocalDate today = LocalDate.now();
         LocalDate keyDate = LocalDate.now().plusDays(28);
@@ -201,17 +396,13 @@ public class UniqueTaskListTest {
 
         UniqueTaskList taskList = new UniqueTaskList();
         taskList.add(testTask);
-        taskList.addPossibleGhostTasksWithMatchingDate(keyDate);
 
-        UniqueTaskList expectedTaskList = new UniqueTaskList();
-        expectedTaskList.add(testTask);
-        expectedTaskList.add(nextTaskRecurrence);
-
-        assertEquals(taskList, expectedTaskList);
+        assertEquals(Collections.singletonList(nextTaskRecurrence),
+                taskList.getPossibleGhostTasksWithMatchingDate(keyDate));
     }
 
     @Test
-    public void addPossibleGhostTasksWithMatchingDate_withNoMatchingDate() {
+    public void getPossibleGhostTasksWithMatchingDate_withNoMatchingDate() {
         Set<Name> nameSet = new HashSet<>();
         LocalDate today = LocalDate.now();
         LocalDate keyDate = LocalDate.now().plusDays(70);
@@ -224,11 +415,67 @@ public class UniqueTaskListTest {
 
         UniqueTaskList taskList = new UniqueTaskList();
         taskList.add(testTask);
-        taskList.addPossibleGhostTasksWithMatchingDate(keyDate);
 
-        UniqueTaskList expectedTaskList = new UniqueTaskList();
-        expectedTaskList.add(testTask);
+        assertEquals(Collections.emptyList(), taskList.getPossibleGhostTasksWithMatchingDate(keyDate));
+    }
 
-        assertEquals(taskList, expectedTaskList);
+    @Test
+    public void getPossibleGhostTasksWithMatchingDate_occurrenceBeyondScheduleLimit() {
+        LocalDate today = LocalDate.now();
+        LocalDate keyDate = today.plusDays(UniqueTaskList.MAX_DAYS_SCHEDULE_AHEAD + 7);
+        RealTask testTask = new RealTask(new Description("Task"), new DateTime(today, LocalTime.now()),
+                new HashSet<>(), new Recurrence("WEEK"));
+
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.add(testTask);
+
+        assertEquals(Collections.emptyList(), taskList.getPossibleGhostTasksWithMatchingDate(keyDate));
+    }
+
+    @Test
+    public void getPossibleGhostTasksWithMatchingDate_taskStartingInFuture() {
+        LocalDate today = LocalDate.now();
+        RealTask testTask = new RealTask(new Description("Task"), new DateTime(today.plusDays(3), LocalTime.now()),
+                new HashSet<>(), new Recurrence("WEEK"));
+        UniqueTaskList taskList = new UniqueTaskList();
+        taskList.add(testTask);
+
+        // on the task's own date -> no ghost task
+        assertEquals(Collections.emptyList(), taskList.getPossibleGhostTasksWithMatchingDate(today.plusDays(3)));
+
+        // not a whole number of weeks after the task -> no ghost task
+        assertEquals(Collections.emptyList(), taskList.getPossibleGhostTasksWithMatchingDate(today.plusDays(11)));
+
+        // two weeks after the task -> ghost task returned, task list unchanged
+        Task expectedGhostTask = testTask.copyToGhostTask();
+        expectedGhostTask.setDate(today.plusDays(17));
+        assertEquals(Collections.singletonList(expectedGhostTask),
+                taskList.getPossibleGhostTasksWithMatchingDate(today.plusDays(17)));
+        assertEquals(Collections.singletonList(testTask), taskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getTasksWithInvalidNames() {
+        UniqueElderlyList elderlies = new UniqueElderlyList();
+        elderlies.add(ALICE);
+        Task validTask = new TaskBuilder().withDesc("Valid").withNames(ALICE.getName().fullName).build();
+        Task wrongCaseTask = new TaskBuilder().withDesc("Wrong case")
+                .withNames(ALICE.getName().fullName.toUpperCase()).build();
+        Task unknownNamesTask = new TaskBuilder().withDesc("Unknown names")
+                .withNames(ALICE.getName().fullName, VALID_NAME_BOB, "Amy Bee").build();
+        uniqueTaskList.setTasks(Arrays.asList(validTask, unknownNamesTask, wrongCaseTask));
+
+        assertFalse(uniqueTaskList.doTasksContainValidNames(elderlies));
+        Map<Task, List<Name>> tasksWithInvalidNames = uniqueTaskList.getTasksWithInvalidNames(elderlies);
+        assertEquals(Arrays.asList(unknownNamesTask, wrongCaseTask),
+                new ArrayList<>(tasksWithInvalidNames.keySet()));
+        assertEquals(Arrays.asList(new Name("Amy Bee"), new Name(VALID_NAME_BOB)),
+                tasksWithInvalidNames.get(unknownNamesTask));
+        assertEquals(Collections.singletonList(new Name(ALICE.getName().fullName.toUpperCase())),
+                tasksWithInvalidNames.get(wrongCaseTask));
+
+        uniqueTaskList.setTasks(Collections.singletonList(validTask));
+        assertTrue(uniqueTaskList.doTasksContainValidNames(elderlies));
+        assertTrue(uniqueTaskList.getTasksWithInvalidNames(elderlies).isEmpty());
     }
 }
@@ -0,0 +1,32 @@
+package nurseybook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ListEditLogTest {
+
+    private final ListEditLog<String> start = new ListEditLog<>();
+
+    @Test
+    public void getEditsUntil_laterPosition_editsInOrder() {
+        ListEditLog<String> middle = start.append(ListEdit.add(0, "a"));
+        ListEditLog<String> end = middle.append(ListEdit.replace(0, "a", "b"));
+
+        assertEquals(List.of(ListEdit.add(0, "a"), ListEdit.replace(0, "a", "b")), start.getEditsUntil(end).get());
+        assertEquals(List.of(ListEdit.replace(0, "a", "b")), middle.getEditsUntil(end).get());
+        assertTrue(end.getEditsUntil(end).get().isEmpty());
+    }
+
+    @Test
+    public void getEditsUntil_earlierOrUnrelatedPosition_empty() {
+        ListEditLog<String> end = start.append(ListEdit.add(0, "a"));
+
+        assertFalse(end.getEditsUntil(start).isPresent());
+        assertFalse(start.getEditsUntil(new ListEditLog<>()).isPresent());
+    }
+}
@@ -0,0 +1,45 @@
+package nurseybook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ListEditTest {
+
+    private final PersistentList<String> contents = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+    @Test
+    public void applyTo_eachType_listEdited() {
+        assertEquals(Arrays.asList("a", "x", "b", "c"), ListEdit.add(1, "x").applyTo(contents).toList());
+        assertEquals(Arrays.asList("a", "c"), ListEdit.remove(1, "b").applyTo(contents).toList());
+        assertEquals(Arrays.asList("a", "x", "c"), ListEdit.replace(1, "b", "x").applyTo(contents).toList());
+        PersistentList<String> newContents = PersistentList.of(Arrays.asList("y"));
+        assertEquals(newContents, ListEdit.replaceAll(contents, newContents).applyTo(contents));
+    }
+
+    @Test
+    public void inverse_edits_originalContentsRestored() {
+        List<ListEdit<String>> edits = Arrays.asList(
+                ListEdit.add(3, "d"),
+                ListEdit.remove(0, "a"),
+                ListEdit.replace(1, "c", "x"),
+                ListEdit.replaceAll(PersistentList.of(Arrays.asList("b", "x", "d")), PersistentList.of(List.of("z"))),
+                ListEdit.add(0, "y"));
+        PersistentList<String> editedContents = ListEdit.applyAll(edits, contents);
+        assertEquals(Arrays.asList("y", "z"), editedContents.toList());
+
+        assertEquals(contents, ListEdit.applyAll(ListEdit.inverse(edits), editedContents));
+    }
+
+    @Test
+    public void inverse_singleEdit_oppositeEdit() {
+        assertEquals(ListEdit.remove(2, "x"), ListEdit.add(2, "x").inverse());
+        assertEquals(ListEdit.add(2, "x"), ListEdit.remove(2, "x").inverse());
+        assertEquals(ListEdit.replace(2, "y", "x"), ListEdit.replace(2, "x", "y").inverse());
+        assertNotEquals(ListEdit.replace(2, "x", "y"), ListEdit.replace(2, "x", "y").inverse());
+    }
+}
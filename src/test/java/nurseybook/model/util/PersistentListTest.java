@@ -0,0 +1,122 @@
+package nurseybook.model.util;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_sameElementsInOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        assertEquals("c", list.get(2));
+        assertTrue(PersistentList.of(new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void add_atIndex_laterElementsShifted() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "c"));
+        assertEquals(Arrays.asList("a", "b", "c"), list.add(1, "b").toList());
+        assertEquals(Arrays.asList("a", "c", "d"), list.add("d").toList());
+        assertEquals(Arrays.asList("z", "a", "c"), list.add(0, "z").toList());
+    }
+
+    @Test
+    public void setAndRemove_index_onlyNewVersionChanged() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c"));
+        PersistentList<String> setList = list.set(1, "x");
+        PersistentList<String> removedList = list.remove(0);
+
+        assertEquals(Arrays.asList("a", "x", "c"), setList.toList());
+        assertEquals(Arrays.asList("b", "c"), removedList.toList());
+        assertEquals(Arrays.asList("a", "b", "c"), list.toList());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().remove(0));
+    }
+
+    @Test
+    public void indexOfFirst_sortedList_firstMatchingIndex() {
+        PersistentList<Integer> list = PersistentList.of(List.of(1, 3, 3, 3, 5, 7));
+        assertEquals(1, list.indexOfFirst(i -> i >= 3));
+        assertEquals(4, list.indexOfFirst(i -> i > 3));
+        assertEquals(0, list.indexOfFirst(i -> i >= 0));
+        assertEquals(6, list.indexOfFirst(i -> i > 7));
+        assertEquals(0, PersistentList.<Integer>empty().indexOfFirst(i -> true));
+    }
+
+    @Test
+    public void changes_manyRandomChanges_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                list = list.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            }
+            if (i % 100 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list.toList());
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        // earlier versions are left untouched by later changes
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).toList());
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        // same values -> returns true
+        assertEquals(list, PersistentList.<String>empty().add("a").add("b"));
+        assertEquals(list.hashCode(), Arrays.asList("a", "b").hashCode());
+
+        // same object -> returns true
+        assertEquals(list, list);
+
+        // null -> returns false
+        assertNotEquals(null, list);
+
+        // different elements -> returns false
+        assertNotEquals(list, list.set(1, "c"));
+        assertNotEquals(list, list.add("c"));
+    }
+}
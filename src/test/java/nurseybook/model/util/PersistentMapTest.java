@@ -0,0 +1,93 @@
+package nurseybook.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentMapTest {
+
+    @Test
+    public void put_newAndExistingKeys_valuesUpdated() {
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().put("a", 1).put("b", 2);
+        PersistentMap<String, Integer> updatedMap = map.put("a", 3);
+
+        assertEquals(3, (int) updatedMap.get("a"));
+        assertEquals(2, updatedMap.size());
+        // the earlier version is left untouched
+        assertEquals(1, (int) map.get("a"));
+        assertNull(map.get("c"));
+    }
+
+    @Test
+    public void put_sameValue_sameMapReturned() {
+        Integer value = 1;
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().put("a", value);
+        assertSame(map, map.put("a", value));
+    }
+
+    @Test
+    public void remove_missingKey_sameMapReturned() {
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().put("a", 1);
+        assertSame(map, map.remove("b"));
+        assertTrue(map.remove("a").isEmpty());
+    }
+
+    @Test
+    public void changes_keysWithSameHashCode_keptApart() {
+        // "Aa" and "BB" have the same hash code
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().put("Aa", 1).put("BB", 2);
+        assertEquals(1, (int) map.get("Aa"));
+        assertEquals(2, (int) map.get("BB"));
+
+        PersistentMap<String, Integer> removedMap = map.remove("Aa");
+        assertFalse(removedMap.containsKey("Aa"));
+        assertEquals(2, (int) removedMap.get("BB"));
+        assertEquals(1, removedMap.size());
+    }
+
+    @Test
+    public void changes_manyRandomChanges_sameAsHashMap() {
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        PersistentMap<Integer, Integer> halfwayMap = null;
+        Map<Integer, Integer> expectedHalfway = null;
+
+        for (int i = 0; i < 5000; i++) {
+            // keys spread over many hash codes, some of which share most of their bits
+            int key = random.nextInt(2000) * (random.nextBoolean() ? 1 : 1 << 20);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+            if (i == 2500) {
+                halfwayMap = map;
+                expectedHalfway = new HashMap<>(expected);
+            }
+        }
+
+        assertEquals(expected, toHashMap(map));
+        assertEquals(expected.size(), map.size());
+        assertEquals(expectedHalfway, toHashMap(halfwayMap));
+        for (int key = -10; key < 2000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    private static <K, V> Map<K, V> toHashMap(PersistentMap<K, V> map) {
+        Map<K, V> hashMap = new HashMap<>();
+        map.forEach(hashMap::put);
+        return hashMap;
+    }
+}
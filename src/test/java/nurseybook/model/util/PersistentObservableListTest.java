@@ -0,0 +1,125 @@
+package nurseybook.model.util;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentObservableListTest {
+
+    private final PersistentObservableList<String> list = new PersistentObservableList<>();
+
+    @Test
+    public void takeEdits_notRecording_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, list::takeEdits);
+    }
+
+    @Test
+    public void takeEdits_changesMade_editsInOrderThenForgotten() {
+        list.startRecordingEdits();
+        list.add("b");
+        list.add(0, "a");
+        list.set(1, "c");
+        list.remove(0);
+        assertEquals(Arrays.asList(
+                ListEdit.add(0, "b"),
+                ListEdit.add(0, "a"),
+                ListEdit.replace(1, "b", "c"),
+                ListEdit.remove(0, "a")), list.takeEdits());
+        assertTrue(list.takeEdits().isEmpty());
+    }
+
+    @Test
+    public void takeEdits_manyRandomChanges_editsTurnOldContentsIntoNewContents() {
+        Random random = new Random(42);
+        list.startRecordingEdits();
+        PersistentList<String> oldContents = list.getContents();
+
+        for (int i = 0; i < 1000; i++) {
+            int choice = random.nextInt(4);
+            if (list.isEmpty() || choice == 0) {
+                list.add(random.nextInt(list.size() + 1), String.valueOf(i));
+            } else if (choice == 1) {
+                list.remove(random.nextInt(list.size()));
+            } else if (choice == 2) {
+                list.set(random.nextInt(list.size()), String.valueOf(i));
+            } else {
+                list.add(String.valueOf(i));
+            }
+            if (i % 100 == 99) {
+                List<ListEdit<String>> edits = list.takeEdits();
+                assertEquals(list.getContents(), ListEdit.applyAll(edits, oldContents));
+                assertEquals(oldContents, ListEdit.applyAll(ListEdit.inverse(edits), list.getContents()));
+                oldContents = list.getContents();
+            }
+        }
+    }
+
+    @Test
+    public void sort_unsortedList_sortedAndRecordedAsReplacement() {
+        list.setAll(Arrays.asList("c", "a", "b"));
+        PersistentList<String> unsortedContents = list.getContents();
+        list.startRecordingEdits();
+
+        list.sort(Comparator.naturalOrder());
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertEquals(List.of(ListEdit.replaceAll(unsortedContents, list.getContents())), list.takeEdits());
+    }
+
+    @Test
+    public void setContents_contentsOfOtherList_laterChangesIndependent() {
+        list.setAll(Arrays.asList("a", "b"));
+        PersistentObservableList<String> otherList = new PersistentObservableList<>();
+        otherList.setContents(list.getContents());
+
+        otherList.remove("a");
+        assertEquals(Arrays.asList("a", "b"), list);
+        assertEquals(Arrays.asList("b"), otherList);
+    }
+
+    @Test
+    public void setContents_withEdits_contentsReplacedAndEditsRecorded() {
+        list.setAll(Arrays.asList("a", "b"));
+        list.startRecordingEdits();
+        List<ListEdit<String>> edits = Arrays.asList(ListEdit.remove(0, "a"), ListEdit.add(1, "c"));
+
+        list.setContents(PersistentList.of(Arrays.asList("b", "c")), edits);
+        assertEquals(Arrays.asList("b", "c"), list);
+        assertEquals(edits, list.takeEdits());
+    }
+
+    @Test
+    public void getEditLog_contentsTakenFromRecordingList_positionKeptUntilChanged() {
+        list.startRecordingEdits();
+        list.add("a");
+        PersistentObservableList<String> copy = new PersistentObservableList<>();
+        copy.setContents(list);
+        assertEquals(list.getEditLog(), copy.getEditLog());
+
+        list.add("b");
+        assertEquals(List.of(ListEdit.add(1, "b")), copy.getEditLog().get().getEditsUntil(list.getEditLog().get())
+                .get());
+
+        copy.remove(0);
+        assertFalse(copy.getEditLog().isPresent());
+    }
+
+    @Test
+    public void iterator_remove_elementRemoved() {
+        list.setAll(Arrays.asList("a", "b", "c"));
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        assertEquals("c", iterator.next());
+        assertEquals(Arrays.asList("a", "c"), list);
+    }
+}
@@ -0,0 +1,76 @@
+package nurseybook.model.util;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentPriorityQueueTest {
+
+    @Test
+    public void removeFirst_emptyQueue_throwsNoSuchElementException() {
+        assertThrows(NoSuchElementException.class, () -> PersistentPriorityQueue.<Integer>empty().removeFirst());
+        assertThrows(NoSuchElementException.class, () -> PersistentPriorityQueue.<Integer>empty().getFirst());
+    }
+
+    @Test
+    public void removeFirst_addedElements_removedInOrder() {
+        PersistentPriorityQueue<Integer> queue = PersistentPriorityQueue.<Integer>empty().add(3).add(1).add(2);
+        PersistentPriorityQueue<Integer> removedQueue = queue.removeFirst();
+
+        assertEquals(2, (int) removedQueue.getFirst());
+        assertEquals(2, removedQueue.size());
+        // the earlier version is left untouched
+        assertEquals(1, (int) queue.getFirst());
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    public void filter_predicate_onlyMatchingElementsKept() {
+        PersistentPriorityQueue<Integer> queue = PersistentPriorityQueue.empty();
+        for (int i = 10; i > 0; i--) {
+            queue = queue.add(i);
+        }
+        assertEquals(List.of(2, 4, 6, 8, 10), removeAll(queue.filter(i -> i % 2 == 0)));
+        assertTrue(queue.filter(i -> false).isEmpty());
+    }
+
+    @Test
+    public void changes_manyRandomChanges_sameAsPriorityQueue() {
+        Random random = new Random(42);
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        PersistentPriorityQueue<Integer> queue = PersistentPriorityQueue.empty();
+
+        for (int i = 0; i < 3000; i++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                assertEquals(expected.poll(), queue.getFirst());
+                queue = queue.removeFirst();
+            } else {
+                int element = random.nextInt(500);
+                expected.add(element);
+                queue = queue.add(element);
+            }
+        }
+
+        List<Integer> expectedElements = new ArrayList<>();
+        while (!expected.isEmpty()) {
+            expectedElements.add(expected.poll());
+        }
+        assertEquals(expectedElements, removeAll(queue));
+    }
+
+    private static List<Integer> removeAll(PersistentPriorityQueue<Integer> queue) {
+        List<Integer> elements = new ArrayList<>();
+        for (; !queue.isEmpty(); queue = queue.removeFirst()) {
+            elements.add(queue.getFirst());
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,117 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static nurseybook.testutil.TypicalTasks.FIONA_PHYSIO;
+import static nurseybook.testutil.TypicalTasks.GEORGE_INSULIN;
+import static nurseybook.testutil.TypicalTasks.KG_SC_VACCINE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.model.task.Task;
+import nurseybook.testutil.TaskBuilder;
+
+public class ArchiveKeyIndexTest {
+
+    private static final Task FIONA_EVENING_WALK = new TaskBuilder().withDesc("Evening walk")
+            .withDateTime("2021-09-13", "19:00").build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void findRecordNumbers_missingFile_noRecordsFound() throws Exception {
+        ArchiveKeyIndex index = createDateIndex();
+        assertEquals(0, index.read(3));
+        assertEquals(Collections.emptyList(), index.findRecordNumbers(FIONA_PHYSIO.getDate().toEpochDay()));
+        assertEquals(Long.MIN_VALUE, index.findLargestKey());
+    }
+
+    @Test
+    public void appendRun_severalRuns_recordNumbersFoundInOrder() throws Exception {
+        ArchiveKeyIndex index = createDateIndex();
+        index.appendRun(0, Arrays.asList(FIONA_PHYSIO, KG_SC_VACCINE));
+        index.appendRun(2, Arrays.asList(GEORGE_INSULIN, FIONA_EVENING_WALK));
+
+        long fionaDateKey = FIONA_PHYSIO.getDate().toEpochDay();
+        assertEquals(Arrays.asList(0, 3), index.findRecordNumbers(fionaDateKey));
+        assertEquals(KG_SC_VACCINE.getDate().toEpochDay(), index.findLargestKey());
+
+        ArchiveKeyIndex readIndex = createDateIndex();
+        assertEquals(4, readIndex.read(4));
+        assertEquals(Arrays.asList(0, 3), readIndex.findRecordNumbers(fionaDateKey));
+        assertEquals(Collections.singletonList(2), readIndex.findRecordNumbers(GEORGE_INSULIN.getDate().toEpochDay()));
+    }
+
+    @Test
+    public void appendRun_recordsOutOfOrder_throwsIllegalArgumentException() {
+        ArchiveKeyIndex index = createDateIndex();
+        assertThrows(IllegalArgumentException.class, () ->
+                index.appendRun(1, Collections.singletonList(FIONA_PHYSIO)));
+    }
+
+    @Test
+    public void read_runsOfUnarchivedRecords_ignoredAndOverwritten() throws Exception {
+        createDateIndex().appendRun(0, Collections.singletonList(FIONA_PHYSIO));
+        // a run whose records were not archived as the archiving was interrupted
+        createDateIndexRead(1).appendRun(1, Collections.singletonList(KG_SC_VACCINE));
+
+        ArchiveKeyIndex index = createDateIndex();
+        assertEquals(1, index.read(1));
+        assertEquals(Collections.emptyList(), index.findRecordNumbers(KG_SC_VACCINE.getDate().toEpochDay()));
+
+        index.appendRun(1, Collections.singletonList(FIONA_EVENING_WALK));
+        assertEquals(Arrays.asList(0, 1), createDateIndexRead(2).findRecordNumbers(
+                FIONA_PHYSIO.getDate().toEpochDay()));
+    }
+
+    @Test
+    public void read_partlyWrittenRun_ignored() throws Exception {
+        createDateIndex().appendRun(0, Collections.singletonList(FIONA_PHYSIO));
+        Files.write(testFolder.resolve("dates"), new byte[] {0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 5, 1, 2},
+                StandardOpenOption.APPEND);
+
+        assertEquals(1, createDateIndex().read(2));
+    }
+
+    @Test
+    public void appendRun_moreThanMaxRunCount_runsMerged() throws Exception {
+        ArchiveKeyIndex index = createDateIndex();
+        List<Task> tasks = Arrays.asList(FIONA_PHYSIO, KG_SC_VACCINE, GEORGE_INSULIN, FIONA_EVENING_WALK);
+        int recordCount = ArchiveKeyIndex.MAX_RUN_COUNT + 1;
+        for (int recordNumber = 0; recordNumber < recordCount; recordNumber++) {
+            index.appendRun(recordNumber, Collections.singletonList(tasks.get(recordNumber % tasks.size())));
+        }
+        assertEquals(2, index.getRunCount());
+
+        long fionaDateKey = FIONA_PHYSIO.getDate().toEpochDay();
+        List<Integer> expectedRecordNumbers = Arrays.asList(0, 3, 4, 7, 8);
+        assertEquals(expectedRecordNumbers, index.findRecordNumbers(fionaDateKey));
+        assertEquals(KG_SC_VACCINE.getDate().toEpochDay(), index.findLargestKey());
+
+        ArchiveKeyIndex readIndex = createDateIndex();
+        assertEquals(recordCount, readIndex.read(recordCount));
+        assertEquals(2, readIndex.getRunCount());
+        assertEquals(expectedRecordNumbers, readIndex.findRecordNumbers(fionaDateKey));
+        assertEquals(Arrays.asList(2, 6), readIndex.findRecordNumbers(GEORGE_INSULIN.getDate().toEpochDay()));
+    }
+
+    private ArchiveKeyIndex createDateIndex() {
+        return new ArchiveKeyIndex(testFolder.resolve("dates"),
+                task -> Collections.singleton(task.getDate().toEpochDay()));
+    }
+
+    private ArchiveKeyIndex createDateIndexRead(int archivedRecordCount) throws Exception {
+        ArchiveKeyIndex index = createDateIndex();
+        index.read(archivedRecordCount);
+        return index;
+    }
+}
@@ -0,0 +1,153 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static nurseybook.testutil.TypicalElderlies.ALICE;
+import static nurseybook.testutil.TypicalElderlies.getTypicalNurseyBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+
+public class BackgroundNurseyBookSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundNurseyBookSaver(null, 0));
+    }
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        BackgroundNurseyBookSaver saver = new BackgroundNurseyBookSaver(new JsonNurseyBookRecordingStub(testFolder), 0);
+        assertThrows(NullPointerException.class, () -> saver.submit(null));
+    }
+
+    @Test
+    public void flush_severalSubmissions_writesLatestOnce() throws Exception {
+        JsonNurseyBookRecordingStub storage = new JsonNurseyBookRecordingStub(testFolder);
+        BackgroundNurseyBookSaver saver = new BackgroundNurseyBookSaver(storage, LONG_DELAY_MILLIS);
+        NurseyBook latest = getTypicalNurseyBook();
+
+        saver.submit(new NurseyBook());
+        saver.submit(new NurseyBook());
+        saver.submit(latest);
+        saver.flush();
+        assertEquals(List.of(latest), storage.savedNurseyBooks);
+
+        // nothing new to write
+        saver.flush();
+        assertEquals(List.of(latest), storage.savedNurseyBooks);
+    }
+
+    @Test
+    public void submit_noDelay_writesWithoutFlush() throws Exception {
+        JsonNurseyBookRecordingStub storage = new JsonNurseyBookRecordingStub(testFolder);
+        BackgroundNurseyBookSaver saver = new BackgroundNurseyBookSaver(storage, 0);
+        NurseyBook nurseyBook = new NurseyBook();
+        nurseyBook.addElderly(ALICE);
+
+        saver.submit(nurseyBook);
+        saver.awaitWrites();
+        assertEquals(List.of(nurseyBook), storage.savedNurseyBooks);
+    }
+
+    @Test
+    public void flush_saveFails_throwsIoExceptionOnce() throws Exception {
+        BackgroundNurseyBookSaver saver = new BackgroundNurseyBookSaver(new JsonNurseyBookIoExceptionThrowingStub(),
+                LONG_DELAY_MILLIS);
+        saver.submit(new NurseyBook());
+        assertThrows(IOException.class, saver::flush);
+
+        // failure has been reported
+        saver.flush();
+    }
+
+    @Test
+    public void submit_earlierSaveFailed_throwsIoException() throws Exception {
+        BackgroundNurseyBookSaver saver = new BackgroundNurseyBookSaver(new JsonNurseyBookIoExceptionThrowingStub(),
+                LONG_DELAY_MILLIS);
+        saver.submit(new NurseyBook());
+        saver.awaitWrites();
+        assertThrows(IOException.class, () -> saver.submit(new NurseyBook()));
+    }
+
+    @Test
+    public void reportSaveFailure_earlierSaveFailed_throwsIoException() throws Exception {
+        BackgroundNurseyBookSaver saver = new BackgroundNurseyBookSaver(new JsonNurseyBookIoExceptionThrowingStub(),
+                LONG_DELAY_MILLIS);
+        saver.reportSaveFailure();
+
+        saver.submit(new NurseyBook());
+        saver.awaitWrites();
+        assertThrows(IOException.class, saver::reportSaveFailure);
+        saver.reportSaveFailure();
+    }
+
+    @Test
+    public void flush_saveThrowsRuntimeException_throwsIoException() throws Exception {
+        BackgroundNurseyBookSaver saver = new BackgroundNurseyBookSaver(
+                new JsonNurseyBookRuntimeExceptionThrowingStub(), LONG_DELAY_MILLIS);
+        saver.submit(new NurseyBook());
+        assertThrows(IOException.class, "Unexpected error while saving data", saver::flush);
+
+        // failure has been reported
+        saver.flush();
+    }
+
+    /**
+     * A stub class that records every nursey book saved instead of writing it.
+     */
+    private static class JsonNurseyBookRecordingStub extends JsonNurseyBookStorage {
+        private final List<ReadOnlyNurseyBook> savedNurseyBooks = new ArrayList<>();
+
+        private JsonNurseyBookRecordingStub(Path folder) {
+            super(folder.resolve("nurseyBook.json"));
+        }
+
+        @Override
+        public void saveNurseyBook(ReadOnlyNurseyBook nurseyBook, Path filePath) {
+            savedNurseyBooks.add(nurseyBook);
+        }
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonNurseyBookIoExceptionThrowingStub extends JsonNurseyBookStorage {
+        private JsonNurseyBookIoExceptionThrowingStub() {
+            super(Path.of("ioExceptionNurseyBook.json"));
+        }
+
+        @Override
+        public void saveNurseyBook(ReadOnlyNurseyBook nurseyBook, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+
+    /**
+     * A stub class to throw a {@code RuntimeException} when the save method is called.
+     */
+    private static class JsonNurseyBookRuntimeExceptionThrowingStub extends JsonNurseyBookStorage {
+        private JsonNurseyBookRuntimeExceptionThrowingStub() {
+            super(Path.of("runtimeExceptionNurseyBook.json"));
+        }
+
+        @Override
+        public void saveNurseyBook(ReadOnlyNurseyBook nurseyBook, Path filePath) {
+            throw new IllegalStateException("Storage backend failure");
+        }
+    }
+}
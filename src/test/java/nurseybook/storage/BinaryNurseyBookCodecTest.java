@@ -0,0 +1,92 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.testutil.ElderlyBuilder;
+import nurseybook.testutil.TaskBuilder;
+import nurseybook.testutil.TypicalTasks;
+
+public class BinaryNurseyBookCodecTest {
+
+    @Test
+    public void hasMagicHeader() {
+        assertTrue(BinaryNurseyBookCodec.hasMagicHeader(BinaryNurseyBookCodec.MAGIC_HEADER));
+        assertFalse(BinaryNurseyBookCodec.hasMagicHeader("{\"elderlies\"".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(BinaryNurseyBookCodec.hasMagicHeader(new byte[] {'N', 'B'}));
+    }
+
+    @Test
+    public void encodeDecode_typicalNurseyBook_equal() throws Exception {
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        assertEquals(original, decode(encode(original)));
+    }
+
+    @Test
+    public void encodeDecode_extremeValues_equal() throws Exception {
+        Elderly elderly = new ElderlyBuilder().withName("Zoe Ng").build();
+        NurseyBook original = new NurseyBook();
+        original.addElderly(new Elderly(-1, elderly.getName(), elderly.getAge(), elderly.getGender(),
+                elderly.getRoomNumber(), elderly.getNok(), elderly.getRemark(), elderly.getTags()));
+        original.addTask(new TaskBuilder().withDesc("Café visit").withNames("Zoe Ng")
+                .withDateTime("0001-01-01", "00:00").build());
+        original.addTask(new TaskBuilder().withDateTime("9999-12-31", "23:59:59.999999999").build());
+
+        NurseyBook decoded = decode(encode(original));
+        assertEquals(original, decoded);
+        assertEquals(-1, decoded.getElderlyList().get(0).getId());
+    }
+
+    @Test
+    public void decode_notBinary_throwsIoException() {
+        byte[] json = "{ \"elderlies\": [] }".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, BinaryNurseyBookCodec.MESSAGE_INVALID_MAGIC_HEADER, () -> decode(json));
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIoException() {
+        byte[] data = {'N', 'B', 'K', 'B', 2};
+        assertThrows(IOException.class, String.format(BinaryNurseyBookCodec.MESSAGE_UNSUPPORTED_VERSION, 2), () ->
+                decode(data));
+    }
+
+    @Test
+    public void decode_unknownString_throwsIoException() {
+        // an empty dictionary, followed by an elderly whose name is the first string
+        byte[] data = {'N', 'B', 'K', 'B', 1, 0, 1, 1, 0};
+        assertThrows(IOException.class, String.format(BinaryNurseyBookCodec.MESSAGE_INVALID_DATA,
+                "unknown string 0"), () -> decode(data));
+    }
+
+    @Test
+    public void decode_invalidName_throwsIllegalValueException() throws Exception {
+        NurseyBook nurseyBook = new NurseyBook();
+        nurseyBook.addElderly(new ElderlyBuilder().withName("Amy Bee").build());
+        byte[] data = encode(nurseyBook);
+        String dataString = new String(data, StandardCharsets.ISO_8859_1);
+        data[dataString.indexOf("Amy Bee")] = '!';
+        assertThrows(IllegalValueException.class, () -> decode(data));
+    }
+
+    private static byte[] encode(NurseyBook nurseyBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryNurseyBookCodec.encode(nurseyBook, out);
+        return out.toByteArray();
+    }
+
+    private static NurseyBook decode(byte[] data) throws IOException, IllegalValueException {
+        return BinaryNurseyBookCodec.decode(new ByteArrayInputStream(data));
+    }
+}
@@ -0,0 +1,135 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static nurseybook.testutil.TypicalElderlies.ALICE;
+import static nurseybook.testutil.TypicalElderlies.HOON;
+import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_LATE_TIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.core.DataCompression.Format;
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.task.Recurrence.RecurrenceType;
+import nurseybook.testutil.TaskBuilder;
+import nurseybook.testutil.TypicalElderlies;
+import nurseybook.testutil.TypicalTasks;
+
+public class BinaryNurseyBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readNurseyBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryNurseyBookStorage(testFolder.resolve("nurseybook.bin")).readNurseyBook(null));
+    }
+
+    @Test
+    public void readNurseyBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryNurseyBookStorage(testFolder.resolve("NonExistentFile.bin")).readNurseyBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveNurseyBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("nurseybook.bin");
+        BinaryNurseyBookStorage storage = new BinaryNurseyBookStorage(filePath);
+        NurseyBook original = TypicalElderlies.getTypicalNurseyBook();
+
+        storage.saveNurseyBook(original);
+        assertTrue(BinaryNurseyBookCodec.hasMagicHeader(filePath));
+        assertEquals(original, new NurseyBook(storage.readNurseyBook().get()));
+
+        // modify data, overwrite existing file, and read back
+        original.addElderly(HOON);
+        original.removeElderly(ALICE);
+        storage.saveNurseyBook(original);
+        assertEquals(original, new NurseyBook(storage.readNurseyBook().get()));
+    }
+
+    @Test
+    public void readAndSaveNurseyBook_tasks_sameAsJson() throws Exception {
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        original.addTask(APPLY_LEAVE_LATE_TIME);
+        original.addTask(new TaskBuilder().withDesc("Check on residents").withDateTime("1960-02-29", "23:59:30.5")
+                .withStatus("true", "true").withRecurrence(RecurrenceType.MONTH.name()).build());
+
+        Path binaryFilePath = testFolder.resolve("nurseybook.bin");
+        Path jsonFilePath = testFolder.resolve("nurseybook.json");
+        new BinaryNurseyBookStorage(binaryFilePath).saveNurseyBook(original);
+        new JsonNurseyBookStorage(jsonFilePath).saveNurseyBook(original);
+        ReadOnlyNurseyBook fromBinary = new BinaryNurseyBookStorage(binaryFilePath).readNurseyBook().get();
+        ReadOnlyNurseyBook fromJson = new JsonNurseyBookStorage(jsonFilePath).readNurseyBook().get();
+
+        assertEquals(original, new NurseyBook(fromBinary));
+        assertEquals(fromJson.getElderlyList(), fromBinary.getElderlyList());
+        assertEquals(fromJson.getRealTaskList(), fromBinary.getRealTaskList());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readNurseyBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("nurseybook.json");
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        new JsonNurseyBookStorage(filePath).saveNurseyBook(original);
+
+        BinaryNurseyBookStorage storage = new BinaryNurseyBookStorage(filePath);
+        assertEquals(original, new NurseyBook(storage.readNurseyBook().get()));
+
+        // the next save converts the file to the binary format
+        storage.saveNurseyBook(original);
+        assertTrue(BinaryNurseyBookCodec.hasMagicHeader(filePath));
+        assertEquals(original, new NurseyBook(new JsonNurseyBookStorage(filePath).readNurseyBook().get()));
+    }
+
+    @Test
+    public void readAndSaveNurseyBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("nurseybook.bin");
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        new BinaryNurseyBookStorage(filePath, progress -> {}, new DataCompression(Format.GZIP, 9))
+                .saveNurseyBook(original);
+
+        assertTrue(BinaryNurseyBookCodec.hasMagicHeader(filePath));
+        assertEquals(original, new NurseyBook(new BinaryNurseyBookStorage(filePath).readNurseyBook().get()));
+    }
+
+    @Test
+    public void readNurseyBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("nurseybook.bin");
+        BinaryNurseyBookStorage storage = new BinaryNurseyBookStorage(filePath);
+        storage.saveNurseyBook(TypicalTasks.getTypicalUnorderedNurseyBook());
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length - 1));
+
+        assertThrows(DataConversionException.class, storage::readNurseyBook);
+    }
+
+    @Test
+    public void readNurseyBook_tasksWithInvalidElderly_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("nurseybook.bin");
+        NurseyBook nurseyBook = new NurseyBook();
+        nurseyBook.addTask(new TaskBuilder().withNames("Nobody Here").build());
+        BinaryNurseyBookStorage storage = new BinaryNurseyBookStorage(filePath);
+        storage.saveNurseyBook(nurseyBook);
+
+        assertThrows(DataConversionException.class, storage::readNurseyBook);
+    }
+
+    @Test
+    public void saveNurseyBook_nullNurseyBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryNurseyBookStorage(testFolder.resolve("nurseybook.bin")).saveNurseyBook(null));
+    }
+}
@@ -0,0 +1,215 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static nurseybook.testutil.TypicalElderlies.ALICE;
+import static nurseybook.testutil.TypicalElderlies.BENSON;
+import static nurseybook.testutil.TypicalElderlies.HOON;
+import static nurseybook.testutil.TypicalElderlies.IDA;
+import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_LATE_TIME;
+import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_NEXT_DAY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.commons.util.JsonUtil;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.VersionedNurseyBook;
+import nurseybook.model.util.ListEdit;
+import nurseybook.testutil.ElderlyBuilder;
+import nurseybook.testutil.TypicalElderlies;
+import nurseybook.testutil.TypicalTasks;
+
+public class JournalNurseyBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readNurseyBook_nullFilePath_throwsNullPointerException() {
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(testFolder.resolve("nurseyBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readNurseyBook(null));
+    }
+
+    @Test
+    public void readNurseyBook_missingFile_emptyResult() throws Exception {
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(testFolder.resolve("nurseyBook.json"));
+        assertFalse(storage.readNurseyBook().isPresent());
+    }
+
+    @Test
+    public void saveNurseyBook_nullNurseyBook_throwsNullPointerException() {
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(testFolder.resolve("nurseyBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveNurseyBook(null));
+    }
+
+    @Test
+    public void readAndSaveElderlies_changesAppendedToJournal_success() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(filePath);
+        NurseyBook original = TypicalElderlies.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // add, delete and edit elderlies
+        original.addElderly(HOON);
+        storage.saveNurseyBook(original);
+        original.removeElderly(ALICE);
+        storage.saveNurseyBook(original);
+        original.setElderly(BENSON, new ElderlyBuilder(BENSON).withRemark("Likes tea.").build());
+        storage.saveNurseyBook(original);
+
+        // nothing changed -> nothing appended
+        storage.saveNurseyBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, getJournalLineCount(filePath));
+        assertEquals(original, readWithNewStorage(filePath));
+
+        // saves after reading are appended to the same journal
+        JournalNurseyBookStorage newStorage = new JournalNurseyBookStorage(filePath);
+        newStorage.readNurseyBook();
+        original.addElderly(IDA);
+        newStorage.saveNurseyBook(original);
+        assertEquals(5, getJournalLineCount(filePath));
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAndSaveTasks_changesAppendedToJournal_success() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(filePath);
+        NurseyBook original = TypicalTasks.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+
+        original.addTask(APPLY_LEAVE_LATE_TIME);
+        storage.saveNurseyBook(original);
+        original.addTask(APPLY_LEAVE_NEXT_DAY);
+        original.removeTask(APPLY_LEAVE_LATE_TIME);
+        storage.saveNurseyBook(original);
+
+        assertEquals(3, getJournalLineCount(filePath));
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveNurseyBook_copiesOfRecordedNurseyBook_editsAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(filePath);
+        VersionedNurseyBook nurseyBook = new VersionedNurseyBook(TypicalTasks.getTypicalNurseyBook());
+        storage.saveNurseyBook(new NurseyBook(nurseyBook));
+
+        nurseyBook.addElderly(HOON);
+        nurseyBook.removeTask(nurseyBook.getRealTaskList().get(0));
+        storage.saveNurseyBook(new NurseyBook(nurseyBook));
+
+        JsonAdaptedJournalEntry expectedEntry = new JsonAdaptedJournalEntry(0, 0, null, 0, 0, null,
+                List.of(new JsonAdaptedListEdit(ListEdit.Type.ADD, nurseyBook.getElderlyList().size() - 1,
+                        new JsonAdaptedElderly(HOON), null)),
+                List.of(new JsonAdaptedListEdit(ListEdit.Type.REMOVE, 0, null, null)));
+        assertEquals(JsonUtil.toCompactJsonString(expectedEntry), getJournalLines(filePath).get(1));
+        assertEquals(new NurseyBook(nurseyBook), readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveNurseyBook_journalReachesThreshold_compacts() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(filePath, 2);
+        NurseyBook original = TypicalElderlies.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+
+        original.addElderly(HOON);
+        storage.saveNurseyBook(original);
+        original.addElderly(IDA);
+        storage.saveNurseyBook(original);
+        assertEquals(3, getJournalLineCount(filePath));
+
+        original.removeElderly(ALICE);
+        storage.saveNurseyBook(original);
+        assertEquals(1, getJournalLineCount(filePath));
+        assertEquals(original, new NurseyBook(new JsonNurseyBookStorage(filePath).readNurseyBook().get()));
+    }
+
+    @Test
+    public void compactNurseyBook_changesInJournal_foldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(filePath);
+        NurseyBook original = TypicalElderlies.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+        original.addElderly(HOON);
+        storage.saveNurseyBook(original);
+
+        storage.compactNurseyBook();
+        assertEquals(1, getJournalLineCount(filePath));
+        assertEquals(original, new NurseyBook(new JsonNurseyBookStorage(filePath).readNurseyBook().get()));
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readNurseyBook_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(filePath);
+        NurseyBook original = TypicalElderlies.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+        original.addElderly(HOON);
+        storage.saveNurseyBook(original);
+
+        // snapshot replaced without resetting the journal, e.g. if the app stopped in the middle of a compaction
+        NurseyBook compacted = new NurseyBook(original);
+        new JsonNurseyBookStorage(filePath).saveNurseyBook(compacted);
+        assertEquals(compacted, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readNurseyBook_incompleteLastEntry_entryIgnoredAndSnapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(filePath);
+        NurseyBook original = TypicalElderlies.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+        original.addElderly(HOON);
+        storage.saveNurseyBook(original);
+        Files.writeString(JournalNurseyBookStorage.getJournalFilePath(filePath), "{\"elderliesIndex\":",
+                StandardOpenOption.APPEND);
+
+        JournalNurseyBookStorage newStorage = new JournalNurseyBookStorage(filePath);
+        assertEquals(original, new NurseyBook(newStorage.readNurseyBook().get()));
+
+        // the journal cannot be appended to, so the next save writes a new snapshot
+        original.addElderly(IDA);
+        newStorage.saveNurseyBook(original);
+        assertEquals(1, getJournalLineCount(filePath));
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveNurseyBook_otherFilePath_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        Path otherFilePath = testFolder.resolve("otherNurseyBook.json");
+        JournalNurseyBookStorage storage = new JournalNurseyBookStorage(filePath);
+        NurseyBook original = TypicalElderlies.getTypicalNurseyBook();
+
+        storage.saveNurseyBook(original, otherFilePath);
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new NurseyBook(storage.readNurseyBook(otherFilePath).get()));
+    }
+
+    private static ReadOnlyNurseyBook readWithNewStorage(Path filePath) throws Exception {
+        return new NurseyBook(new JournalNurseyBookStorage(filePath).readNurseyBook().get());
+    }
+
+    private static int getJournalLineCount(Path filePath) throws Exception {
+        return getJournalLines(filePath).size();
+    }
+
+    private static List<String> getJournalLines(Path filePath) throws Exception {
+        return Files.readAllLines(JournalNurseyBookStorage.getJournalFilePath(filePath), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,136 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static nurseybook.testutil.TypicalElderlies.ALICE;
+import static nurseybook.testutil.TypicalElderlies.AMY;
+import static nurseybook.testutil.TypicalElderlies.BENSON;
+import static nurseybook.testutil.TypicalElderlies.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.commons.util.JsonUtil;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.VersionedNurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.task.Task;
+import nurseybook.model.util.ListEdit;
+import nurseybook.testutil.ElderlyBuilder;
+import nurseybook.testutil.TypicalTasks;
+
+public class JsonAdaptedJournalEntryTest {
+
+    @Test
+    public void constructor_noChanges_isEmpty() {
+        NurseyBook nurseyBook = TypicalTasks.getTypicalNurseyBook();
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(new ArrayList<>(nurseyBook.getElderlyList()),
+                new ArrayList<>(nurseyBook.getRealTaskList()), nurseyBook);
+        assertTrue(entry.isEmpty());
+    }
+
+    @Test
+    public void applyTo_changesFromConstructor_reproducesChanges() throws Exception {
+        NurseyBook nurseyBook = TypicalTasks.getTypicalNurseyBook();
+        List<Elderly> elderlies = new ArrayList<>(nurseyBook.getElderlyList());
+        List<Task> tasks = new ArrayList<>(nurseyBook.getRealTaskList());
+
+        nurseyBook.removeElderly(nurseyBook.getElderlyList().get(1));
+        nurseyBook.addElderly(AMY);
+        nurseyBook.removeTask(nurseyBook.getRealTaskList().get(0));
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(elderlies, tasks, nurseyBook);
+        assertFalse(entry.isEmpty());
+
+        // survives a round trip through json
+        JsonAdaptedJournalEntry readBack = JsonUtil.fromJsonString(JsonUtil.toCompactJsonString(entry),
+                JsonAdaptedJournalEntry.class);
+        readBack.applyTo(elderlies, tasks);
+        assertEquals(nurseyBook.getElderlyList(), elderlies);
+        assertEquals(nurseyBook.getRealTaskList(), tasks);
+    }
+
+    @Test
+    public void of_copiesOfRecordedNurseyBook_onlyEditsStored() throws Exception {
+        VersionedNurseyBook nurseyBook = new VersionedNurseyBook(TypicalTasks.getTypicalNurseyBook());
+        NurseyBook saved = new NurseyBook(nurseyBook);
+        List<Elderly> elderlies = new ArrayList<>(nurseyBook.getElderlyList());
+        List<Task> tasks = new ArrayList<>(nurseyBook.getRealTaskList());
+
+        // changes at both ends of the lists, which a single range would have to span
+        Elderly firstElderly = nurseyBook.getElderlyList().get(0);
+        Elderly lastElderly = nurseyBook.getElderlyList().get(elderlies.size() - 1);
+        nurseyBook.setElderly(firstElderly, new ElderlyBuilder(firstElderly).withRemark("Likes tea.").build());
+        nurseyBook.removeElderly(lastElderly);
+        nurseyBook.removeTask(nurseyBook.getRealTaskList().get(tasks.size() - 1));
+        nurseyBook.removeTask(nurseyBook.getRealTaskList().get(0));
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.of(saved, new NurseyBook(nurseyBook));
+
+        String json = JsonUtil.toCompactJsonString(entry);
+        assertFalse(json.contains(JsonUtil.toCompactJsonString(new JsonAdaptedElderly(elderlies.get(1)))));
+        JsonAdaptedJournalEntry readBack = JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class);
+        readBack.applyTo(elderlies, tasks);
+        assertEquals(nurseyBook.getElderlyList(), elderlies);
+        assertEquals(nurseyBook.getRealTaskList(), tasks);
+    }
+
+    @Test
+    public void of_unrelatedNurseyBooks_changedRangeStored() throws Exception {
+        NurseyBook saved = TypicalTasks.getTypicalNurseyBook();
+        NurseyBook nurseyBook = TypicalTasks.getTypicalNurseyBook();
+        nurseyBook.addElderly(AMY);
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.of(saved, nurseyBook);
+
+        JsonAdaptedJournalEntry expectedEntry = new JsonAdaptedJournalEntry(new ArrayList<>(saved.getElderlyList()),
+                new ArrayList<>(saved.getRealTaskList()), nurseyBook);
+        assertEquals(JsonUtil.toCompactJsonString(expectedEntry), JsonUtil.toCompactJsonString(entry));
+    }
+
+    @Test
+    public void applyTo_editOutOfBounds_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(0, 0, null, 0, 0, null,
+                List.of(new JsonAdaptedListEdit(ListEdit.Type.REMOVE, 2, null, null)), null);
+        assertThrows(IllegalValueException.class, () -> entry.applyTo(new ArrayList<>(List.of(ALICE, BENSON)),
+                new ArrayList<>()));
+    }
+
+    @Test
+    public void applyTo_onlyChangedRangeStored() throws Exception {
+        List<Elderly> before = List.of(ALICE, BENSON, CARL);
+        NurseyBook after = new NurseyBook();
+        after.setElderlies(List.of(ALICE, AMY, CARL));
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(before, Collections.emptyList(), after);
+
+        // entry replaces the middle elderly, whatever the others are
+        List<Elderly> elderlies = new ArrayList<>(List.of(CARL, BENSON, ALICE));
+        entry.applyTo(elderlies, new ArrayList<>());
+        assertEquals(List.of(CARL, AMY, ALICE), elderlies);
+    }
+
+    @Test
+    public void constructor_itemReplacedByEqualItemWithOtherId_replacementStored() throws Exception {
+        Elderly newBenson = new ElderlyBuilder(BENSON).build();
+        NurseyBook after = new NurseyBook();
+        after.setElderlies(List.of(ALICE, newBenson));
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(List.of(ALICE, BENSON), Collections.emptyList(),
+                after);
+        assertFalse(entry.isEmpty());
+
+        List<Elderly> elderlies = new ArrayList<>(List.of(ALICE, BENSON));
+        entry.applyTo(elderlies, new ArrayList<>());
+        assertEquals(newBenson.getId(), elderlies.get(1).getId());
+    }
+
+    @Test
+    public void applyTo_rangeOutOfBounds_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(1, 2, Collections.emptyList(), 0, 0,
+                Collections.emptyList());
+        assertThrows(IllegalValueException.class, () -> entry.applyTo(new ArrayList<>(List.of(ALICE, BENSON)),
+                new ArrayList<>()));
+    }
+}
@@ -8,17 +8,23 @@ import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_LATE_TIME;
 import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_NEXT_DAY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.core.DataCompression.Format;
 import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.commons.exceptions.IllegalValueException;
 import nurseybook.model.NurseyBook;
 import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.testutil.TaskBuilder;
 import nurseybook.testutil.TypicalElderlies;
 import nurseybook.testutil.TypicalTasks;
 
@@ -69,6 +75,20 @@ public class JsonNurseyBookStorageTest {
                 "tasksWithInvalidElderlyNurseyBook.json"));
     }
 
+    @Test
+    public void checkTaskNames_tasksWithInvalidNames_allInvalidNamesListed() throws Exception {
+        NurseyBook nurseyBook = TypicalElderlies.getTypicalNurseyBook();
+        nurseyBook.addTask(new TaskBuilder().withDesc("Check vitals").withDateTime("2021-10-10", "10:00")
+                .withNames("Nobody Here", "Alice Pauline").build());
+        nurseyBook.addTask(new TaskBuilder().withDesc("Give medicine").withDateTime("2021-10-11", "11:30")
+                .withNames("alice pauline").build());
+
+        assertThrows(IllegalValueException.class, JsonNurseyBookStorage.INVALID_NAMES_IN_TASKS
+                + ": Check vitals on 2021-10-10 10:00:00 has Nobody Here"
+                + "; Give medicine on 2021-10-11 11:30:00 has alice pauline", () ->
+                JsonNurseyBookStorage.checkTaskNames(nurseyBook));
+    }
+
     @Test
     public void readAndSavePeopleInNurseyBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempNurseyBook.json");
@@ -121,6 +141,23 @@ public class JsonNurseyBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveNurseyBook_compressed_success() throws Exception {
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        Path plainFilePath = testFolder.resolve("plain.json");
+        new JsonNurseyBookStorage(plainFilePath).saveNurseyBook(original);
+
+        for (Format format : new Format[] {Format.GZIP, Format.DEFLATE}) {
+            Path filePath = testFolder.resolve("compressed.json");
+            new JsonNurseyBookStorage(filePath, progress -> {}, new DataCompression(format, 9))
+                    .saveNurseyBook(original);
+            assertTrue(Files.size(filePath) < Files.size(plainFilePath));
+
+            // compressed files are read without being told how they were compressed
+            assertEquals(original, new NurseyBook(new JsonNurseyBookStorage(filePath).readNurseyBook().get()));
+        }
+    }
+
     @Test
     public void saveNurseyBook_nullNurseyBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveNurseyBook(null, "SomeFile.json"));
@@ -6,12 +6,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import nurseybook.commons.exceptions.IllegalValueException;
 import nurseybook.commons.util.JsonUtil;
 import nurseybook.model.NurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.person.Name;
+import nurseybook.model.task.Task;
 import nurseybook.testutil.TypicalElderlies;
 
 public class JsonSerializableNurseyBookTest {
@@ -22,6 +26,10 @@ public class JsonSerializableNurseyBookTest {
     private static final Path DUPLICATE_ELDERLY_FILE = TEST_DATA_FOLDER.resolve("duplicateElderlyNurseyBook.json");
     private static final Path TYPICAL_TASKS_FILE = TEST_DATA_FOLDER.resolve("typicalTasksNurseyBook.json");
     private static final Path INVALID_TASK_FILE = TEST_DATA_FOLDER.resolve("invalidTaskNurseyBook.json");
+    private static final Path RELATED_IDS_FILE = TEST_DATA_FOLDER.resolve("relatedIdsNurseyBook.json");
+    private static final Path UNKNOWN_RELATED_ID_FILE = TEST_DATA_FOLDER.resolve("unknownRelatedIdNurseyBook.json");
+    private static final Path DUPLICATE_ELDERLY_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateElderlyIdNurseyBook.json");
 
     @Test
     public void toModelType_typicalElderliesFile_success() throws Exception {
@@ -63,4 +71,44 @@ public class JsonSerializableNurseyBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_taskWithRelatedIds_usesNamesOfReferencedElderlies() throws Exception {
+        JsonSerializableNurseyBook dataFromFile = JsonUtil.readJsonFile(RELATED_IDS_FILE,
+                JsonSerializableNurseyBook.class).get();
+        NurseyBook nurseyBookFromFile = dataFromFile.toModelType();
+        Elderly elderly = nurseyBookFromFile.getElderlyList().get(0);
+        Task task = nurseyBookFromFile.getTaskList().get(0);
+        assertEquals(7, elderly.getId());
+        assertEquals(3, task.getId());
+        assertEquals(Collections.singleton(new Name("Alice Pauline")), task.getRelatedNames());
+    }
+
+    @Test
+    public void toModelType_taskWithUnknownRelatedId_throwsIllegalValueException() throws Exception {
+        JsonSerializableNurseyBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_RELATED_ID_FILE,
+                JsonSerializableNurseyBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedTask.MESSAGE_UNKNOWN_ELDERLY_ID, 8),
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateElderlyIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableNurseyBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ELDERLY_ID_FILE,
+                JsonSerializableNurseyBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableNurseyBook.MESSAGE_DUPLICATE_ELDERLY_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_savedNurseyBook_keepsIds() throws Exception {
+        NurseyBook original = getTypicalUnorderedNurseyBook();
+        NurseyBook converted = new JsonSerializableNurseyBook(original).toModelType();
+        assertEquals(original, converted);
+        for (int i = 0; i < original.getElderlyList().size(); i++) {
+            assertEquals(original.getElderlyList().get(i).getId(), converted.getElderlyList().get(i).getId());
+        }
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            assertEquals(original.getTaskList().get(i).getId(), converted.getTaskList().get(i).getId());
+        }
+    }
 }
@@ -0,0 +1,205 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static nurseybook.testutil.TypicalTasks.FIONA_PHYSIO;
+import static nurseybook.testutil.TypicalTasks.GEORGE_INSULIN;
+import static nurseybook.testutil.TypicalTasks.KG_SC_VACCINE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.commons.util.JsonUtil;
+import nurseybook.model.task.RealTask;
+import nurseybook.model.task.Task;
+import nurseybook.testutil.TaskBuilder;
+
+public class JsonTaskArchiveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getTaskArchiveFilePath_nextToDataFile() {
+        assertEquals(testFolder.resolve("nurseyBook.json.archive"),
+                JsonTaskArchiveStorage.getTaskArchiveFilePath(testFolder.resolve("nurseyBook.json")));
+    }
+
+    @Test
+    public void findArchivedTasksOnDate_missingArchive_emptyResult() throws Exception {
+        JsonTaskArchiveStorage storage = new JsonTaskArchiveStorage(testFolder.resolve("archive"));
+        assertEquals(Collections.emptyList(), storage.findArchivedTasksOnDate(FIONA_PHYSIO.getDate()));
+    }
+
+    @Test
+    public void archiveTasks_nullTask_throwsNullPointerException() {
+        JsonTaskArchiveStorage storage = new JsonTaskArchiveStorage(testFolder.resolve("archive"));
+        assertThrows(NullPointerException.class, () -> storage.archiveTasks(Arrays.asList(FIONA_PHYSIO, null)));
+    }
+
+    @Test
+    public void archiveTasks_severalArchivings_appendedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("archive");
+        JsonTaskArchiveStorage storage = new JsonTaskArchiveStorage(filePath);
+        storage.archiveTasks(Arrays.asList(FIONA_PHYSIO, GEORGE_INSULIN));
+        byte[] firstArchiving = Files.readAllBytes(filePath);
+        storage.archiveTasks(Collections.singletonList(KG_SC_VACCINE));
+
+        // earlier records are never written again
+        byte[] archive = Files.readAllBytes(filePath);
+        assertEquals(new String(firstArchiving, StandardCharsets.UTF_8),
+                new String(archive, 0, firstArchiving.length, StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList(FIONA_PHYSIO, GEORGE_INSULIN, KG_SC_VACCINE), findArchivedTasksOnDatesOf(
+                new JsonTaskArchiveStorage(filePath), FIONA_PHYSIO, GEORGE_INSULIN, KG_SC_VACCINE));
+        assertEquals(Collections.singletonList(KG_SC_VACCINE),
+                new JsonTaskArchiveStorage(filePath).findArchivedTasksWithKeywords(Arrays.asList("Pfizer")));
+    }
+
+    @Test
+    public void findArchivedTasksWithKeywords_keywordsInOtherCase_tasksWithKeywordsFound() throws Exception {
+        JsonTaskArchiveStorage storage = new JsonTaskArchiveStorage(testFolder.resolve("archive"));
+        storage.archiveTasks(Arrays.asList(FIONA_PHYSIO, GEORGE_INSULIN, KG_SC_VACCINE));
+
+        assertEquals(Arrays.asList(FIONA_PHYSIO, KG_SC_VACCINE),
+                storage.findArchivedTasksWithKeywords(Arrays.asList("pFIZER", "YOGA")));
+        // only full words are matched
+        assertEquals(Collections.emptyList(), storage.findArchivedTasksWithKeywords(Arrays.asList("yog")));
+    }
+
+    @Test
+    public void findArchivedTasksOnDate_severalArchivings_tasksOnDateFound() throws Exception {
+        Task fionaEveningWalk = new TaskBuilder().withDesc("Evening walk").withDateTime("2021-09-13", "19:00")
+                .build();
+        JsonTaskArchiveStorage storage = new JsonTaskArchiveStorage(testFolder.resolve("archive"));
+        storage.archiveTasks(Arrays.asList(FIONA_PHYSIO, GEORGE_INSULIN));
+        storage.archiveTasks(Arrays.asList(KG_SC_VACCINE, fionaEveningWalk));
+
+        assertEquals(Arrays.asList(FIONA_PHYSIO, fionaEveningWalk),
+                storage.findArchivedTasksOnDate(FIONA_PHYSIO.getDate()));
+        assertEquals(Collections.emptyList(), storage.findArchivedTasksOnDate(FIONA_PHYSIO.getDate().minusDays(1)));
+    }
+
+    @Test
+    public void findArchivedTasksWithKeywords_keyIndexesLost_keyIndexesRebuilt() throws Exception {
+        Path filePath = testFolder.resolve("archive");
+        new JsonTaskArchiveStorage(filePath).archiveTasks(Arrays.asList(FIONA_PHYSIO, KG_SC_VACCINE));
+        for (String suffix : Arrays.asList(JsonTaskArchiveStorage.ID_INDEX_FILE_SUFFIX,
+                JsonTaskArchiveStorage.DATE_INDEX_FILE_SUFFIX, JsonTaskArchiveStorage.WORD_INDEX_FILE_SUFFIX)) {
+            Files.delete(testFolder.resolve("archive" + suffix));
+        }
+
+        JsonTaskArchiveStorage storage = new JsonTaskArchiveStorage(filePath);
+        assertEquals(Collections.singletonList(KG_SC_VACCINE),
+                storage.findArchivedTasksWithKeywords(Arrays.asList("Pfizer")));
+        assertEquals(Collections.singletonList(FIONA_PHYSIO), storage.findArchivedTasksOnDate(FIONA_PHYSIO.getDate()));
+        assertTrue(Files.exists(testFolder.resolve("archive" + JsonTaskArchiveStorage.WORD_INDEX_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void getWordKey_wordsEqualIgnoringCase_sameKey() {
+        assertEquals(JsonTaskArchiveStorage.getWordKey("Pfizer"), JsonTaskArchiveStorage.getWordKey("pFIZER"));
+        assertNotEquals(JsonTaskArchiveStorage.getWordKey("Pfizer"), JsonTaskArchiveStorage.getWordKey("Pfizer2"));
+    }
+
+    @Test
+    public void archiveTasks_taskArchivedBefore_notArchivedAgain() throws Exception {
+        Path filePath = testFolder.resolve("archive");
+        new JsonTaskArchiveStorage(filePath).archiveTasks(Collections.singletonList(FIONA_PHYSIO));
+
+        // as if the app stopped before the nursey book was saved without the task
+        JsonTaskArchiveStorage storage = new JsonTaskArchiveStorage(filePath);
+        Task otherTaskWithSameId = copyWithId(FIONA_PHYSIO.getId(), KG_SC_VACCINE);
+        storage.archiveTasks(Arrays.asList(FIONA_PHYSIO, otherTaskWithSameId));
+        assertEquals(Arrays.asList(FIONA_PHYSIO, otherTaskWithSameId),
+                findArchivedTasksOnDatesOf(storage, FIONA_PHYSIO, otherTaskWithSameId));
+    }
+
+    @Test
+    public void archiveTasks_interruptedArchiving_unindexedRecordsIgnoredAndOverwritten() throws Exception {
+        Path filePath = testFolder.resolve("archive");
+        new JsonTaskArchiveStorage(filePath).archiveTasks(Collections.singletonList(FIONA_PHYSIO));
+        // a record and part of an index entry that were written by an archiving that was interrupted
+        Files.write(filePath, "{\"description\":\"Half".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        Files.write(JsonTaskArchiveStorage.getIndexFilePath(filePath), new byte[] {1, 2, 3},
+                StandardOpenOption.APPEND);
+
+        JsonTaskArchiveStorage storage = new JsonTaskArchiveStorage(filePath);
+        assertEquals(Collections.singletonList(FIONA_PHYSIO), storage.findArchivedTasksOnDate(FIONA_PHYSIO.getDate()));
+        storage.archiveTasks(Collections.singletonList(KG_SC_VACCINE));
+        assertEquals(Arrays.asList(FIONA_PHYSIO, KG_SC_VACCINE),
+                findArchivedTasksOnDatesOf(new JsonTaskArchiveStorage(filePath), FIONA_PHYSIO, KG_SC_VACCINE));
+    }
+
+    @Test
+    public void findArchivedTasksOnDate_archiveShorterThanIndex_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("archive");
+        new JsonTaskArchiveStorage(filePath).archiveTasks(Collections.singletonList(FIONA_PHYSIO));
+        Files.write(filePath, new byte[0]);
+
+        assertThrows(IOException.class, () ->
+                new JsonTaskArchiveStorage(filePath).findArchivedTasksOnDate(FIONA_PHYSIO.getDate()));
+    }
+
+    @Test
+    public void findArchivedTasksOnDate_invalidRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("archive");
+        new JsonTaskArchiveStorage(filePath).archiveTasks(Collections.singletonList(FIONA_PHYSIO));
+        byte[] archive = Files.readAllBytes(filePath);
+        Arrays.fill(archive, (byte) 'x');
+        Files.write(filePath, archive);
+
+        assertThrows(DataConversionException.class, () ->
+                new JsonTaskArchiveStorage(filePath).findArchivedTasksOnDate(FIONA_PHYSIO.getDate()));
+    }
+
+    @Test
+    public void reserveArchivedTaskIds_tasksArchivedInEarlierRun_taskIdsReserved() throws Exception {
+        Path filePath = testFolder.resolve("archive");
+        // a task id that was not generated in this run, as if the task was archived in an earlier run
+        long archivedTaskId = new TaskBuilder().build().getId() + 1000;
+        byte[] record = (JsonUtil.toCompactJsonString(new JsonAdaptedTask(archivedTaskId, Collections.emptyList(),
+                null, "Old check-up", "2020-01-01", "10:00", Arrays.asList("true", "true"), "NONE")) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        Files.write(filePath, record);
+        Files.write(JsonTaskArchiveStorage.getIndexFilePath(filePath),
+                ByteBuffer.allocate(JsonTaskArchiveStorage.INDEX_ENTRY_BYTES)
+                        .putLong(archivedTaskId).putLong(0).putInt(record.length).array());
+
+        new JsonTaskArchiveStorage(filePath).reserveArchivedTaskIds();
+        assertTrue(new TaskBuilder().build().getId() > archivedTaskId);
+    }
+
+    /**
+     * Returns the tasks found in {@code storage} on the dates of {@code tasks}, one date after another.
+     */
+    private static List<Task> findArchivedTasksOnDatesOf(JsonTaskArchiveStorage storage, Task... tasks)
+            throws Exception {
+        List<Task> foundTasks = new ArrayList<>();
+        for (Task task : tasks) {
+            if (foundTasks.stream().noneMatch(foundTask -> foundTask.getDate().equals(task.getDate()))) {
+                foundTasks.addAll(storage.findArchivedTasksOnDate(task.getDate()));
+            }
+        }
+        return foundTasks;
+    }
+
+    private static Task copyWithId(long id, Task source) {
+        return new RealTask(id, source.getDesc(), source.getDateTime(), source.getRelatedNames(), source.getStatus(),
+                source.getRecurrence());
+    }
+}
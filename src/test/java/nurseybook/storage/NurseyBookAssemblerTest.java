@@ -0,0 +1,153 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.person.Name;
+import nurseybook.model.task.Task;
+import nurseybook.testutil.ElderlyBuilder;
+import nurseybook.testutil.TaskBuilder;
+
+public class NurseyBookAssemblerTest {
+
+    private static final int LARGE_BATCH_SIZE = 3 * NurseyBookAssembler.MIN_BATCH_SIZE_FOR_PARALLELISM;
+
+    @Test
+    public void addElderliesAndTasks_largeBatches_sameAsOneAtATime() throws Exception {
+        List<JsonAdaptedElderly> elderlies = getElderlies(LARGE_BATCH_SIZE);
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < LARGE_BATCH_SIZE; i++) {
+            tasks.add(new JsonAdaptedTask(new TaskBuilder().withDesc("Task " + i)
+                    .withNames(getName(i), getName(LARGE_BATCH_SIZE - 1 - i)).build()));
+        }
+
+        NurseyBookAssembler batchAssembler = new NurseyBookAssembler();
+        batchAssembler.addElderlies(elderlies);
+        batchAssembler.addTasks(tasks);
+        NurseyBookAssembler singleAssembler = new NurseyBookAssembler();
+        for (JsonAdaptedElderly elderly : elderlies) {
+            singleAssembler.addElderly(elderly);
+        }
+        for (JsonAdaptedTask task : tasks) {
+            singleAssembler.addTask(task);
+        }
+
+        NurseyBook batchNurseyBook = batchAssembler.getNurseyBook();
+        NurseyBook singleNurseyBook = singleAssembler.getNurseyBook();
+        assertEquals(singleNurseyBook.getElderlyList(), batchNurseyBook.getElderlyList());
+        assertEquals(singleNurseyBook.getRealTaskList(), batchNurseyBook.getRealTaskList());
+    }
+
+    @Test
+    public void addElderlies_largeBatchWithErrors_firstErrorThrown() {
+        List<JsonAdaptedElderly> elderlies = getElderlies(LARGE_BATCH_SIZE);
+        int invalidIndex = LARGE_BATCH_SIZE / 2;
+        // an elderly after the invalid one duplicates one before it
+        elderlies.set(LARGE_BATCH_SIZE - 1, elderlies.get(0));
+        elderlies.set(invalidIndex, new JsonAdaptedElderly(1L, "R@chel", "25", "F", "52", "Rachel", null, null, null,
+                null, null, Collections.emptyList()));
+
+        NurseyBookAssembler assembler = new NurseyBookAssembler();
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                assembler.addElderlies(elderlies));
+        assertEquals(invalidIndex, assembler.getNurseyBook().getElderlyList().size());
+    }
+
+    @Test
+    public void addElderlies_largeBatchWithDuplicate_throwsDuplicateMessage() {
+        List<JsonAdaptedElderly> elderlies = getElderlies(LARGE_BATCH_SIZE);
+        elderlies.set(LARGE_BATCH_SIZE - 1, elderlies.get(0));
+
+        assertThrows(IllegalValueException.class, JsonSerializableNurseyBook.MESSAGE_DUPLICATE_ELDERLY, () ->
+                new NurseyBookAssembler().addElderlies(elderlies));
+    }
+
+    @Test
+    public void addTasks_largeBatchWithoutIds_idsGeneratedInOrder() throws Exception {
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < LARGE_BATCH_SIZE; i++) {
+            tasks.add(new JsonAdaptedTask(null, Collections.emptyList(), null, "Task " + i, "2021-10-10",
+                    "10:00", Arrays.asList("false", "false"), "NONE"));
+        }
+
+        NurseyBookAssembler assembler = new NurseyBookAssembler();
+        assembler.addTasks(tasks);
+        List<Task> tasksRead = assembler.getNurseyBook().getRealTaskList();
+        assertEquals(LARGE_BATCH_SIZE, tasksRead.size());
+        for (int i = 1; i < tasksRead.size(); i++) {
+            assertEquals("Task " + i, tasksRead.get(i).getDesc().value);
+            assertTrue(tasksRead.get(i - 1).getId() < tasksRead.get(i).getId());
+        }
+    }
+
+    @Test
+    public void addTasks_duplicateIds_throwsDuplicateMessage() {
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < LARGE_BATCH_SIZE; i++) {
+            tasks.add(new JsonAdaptedTask(new TaskBuilder().withDesc("Task " + i).build()));
+        }
+        Task task = new TaskBuilder().withDesc("Other task").build();
+        tasks.set(LARGE_BATCH_SIZE - 1, new JsonAdaptedTask(task.getId(), Collections.emptyList(), null,
+                "Other task", "2021-10-10", "10:00", Arrays.asList("false", "false"), "NONE"));
+        tasks.set(0, new JsonAdaptedTask(task));
+
+        assertThrows(IllegalValueException.class, JsonSerializableNurseyBook.MESSAGE_DUPLICATE_TASK_ID, () ->
+                new NurseyBookAssembler().addTasks(tasks));
+    }
+
+    @Test
+    public void addTask_relatedIds_namesTakenFromElderlies() throws Exception {
+        Elderly elderly = new ElderlyBuilder().withName(getName(0)).build();
+        NurseyBookAssembler assembler = new NurseyBookAssembler();
+        assembler.addElderly(new JsonAdaptedElderly(elderly));
+
+        // the stored name is out of date, but the task is checked by the id of its elderly
+        assembler.addTask(new JsonAdaptedTask(null, List.of("Old Name"), List.of(elderly.getId()), "Task",
+                "2021-10-10", "10:00", Arrays.asList("false", "false"), "NONE"));
+        assertEquals(Collections.singleton(elderly.getName()),
+                assembler.getNurseyBook().getRealTaskList().get(0).getRelatedNames());
+    }
+
+    @Test
+    public void addTask_onlyNamesOfUnknownElderlies_throwsInvalidNamesMessage() throws Exception {
+        NurseyBookAssembler assembler = new NurseyBookAssembler();
+        assembler.addElderly(new JsonAdaptedElderly(new ElderlyBuilder().withName(getName(0)).build()));
+
+        assertThrows(IllegalValueException.class, JsonNurseyBookStorage.INVALID_NAMES_IN_TASKS
+                + ": Task on 2021-10-10 10:00:00 has Nobody Here", () ->
+                assembler.addTask(new JsonAdaptedTask(null, List.of(getName(0), "Nobody Here"), null, "Task",
+                        "2021-10-10", "10:00", Arrays.asList("false", "false"), "NONE")));
+    }
+
+    private static List<JsonAdaptedElderly> getElderlies(int count) {
+        List<JsonAdaptedElderly> elderlies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Elderly elderly = new ElderlyBuilder().withName(getName(i)).build();
+            elderlies.add(new JsonAdaptedElderly(elderly));
+        }
+        return elderlies;
+    }
+
+    /**
+     * Returns a valid and unique {@code Name} for {@code index}, as names cannot contain digits.
+     */
+    private static String getName(int index) {
+        StringBuilder name = new StringBuilder("Elderly ");
+        do {
+            name.append((char) ('a' + index % 26));
+            index /= 26;
+        } while (index > 0);
+        return name.toString();
+    }
+}
@@ -0,0 +1,156 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.commons.core.AppClock;
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.core.StorageMode;
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.task.Task;
+import nurseybook.testutil.TaskBuilder;
+import nurseybook.testutil.TypicalTasks;
+
+public class NurseyBookFileConverterTest {
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonNurseyBookStorageTest",
+            "notJsonFormatNurseyBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameNurseyBook() throws Exception {
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        Path jsonFilePath = testFolder.resolve("nurseybook.json");
+        Path binaryFilePath = testFolder.resolve("nurseybook.bin");
+        Path convertedJsonFilePath = testFolder.resolve("converted.json");
+        new JsonNurseyBookStorage(jsonFilePath).saveNurseyBook(original);
+
+        NurseyBookFileConverter.toBinary(jsonFilePath, binaryFilePath);
+        assertTrue(BinaryNurseyBookCodec.hasMagicHeader(binaryFilePath));
+        assertEquals(original, new NurseyBook(new BinaryNurseyBookStorage(binaryFilePath).readNurseyBook().get()));
+
+        NurseyBookFileConverter.toJson(binaryFilePath, convertedJsonFilePath);
+        assertFalse(BinaryNurseyBookCodec.hasMagicHeader(convertedJsonFilePath));
+        assertEquals(original,
+                new NurseyBook(new JsonNurseyBookStorage(convertedJsonFilePath).readNurseyBook().get()));
+    }
+
+    @Test
+    public void toSql_jsonFile_movedIntoDatabase() throws Exception {
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        Path filePath = testFolder.resolve("nurseybook.json");
+        new JsonNurseyBookStorage(filePath).saveNurseyBook(original);
+
+        NurseyBookFileConverter.toSql(filePath, filePath);
+        assertTrue(Files.exists(SqlNurseyBookStorage.getDatabaseFilePath(filePath)));
+        SqlNurseyBookStorage storage = new SqlNurseyBookStorage(filePath);
+        assertEquals(original, new NurseyBook(storage.readNurseyBook().get()));
+        storage.compactNurseyBook();
+    }
+
+    @Test
+    public void toJson_shardedSourceInPlace_allTasksWrittenAndShardsDeleted() throws Exception {
+        Task pastTask = new TaskBuilder().withDesc("Past check-up")
+                .withDateTime(AppClock.today().minusMonths(3).toString(), "10:00").build();
+        NurseyBook original = TypicalTasks.getTypicalNurseyBook();
+        original.addTask(pastTask);
+        Path filePath = testFolder.resolve("nurseybook.json");
+        new ShardedNurseyBookStorage(filePath).saveNurseyBook(original);
+
+        NurseyBookFileConverter.toJson(filePath, filePath);
+        assertFalse(Files.exists(ShardedNurseyBookStorage.getShardDirectoryPath(filePath)));
+        assertEquals(original, new NurseyBook(new JsonNurseyBookStorage(filePath).readNurseyBook().get()));
+    }
+
+    @Test
+    public void toJson_sqlSourceInPlace_exportedAndDatabaseDeleted() throws Exception {
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        Path filePath = testFolder.resolve("nurseybook.json");
+        new JsonNurseyBookStorage(filePath).saveNurseyBook(original);
+        NurseyBookFileConverter.toSql(filePath, filePath);
+
+        NurseyBookFileConverter.toJson(filePath, filePath);
+        assertFalse(Files.exists(SqlNurseyBookStorage.getDatabaseFilePath(filePath)));
+        assertEquals(original, new NurseyBook(new JsonNurseyBookStorage(filePath).readNurseyBook().get()));
+    }
+
+    @Test
+    public void moveToStorageMode_noData_nothingMoved() throws Exception {
+        Path filePath = testFolder.resolve("nurseybook.json");
+        assertFalse(NurseyBookFileConverter.moveToStorageMode(filePath, StorageMode.SQL, new DataCompression()));
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(SqlNurseyBookStorage.getDatabaseFilePath(filePath)));
+    }
+
+    @Test
+    public void moveToStorageMode_dataFile_onlyMovedIntoDatabase() throws Exception {
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        Path filePath = testFolder.resolve("nurseybook.json");
+        new JsonNurseyBookStorage(filePath).saveNurseyBook(original);
+
+        for (StorageMode storageMode : new StorageMode[] {
+            StorageMode.JSON, StorageMode.BINARY, StorageMode.JOURNAL, StorageMode.SHARDED}) {
+            assertFalse(NurseyBookFileConverter.moveToStorageMode(filePath, storageMode, new DataCompression()));
+        }
+
+        assertTrue(NurseyBookFileConverter.moveToStorageMode(filePath, StorageMode.SQL, new DataCompression()));
+        assertFalse(NurseyBookFileConverter.moveToStorageMode(filePath, StorageMode.SQL, new DataCompression()));
+        SqlNurseyBookStorage storage = new SqlNurseyBookStorage(filePath);
+        assertEquals(original, new NurseyBook(storage.readNurseyBook().get()));
+        storage.compactNurseyBook();
+    }
+
+    @Test
+    public void moveToStorageMode_databaseToJson_exportedAndDatabaseDeleted() throws Exception {
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        Path filePath = testFolder.resolve("nurseybook.json");
+        new JsonNurseyBookStorage(filePath).saveNurseyBook(original);
+        NurseyBookFileConverter.toSql(filePath, filePath);
+
+        assertTrue(NurseyBookFileConverter.moveToStorageMode(filePath, StorageMode.JSON, new DataCompression()));
+        assertFalse(Files.exists(SqlNurseyBookStorage.getDatabaseFilePath(filePath)));
+        assertEquals(original, new NurseyBook(new JsonNurseyBookStorage(filePath).readNurseyBook().get()));
+    }
+
+    @Test
+    public void moveToStorageMode_shardsToBinary_movedAndShardsDeleted() throws Exception {
+        NurseyBook original = TypicalTasks.getTypicalNurseyBook();
+        Path filePath = testFolder.resolve("nurseybook.json");
+        new ShardedNurseyBookStorage(filePath).saveNurseyBook(original);
+        assertFalse(NurseyBookFileConverter.moveToStorageMode(filePath, StorageMode.SHARDED, new DataCompression()));
+
+        assertTrue(NurseyBookFileConverter.moveToStorageMode(filePath, StorageMode.BINARY, new DataCompression()));
+        assertFalse(ShardedNurseyBookStorage.isSharded(filePath));
+        assertTrue(BinaryNurseyBookCodec.hasMagicHeader(filePath));
+        assertEquals(original, new NurseyBook(new BinaryNurseyBookStorage(filePath).readNurseyBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsNoSuchFileException() {
+        Path missingFilePath = testFolder.resolve("missing.json");
+        assertThrows(NoSuchFileException.class, () ->
+                NurseyBookFileConverter.toBinary(missingFilePath, testFolder.resolve("nurseybook.bin")));
+        assertThrows(NoSuchFileException.class, () ->
+                NurseyBookFileConverter.toJson(missingFilePath, testFolder.resolve("nurseybook.json")));
+        assertThrows(NoSuchFileException.class, () ->
+                NurseyBookFileConverter.toSql(missingFilePath, testFolder.resolve("nurseybook.json")));
+    }
+
+    @Test
+    public void convert_invalidSource_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () ->
+                NurseyBookFileConverter.toBinary(NOT_JSON_FILE, testFolder.resolve("nurseybook.bin")));
+    }
+}
@@ -0,0 +1,158 @@
+package nurseybook.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.commons.core.DataCompression;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.task.Task;
+import nurseybook.testutil.ElderlyBuilder;
+import nurseybook.testutil.TaskBuilder;
+
+/**
+ * Measures the time each storage takes to save the nursey book after a command, and the size of the files it leaves,
+ * so that the storages and the compression settings can be compared.
+ * It is not run by {@code gradle test}, but by {@code gradle benchmark}, which prints the average time of a save and
+ * the size of the files.
+ */
+@Tag("benchmark")
+public class SaveLatencyBenchmarkTest {
+
+    private static final int ELDERLY_COUNT = 1000;
+    private static final int TASKS_PER_ELDERLY = 4;
+    // each round saves after editing a task, adding an elderly and deleting the elderly again
+    private static final int ROUNDS = 200;
+    private static final int WARM_UP_ROUNDS = 20;
+    // every save of a whole file compresses all of it, so fewer rounds are run for each compression setting
+    private static final int COMPRESSION_ROUNDS = 10;
+    private static final int COMPRESSION_WARM_UP_ROUNDS = 2;
+    private static final List<DataCompression> COMPRESSIONS = List.of(new DataCompression(),
+            new DataCompression(DataCompression.Format.GZIP, 1), new DataCompression(DataCompression.Format.GZIP, 6),
+            new DataCompression(DataCompression.Format.GZIP, 9), new DataCompression(DataCompression.Format.DEFLATE, 1),
+            new DataCompression(DataCompression.Format.DEFLATE, 6),
+            new DataCompression(DataCompression.Format.DEFLATE, 9));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveNurseyBook_afterEachCommand_latencyAndSizePrinted() throws Exception {
+        NurseyBook nurseyBook = getLargeNurseyBook();
+        // every storage saves into a folder of its own, so that the size of all the files it leaves can be measured
+        List<NurseyBookStorage> storages = List.of(
+                new JsonNurseyBookStorage(testFolder.resolve("json").resolve("data.json")),
+                new BinaryNurseyBookStorage(testFolder.resolve("binary").resolve("data.bin")),
+                new JournalNurseyBookStorage(testFolder.resolve("journal").resolve("data.json")),
+                new ShardedNurseyBookStorage(testFolder.resolve("sharded").resolve("data.json")),
+                new SqlNurseyBookStorage(testFolder.resolve("sql").resolve("data.json")));
+
+        for (NurseyBookStorage storage : storages) {
+            NurseyBook savedNurseyBook = new NurseyBook(nurseyBook);
+            storage.saveNurseyBook(savedNurseyBook);
+            runRounds(storage, savedNurseyBook, WARM_UP_ROUNDS);
+            long totalNanos = runRounds(storage, savedNurseyBook, ROUNDS);
+            storage.compactNurseyBook();
+            System.out.printf("%s, %d elderlies and %d tasks: %.2f ms per save, %d KB on disk%n",
+                    storage.getClass().getSimpleName(), ELDERLY_COUNT, ELDERLY_COUNT * TASKS_PER_ELDERLY,
+                    totalNanos / 1e6 / (3 * ROUNDS), getSize(storage.getNurseyBookFilePath().getParent()) / 1024);
+        }
+    }
+
+    @Test
+    public void saveNurseyBook_eachCompression_latencyAndSizePrinted() throws Exception {
+        NurseyBook nurseyBook = getLargeNurseyBook();
+        for (DataCompression compression : COMPRESSIONS) {
+            String compressionName = compression.getFormat() == DataCompression.Format.NONE
+                    ? "no compression"
+                    : compression.getFormat() + " level " + compression.getLevel();
+            String folderName = compression.getFormat() + "-" + compression.getLevel();
+            List<NurseyBookStorage> storages = List.of(
+                    new JsonNurseyBookStorage(testFolder.resolve(folderName).resolve("data.json"), progress -> {},
+                            compression),
+                    new BinaryNurseyBookStorage(testFolder.resolve(folderName).resolve("data.bin"), progress -> {},
+                            compression));
+
+            for (NurseyBookStorage storage : storages) {
+                NurseyBook savedNurseyBook = new NurseyBook(nurseyBook);
+                storage.saveNurseyBook(savedNurseyBook);
+                runRounds(storage, savedNurseyBook, COMPRESSION_WARM_UP_ROUNDS);
+                long totalNanos = runRounds(storage, savedNurseyBook, COMPRESSION_ROUNDS);
+                System.out.printf("%s, %s: %.2f ms per save, %d KB on disk%n",
+                        storage.getClass().getSimpleName(), compressionName,
+                        totalNanos / 1e6 / (3 * COMPRESSION_ROUNDS),
+                        Files.size(storage.getNurseyBookFilePath()) / 1024);
+            }
+        }
+    }
+
+    /**
+     * Runs {@code rounds} rounds of commands on {@code nurseyBook}, saving it with {@code storage} after each command.
+     *
+     * @return the total time taken by the saves, in nanoseconds.
+     */
+    private static long runRounds(NurseyBookStorage storage, NurseyBook nurseyBook, int rounds) throws Exception {
+        long totalNanos = 0;
+        for (int i = 0; i < rounds; i++) {
+            List<Task> tasks = nurseyBook.getRealTaskList();
+            Task task = tasks.get(i * 7919 % tasks.size());
+            nurseyBook.setTask(task, new TaskBuilder(task).withDesc("Edited check-up " + i).build());
+            totalNanos += timeSave(storage, nurseyBook);
+
+            Elderly elderly = new ElderlyBuilder().withName("Added " + getLetters(i)).build();
+            nurseyBook.addElderly(elderly);
+            totalNanos += timeSave(storage, nurseyBook);
+
+            nurseyBook.removeElderly(elderly);
+            totalNanos += timeSave(storage, nurseyBook);
+        }
+        return totalNanos;
+    }
+
+    private static long timeSave(NurseyBookStorage storage, NurseyBook nurseyBook) throws Exception {
+        long start = System.nanoTime();
+        storage.saveNurseyBook(nurseyBook);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Returns the total size of the files in {@code folder} and its subfolders, in bytes.
+     */
+    private static long getSize(Path folder) throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private static NurseyBook getLargeNurseyBook() {
+        NurseyBook nurseyBook = new NurseyBook();
+        for (int i = 0; i < ELDERLY_COUNT; i++) {
+            nurseyBook.addElderly(new ElderlyBuilder().withName("Elderly " + getLetters(i)).build());
+        }
+        for (int i = 0; i < ELDERLY_COUNT * TASKS_PER_ELDERLY; i++) {
+            nurseyBook.addTask(new TaskBuilder().withDesc("Check-up " + i)
+                    .withDateTime("2021-10-" + (10 + i % 15), "10:00")
+                    .withNames("Elderly " + getLetters(i % ELDERLY_COUNT)).build());
+        }
+        return nurseyBook;
+    }
+
+    /**
+     * Returns a distinct string of letters for {@code number}, as names cannot have digits.
+     */
+    private static String getLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
@@ -0,0 +1,272 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static nurseybook.testutil.TypicalElderlies.ALICE;
+import static nurseybook.testutil.TypicalElderlies.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.commons.core.AppClock;
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.commons.util.JsonUtil;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.person.Name;
+import nurseybook.model.task.Task;
+import nurseybook.testutil.ElderlyBuilder;
+import nurseybook.testutil.TaskBuilder;
+import nurseybook.testutil.TypicalElderlies;
+
+public class ShardedNurseyBookStorageTest {
+
+    private static final String PAST_DATE = AppClock.today().minusMonths(3).toString();
+    private static final String OTHER_PAST_DATE = AppClock.today().minusYears(2).toString();
+    private static final String FUTURE_DATE = AppClock.today().plusMonths(2).toString();
+
+    @TempDir
+    public Path testFolder;
+
+    private final Task pastTask = new TaskBuilder().withDesc("Past check-up").withDateTime(PAST_DATE, "10:00")
+            .withNames(ALICE.getName().fullName).withStatus("true", "true").build();
+    private final Task otherPastTask = new TaskBuilder().withDesc("Old check-up")
+            .withDateTime(OTHER_PAST_DATE, "10:00").withNames(BENSON.getName().fullName).build();
+    private final Task futureTask = new TaskBuilder().withDesc("Future check-up").withDateTime(FUTURE_DATE, "10:00")
+            .withNames(ALICE.getName().fullName, BENSON.getName().fullName).build();
+    private final Task recurringTask = new TaskBuilder().withDesc("Weekly check-up")
+            .withDateTime(PAST_DATE, "10:00").withRecurrence("WEEK").build();
+
+    @Test
+    public void readNurseyBook_nullFilePath_throwsNullPointerException() {
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(testFolder.resolve("nurseyBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readNurseyBook(null));
+    }
+
+    @Test
+    public void readNurseyBook_missingFile_emptyResult() throws Exception {
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(testFolder.resolve("nurseyBook.json"));
+        assertFalse(storage.readNurseyBook().isPresent());
+        assertEquals(new ArrayList<>(), storage.readPastTasks());
+    }
+
+    @Test
+    public void saveNurseyBook_nullNurseyBook_throwsNullPointerException() {
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(testFolder.resolve("nurseyBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveNurseyBook(null));
+    }
+
+    @Test
+    public void readNurseyBook_pastShards_leftOnDiskUntilPastTasksRead() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        NurseyBook original = getNurseyBook(pastTask, otherPastTask, futureTask, recurringTask);
+        new ShardedNurseyBookStorage(filePath).saveNurseyBook(original);
+        Path shardDirectory = ShardedNurseyBookStorage.getShardDirectoryPath(filePath);
+        assertTrue(Files.exists(shardDirectory.resolve(ShardedNurseyBookStorage.getShardName(pastTask) + ".json")));
+        assertTrue(Files.exists(shardDirectory.resolve("recurring.json")));
+
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(filePath);
+        ReadOnlyNurseyBook readBack = storage.readNurseyBook().get();
+        assertEquals(original.getElderlyList(), readBack.getElderlyList());
+        assertSameTasks(List.of(futureTask, recurringTask), readBack.getRealTaskList());
+
+        assertSameTasks(List.of(pastTask, otherPastTask), storage.readPastTasks());
+        assertEquals(new ArrayList<>(), storage.readPastTasks());
+    }
+
+    @Test
+    public void readNurseyBook_otherFilePath_everyShardRead() throws Exception {
+        Path otherFilePath = testFolder.resolve("otherNurseyBook.json");
+        NurseyBook original = getNurseyBook(pastTask, futureTask, recurringTask);
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(testFolder.resolve("nurseyBook.json"));
+        storage.saveNurseyBook(original, otherFilePath);
+
+        assertSameTasks(original.getRealTaskList(), storage.readNurseyBook(otherFilePath).get().getRealTaskList());
+        assertEquals(new ArrayList<>(), storage.readPastTasks());
+    }
+
+    @Test
+    public void saveNurseyBook_pastShardsLeftOnDisk_pastTasksKept() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        new ShardedNurseyBookStorage(filePath).saveNurseyBook(getNurseyBook(pastTask, futureTask));
+
+        // a task added to a past shard that was left on disk is saved with its tasks
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(filePath);
+        NurseyBook nurseyBook = new NurseyBook(storage.readNurseyBook().get());
+        Task addedPastTask = new TaskBuilder(pastTask).withDesc("Added past check-up").build();
+        nurseyBook.addTask(addedPastTask);
+        storage.saveNurseyBook(nurseyBook);
+        assertSameTasks(List.of(pastTask, addedPastTask), readPastTasksWithNewStorage(filePath));
+
+        // and removed without removing its tasks
+        nurseyBook.removeTask(addedPastTask);
+        storage.saveNurseyBook(nurseyBook);
+        assertSameTasks(List.of(pastTask), readPastTasksWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveNurseyBook_unchangedPastShard_notReadOrWritten() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        NurseyBook original = getNurseyBook(pastTask, futureTask);
+        new ShardedNurseyBookStorage(filePath).saveNurseyBook(original);
+        Path pastShardFile = ShardedNurseyBookStorage.getShardDirectoryPath(filePath)
+                .resolve(ShardedNurseyBookStorage.getShardName(pastTask) + ".json");
+
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(filePath);
+        NurseyBook nurseyBook = new NurseyBook(storage.readNurseyBook().get());
+        Files.write(pastShardFile, "not json".getBytes());
+        nurseyBook.setTask(futureTask, new TaskBuilder(futureTask).withTime("11:00").build());
+        storage.saveNurseyBook(nurseyBook);
+
+        assertEquals("not json", new String(Files.readAllBytes(pastShardFile)));
+        assertThrows(DataConversionException.class, storage::readPastTasks);
+    }
+
+    @Test
+    public void saveNurseyBook_clearedAfterPastTasksRead_pastShardsDeleted() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        new ShardedNurseyBookStorage(filePath).saveNurseyBook(getNurseyBook(pastTask, otherPastTask, futureTask));
+
+        // clearing loads the past tasks before saving the empty nursey book
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(filePath);
+        storage.readNurseyBook();
+        storage.readPastTasks();
+        storage.saveNurseyBook(new NurseyBook());
+
+        ShardedNurseyBookStorage newStorage = new ShardedNurseyBookStorage(filePath);
+        assertEquals(new NurseyBook(), newStorage.readNurseyBook().get());
+        assertEquals(new ArrayList<>(), newStorage.readPastTasks());
+        assertFalse(Files.exists(ShardedNurseyBookStorage.getShardDirectoryPath(filePath)
+                .resolve(ShardedNurseyBookStorage.getShardName(pastTask) + ".json")));
+    }
+
+    @Test
+    public void saveNurseyBook_elderlyReplacedByEqualElderlyWithOtherId_elderliesWritten() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        new ShardedNurseyBookStorage(filePath).saveNurseyBook(getNurseyBook(futureTask));
+
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(filePath);
+        NurseyBook nurseyBook = new NurseyBook(storage.readNurseyBook().get());
+        Elderly newBenson = new ElderlyBuilder(BENSON).build();
+        nurseyBook.setElderly(BENSON, newBenson);
+        storage.saveNurseyBook(nurseyBook);
+
+        List<Elderly> readBack = new ShardedNurseyBookStorage(filePath).readNurseyBook().get().getElderlyList();
+        assertTrue(readBack.stream().anyMatch(elderly -> elderly.getId() == newBenson.getId()));
+    }
+
+    @Test
+    public void saveNurseyBook_taskMovedBetweenShards_movedOnDisk() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        NurseyBook nurseyBook = getNurseyBook(futureTask, recurringTask);
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(filePath);
+        storage.saveNurseyBook(nurseyBook);
+
+        Task movedTask = new TaskBuilder(futureTask).withRecurrence("MONTH").build();
+        nurseyBook.setTask(futureTask, movedTask);
+        storage.saveNurseyBook(nurseyBook);
+
+        Path shardDirectory = ShardedNurseyBookStorage.getShardDirectoryPath(filePath);
+        assertFalse(Files.exists(shardDirectory.resolve(ShardedNurseyBookStorage.getShardName(futureTask) + ".json")));
+        assertSameTasks(List.of(movedTask, recurringTask),
+                new ShardedNurseyBookStorage(filePath).readNurseyBook().get().getRealTaskList());
+    }
+
+    @Test
+    public void readPastTasks_elderliesChangedAfterShardSaved_namesUpdated() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        new ShardedNurseyBookStorage(filePath).saveNurseyBook(getNurseyBook(pastTask, otherPastTask));
+
+        // the related elderlies of the past tasks are renamed and deleted while the past shards are left on disk
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(filePath);
+        NurseyBook nurseyBook = new NurseyBook(storage.readNurseyBook().get());
+        Elderly alice = nurseyBook.getElderlyList().get(0);
+        Elderly renamedAlice = new Elderly(alice.getId(), new Name("Alicia Pauline"), alice.getAge(),
+                alice.getGender(), alice.getRoomNumber(), alice.getNok(), alice.getRemark(), alice.getTags());
+        nurseyBook.setElderly(alice, renamedAlice);
+        nurseyBook.removeElderly(BENSON);
+        storage.saveNurseyBook(nurseyBook);
+
+        assertSameTasks(List.of(new TaskBuilder(pastTask).withNames("Alicia Pauline").build(),
+                new TaskBuilder(otherPastTask).withNames().build()), readPastTasksWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readNurseyBook_unshardedDataFile_splitIntoShardsOnSave() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        NurseyBook original = getNurseyBook(pastTask, futureTask, recurringTask);
+        new JsonNurseyBookStorage(filePath).saveNurseyBook(original);
+
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(filePath);
+        ReadOnlyNurseyBook readBack = storage.readNurseyBook().get();
+        assertSameTasks(original.getRealTaskList(), readBack.getRealTaskList());
+        assertFalse(Files.exists(ShardedNurseyBookStorage.getShardDirectoryPath(filePath)));
+
+        storage.saveNurseyBook(readBack);
+        assertSameTasks(List.of(futureTask, recurringTask),
+                new ShardedNurseyBookStorage(filePath).readNurseyBook().get().getRealTaskList());
+        assertSameTasks(List.of(pastTask), readPastTasksWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveNurseyBook_dataFileOfOtherStorages_leftAsItWas() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        new JsonNurseyBookStorage(filePath).saveNurseyBook(getNurseyBook(pastTask));
+        byte[] dataFile = Files.readAllBytes(filePath);
+
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(filePath);
+        storage.saveNurseyBook(getNurseyBook(futureTask));
+        assertTrue(ShardedNurseyBookStorage.isSharded(filePath));
+        assertEquals(new String(dataFile), new String(Files.readAllBytes(filePath)));
+
+        // the data file no longer holds the latest data, so other storages refuse to read it
+        assertThrows(DataConversionException.class, () -> new JsonNurseyBookStorage(filePath).readNurseyBook());
+        assertThrows(DataConversionException.class, () -> new BinaryNurseyBookStorage(filePath).readNurseyBook());
+
+        ShardedNurseyBookStorage.deleteShards(filePath);
+        assertFalse(Files.exists(ShardedNurseyBookStorage.getShardDirectoryPath(filePath)));
+        assertSameTasks(List.of(pastTask), new JsonNurseyBookStorage(filePath).readNurseyBook().get()
+                .getRealTaskList());
+    }
+
+    @Test
+    public void readNurseyBook_pastShardsLeftOnDisk_pastTaskIdsReserved() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        new ShardedNurseyBookStorage(filePath).saveNurseyBook(getNurseyBook(pastTask));
+        // a task id that was not generated in this run, as if the task was created in an earlier run
+        long maxTaskId = new TaskBuilder().build().getId() + 1000;
+        JsonUtil.saveJsonFile(new JsonAdaptedShardManifest(maxTaskId), ShardedNurseyBookStorage
+                .getShardDirectoryPath(filePath).resolve(ShardedNurseyBookStorage.MANIFEST_FILE_NAME));
+
+        new ShardedNurseyBookStorage(filePath).readNurseyBook();
+        assertTrue(new TaskBuilder().build().getId() > maxTaskId);
+    }
+
+    private static NurseyBook getNurseyBook(Task... tasks) {
+        NurseyBook nurseyBook = TypicalElderlies.getTypicalNurseyBook();
+        for (Task task : tasks) {
+            nurseyBook.addTask(task);
+        }
+        return nurseyBook;
+    }
+
+    private static List<Task> readPastTasksWithNewStorage(Path filePath) throws Exception {
+        ShardedNurseyBookStorage storage = new ShardedNurseyBookStorage(filePath);
+        storage.readNurseyBook();
+        return storage.readPastTasks();
+    }
+
+    private static void assertSameTasks(List<Task> expected, List<Task> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+    }
+}
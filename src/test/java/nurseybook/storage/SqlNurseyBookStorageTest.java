@@ -0,0 +1,221 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static nurseybook.testutil.TypicalElderlies.ALICE;
+import static nurseybook.testutil.TypicalElderlies.BENSON;
+import static nurseybook.testutil.TypicalElderlies.HOON;
+import static nurseybook.testutil.TypicalElderlies.IDA;
+import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_LATE_TIME;
+import static nurseybook.testutil.TypicalTasks.APPLY_LEAVE_NEXT_DAY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.commons.exceptions.DataConversionException;
+import nurseybook.model.NurseyBook;
+import nurseybook.model.ReadOnlyNurseyBook;
+import nurseybook.model.person.Elderly;
+import nurseybook.model.task.Task;
+import nurseybook.testutil.ElderlyBuilder;
+import nurseybook.testutil.TaskBuilder;
+import nurseybook.testutil.TypicalElderlies;
+import nurseybook.testutil.TypicalTasks;
+
+public class SqlNurseyBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<SqlNurseyBookStorage> storages = new ArrayList<>();
+
+    @AfterEach
+    public void closeStorages() throws Exception {
+        for (SqlNurseyBookStorage storage : storages) {
+            storage.compactNurseyBook();
+        }
+    }
+
+    @Test
+    public void readNurseyBook_nullFilePath_throwsNullPointerException() {
+        SqlNurseyBookStorage storage = createStorage(testFolder.resolve("nurseyBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readNurseyBook(null));
+    }
+
+    @Test
+    public void readNurseyBook_missingFile_emptyResult() throws Exception {
+        SqlNurseyBookStorage storage = createStorage(testFolder.resolve("nurseyBook.json"));
+        assertFalse(storage.readNurseyBook().isPresent());
+    }
+
+    @Test
+    public void saveNurseyBook_nullNurseyBook_throwsNullPointerException() {
+        SqlNurseyBookStorage storage = createStorage(testFolder.resolve("nurseyBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveNurseyBook(null));
+    }
+
+    @Test
+    public void readAndSaveElderlies_rowsChanged_success() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        SqlNurseyBookStorage storage = createStorage(filePath);
+        NurseyBook original = TypicalElderlies.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+        assertTrue(Files.exists(SqlNurseyBookStorage.getDatabaseFilePath(filePath)));
+        assertFalse(Files.exists(filePath));
+
+        // add, delete and edit elderlies
+        original.addElderly(HOON);
+        storage.saveNurseyBook(original);
+        original.removeElderly(ALICE);
+        storage.saveNurseyBook(original);
+        original.setElderly(BENSON, new ElderlyBuilder(BENSON).withRemark("Likes tea.").withTags("diabetic")
+                .build());
+        storage.saveNurseyBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+
+        // saves after reading change the rows read
+        SqlNurseyBookStorage newStorage = createStorage(filePath);
+        newStorage.readNurseyBook();
+        original.addElderly(IDA);
+        original.removeElderly(HOON);
+        newStorage.saveNurseyBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAndSaveTasks_rowsChanged_success() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        SqlNurseyBookStorage storage = createStorage(filePath);
+        NurseyBook original = TypicalTasks.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+
+        original.addTask(APPLY_LEAVE_LATE_TIME);
+        storage.saveNurseyBook(original);
+        original.addTask(APPLY_LEAVE_NEXT_DAY);
+        original.removeTask(APPLY_LEAVE_LATE_TIME);
+        storage.saveNurseyBook(original);
+        Task firstTask = original.getRealTaskList().get(0);
+        original.setTask(firstTask, new TaskBuilder(firstTask).withStatus("true", "false")
+                .withDateTime("2021-12-31", "23:59:30.5").build());
+        storage.saveNurseyBook(original);
+
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveNurseyBook_elderlyRenamed_tasksChanged() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        SqlNurseyBookStorage storage = createStorage(filePath);
+        NurseyBook original = TypicalTasks.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+
+        Elderly target = original.getElderlyList().get(0);
+        Elderly renamed = new ElderlyBuilder(target).withName("Renamed Elderly").build();
+        original.setElderly(target, renamed);
+        original.updateElderlyNameInTasks(target, renamed);
+        storage.saveNurseyBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveNurseyBook_rowDeletedSinceLastSave_throwsIoExceptionAndRewritesOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        SqlNurseyBookStorage storage = createStorage(filePath);
+        NurseyBook original = TypicalTasks.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+
+        Elderly firstElderly = original.getElderlyList().get(0);
+        try (Connection otherConnection = DriverManager.getConnection(SqlNurseyBookStorage.JDBC_URL_PREFIX
+                + filePath.toAbsolutePath());
+                Statement statement = otherConnection.createStatement()) {
+            statement.executeUpdate("DELETE FROM elderly_tag WHERE elderly_id = " + firstElderly.getId());
+            statement.executeUpdate("DELETE FROM nok WHERE elderly_id = " + firstElderly.getId());
+            statement.executeUpdate("DELETE FROM elderly WHERE id = " + firstElderly.getId());
+        }
+
+        // updating the deleted row changes nothing, which fails the save instead of losing the elderly
+        original.setElderly(firstElderly, new ElderlyBuilder(firstElderly).withRemark("Likes tea.").withTags()
+                .build());
+        assertThrows(IOException.class, () -> storage.saveNurseyBook(original));
+
+        // the failed save is rolled back, and the next save rewrites every row
+        storage.saveNurseyBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readNurseyBook_noDatabase_dataFileReadAndMovedIntoDatabase() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+        new JsonNurseyBookStorage(filePath).saveNurseyBook(original);
+
+        SqlNurseyBookStorage storage = createStorage(filePath);
+        assertEquals(original, new NurseyBook(storage.readNurseyBook().get()));
+        assertFalse(Files.exists(SqlNurseyBookStorage.getDatabaseFilePath(filePath)));
+
+        storage.saveNurseyBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void compactNurseyBook_databaseClosed_reopenedOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        SqlNurseyBookStorage storage = createStorage(filePath);
+        NurseyBook original = TypicalElderlies.getTypicalNurseyBook();
+        storage.saveNurseyBook(original);
+
+        storage.compactNurseyBook();
+        original.addElderly(HOON);
+        storage.saveNurseyBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readNurseyBook_tasksWithInvalidElderly_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        NurseyBook nurseyBook = new NurseyBook();
+        nurseyBook.addTask(new TaskBuilder().withNames("Nobody Here").build());
+        createStorage(filePath).saveNurseyBook(nurseyBook);
+
+        assertThrows(DataConversionException.class, () -> createStorage(filePath).readNurseyBook());
+    }
+
+    @Test
+    public void saveNurseyBook_otherFilePath_rowsWritten() throws Exception {
+        Path filePath = testFolder.resolve("nurseyBook.json");
+        Path otherFilePath = testFolder.resolve("otherNurseyBook.json");
+        SqlNurseyBookStorage storage = createStorage(filePath);
+        NurseyBook original = TypicalTasks.getTypicalUnorderedNurseyBook();
+
+        storage.saveNurseyBook(original, otherFilePath);
+        assertFalse(Files.exists(SqlNurseyBookStorage.getDatabaseFilePath(filePath)));
+        assertEquals(original, new NurseyBook(storage.readNurseyBook(otherFilePath).get()));
+
+        // saving to another file path again rewrites every row
+        original.addElderly(HOON);
+        storage.saveNurseyBook(original, otherFilePath);
+        assertEquals(original, new NurseyBook(storage.readNurseyBook(otherFilePath).get()));
+    }
+
+    private SqlNurseyBookStorage createStorage(Path filePath) {
+        SqlNurseyBookStorage storage = new SqlNurseyBookStorage(filePath);
+        storages.add(storage);
+        return storage;
+    }
+
+    private ReadOnlyNurseyBook readWithNewStorage(Path filePath) throws Exception {
+        return new NurseyBook(createStorage(filePath).readNurseyBook().get());
+    }
+}
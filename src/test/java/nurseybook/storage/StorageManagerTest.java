@@ -1,5 +1,6 @@
 package nurseybook.storage;
 
+import static nurseybook.testutil.TypicalElderlies.AMY;
 import static nurseybook.testutil.TypicalElderlies.getTypicalNurseyBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -14,6 +15,7 @@ import nurseybook.commons.core.GuiSettings;
 import nurseybook.model.NurseyBook;
 import nurseybook.model.ReadOnlyNurseyBook;
 import nurseybook.model.UserPrefs;
+import nurseybook.testutil.TypicalTasks;
 
 public class StorageManagerTest {
 
@@ -60,6 +62,39 @@ public class StorageManagerTest {
         assertEquals(original, new NurseyBook(retrieved));
     }
 
+    @Test
+    public void nurseyBookReadSaveInBackground() throws Exception {
+        NurseyBook original = getTypicalNurseyBook();
+        storageManager.saveNurseyBookInBackground(original);
+        NurseyBook expected = new NurseyBook(original);
+
+        // changes made after saving are not written
+        original.addElderly(AMY);
+        storageManager.flushNurseyBook();
+        ReadOnlyNurseyBook retrieved = storageManager.readNurseyBook().get();
+        assertEquals(expected, new NurseyBook(retrieved));
+    }
+
+    @Test
+    public void readPastTasks_backgroundSavePending_savedBeforePastTasksRead() throws Exception {
+        Path filePath = getTempFilePath("sharded");
+        NurseyBook original = TypicalTasks.getTypicalNurseyBook();
+        new ShardedNurseyBookStorage(filePath).saveNurseyBook(original);
+        StorageManager shardedStorageManager = new StorageManager(new ShardedNurseyBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), Long.MAX_VALUE);
+
+        // the save still waiting would otherwise remove the past tasks read after it was made
+        NurseyBook nurseyBook = new NurseyBook(shardedStorageManager.readNurseyBook().get());
+        shardedStorageManager.saveNurseyBookInBackground(nurseyBook);
+        assertEquals(original.getRealTaskList().size() - nurseyBook.getRealTaskList().size(),
+                shardedStorageManager.readPastTasks().size());
+        shardedStorageManager.flushNurseyBook();
+
+        ShardedNurseyBookStorage newStorage = new ShardedNurseyBookStorage(filePath);
+        int tasksRead = newStorage.readNurseyBook().get().getRealTaskList().size();
+        assertEquals(original.getRealTaskList().size(), tasksRead + newStorage.readPastTasks().size());
+    }
+
     @Test
     public void getNurseyBookFilePath() {
         assertNotNull(storageManager.getNurseyBookFilePath());
@@ -0,0 +1,119 @@
+package nurseybook.storage;
+
+import static nurseybook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import nurseybook.commons.core.DataCompression;
+import nurseybook.commons.exceptions.IllegalValueException;
+import nurseybook.commons.util.FileUtil;
+import nurseybook.commons.util.JsonUtil;
+import nurseybook.model.NurseyBook;
+import nurseybook.testutil.TypicalElderlies;
+import nurseybook.testutil.TypicalTasks;
+
+public class StreamingJsonNurseyBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableNurseyBookTest");
+    private static final Path TYPICAL_ELDERLY_FILE = TEST_DATA_FOLDER.resolve("typicalElderliesNurseyBook.json");
+    private static final Path TYPICAL_TASKS_FILE = TEST_DATA_FOLDER.resolve("typicalTasksNurseyBook.json");
+    private static final Path DUPLICATE_ELDERLY_FILE = TEST_DATA_FOLDER.resolve("duplicateElderlyNurseyBook.json");
+    private static final Path UNKNOWN_RELATED_ID_FILE = TEST_DATA_FOLDER.resolve("unknownRelatedIdNurseyBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<Double> reportedProgress = new ArrayList<>();
+    private final StreamingJsonNurseyBookReader reader = new StreamingJsonNurseyBookReader(reportedProgress::add);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StreamingJsonNurseyBookReader(null));
+    }
+
+    @Test
+    public void read_typicalFiles_success() throws Exception {
+        assertEquals(TypicalElderlies.getTypicalNurseyBook(), reader.read(TYPICAL_ELDERLY_FILE));
+        assertEquals(TypicalTasks.getTypicalUnorderedNurseyBook(), reader.read(TYPICAL_TASKS_FILE));
+
+        // small files -> no progress reported
+        assertTrue(reportedProgress.isEmpty());
+    }
+
+    @Test
+    public void read_invalidFiles_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableNurseyBook.MESSAGE_DUPLICATE_ELDERLY, () ->
+                reader.read(DUPLICATE_ELDERLY_FILE));
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedTask.MESSAGE_UNKNOWN_ELDERLY_ID, 8), () ->
+                reader.read(UNKNOWN_RELATED_ID_FILE));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        FileUtil.writeToFile(filePath, "[]");
+        assertThrows(IOException.class, () -> reader.read(filePath));
+    }
+
+    @Test
+    public void read_tasksBeforeElderlies_success() throws Exception {
+        NurseyBook original = TypicalTasks.getTypicalNurseyBook();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> json = JsonUtil.fromJsonString(
+                JsonUtil.toJsonString(new JsonSerializableNurseyBook(original)), LinkedHashMap.class);
+        Map<String, Object> reorderedJson = new LinkedHashMap<>();
+        reorderedJson.put("tasks", json.get("tasks"));
+        reorderedJson.put("elderlies", json.get("elderlies"));
+        Path filePath = testFolder.resolve("tasksFirst.json");
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(reorderedJson));
+
+        assertEquals(original, reader.read(filePath));
+    }
+
+    @Test
+    public void read_largeFile_progressReported() throws Exception {
+        String padding = "x".repeat((int) StreamingJsonNurseyBookReader.MIN_FILE_SIZE_FOR_PROGRESS);
+        Path filePath = testFolder.resolve("large.json");
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(TYPICAL_TASKS_FILE)
+                .replaceFirst("\"_comment\": \"", "\"_comment\": \"" + padding));
+
+        assertEquals(TypicalTasks.getTypicalUnorderedNurseyBook(), reader.read(filePath));
+        assertTrue(Files.size(filePath) > StreamingJsonNurseyBookReader.MIN_FILE_SIZE_FOR_PROGRESS);
+        assertTrue(reportedProgress.size() >= 2);
+        for (int i = 1; i < reportedProgress.size(); i++) {
+            assertTrue(reportedProgress.get(i - 1) < reportedProgress.get(i));
+        }
+        assertEquals(1.0, (double) reportedProgress.get(reportedProgress.size() - 1));
+    }
+
+    @Test
+    public void read_largeCompressedFile_progressReported() throws Exception {
+        String padding = "x".repeat((int) StreamingJsonNurseyBookReader.MIN_FILE_SIZE_FOR_PROGRESS);
+        String json = FileUtil.readFromFile(TYPICAL_TASKS_FILE)
+                .replaceFirst("\"_comment\": \"", "\"_comment\": \"" + padding);
+        Path filePath = testFolder.resolve("large.json.gz");
+        // stored without compression, so that the file is large enough for its progress to be reported
+        FileUtil.writeAtomically(filePath, new DataCompression(DataCompression.Format.GZIP, 0), out ->
+                out.write(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(TypicalTasks.getTypicalUnorderedNurseyBook(), reader.read(filePath));
+        assertTrue(Files.size(filePath) > StreamingJsonNurseyBookReader.MIN_FILE_SIZE_FOR_PROGRESS);
+        for (int i = 1; i < reportedProgress.size(); i++) {
+            assertTrue(reportedProgress.get(i - 1) < reportedProgress.get(i));
+        }
+        assertEquals(1.0, (double) reportedProgress.get(reportedProgress.size() - 1));
+    }
+}
@@ -2,6 +2,7 @@ package nurseybook.testutil;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -9,8 +10,10 @@ import javafx.collections.ObservableList;
 import nurseybook.commons.core.GuiSettings;
 import nurseybook.logic.commands.CommandResult;
 import nurseybook.model.Model;
+import nurseybook.model.PastTaskLoader;
 import nurseybook.model.ReadOnlyNurseyBook;
 import nurseybook.model.ReadOnlyUserPrefs;
+import nurseybook.model.TaskArchive;
 import nurseybook.model.person.Elderly;
 import nurseybook.model.person.Name;
 import nurseybook.model.task.Task;
@@ -80,6 +83,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getNurseyBookModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasElderly(Elderly elderly) {
         throw new AssertionError("This method should not be called.");
@@ -161,6 +169,36 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void setPastTaskLoader(PastTaskLoader pastTaskLoader) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void loadPastTasks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setTaskArchive(TaskArchive taskArchive) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Task> archiveTasks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Task> findArchivedTasksWithKeywords(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Task> findArchivedTasksOnDate(LocalDate date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteGhostTasks() {
         throw new AssertionError("This method should not be called.");
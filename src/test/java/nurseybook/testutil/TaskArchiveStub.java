@@ -0,0 +1,70 @@
+package nurseybook.testutil;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import nurseybook.model.TaskArchive;
+import nurseybook.model.task.DescriptionContainsKeywordPredicate;
+import nurseybook.model.task.Task;
+
+/**
+ * A task archive that keeps the archived tasks in memory, or fails every archiving and search.
+ */
+public class TaskArchiveStub implements TaskArchive {
+    private final List<Task> archivedTasks = new ArrayList<>();
+    private final IOException failure;
+
+    /**
+     * Creates a task archive that never fails.
+     */
+    public TaskArchiveStub() {
+        this(null);
+    }
+
+    /**
+     * Creates a task archive that fails with {@code failure}, unless it is null.
+     */
+    public TaskArchiveStub(IOException failure) {
+        this.failure = failure;
+    }
+
+    public List<Task> getArchivedTasks() {
+        return archivedTasks;
+    }
+
+    @Override
+    public void reserveArchivedTaskIds() throws IOException {
+        throwIfFailing();
+    }
+
+    @Override
+    public void archiveTasks(List<Task> tasks) throws IOException {
+        throwIfFailing();
+        archivedTasks.addAll(tasks);
+    }
+
+    @Override
+    public List<Task> findArchivedTasksWithKeywords(List<String> keywords) throws IOException {
+        return findArchivedTasks(new DescriptionContainsKeywordPredicate(keywords));
+    }
+
+    @Override
+    public List<Task> findArchivedTasksOnDate(LocalDate date) throws IOException {
+        return findArchivedTasks(task -> task.getDate().equals(date));
+    }
+
+    private List<Task> findArchivedTasks(Predicate<Task> predicate) throws IOException {
+        throwIfFailing();
+        return archivedTasks.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    private void throwIfFailing() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
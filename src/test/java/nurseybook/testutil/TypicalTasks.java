@@ -104,9 +104,7 @@ public class TypicalTasks {
         nb.setElderlies(getTypicalElderlyBuilders().stream().map(s -> s.build()).collect(Collectors.toList()));
         nb.setTasks(getTypicalTaskBuilders().stream().map(s -> s.build()).collect(Collectors.toList()));
 
-        nb.updateRecurringTasksDate();
-        nb.updateTasksOverdueStatus();
-        nb.reorderTasksChronologically();
+        nb.updateTasksAccordingToTime();
         return nb;
     }
 